@@ -60,6 +60,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
     private final Gson gson;
     private final HomeAssistantPythonBridge python;
     private final UnitProvider unitProvider;
+    private final DiscoverySnapshot snapshot;
 
     private @Nullable ScheduledFuture<?> stopDiscoveryFuture;
     private WeakReference<@Nullable MqttBrokerConnection> connectionRef = new WeakReference<>(null);
@@ -85,10 +86,12 @@ public class DiscoverComponents implements MqttMessageSubscriber {
      * @param thingUID The Thing UID to perform the discovery for.
      * @param scheduler A scheduler for timeouts
      * @param channelStateUpdateListener Channel update listener. Usually the handler.
+     * @param snapshot The validated discovery configs of the thing
      */
     public DiscoverComponents(ThingUID thingUID, ScheduledExecutorService scheduler,
             ChannelStateUpdateListener channelStateUpdateListener, HomeAssistantChannelLinkageChecker linkageChecker,
-            AvailabilityTracker tracker, Gson gson, HomeAssistantPythonBridge python, UnitProvider unitProvider) {
+            AvailabilityTracker tracker, Gson gson, HomeAssistantPythonBridge python, UnitProvider unitProvider,
+            DiscoverySnapshot snapshot) {
         this.thingUID = thingUID;
         this.scheduler = scheduler;
         this.updateListener = channelStateUpdateListener;
@@ -97,6 +100,7 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         this.python = python;
         this.unitProvider = unitProvider;
         this.tracker = tracker;
+        this.snapshot = snapshot;
     }
 
     @Override
@@ -110,8 +114,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         ComponentDiscovered discoveredListener = this.discoveredListener;
         if (config.length() > 0) {
             try {
-                List<MqttComponentConfig> parsedComponentConfigs = python.processDiscoveryConfig(haID.toShortTopic(),
-                        config);
+                List<MqttComponentConfig> parsedComponentConfigs = snapshot.get(haID, config);
+                if (parsedComponentConfigs == null) {
+                    parsedComponentConfigs = python.processDiscoveryConfig(haID.toShortTopic(), config);
+                    snapshot.put(haID, config, parsedComponentConfigs);
+                }
                 boolean migrationMessage = parsedComponentConfigs.stream()
                         .anyMatch(MqttComponentConfig::isMigrateDiscovery);
                 if (migrationMessage) {
@@ -159,7 +166,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                 logger.warn("Home Assistant discovery error: invalid configuration of component {}: {}",
                         haID.toShortTopic(), e.getMessage());
             }
-        } else if (discoveredListener != null) {
+        } else {
+            snapshot.remove(haID);
+            if (discoveredListener == null) {
+                return;
+            }
             if (HomeAssistantBindingConstants.DEVICE_COMPONENT.equals(haID.component)) {
                 knownDeviceComponents.forEach(discoveredListener::componentRemoved);
                 knownDeviceComponents.clear();
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.graalvm.polyglot.Value;
+import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
+import org.openhab.core.storage.Storage;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Keeps the validated discovery configs of the components of a thing, so they don't need to be validated in Python
+ * again after a restart.
+ *
+ * <p>
+ * Each component topic is stored with a hash of its discovery payload. A config is only returned for exactly the
+ * payload it was validated for, and the whole snapshot is dropped when the add-on version changes, as the
+ * validation might have changed. Templates are stored by their source and created again when the config is restored.
+ * Configs containing other Python objects are not stored and are always validated.
+ * </p>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class DiscoverySnapshot {
+    private static final int FORMAT_VERSION = 1;
+    private static final String SET = "$set";
+    private static final String TEMPLATE = "$template";
+    // None values of the discovery payload have to be kept
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
+    private final Logger logger = LoggerFactory.getLogger(DiscoverySnapshot.class);
+    private final Storage<String> storage;
+    private final String key;
+    private final HomeAssistantPythonBridge python;
+    private final String version;
+
+    private @Nullable Map<String, Entry> entries;
+    private boolean dirty;
+
+    private static class SnapshotDTO {
+        @Nullable
+        String version;
+        @Nullable
+        Map<String, Entry> components;
+    }
+
+    private static class Entry {
+        String hash = "";
+        List<ComponentDTO> configs = List.of();
+    }
+
+    private static class ComponentDTO {
+        String component = "";
+        String objectId = "";
+        @Nullable
+        String nodeId;
+        JsonElement discoveryPayload = JsonNull.INSTANCE;
+    }
+
+    /**
+     * An object that can't be stored in the snapshot
+     */
+    private static class UnsupportedValueException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedValueException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Creates the snapshot of a thing.
+     *
+     * @param storage The storage of all snapshots
+     * @param key The key of this snapshot in the storage, usually the thing UID
+     */
+    public DiscoverySnapshot(Storage<String> storage, String key, HomeAssistantPythonBridge python) {
+        this(storage, key, python, getAddonVersion());
+    }
+
+    DiscoverySnapshot(Storage<String> storage, String key, HomeAssistantPythonBridge python, String addonVersion) {
+        this.storage = storage;
+        this.key = key;
+        this.python = python;
+        this.version = FORMAT_VERSION + "/" + addonVersion;
+    }
+
+    private static String getAddonVersion() {
+        Bundle bundle = FrameworkUtil.getBundle(DiscoverySnapshot.class);
+        return bundle != null ? bundle.getVersion().toString() : "";
+    }
+
+    /**
+     * Returns the validated configs of a discovery payload.
+     *
+     * @param haID The component topic
+     * @param payload The discovery payload
+     * @return The configs, or null if the payload was not validated before and has to be processed in Python
+     */
+    public synchronized @Nullable List<MqttComponentConfig> get(HaID haID, String payload) {
+        Entry entry = getEntries().get(haID.toShortTopic());
+        if (entry == null || !entry.hash.equals(hash(payload))) {
+            return null;
+        }
+        return entry.configs.stream().map(config -> new MqttComponentConfig(config.component, config.objectId,
+                config.nodeId, () -> decodeMap(config.discoveryPayload.getAsJsonObject()))).toList();
+    }
+
+    /**
+     * Stores the validated configs of a discovery payload. The change is written to the storage by {@link #save()}.
+     *
+     * @param haID The component topic
+     * @param payload The discovery payload
+     * @param configs The configs processed from the payload
+     */
+    public synchronized void put(HaID haID, String payload, List<MqttComponentConfig> configs) {
+        String topic = haID.toShortTopic();
+        String hash = hash(payload);
+        Entry known = getEntries().get(topic);
+        if (known != null && known.hash.equals(hash)) {
+            return;
+        }
+        try {
+            List<ComponentDTO> dtos = new ArrayList<>();
+            for (MqttComponentConfig config : configs) {
+                ComponentDTO dto = new ComponentDTO();
+                dto.component = config.getComponent();
+                dto.objectId = config.getObjectId();
+                dto.nodeId = config.getNodeId();
+                dto.discoveryPayload = encode(config.getDiscoveryPayload());
+                dtos.add(dto);
+            }
+            Entry entry = new Entry();
+            entry.hash = hash;
+            entry.configs = List.copyOf(dtos);
+            getEntries().put(topic, entry);
+            dirty = true;
+        } catch (UnsupportedValueException e) {
+            logger.debug("Not storing the configuration of component {} in the snapshot: {}", topic, e.getMessage());
+            remove(haID);
+        }
+    }
+
+    /**
+     * Removes the configs of a component topic. The change is written to the storage by {@link #save()}.
+     */
+    public synchronized void remove(HaID haID) {
+        if (getEntries().remove(haID.toShortTopic()) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes the snapshot to the storage, if it was changed.
+     */
+    public synchronized void save() {
+        Map<String, Entry> entries = this.entries;
+        if (!dirty || entries == null) {
+            return;
+        }
+        SnapshotDTO snapshot = new SnapshotDTO();
+        snapshot.version = version;
+        snapshot.components = entries;
+        storage.put(key, GSON.toJson(snapshot));
+        dirty = false;
+    }
+
+    /**
+     * Removes the snapshot from the storage, for example when the thing is removed.
+     */
+    public synchronized void delete() {
+        storage.remove(key);
+        entries = null;
+        dirty = false;
+    }
+
+    private Map<String, Entry> getEntries() {
+        Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            entries = load();
+            this.entries = entries;
+        }
+        return entries;
+    }
+
+    private Map<String, Entry> load() {
+        String json = storage.get(key);
+        if (json != null) {
+            try {
+                SnapshotDTO snapshot = GSON.fromJson(json, SnapshotDTO.class);
+                Map<String, Entry> components = snapshot != null ? snapshot.components : null;
+                if (snapshot != null && version.equals(snapshot.version) && components != null) {
+                    return new HashMap<>(components);
+                }
+                logger.debug("Discarding the discovery snapshot of {} from a different add-on version", key);
+            } catch (JsonParseException e) {
+                logger.debug("Discarding invalid discovery snapshot of {}: {}", key, e.getMessage());
+            }
+            dirty = true;
+        }
+        return new HashMap<>();
+    }
+
+    private JsonElement encode(@Nullable Object value) throws UnsupportedValueException {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        } else if (value instanceof Boolean booleanValue) {
+            return new JsonPrimitive(booleanValue);
+        } else if (value instanceof String stringValue) {
+            return new JsonPrimitive(stringValue);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof BigInteger) {
+            return new JsonPrimitive((Number) value);
+        } else if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN() || doubleValue.isInfinite()) {
+                throw new UnsupportedValueException("float " + doubleValue);
+            }
+            // always contains a decimal point or an exponent, so it's decoded as float again
+            return new JsonPrimitive(doubleValue);
+        } else if (value instanceof List<?> list) {
+            JsonArray array = new JsonArray();
+            for (Object item : list) {
+                array.add(encode(item));
+            }
+            return array;
+        } else if (value instanceof Set<?> set) {
+            JsonArray array = new JsonArray();
+            for (Object item : set) {
+                array.add(encode(item));
+            }
+            JsonObject object = new JsonObject();
+            object.add(SET, array);
+            return object;
+        } else if (value instanceof Map<?, ?> map) {
+            JsonObject object = new JsonObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String key = (String) entry.getKey();
+                if (key.startsWith("$")) {
+                    // would be ambiguous with the encoded sets and templates
+                    throw new UnsupportedValueException("key " + key);
+                }
+                object.add(key, encode(entry.getValue()));
+            }
+            return object;
+        } else if (value instanceof Value pythonValue
+                && "Template".equals(pythonValue.getMetaObject().getMetaSimpleName())) {
+            String source = python.getTemplateSource(pythonValue);
+            if (source == null) {
+                throw new UnsupportedValueException("template without source");
+            }
+            JsonObject object = new JsonObject();
+            object.addProperty(TEMPLATE, source);
+            return object;
+        }
+        throw new UnsupportedValueException(value.getClass().getSimpleName() + " " + value);
+    }
+
+    private @Nullable Object decode(JsonElement element) {
+        if (element.isJsonNull()) {
+            return null;
+        } else if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            } else if (primitive.isString()) {
+                return primitive.getAsString();
+            }
+            String number = primitive.getAsString();
+            if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+                return primitive.getAsDouble();
+            }
+            // like the conversion of Python integers
+            BigInteger integer = primitive.getAsBigInteger();
+            if (integer.bitLength() < Integer.SIZE) {
+                return integer.intValue();
+            } else if (integer.bitLength() < Long.SIZE) {
+                return integer.longValue();
+            }
+            return integer;
+        } else if (element instanceof JsonArray array) {
+            List<@Nullable Object> list = new ArrayList<>();
+            array.forEach(item -> list.add(decode(item)));
+            return list;
+        }
+        JsonObject object = element.getAsJsonObject();
+        if (object.size() == 1 && object.get(SET) instanceof JsonArray array) {
+            Set<@Nullable Object> set = new HashSet<>();
+            array.forEach(item -> set.add(decode(item)));
+            return set;
+        } else if (object.size() == 1 && object.get(TEMPLATE) instanceof JsonPrimitive source) {
+            return python.newRawTemplate(source.getAsString());
+        }
+        return decodeMap(object);
+    }
+
+    private Map<String, @Nullable Object> decodeMap(JsonObject object) {
+        Map<String, @Nullable Object> map = new LinkedHashMap<>();
+        object.entrySet().forEach(entry -> map.put(entry.getKey(), decode(entry.getValue())));
+        return map;
+    }
+
+    private static String hash(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
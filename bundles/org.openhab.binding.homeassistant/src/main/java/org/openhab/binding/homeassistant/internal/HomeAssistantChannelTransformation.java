@@ -46,6 +46,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
+    private final @Nullable SimpleValueTemplate simpleTemplate;
 
     public HomeAssistantChannelTransformation(HomeAssistantPythonBridge python, AbstractComponent<?> component,
             Value template, boolean command) {
@@ -69,6 +70,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.component = component;
         this.command = command;
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        String source = command ? null : python.getTemplateSource(template);
+        this.simpleTemplate = source == null ? null : SimpleValueTemplate.parse(source);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -97,6 +100,10 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        String result = renderSimpleTemplate(value);
+        if (result != null) {
+            return result;
+        }
         try {
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
@@ -108,6 +115,11 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value, Map<String, @Nullable Object> variables) {
+        // value and value_json can't be overridden by the variables
+        String result = renderSimpleTemplate(value);
+        if (result != null) {
+            return result;
+        }
         try {
             return command ? python.renderCommandTemplate(template, value, variables)
                     : python.renderValueTemplate(template, value, defaultValue, variables);
@@ -117,4 +129,17 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
             return null;
         }
     }
+
+    private @Nullable String renderSimpleTemplate(Object value) {
+        SimpleValueTemplate simpleTemplate = this.simpleTemplate;
+        if (simpleTemplate == null || !(value instanceof String payload)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String result = simpleTemplate.render(payload);
+        if (result != null) {
+            python.getStatistics().recordFastRender(System.nanoTime() - start);
+        }
+        return result;
+    }
 }
@@ -21,10 +21,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -32,127 +37,260 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety and a pool of cached contexts
+ *
+ * <p>
+ * The contexts share a single engine, so the code loaded by the first context is cached for the others. Python
+ * values can only be used in the context they were created in, so calls with an existing value are executed in the
+ * context owning it, while new templates and discovery configs are created in the least busy context.
+ * </p>
+ *
+ * <p>
+ * The pool is resized when the <code>pythonContexts</code> setting changes. Contexts removed from the pool are kept
+ * open for the values they own, but no new values are created in them.
+ * </p>
  *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-@Component(service = HomeAssistantPythonBridge.class)
+@Component(service = HomeAssistantPythonBridge.class, configurationPid = "org.openhab.binding.homeassistant")
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final int MAX_PYTHON_CONTEXTS = 8;
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final Engine engine;
+    private final VirtualFileSystem vfs;
+    // contexts new values are created in, replaced as a whole when the pool is resized
+    private volatile List<PythonContext> contexts = List.of();
+    // all open contexts, including those removed from the pool
+    private final Map<Context, PythonContext> contextsByContext = new ConcurrentHashMap<>();
+    private final TemplateRenderStatistics statistics = new TemplateRenderStatistics();
+    private final AtomicInteger nextContext = new AtomicInteger();
 
-    @Activate
-    public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
+    /**
+     * A Python context with the functions used by the bridge
+     */
+    private static class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
+                renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
+                processDiscoveryConfigMeth, listMeth;
+        // number of calls currently executed in this context
+        private final AtomicInteger active = new AtomicInteger();
 
-        // Set cache path if not already configured (e.g., by test environment)
-        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
-            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
-            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
-        }
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
+        private PythonContext(Context context) {
+            this.context = context;
+
+            Value bindings = context.getBindings(PYTHON);
+
+            context.eval(PYTHON,
+                    """
+                            # we need to set up the path just like it would have been set up on Linux, even if we're
+                            # on Windows
+                            import os
+                            import sys
+
+                            try:
+                                import requests
+                                requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
+                            except Exception:
+                                pass
+
+                            if os.sep != '/':
+                                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+
+                            from homeassistant.helpers.template import Template
+                            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                            from homeassistant.components.mqtt.discovery import process_discovery_config
 
-        Value bindings = context.getBindings(PYTHON);
+                            def new_raw_template(template):
+                                return Template(template)
 
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
+                            def new_command_template(template):
+                                return MqttCommandTemplate(template)
 
-                        try:
-                            import requests
-                            requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
-                        except Exception:
-                            pass
+                            def render_command_template(template, value):
+                                return template.render(value=value)
 
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+                            def render_command_template_with_variables(template, value, variables):
+                                return template.render(value=value, variables=variables)
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+                            def new_value_template(template):
+                                return MqttValueTemplate(template)
 
-                        def new_raw_template(template):
-                            return Template(template)
+                            def render_value_template(template, payload, default):
+                                return template.render_with_possible_json_value(payload=payload, default=default)
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+                            def render_value_template_with_variables(template, payload, default, variables):
+                                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                            """);
+
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
+    }
+
+    /**
+     * Creates a bridge with a single Python context.
+     */
+    public HomeAssistantPythonBridge() {
+        this(1);
+    }
+
+    @Activate
+    public HomeAssistantPythonBridge(@Nullable Map<String, Object> properties) {
+        this(new Configuration(properties).as(HomeAssistantConfiguration.class).pythonContexts);
+    }
+
+    HomeAssistantPythonBridge(int size) {
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+
+        // Set cache path if not already configured (e.g., by test environment)
+        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
+            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
+            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
+        }
+        engine = Engine.newBuilder().logHandler(new LogHandler(logger)).option("engine.WarnInterpreterOnly", "false")
+                .build();
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+        resize(size);
+    }
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+    @Modified
+    public void modified(@Nullable Map<String, Object> properties) {
+        // the add-on configuration also contains settings of other components, only a new pool size matters here
+        resize(new Configuration(properties).as(HomeAssistantConfiguration.class).pythonContexts);
+    }
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+    /**
+     * Sets the number of contexts new values are created in.
+     *
+     * <p>
+     * All contexts are created up front, so the first discovery messages and state updates don't wait for the Home
+     * Assistant modules to be imported. Contexts removed from the pool still own values, so they stay open and are
+     * reused when the pool grows again.
+     * </p>
+     */
+    synchronized void resize(int size) {
+        int poolSize = Math.max(1, Math.min(size, MAX_PYTHON_CONTEXTS));
+        List<PythonContext> current = contexts;
+        if (poolSize == current.size()) {
+            return;
+        }
+        List<PythonContext> resized = new ArrayList<>(current.subList(0, Math.min(poolSize, current.size())));
+        for (PythonContext retired : contextsByContext.values()) {
+            if (resized.size() < poolSize && !resized.contains(retired)) {
+                resized.add(retired);
+            }
+        }
+        while (resized.size() < poolSize) {
+            long start = System.nanoTime();
+            PythonContext pythonContext = new PythonContext(
+                    GraalPyResources.contextBuilder(vfs).engine(engine).build());
+            contextsByContext.put(pythonContext.context, pythonContext);
+            resized.add(pythonContext);
+            logger.debug("Created Python context {} of {} in {} ms", resized.size(), poolSize,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        contexts = List.copyOf(resized);
+        logger.debug("Using {} Python contexts, {} open", poolSize, contextsByContext.size());
+    }
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+    /**
+     * Returns the number of contexts new values are created in.
+     */
+    int getPoolSize() {
+        return contexts.size();
+    }
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+    @Deactivate
+    public synchronized void deactivate() {
+        logger.debug("Template rendering: {}", statistics);
+        contextsByContext.values().forEach(c -> c.context.close(true));
+        engine.close(true);
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    /**
+     * Returns the statistics of rendered value templates.
+     */
+    public TemplateRenderStatistics getStatistics() {
+        return statistics;
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return execute(leastBusy(), c -> c.newRawTemplateMeth.execute(template));
+    }
+
+    /**
+     * Returns the source of a template created by {@link #newRawTemplate(String)} or a discovery config, or null if
+     * the value is no template.
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        return execute(owner(template), c -> {
+            Value source = template.hasMember("template") ? template.getMember("template") : null;
+            return source != null && source.isString() ? source.asString() : null;
+        });
     }
 
     public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+        return execute(owner(template), c -> c.newCommandTemplateMeth.execute(template));
     }
 
     public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+        return execute(owner(template), c -> c.renderCommandTemplateMeth.execute(template, value).asString());
     }
 
     public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+        return execute(owner(template),
+                c -> c.renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString());
     }
 
     public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+        return execute(owner(template), c -> c.newValueTemplateMeth.execute(template));
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+        long start = System.nanoTime();
+        try {
+            return execute(owner(template),
+                    c -> c.renderValueTemplateMeth.execute(template, payload, defaultValue).asString());
+        } finally {
+            recordPythonRender(start);
+        }
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        long start = System.nanoTime();
+        try {
+            return execute(owner(template), c -> c.renderValueTemplateWithVariablesMeth
+                    .execute(template, payload, defaultValue, variables).asString());
+        } finally {
+            recordPythonRender(start);
+        }
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
         try {
             @SuppressWarnings("unchecked")
-            List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
+            List<Value> configs = (List<Value>) toJava(
+                    execute(leastBusy(), c -> c.processDiscoveryConfigMeth.execute(topic, payload)));
             if (configs == null || configs.isEmpty()) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -162,6 +300,41 @@ public class HomeAssistantPythonBridge {
         }
     }
 
+    private void recordPythonRender(long start) {
+        statistics.recordPythonRender(System.nanoTime() - start);
+        if (statistics.shouldLog()) {
+            logger.debug("Template rendering: {}", statistics);
+        }
+    }
+
+    private <T> T execute(PythonContext pythonContext, Function<PythonContext, T> function) {
+        pythonContext.active.incrementAndGet();
+        try {
+            return function.apply(pythonContext);
+        } finally {
+            pythonContext.active.decrementAndGet();
+        }
+    }
+
+    private PythonContext leastBusy() {
+        List<PythonContext> contexts = this.contexts;
+        // start at the next context each time, so new values are spread evenly even if no context is busy
+        int offset = Math.floorMod(nextContext.getAndIncrement(), contexts.size());
+        PythonContext result = contexts.get(offset);
+        for (int i = 1; i < contexts.size(); i++) {
+            PythonContext pythonContext = contexts.get((offset + i) % contexts.size());
+            if (pythonContext.active.get() < result.active.get()) {
+                result = pythonContext;
+            }
+        }
+        return result;
+    }
+
+    private PythonContext owner(Value value) {
+        PythonContext pythonContext = contextsByContext.get(value.getContext());
+        return pythonContext != null ? pythonContext : contexts.getFirst();
+    }
+
     public @Nullable Object toJava(Value value) {
         if (value.isNull()) {
             return null;
@@ -191,7 +364,7 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = execute(owner(value), c -> c.listMeth.execute(value));
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Evaluates trivial value templates like <code>{{ value_json.temperature }}</code> without Python.
+ *
+ * <p>
+ * Only templates consisting of a static text, <code>{{ value }}</code> or a lookup of object keys in
+ * <code>value_json</code> are supported. {@link #render(String)} returns the same result as the template rendered by
+ * Home Assistant, or null if it can't be sure about that, for example for a missing key or a payload which is no
+ * valid JSON. The template has to be rendered in Python then.
+ * </p>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleValueTemplate {
+    private static final Pattern EXPRESSION_PATTERN = Pattern.compile(
+            "\\{\\{-?\\s*(value|value_json((?:\\s*(?:\\.[A-Za-z_][A-Za-z0-9_]*|\\[\\s*(?:'[^'\\\\]*'|\"[^\"\\\\]*\")\\s*\\]))+))\\s*-?}}");
+    private static final Pattern KEY_PATTERN = Pattern
+            .compile("\\.([A-Za-z_][A-Za-z0-9_]*)|\\[\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")\\s*\\]");
+    // Attribute lookups of these names return the methods of the Python dict instead of the values
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+
+    private final @Nullable String staticText;
+    private final List<String> keys;
+
+    private SimpleValueTemplate(@Nullable String staticText, List<String> keys) {
+        this.staticText = staticText;
+        this.keys = keys;
+    }
+
+    /**
+     * Returns a simple template for the given template source, or null if the template is not trivial.
+     *
+     * @param template The template source, as stripped by Home Assistant
+     */
+    public static @Nullable SimpleValueTemplate parse(String template) {
+        if (!template.contains("{{") && !template.contains("{%") && !template.contains("{#")) {
+            // static templates are returned as is
+            return new SimpleValueTemplate(template, List.of());
+        }
+        Matcher matcher = EXPRESSION_PATTERN.matcher(template);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String path = matcher.group(2);
+        if (path == null) {
+            return new SimpleValueTemplate(null, List.of());
+        }
+        List<String> keys = new ArrayList<>();
+        Matcher keyMatcher = KEY_PATTERN.matcher(path);
+        while (keyMatcher.find()) {
+            String attribute = keyMatcher.group(1);
+            if (attribute != null) {
+                if (attribute.startsWith("_") || DICT_ATTRIBUTES.contains(attribute)) {
+                    return null;
+                }
+                keys.add(attribute);
+            } else {
+                String item = keyMatcher.group(2);
+                keys.add(item != null ? item : keyMatcher.group(3));
+            }
+        }
+        return new SimpleValueTemplate(null, List.copyOf(keys));
+    }
+
+    /**
+     * Renders the template for the given payload.
+     *
+     * @param payload The received payload
+     * @return The rendered template, or null if the template has to be rendered in Python
+     */
+    public @Nullable String render(String payload) {
+        String staticText = this.staticText;
+        if (staticText != null) {
+            return staticText;
+        }
+        if (keys.isEmpty()) {
+            return isStripped(payload) ? payload : null;
+        }
+        JsonElement element = parseJson(payload);
+        for (String key : keys) {
+            if (!(element instanceof JsonObject object)) {
+                return null;
+            }
+            element = object.get(key);
+        }
+        if (element == null) {
+            return null;
+        } else if (element.isJsonNull()) {
+            return "None";
+        } else if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean() ? "True" : "False";
+            } else if (primitive.isNumber()) {
+                return formatNumber(primitive.getAsString());
+            } else {
+                String value = primitive.getAsString();
+                return isStripped(value) ? value : null;
+            }
+        }
+        // lists and dicts are formatted by Python
+        return null;
+    }
+
+    private static @Nullable JsonElement parseJson(String payload) {
+        if (payload.startsWith("\uFEFF")) {
+            // rejected by Python
+            return null;
+        }
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            reader.setStrictness(Strictness.STRICT);
+            JsonElement element = JsonParser.parseReader(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? element : null;
+        } catch (JsonParseException | IOException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats a JSON number like Python formats the int or float parsed from it.
+     */
+    private static @Nullable String formatNumber(String number) {
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            return new BigInteger(number).toString();
+        }
+        double value = Double.parseDouble(number);
+        if (value == 0) {
+            return Double.doubleToRawLongBits(value) < 0 ? "-0.0" : "0.0";
+        }
+        double abs = Math.abs(value);
+        if (Double.isInfinite(value) || abs < 1e-4 || abs >= 1e16) {
+            // Python uses the exponent notation
+            return null;
+        }
+        // Double.toString returns the shortest representation, like Python's repr
+        String result = new BigDecimal(Double.toString(value)).stripTrailingZeros().toPlainString();
+        return result.indexOf('.') < 0 ? result + ".0" : result;
+    }
+
+    /**
+     * Returns true if Home Assistant's strip() of the rendered template would not change the text.
+     */
+    private static boolean isStripped(String text) {
+        return text.isEmpty() || (!isWhitespace(text.charAt(0)) && !isWhitespace(text.charAt(text.length() - 1)));
+    }
+
+    private static boolean isWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+}
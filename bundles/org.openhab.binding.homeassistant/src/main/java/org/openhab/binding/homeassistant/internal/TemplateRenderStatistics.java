@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Collects the number and latency of rendered value templates, separately for templates rendered in Python and
+ * templates evaluated by {@link SimpleValueTemplate}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TemplateRenderStatistics {
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final LongSupplier nanoClock;
+    private final LongAdder pythonRenders = new LongAdder();
+    private final LongAdder pythonNanos = new LongAdder();
+    private final LongAccumulator pythonMaxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder fastRenders = new LongAdder();
+    private final LongAdder fastNanos = new LongAdder();
+    private final AtomicLong lastLog;
+
+    public TemplateRenderStatistics() {
+        this(System::nanoTime);
+    }
+
+    TemplateRenderStatistics(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastLog = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public void recordPythonRender(long nanos) {
+        pythonRenders.increment();
+        pythonNanos.add(nanos);
+        pythonMaxNanos.accumulate(nanos);
+    }
+
+    public void recordFastRender(long nanos) {
+        fastRenders.increment();
+        fastNanos.add(nanos);
+    }
+
+    public long getPythonRenders() {
+        return pythonRenders.sum();
+    }
+
+    public long getFastRenders() {
+        return fastRenders.sum();
+    }
+
+    /**
+     * Returns the average latency of templates rendered in Python in microseconds.
+     */
+    public double getPythonAverageMicros() {
+        return averageMicros(pythonNanos.sum(), pythonRenders.sum());
+    }
+
+    /**
+     * Returns the maximum latency of templates rendered in Python in microseconds.
+     */
+    public double getPythonMaxMicros() {
+        return pythonMaxNanos.get() / 1000.0;
+    }
+
+    /**
+     * Returns the average latency of templates evaluated without Python in microseconds.
+     */
+    public double getFastAverageMicros() {
+        return averageMicros(fastNanos.sum(), fastRenders.sum());
+    }
+
+    /**
+     * Returns true once per log interval, so the statistics can be logged periodically by the caller.
+     */
+    public boolean shouldLog() {
+        long now = nanoClock.getAsLong();
+        long last = lastLog.get();
+        return now - last >= LOG_INTERVAL_NANOS && lastLog.compareAndSet(last, now);
+    }
+
+    private static double averageMicros(long nanos, long count) {
+        return count == 0 ? 0 : nanos / 1000.0 / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d in Python (avg %.1f µs, max %.1f µs), %d without Python (avg %.1f µs)",
+                getPythonRenders(), getPythonAverageMicros(), getPythonMaxMicros(), getFastRenders(),
+                getFastAverageMicros());
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.homeassistant.internal.config.dto;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,41 +29,61 @@ import org.openhab.binding.homeassistant.internal.HomeAssistantPythonBridge;
  */
 @NonNullByDefault
 public class MqttComponentConfig {
-    private final HomeAssistantPythonBridge bridge;
-    private final Value value;
+    private final String component;
+    private final String objectId;
+    private final @Nullable String nodeId;
+    private final @Nullable Value value;
+    private final Supplier<Map<String, @Nullable Object>> discoveryPayload;
 
     public MqttComponentConfig(HomeAssistantPythonBridge bridge, Value value) {
-        this.bridge = bridge;
+        Value nodeId = value.getMember("node_id");
+        this.component = value.getMember("component").asString();
+        this.objectId = value.getMember("object_id").asString();
+        this.nodeId = nodeId.isNull() ? null : nodeId.asString();
         this.value = value;
+        this.discoveryPayload = () -> (Map<String, @Nullable Object>) Objects
+                .requireNonNull(bridge.toJava(value.getMember("discovery_payload")));
+    }
+
+    /**
+     * Creates a configuration that was already validated, for example restored from a snapshot.
+     *
+     * @param discoveryPayload Supplies a new copy of the validated discovery payload on each call
+     */
+    public MqttComponentConfig(String component, String objectId, @Nullable String nodeId,
+            Supplier<Map<String, @Nullable Object>> discoveryPayload) {
+        this.component = component;
+        this.objectId = objectId;
+        this.nodeId = nodeId;
+        this.value = null;
+        this.discoveryPayload = discoveryPayload;
     }
 
     public String getComponent() {
-        return value.getMember("component").asString();
+        return component;
     }
 
     public String getObjectId() {
-        return value.getMember("object_id").asString();
+        return objectId;
     }
 
     public @Nullable String getNodeId() {
-        Value nodeId = value.getMember("node_id");
-        if (nodeId.isNull()) {
-            return null;
-        }
-        return nodeId.asString();
+        return nodeId;
     }
 
     public Map<String, @Nullable Object> getDiscoveryPayload() {
-        return (Map<String, @Nullable Object>) Objects
-                .requireNonNull(bridge.toJava(value.getMember("discovery_payload")));
+        return discoveryPayload.get();
     }
 
     public boolean isMigrateDiscovery() {
-        Value discoveryPayload = value.getMember("discovery_payload");
-        if (discoveryPayload.hasMember("migrate_discovery")) {
-            Value migrateDiscovery = discoveryPayload.getMember("migrate_discovery");
-            if (!migrateDiscovery.isNull()) {
-                return migrateDiscovery.asBoolean();
+        Value value = this.value;
+        if (value != null) {
+            Value discoveryPayload = value.getMember("discovery_payload");
+            if (discoveryPayload.hasMember("migrate_discovery")) {
+                Value migrateDiscovery = discoveryPayload.getMember("migrate_discovery");
+                if (!migrateDiscovery.isNull()) {
+                    return migrateDiscovery.asBoolean();
+                }
             }
         }
         Object migrateDiscovery = getDiscoveryPayload().get("migrate_discovery");
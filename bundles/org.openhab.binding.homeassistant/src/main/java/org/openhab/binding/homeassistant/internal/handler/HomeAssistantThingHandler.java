@@ -29,6 +29,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.homeassistant.internal.DiscoverComponents;
 import org.openhab.binding.homeassistant.internal.DiscoverComponents.ComponentDiscovered;
+import org.openhab.binding.homeassistant.internal.DiscoverySnapshot;
 import org.openhab.binding.homeassistant.internal.HaID;
 import org.openhab.binding.homeassistant.internal.HandlerConfiguration;
 import org.openhab.binding.homeassistant.internal.HomeAssistantBindingConstants;
@@ -38,6 +39,7 @@ import org.openhab.binding.homeassistant.internal.actions.HomeAssistantUpdateThi
 import org.openhab.binding.homeassistant.internal.component.AbstractComponent;
 import org.openhab.binding.homeassistant.internal.component.ComponentFactory;
 import org.openhab.binding.homeassistant.internal.component.Update;
+import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.binding.mqtt.generic.AbstractMQTTThingHandler;
 import org.openhab.binding.mqtt.generic.ChannelState;
@@ -48,6 +50,7 @@ import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.storage.Storage;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -98,6 +101,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
     public final int attributeReceiveTimeout;
     protected final DelayedBatchProcessing<Object> delayedProcessing;
     protected final DiscoverComponents discoverComponents;
+    protected final DiscoverySnapshot discoverySnapshot;
 
     private final Gson gson;
     protected final Map<@Nullable String, AbstractComponent<?>> haComponents = new HashMap<>();
@@ -117,13 +121,15 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
      *
      * @param thing The thing of this handler
      * @param channelTypeProvider A channel type provider
+     * @param discoverySnapshots A storage for the validated discovery configs of the things
      * @param subscribeTimeout Timeout for the entire tree parsing and subscription. In milliseconds.
      * @param attributeReceiveTimeout The timeout per attribute field subscription. In milliseconds.
      */
     public HomeAssistantThingHandler(Thing thing, BaseThingHandlerFactory thingHandlerFactory,
             MqttChannelTypeProvider channelTypeProvider, MqttChannelStateDescriptionProvider stateDescriptionProvider,
             ChannelTypeRegistry channelTypeRegistry, Gson gson, HomeAssistantPythonBridge python,
-            UnitProvider unitProvider, int subscribeTimeout, int attributeReceiveTimeout) {
+            UnitProvider unitProvider, Storage<String> discoverySnapshots, int subscribeTimeout,
+            int attributeReceiveTimeout) {
         super(thing, subscribeTimeout);
         this.gson = gson;
         this.thingHandlerFactory = thingHandlerFactory;
@@ -134,8 +140,9 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         this.unitProvider = unitProvider;
         this.attributeReceiveTimeout = attributeReceiveTimeout;
         this.delayedProcessing = new DelayedBatchProcessing<>(attributeReceiveTimeout, this, scheduler);
+        this.discoverySnapshot = new DiscoverySnapshot(discoverySnapshots, thing.getUID().toString(), python);
         this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, this, gson, python,
-                unitProvider);
+                unitProvider, discoverySnapshot);
     }
 
     @Override
@@ -190,8 +197,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 ThingUID thingUID = channel.getUID().getThingUID();
                 String channelConfigurationJSON = (String) channelConfig.get("config");
                 try {
-                    List<AbstractComponent<?>> components = ComponentFactory.createComponent(thingUID, haID,
-                            channelConfigurationJSON, this, this, this, scheduler, gson, python, unitProvider);
+                    List<AbstractComponent<?>> components = createComponents(thingUID, haID, channelConfigurationJSON);
                     if (!components.isEmpty() && typeID.equals(HomeAssistantBindingConstants.HOMEASSISTANT_DEVICE_THING)
                             || typeID.getBindingId().equals(HomeAssistantBindingConstants.LEGACY_BINDING_ID)) {
                         typeID = calculateThingTypeUID(components.getFirst());
@@ -204,11 +210,26 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
                 }
             }
         }
+        discoverySnapshot.save();
         if (updateThingType(typeID)) {
             super.initialize();
         }
     }
 
+    /**
+     * Creates the components of a discovery payload, without validating it again if it's known from the snapshot.
+     */
+    private List<AbstractComponent<?>> createComponents(ThingUID thingUID, HaID haID, String configurationJSON)
+            throws ConfigurationException {
+        List<MqttComponentConfig> componentConfigs = discoverySnapshot.get(haID, configurationJSON);
+        if (componentConfigs == null) {
+            componentConfigs = python.processDiscoveryConfig(haID.toShortTopic(), configurationJSON);
+            discoverySnapshot.put(haID, configurationJSON, componentConfigs);
+        }
+        return ComponentFactory.createComponent(thingUID, haID, configurationJSON, componentConfigs, this, this, this,
+                scheduler, gson, python, unitProvider);
+    }
+
     @Override
     public void dispose() {
         discoveryHomeAssistantIDs.clear();
@@ -265,6 +286,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             channelStates.clear();
             updateComponent = null;
             started = false;
+            discoverySnapshot.save();
         }
         super.stop();
     }
@@ -326,6 +348,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         if (!removedComponents.isEmpty()) {
             removeComponents(removedComponents);
         }
+        discoverySnapshot.save();
     }
 
     /**
@@ -386,6 +409,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             List<String> updatedTopics = new ArrayList<>(config.topics);
             for (HaID removed : removedComponentsList) {
                 updatedTopics.remove(removed.getTopic());
+                discoverySnapshot.remove(removed);
 
                 AbstractComponent<?> known = haComponentsByHaId.get(removed);
                 if (known != null) {
@@ -526,8 +550,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
 
         HaID haID = deviceHaIDs.getFirst();
         try {
-            List<AbstractComponent<?>> components = ComponentFactory.createComponent(thing.getUID(), haID,
-                    persistedPayload, this, this, this, scheduler, gson, python, unitProvider);
+            List<AbstractComponent<?>> components = createComponents(thing.getUID(), haID, persistedPayload);
             if (!components.isEmpty()) {
                 components.forEach(delayedProcessing::accept);
             }
@@ -543,6 +566,7 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
             channelTypeProvider.removeChannelGroupTypesForPrefix(thing.getThingTypeUID().getId());
             removeStateDescriptions();
         }
+        discoverySnapshot.delete();
         super.handleRemoval();
     }
 
@@ -22,6 +22,8 @@ import org.openhab.binding.homeassistant.internal.HomeAssistantStateDescriptionP
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.MqttChannelTypeProvider;
 import org.openhab.core.i18n.UnitProvider;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
@@ -49,6 +51,7 @@ public class HomeAssistantThingHandlerFactory extends BaseThingHandlerFactory {
     private final UnitProvider unitProvider;
     private final Gson gson;
     private final HomeAssistantPythonBridge python;
+    private final Storage<String> discoverySnapshots;
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(
             HomeAssistantBindingConstants.HOMEASSISTANT_DEVICE_THING,
@@ -58,13 +61,15 @@ public class HomeAssistantThingHandlerFactory extends BaseThingHandlerFactory {
     public HomeAssistantThingHandlerFactory(final @Reference MqttChannelTypeProvider typeProvider,
             final @Reference HomeAssistantStateDescriptionProvider stateDescriptionProvider,
             final @Reference ChannelTypeRegistry channelTypeRegistry, final @Reference UnitProvider unitProvider,
-            final @Reference HomeAssistantPythonBridge python) {
+            final @Reference HomeAssistantPythonBridge python, final @Reference StorageService storageService) {
         this.typeProvider = typeProvider;
         this.stateDescriptionProvider = stateDescriptionProvider;
         this.channelTypeRegistry = channelTypeRegistry;
         this.unitProvider = unitProvider;
         this.gson = new Gson();
         this.python = python;
+        this.discoverySnapshots = storageService
+                .getStorage(HomeAssistantBindingConstants.BINDING_ID + ".DiscoverySnapshots");
 
         // The base thing type is not dynamic, but at one point it was generated here to get around
         // cross-binding bridge problems. So clean that up automatically.
@@ -90,7 +95,7 @@ public class HomeAssistantThingHandlerFactory extends BaseThingHandlerFactory {
 
         if (supportsThingType(thingTypeUID)) {
             return new HomeAssistantThingHandler(thing, this, typeProvider, stateDescriptionProvider,
-                    channelTypeRegistry, gson, python, unitProvider, 10000, 2000);
+                    channelTypeRegistry, gson, python, unitProvider, discoverySnapshots, 10000, 2000);
         }
         return null;
     }
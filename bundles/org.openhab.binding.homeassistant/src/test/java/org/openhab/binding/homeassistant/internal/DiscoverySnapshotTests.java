@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
+import org.openhab.core.test.storage.VolatileStorage;
+
+/**
+ * Tests the {@link DiscoverySnapshot} class.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class DiscoverySnapshotTests extends AbstractHomeAssistantTests {
+    private static final HaID SENSOR_ID = new HaID("homeassistant/sensor/0x0000/temperature/config");
+    private static final String PAYLOAD = """
+            {
+              "name": "Temperature",
+              "state_topic": "zigbee2mqtt/sensor",
+              "unique_id": "0x0000_temperature",
+              "unit_of_measurement": "°C",
+              "suggested_display_precision": 1,
+              "expire_after": 3600,
+              "force_update": true,
+              "value_template": "{{ value_json.temperature }}",
+              "device": {
+                "identifiers": ["zigbee2mqtt_0x0000"],
+                "name": "Sensor"
+              }
+            }
+            """;
+
+    private final VolatileStorage<String> storage = new VolatileStorage<>();
+
+    @Test
+    public void testRestoreValidatedConfig() {
+        DiscoverySnapshot snapshot = new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0");
+        assertThat(snapshot.get(SENSOR_ID, PAYLOAD), is(nullValue()));
+
+        List<MqttComponentConfig> configs = PYTHON.processDiscoveryConfig(SENSOR_ID.toShortTopic(), PAYLOAD);
+        snapshot.put(SENSOR_ID, PAYLOAD, configs);
+        snapshot.save();
+
+        List<MqttComponentConfig> restored = new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0").get(SENSOR_ID,
+                PAYLOAD);
+        assertThat(restored, is(notNullValue()));
+        Objects.requireNonNull(restored);
+        assertThat(restored.size(), is(1));
+        MqttComponentConfig config = restored.getFirst();
+        assertThat(config.getComponent(), is(configs.getFirst().getComponent()));
+        assertThat(config.getObjectId(), is(configs.getFirst().getObjectId()));
+        assertThat(config.getNodeId(), is(configs.getFirst().getNodeId()));
+        assertThat(config.isMigrateDiscovery(), is(false));
+        assertThat(withTemplateSources(config.getDiscoveryPayload()),
+                is(withTemplateSources(configs.getFirst().getDiscoveryPayload())));
+        assertThat(config.getDiscoveryPayload().get("value_template"), is(instanceOf(Value.class)));
+    }
+
+    @Test
+    public void testChangedPayload() {
+        DiscoverySnapshot snapshot = new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0");
+        snapshot.put(SENSOR_ID, PAYLOAD, PYTHON.processDiscoveryConfig(SENSOR_ID.toShortTopic(), PAYLOAD));
+        snapshot.save();
+
+        String changedPayload = PAYLOAD.replace("Temperature", "Outside Temperature");
+        assertThat(new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0").get(SENSOR_ID, changedPayload),
+                is(nullValue()));
+        assertThat(new DiscoverySnapshot(storage, "other", PYTHON, "1.0.0").get(SENSOR_ID, PAYLOAD), is(nullValue()));
+
+        snapshot.remove(SENSOR_ID);
+        snapshot.save();
+        assertThat(new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0").get(SENSOR_ID, PAYLOAD), is(nullValue()));
+    }
+
+    @Test
+    public void testChangedAddonVersion() {
+        DiscoverySnapshot snapshot = new DiscoverySnapshot(storage, "thing", PYTHON, "1.0.0");
+        snapshot.put(SENSOR_ID, PAYLOAD, PYTHON.processDiscoveryConfig(SENSOR_ID.toShortTopic(), PAYLOAD));
+        snapshot.save();
+
+        assertThat(new DiscoverySnapshot(storage, "thing", PYTHON, "1.1.0").get(SENSOR_ID, PAYLOAD), is(nullValue()));
+
+        snapshot.delete();
+        assertThat(storage.get("thing"), is(nullValue()));
+    }
+
+    /**
+     * Replaces the Python templates, which can't be compared, by their sources.
+     */
+    private @Nullable Object withTemplateSources(@Nullable Object value) {
+        if (value instanceof Value template) {
+            return "Template(" + PYTHON.getTemplateSource(template) + ")";
+        } else if (value instanceof Map<?, ?> map) {
+            return map.entrySet().stream().collect(Collectors.toMap(e -> e.getKey(),
+                    e -> Objects.requireNonNullElse(withTemplateSources(e.getValue()), "None")));
+        } else if (value instanceof List<?> list) {
+            return list.stream().map(item -> Objects.requireNonNullElse(withTemplateSources(item), "None")).toList();
+        }
+        return value;
+    }
+}
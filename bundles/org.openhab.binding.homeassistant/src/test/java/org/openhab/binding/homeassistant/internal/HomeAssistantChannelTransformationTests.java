@@ -13,10 +13,13 @@
 package org.openhab.binding.homeassistant.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.Objects;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,6 +87,28 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
         assertThat(transform("{{ value_json.something | is_defined }}", "{ \"val\": null }", "default"), is("default"));
     }
 
+    @Test
+    public void testSimpleTemplatesMatchPython() {
+        String[] templates = { "{{ value_json.val }}", "{{ value_json['val'] }}", "{{ value_json.a.b }}", "{{ value }}",
+                "static" };
+        String[] payloads = { "{\"val\": \"abc\"}", "{\"val\": null}", "{\"val\": true}", "{\"val\": 21}",
+                "{\"val\": 21.50}", "{\"val\": -0.0}", "{\"val\": 1e5}", "{\"val\": 0.0001}", "{\"a\": {\"b\": 1}}",
+                "abc" };
+        for (String template : templates) {
+            SimpleValueTemplate simpleTemplate = SimpleValueTemplate
+                    .parse(Objects.requireNonNull(PYTHON.getTemplateSource(PYTHON.newRawTemplate(template))));
+            assertThat(simpleTemplate, is(notNullValue()));
+            for (String payload : payloads) {
+                String result = Objects.requireNonNull(simpleTemplate).render(payload);
+                if (result != null) {
+                    assertThat(template + " " + payload, result,
+                            is(PYTHON.renderValueTemplate(PYTHON.newValueTemplate(PYTHON.newRawTemplate(template)),
+                                    payload, "default")));
+                }
+            }
+        }
+    }
+
     @Test
     public void testRegexFindall() {
         assertThat(transform("{{ 'Flight from JFK to LHR' | regex_findall('([A-Z]{3})') }}", ""), is("['JFK', 'LHR']"));
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.graalvm.polyglot.Value;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
+
+/**
+ * Tests the {@link HomeAssistantPythonBridge} with a pool of Python contexts.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantPythonBridgeTests {
+    private static @NonNullByDefault({}) HomeAssistantPythonBridge python;
+
+    @BeforeAll
+    public static void setUp() {
+        python = new HomeAssistantPythonBridge(2);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        python.deactivate();
+    }
+
+    @Test
+    public void testTemplatesOfAllContexts() {
+        // templates are spread over the contexts and have to be rendered in the context they were created in
+        List<Value> templates = IntStream.range(0, 4)
+                .mapToObj(i -> python.newValueTemplate(python.newRawTemplate("{{ value_json.val | int + " + i + " }}")))
+                .toList();
+        assertThat(templates.get(0).getContext(), is(not(templates.get(1).getContext())));
+        for (int i = 0; i < templates.size(); i++) {
+            assertThat(python.renderValueTemplate(templates.get(i), "{\"val\": 1}", "default"),
+                    is(String.valueOf(1 + i)));
+        }
+        assertThat(python.getStatistics().getPythonRenders(), is(4L));
+    }
+
+    @Test
+    public void testDiscoveryConfigsOfAllContexts() {
+        for (int i = 0; i < 2; i++) {
+            List<MqttComponentConfig> configs = python.processDiscoveryConfig(
+                    "homeassistant/sensor/test" + i + "/config",
+                    "{\"name\": \"Test\", \"state_topic\": \"test/state\", \"value_template\": \"{{ value_json.val }}\"}");
+            assertThat(configs.size(), is(1));
+        }
+    }
+
+    @Test
+    public void testResizeOnConfigurationChange() {
+        HomeAssistantPythonBridge bridge = new HomeAssistantPythonBridge(1);
+        try {
+            Value first = bridge.newValueTemplate(bridge.newRawTemplate("{{ value_json.val | int + 1 }}"));
+
+            // settings of other components don't change the pool
+            bridge.modified(Map.of("status", "ON", "pythonContexts", 1));
+            assertThat(bridge.getPoolSize(), is(1));
+
+            bridge.modified(Map.of("pythonContexts", 2));
+            assertThat(bridge.getPoolSize(), is(2));
+            Value second = bridge.newValueTemplate(bridge.newRawTemplate("{{ value_json.val | int + 2 }}"));
+            Value third = bridge.newValueTemplate(bridge.newRawTemplate("{{ value_json.val | int + 3 }}"));
+            assertThat(second.getContext(), is(not(third.getContext())));
+
+            // templates of a context removed from the pool can still be rendered
+            bridge.modified(Map.of("pythonContexts", 1));
+            assertThat(bridge.getPoolSize(), is(1));
+            assertThat(bridge.renderValueTemplate(first, "{\"val\": 1}", "default"), is("2"));
+            assertThat(bridge.renderValueTemplate(second, "{\"val\": 1}", "default"), is("3"));
+            assertThat(bridge.renderValueTemplate(third, "{\"val\": 1}", "default"), is("4"));
+        } finally {
+            bridge.deactivate();
+        }
+    }
+}
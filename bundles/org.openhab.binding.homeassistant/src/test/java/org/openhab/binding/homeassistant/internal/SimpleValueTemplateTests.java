@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link SimpleValueTemplate} class. The results have to match the templates rendered by Home Assistant,
+ * see {@link HomeAssistantChannelTransformationTests#testSimpleTemplatesMatchPython()}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleValueTemplateTests {
+
+    @Test
+    public void testParse() {
+        assertThat(SimpleValueTemplate.parse("{{ value_json.temperature }}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("{{value_json['temperature']}}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.sensor[\"temperature\"] }}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value }}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("static"), is(notNullValue()));
+
+        assertThat(SimpleValueTemplate.parse("{{ value_json.temperature | float }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.list[0] }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.items }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.__class__ }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.a }} {{ value_json.b }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{% if value %}on{% endif %}"), is(nullValue()));
+    }
+
+    @Test
+    public void testRenderValues() {
+        assertThat(render("{{ value_json.val }}", "{\"val\": \"abc\"}"), is("abc"));
+        assertThat(render("{{ value_json['val'] }}", "{\"val\": \"abc\"}"), is("abc"));
+        assertThat(render("{{ value_json.a.b }}", "{\"a\": {\"b\": 1}}"), is("1"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": null}"), is("None"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": true}"), is("True"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": false}"), is("False"));
+        assertThat(render("{{ value }}", "abc"), is("abc"));
+        assertThat(render("static", "abc"), is("static"));
+    }
+
+    @Test
+    public void testRenderNumbers() {
+        assertThat(render("{{ value_json.val }}", "{\"val\": 21}"), is("21"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": -0}"), is("0"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 123456789012345678901234567890}"),
+                is("123456789012345678901234567890"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 21.50}"), is("21.5"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 21.0}"), is("21.0"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": -0.0}"), is("-0.0"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 1e5}"), is("100000.0"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 0.1}"), is("0.1"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 0.0001}"), is("0.0001"));
+        // Python uses the exponent notation for these
+        assertThat(render("{{ value_json.val }}", "{\"val\": 0.00001}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 1e16}"), is(nullValue()));
+    }
+
+    @Test
+    public void testRenderFallsBackToPython() {
+        // missing keys, lists and objects
+        assertThat(render("{{ value_json.other }}", "{\"val\": 1}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{\"val\": [1, 2]}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{\"val\": {\"a\": 1}}"), is(nullValue()));
+        assertThat(render("{{ value_json.a.b }}", "{\"a\": 1}"), is(nullValue()));
+        // no valid JSON for Python
+        assertThat(render("{{ value_json.val }}", "abc"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{val: 1}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{\"val\": 1} {}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", "{\"val\": NaN}"), is(nullValue()));
+        assertThat(render("{{ value_json.val }}", ""), is(nullValue()));
+        // stripped by Home Assistant
+        assertThat(render("{{ value_json.val }}", "{\"val\": \" abc\"}"), is(nullValue()));
+        assertThat(render("{{ value }}", "abc\n"), is(nullValue()));
+    }
+
+    private @Nullable String render(String template, String payload) {
+        SimpleValueTemplate simpleTemplate = SimpleValueTemplate.parse(template);
+        assertThat(simpleTemplate, is(notNullValue()));
+        return simpleTemplate == null ? null : simpleTemplate.render(payload);
+    }
+}
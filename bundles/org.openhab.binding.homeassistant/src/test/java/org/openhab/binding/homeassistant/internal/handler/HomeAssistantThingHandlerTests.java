@@ -40,6 +40,7 @@ import org.openhab.binding.homeassistant.internal.component.Switch;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.test.storage.VolatileStorage;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
@@ -79,6 +80,7 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     private @NonNullByDefault({}) HomeAssistantThingHandler nonSpyThingHandler;
     private @Mock @NonNullByDefault({}) UnitProvider unitProvider;
     private Gson gson = new Gson();
+    private VolatileStorage<String> discoverySnapshots = new VolatileStorage<>();
 
     @BeforeEach
     public void setup() {
@@ -94,8 +96,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
 
     protected void setupThingHandler() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, discoverySnapshots,
+                SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -379,8 +381,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     @Test
     public void testDuplicateChannelId() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, discoverySnapshots,
+                SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -437,8 +439,8 @@ public class HomeAssistantThingHandlerTests extends AbstractHomeAssistantTests {
     @Test
     public void testDuplicateChannelIdComplex() {
         thingHandler = new HomeAssistantThingHandler(haThing, thingHandlerFactory, channelTypeProvider,
-                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, SUBSCRIBE_TIMEOUT,
-                ATTRIBUTE_RECEIVE_TIMEOUT);
+                stateDescriptionProvider, channelTypeRegistry, gson, PYTHON, unitProvider, discoverySnapshots,
+                SUBSCRIBE_TIMEOUT, ATTRIBUTE_RECEIVE_TIMEOUT);
         thingHandler.setConnection(bridgeConnection);
         thingHandler.setCallback(callbackMock);
         nonSpyThingHandler = thingHandler;
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.exception.ModbusUnexpectedResponseSizeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of an endpoint into fewer read requests.
+ *
+ * <p>
+ * Polls with the same unit id, function code and refresh interval are sorted by their start address. Polls that
+ * overlap, or that are at most <code>maxGap</code> registers (or coils/discrete inputs) apart, are read with a single
+ * request of at most <code>maxLength</code> registers (or coils/discrete inputs). The data of a merged request is
+ * sliced back to the callbacks of each poll, and a failure is reported to all of them.
+ * </p>
+ *
+ * <p>
+ * When a poll is registered or unregistered, only the merged reads that change are restarted. A read containing a new
+ * poll starts right away, other restarted reads keep the timing of the read their first poll was part of.
+ * </p>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    /**
+     * A regular poll registered by a poller
+     */
+    public static class PlannedPoll {
+        private final String name;
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private PlannedPoll(String name, ModbusReadRequestBlueprint request, long refreshMillis,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.name = name;
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private boolean isSameGroup(PlannedPoll other) {
+            return request.getUnitID() == other.request.getUnitID()
+                    && request.getFunctionCode() == other.request.getFunctionCode()
+                    && refreshMillis == other.refreshMillis;
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * A read request executed for one or more polls
+     */
+    public class MergedRead implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final List<PlannedPoll> polls;
+        private @Nullable PollTask pollTask;
+        private long firstReadMillis;
+
+        private MergedRead(List<PlannedPoll> polls) {
+            PlannedPoll first = polls.getFirst();
+            this.polls = List.copyOf(polls);
+            this.refreshMillis = first.refreshMillis;
+            if (polls.size() == 1) {
+                this.request = first.request;
+            } else {
+                int start = first.request.getReference();
+                int end = polls.stream().mapToInt(PlannedPoll::getEnd).max().orElse(start);
+                int maxTries = polls.stream().mapToInt(poll -> poll.request.getMaxTries()).max().orElse(1);
+                this.request = new ModbusReadRequestBlueprint(first.request.getUnitID(),
+                        first.request.getFunctionCode(), start, end - start, maxTries);
+            }
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        public long getRefreshMillis() {
+            return refreshMillis;
+        }
+
+        public List<PlannedPoll> getPolls() {
+            return polls;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            if (polls.size() == 1) {
+                polls.getFirst().resultCallback.handle(result);
+                return;
+            }
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (PlannedPoll poll : polls) {
+                int offset = poll.request.getReference() - request.getReference();
+                int length = poll.request.getDataLength();
+                int size = registers.map(ModbusRegisterArray::size).orElseGet(() -> bits.map(BitArray::size).orElse(0));
+                if (offset + length > size) {
+                    poll.failureCallback.handle(new AsyncModbusFailure<>(poll.request,
+                            new ModbusUnexpectedResponseSizeException(offset + length, size)));
+                } else if (registers.isPresent()) {
+                    poll.resultCallback
+                            .handle(new AsyncModbusReadResult(poll.request, slice(registers.get(), offset, length)));
+                } else if (bits.isPresent()) {
+                    poll.resultCallback
+                            .handle(new AsyncModbusReadResult(poll.request, slice(bits.get(), offset, length)));
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedPoll poll : polls) {
+                poll.failureCallback.handle(
+                        polls.size() == 1 ? failure : new AsyncModbusFailure<>(poll.request, failure.getCause()));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("MergedRead(request=%s, refreshMillis=%d, polls=%d)", request, refreshMillis,
+                    polls.size());
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+    private final int maxLength;
+    private final List<PlannedPoll> polls = new ArrayList<>();
+    private final List<MergedRead> mergedReads = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * Creates a planner for the polls of an endpoint.
+     *
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of unused registers (or coils/discrete inputs) read between two merged polls
+     * @param maxLength maximum number of registers (or coils/discrete inputs) of a merged read. Zero or a value larger
+     *            than allowed by the protocol means the protocol maximum.
+     */
+    public ModbusPollPlanner(ModbusCommunicationInterface comms, int maxGap, int maxLength) {
+        this.comms = comms;
+        this.maxGap = Math.max(0, maxGap);
+        this.maxLength = Math.max(0, maxLength);
+    }
+
+    /**
+     * Registers a regular poll. The poll might be merged with other polls.
+     *
+     * @param name name of the poll, shown in the plan
+     * @param request the request of the poll
+     * @param refreshMillis the poll interval in milliseconds
+     * @param resultCallback callback for the data of the request
+     * @param failureCallback callback for failures
+     * @return poll to pass to {@link #unregisterRegularPoll(PlannedPoll)}
+     */
+    public synchronized PlannedPoll registerRegularPoll(String name, ModbusReadRequestBlueprint request,
+            long refreshMillis, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedPoll poll = new PlannedPoll(name, request, refreshMillis, resultCallback, failureCallback);
+        polls.add(poll);
+        replan(poll);
+        return poll;
+    }
+
+    /**
+     * Unregisters a regular poll. Other polls that were merged with it are planned again.
+     *
+     * @param poll poll returned by {@link #registerRegularPoll}
+     */
+    public synchronized void unregisterRegularPoll(PlannedPoll poll) {
+        if (polls.remove(poll)) {
+            replan(poll);
+        }
+    }
+
+    /**
+     * Returns the read requests currently executed for the polls
+     */
+    public synchronized List<MergedRead> getPlan() {
+        return List.copyOf(mergedReads);
+    }
+
+    /**
+     * Stops all polls.
+     */
+    public synchronized void close() {
+        mergedReads.forEach(this::stop);
+        mergedReads.clear();
+        polls.clear();
+        closed = true;
+    }
+
+    /**
+     * Plans the polls of the group of the given poll again.
+     */
+    private void replan(PlannedPoll changed) {
+        if (closed) {
+            return;
+        }
+        List<MergedRead> previous = mergedReads.stream()
+                .filter(mergedRead -> mergedRead.polls.getFirst().isSameGroup(changed)).toList();
+
+        List<PlannedPoll> group = polls.stream().filter(poll -> poll.isSameGroup(changed))
+                .sorted(Comparator.comparingInt((PlannedPoll poll) -> poll.request.getReference())
+                        .thenComparingInt(poll -> poll.request.getDataLength()))
+                .toList();
+        int limit = getLimit(changed.request.getFunctionCode());
+        List<List<PlannedPoll>> plan = new ArrayList<>();
+        List<PlannedPoll> merged = new ArrayList<>();
+        for (PlannedPoll poll : group) {
+            if (!merged.isEmpty()) {
+                int start = merged.getFirst().request.getReference();
+                int end = merged.stream().mapToInt(PlannedPoll::getEnd).max().orElse(start);
+                if (poll.request.getReference() - end > maxGap || Math.max(end, poll.getEnd()) - start > limit) {
+                    plan.add(merged);
+                    merged = new ArrayList<>();
+                }
+            }
+            merged.add(poll);
+        }
+        if (!merged.isEmpty()) {
+            plan.add(merged);
+        }
+
+        // merged reads with the same polls keep running
+        List<MergedRead> stopped = new ArrayList<>(previous);
+        List<List<PlannedPoll>> started = new ArrayList<>();
+        for (List<PlannedPoll> mergedPolls : plan) {
+            Optional<MergedRead> unchanged = stopped.stream()
+                    .filter(mergedRead -> mergedRead.polls.equals(mergedPolls)).findFirst();
+            if (unchanged.isPresent()) {
+                stopped.remove(unchanged.get());
+            } else {
+                started.add(mergedPolls);
+            }
+        }
+        long now = System.currentTimeMillis();
+        for (MergedRead mergedRead : stopped) {
+            stop(mergedRead);
+            mergedReads.remove(mergedRead);
+        }
+        for (List<PlannedPoll> mergedPolls : started) {
+            start(new MergedRead(mergedPolls), getInitialDelay(mergedPolls, previous, now));
+        }
+    }
+
+    /**
+     * Returns the delay of the first read of a restarted merged read. Polls which were not read before are read right
+     * away, otherwise the read continues one interval after the last read of its first poll.
+     */
+    private long getInitialDelay(List<PlannedPoll> mergedPolls, List<MergedRead> previous, long now) {
+        if (mergedPolls.stream().anyMatch(poll -> previous.stream().noneMatch(read -> read.polls.contains(poll)))) {
+            return 0;
+        }
+        for (MergedRead mergedRead : previous) {
+            if (mergedRead.polls.contains(mergedPolls.getFirst())) {
+                long sinceFirstRead = now - mergedRead.firstReadMillis;
+                return sinceFirstRead < 0 ? -sinceFirstRead
+                        : mergedRead.refreshMillis - sinceFirstRead % mergedRead.refreshMillis;
+            }
+        }
+        return 0;
+    }
+
+    private int getLimit(ModbusReadFunctionCode functionCode) {
+        int protocolLimit = switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+        return maxLength > 0 ? Math.min(maxLength, protocolLimit) : protocolLimit;
+    }
+
+    private void start(MergedRead mergedRead, long initialDelayMillis) {
+        logger.debug("Registering regular poll {} starting in {} ms", mergedRead, initialDelayMillis);
+        mergedRead.firstReadMillis = System.currentTimeMillis() + initialDelayMillis;
+        mergedRead.pollTask = comms.registerRegularPoll(mergedRead.request, mergedRead.refreshMillis,
+                initialDelayMillis, mergedRead, mergedRead);
+        mergedReads.add(mergedRead);
+    }
+
+    private void stop(MergedRead mergedRead) {
+        PollTask pollTask = mergedRead.pollTask;
+        if (pollTask != null) {
+            comms.unregisterRegularPoll(pollTask);
+            mergedRead.pollTask = null;
+        }
+    }
+
+    private static ModbusRegisterArray slice(ModbusRegisterArray registers, int offset, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = registers.getRegister(offset + i);
+        }
+        return new ModbusRegisterArray(values);
+    }
+
+    private static BitArray slice(BitArray bits, int offset, int length) {
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return slice;
+    }
+}
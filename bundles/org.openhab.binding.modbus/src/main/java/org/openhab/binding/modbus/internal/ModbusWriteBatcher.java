@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the writes to an endpoint for a short window and merges contiguous writes into single requests.
+ *
+ * <p>
+ * Register writes with the same unit id that are adjacent to each other are sent as one "write multiple registers"
+ * (FC16) request, and coil writes likewise as one "write multiple coils" (FC15) request, up to the maximum length
+ * allowed by the protocol. A write to an address that is already part of a pending request starts a new request.
+ * Such a request is only sent once all earlier requests it overlaps with have completed, also those of earlier
+ * windows, so the writes of each address are executed in the order they were submitted. The exception are writes of
+ * individual bits of a register: they only change their bit of the pending register value.
+ * </p>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteBatcher {
+
+    // mask of writes that set the whole value of their registers
+    private static final int WHOLE_VALUE = -1;
+
+    private static class PendingWrite {
+        private final ModbusWriteRequestBlueprint request;
+        // bits of the registers set by the write
+        private final int mask;
+        private final ModbusWriteCallback resultCallback;
+        private final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback;
+
+        private PendingWrite(ModbusWriteRequestBlueprint request, int mask, ModbusWriteCallback resultCallback,
+                ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.mask = mask;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+    }
+
+    /**
+     * Writes of contiguous addresses, sent with a single request
+     */
+    private class Batch implements ModbusWriteCallback, ModbusFailureCallback<ModbusWriteRequestBlueprint> {
+        private final int unitId;
+        private final boolean coils;
+        private final List<PendingWrite> writes = new ArrayList<>();
+        // address -> register value, or 0/1 for coils
+        private final TreeMap<Integer, Integer> values = new TreeMap<>();
+        private int maxTries;
+        // later batches writing some of the same addresses, sent when this batch has completed. Guarded by the
+        // batcher.
+        private final List<Batch> successors = new ArrayList<>();
+        // number of earlier batches writing some of the same addresses that have not completed yet. Guarded by the
+        // batcher.
+        private int pendingPredecessors;
+
+        private Batch(int unitId, boolean coils) {
+            this.unitId = unitId;
+            this.coils = coils;
+        }
+
+        private boolean isSameGroup(int unitId, boolean coils) {
+            return this.unitId == unitId && this.coils == coils;
+        }
+
+        private boolean overlaps(int start, int end) {
+            return !values.subMap(start, end).isEmpty();
+        }
+
+        private boolean canAdd(int start, int end, int limit) {
+            if (values.isEmpty()) {
+                return end - start <= limit;
+            }
+            int batchStart = values.firstKey();
+            int batchEnd = values.lastKey() + 1;
+            return start <= batchEnd && end >= batchStart
+                    && Math.max(end, batchEnd) - Math.min(start, batchStart) <= limit;
+        }
+
+        private boolean overlaps(Batch other) {
+            return !values.isEmpty() && !other.values.isEmpty() && other.isSameGroup(unitId, coils)
+                    && other.overlaps(values.firstKey(), values.lastKey() + 1);
+        }
+
+        private void add(PendingWrite write, int start, int[] data) {
+            for (int i = 0; i < data.length; i++) {
+                values.merge(start + i, data[i], (pending, value) -> (pending & ~write.mask) | (value & write.mask));
+            }
+            writes.add(write);
+            maxTries = Math.max(maxTries, write.request.getMaxTries());
+        }
+
+        private ModbusWriteRequestBlueprint toRequest() {
+            if (writes.size() == 1) {
+                return writes.getFirst().request;
+            }
+            int start = values.firstKey();
+            if (coils) {
+                BitArray bits = new BitArray(values.size());
+                values.forEach((address, value) -> bits.setBit(address - start, value != 0));
+                return new ModbusWriteCoilRequestBlueprint(unitId, start, bits, true, maxTries);
+            }
+            return new ModbusWriteRegisterRequestBlueprint(unitId, start,
+                    new ModbusRegisterArray(values.values().stream().mapToInt(Integer::intValue).toArray()), true,
+                    maxTries);
+        }
+
+        @Override
+        public void handle(AsyncModbusWriteResult result) {
+            for (PendingWrite write : writes) {
+                write.resultCallback.handle(
+                        writes.size() == 1 ? result : new AsyncModbusWriteResult(write.request, result.getResponse()));
+            }
+            completed();
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusWriteRequestBlueprint> failure) {
+            for (PendingWrite write : writes) {
+                write.failureCallback.handle(
+                        writes.size() == 1 ? failure : new AsyncModbusFailure<>(write.request, failure.getCause()));
+            }
+            completed();
+        }
+
+        private void completed() {
+            List<Batch> ready = new ArrayList<>();
+            synchronized (ModbusWriteBatcher.this) {
+                incomplete.remove(this);
+                for (Batch successor : successors) {
+                    if (--successor.pendingPredecessors == 0) {
+                        ready.add(successor);
+                    }
+                }
+            }
+            ready.forEach(ModbusWriteBatcher.this::submit);
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteBatcher.class);
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final AtomicLong submittedWrites = new AtomicLong();
+    private final AtomicLong sentRequests = new AtomicLong();
+    private List<PendingWrite> pending = new ArrayList<>();
+    // sent or waiting batches that have not completed yet, in the order they were planned
+    private final List<Batch> incomplete = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private boolean closed;
+
+    /**
+     * Creates a write batcher for an endpoint.
+     *
+     * @param comms communication interface of the endpoint
+     * @param scheduler scheduler used to send the writes at the end of the window
+     * @param windowMillis how long writes are collected before they are sent, in milliseconds
+     */
+    public ModbusWriteBatcher(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long windowMillis) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Submits a write. The write is sent at the end of the current batching window, possibly merged with other writes.
+     *
+     * @param request the write request
+     * @param resultCallback callback for the response
+     * @param failureCallback callback for failures
+     */
+    public void submitWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        submit(new PendingWrite(request, WHOLE_VALUE, resultCallback, failureCallback));
+    }
+
+    /**
+     * Submits a write of an individual bit of a register. The request contains the whole register, but only the given
+     * bit is taken from it if a write to the same register is still pending. The other bits keep their pending value.
+     *
+     * @param request the write request, combining the bit with the cached register value
+     * @param bitIndex index of the written bit within the register
+     * @param resultCallback callback for the response
+     * @param failureCallback callback for failures
+     */
+    public void submitBitWrite(ModbusWriteRegisterRequestBlueprint request, int bitIndex,
+            ModbusWriteCallback resultCallback, ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        submit(new PendingWrite(request, 1 << (bitIndex % 16), resultCallback, failureCallback));
+    }
+
+    private void submit(PendingWrite write) {
+        submittedWrites.incrementAndGet();
+        synchronized (this) {
+            if (!closed) {
+                pending.add(write);
+                if (flushJob == null) {
+                    flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        // after closing, each write is sent immediately, but still after the incomplete writes of its addresses
+        send(plan(List.of(write)));
+    }
+
+    /**
+     * Sends all pending writes.
+     */
+    public void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            writes = pending;
+            pending = new ArrayList<>();
+            flushJob = null;
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+        List<Batch> batches = plan(writes);
+        logger.debug("Sending {} writes with {} requests to endpoint {}", writes.size(), batches.size(),
+                comms.getEndpoint());
+        send(batches);
+    }
+
+    private void send(List<Batch> batches) {
+        sentRequests.addAndGet(batches.size());
+        // the communication interface might execute one time writes in parallel, so a batch overlapping with earlier
+        // batches, of this or of earlier flushes, is only sent when these have completed
+        List<Batch> ready = new ArrayList<>();
+        synchronized (this) {
+            for (Batch batch : batches) {
+                for (Batch predecessor : incomplete) {
+                    if (predecessor.overlaps(batch)) {
+                        predecessor.successors.add(batch);
+                        batch.pendingPredecessors++;
+                    }
+                }
+                incomplete.add(batch);
+                if (batch.pendingPredecessors == 0) {
+                    ready.add(batch);
+                }
+            }
+        }
+        ready.forEach(this::submit);
+    }
+
+    private void submit(Batch batch) {
+        ModbusWriteRequestBlueprint request = batch.toRequest();
+        logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
+        comms.submitOneTimeWrite(request, batch, batch);
+    }
+
+    /**
+     * Sends the pending writes, and sends all further writes immediately.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Returns the number of submitted writes
+     */
+    public long getSubmittedWrites() {
+        return submittedWrites.get();
+    }
+
+    /**
+     * Returns the number of requests sent for the submitted writes
+     */
+    public long getSentRequests() {
+        return sentRequests.get();
+    }
+
+    /**
+     * Groups the writes into batches, in the order they are sent.
+     */
+    private List<Batch> plan(List<PendingWrite> writes) {
+        List<Batch> batches = new ArrayList<>();
+        // batches that can still be extended. The addresses of the open batches of a group never overlap, and all
+        // open batches were created after all closed batches of their group.
+        List<Batch> open = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            int start = write.request.getReference();
+            final boolean coils;
+            final int[] data;
+            if (write.request instanceof ModbusWriteRegisterRequestBlueprint registerRequest) {
+                ModbusRegisterArray registers = registerRequest.getRegisters();
+                coils = false;
+                data = new int[registers.size()];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = registers.getRegister(i);
+                }
+            } else if (write.request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+                BitArray bits = coilRequest.getCoils();
+                coils = true;
+                data = new int[bits.size()];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = bits.getBit(i) ? 1 : 0;
+                }
+            } else {
+                Batch batch = new Batch(write.request.getUnitID(), false);
+                batch.writes.add(write);
+                batches.add(batch);
+                continue;
+            }
+            int unitId = write.request.getUnitID();
+            int end = start + data.length;
+            int limit = coils ? ModbusConstants.MAX_BITS_WRITE_COUNT : ModbusConstants.MAX_REGISTERS_WRITE_COUNT;
+
+            List<Batch> group = open.stream().filter(batch -> batch.isSameGroup(unitId, coils)).toList();
+            List<Batch> overlapping = group.stream().filter(batch -> batch.overlaps(start, end)).toList();
+            Batch target = null;
+            if (overlapping.isEmpty()) {
+                target = group.stream().filter(batch -> batch.canAdd(start, end, limit)).findFirst().orElse(null);
+            } else if (write.mask != WHOLE_VALUE && overlapping.size() == 1
+                    && overlapping.getFirst().canAdd(start, end, limit)) {
+                target = overlapping.getFirst();
+            } else {
+                // the write has to be sent after the pending writes of the same addresses
+                open.removeAll(group);
+            }
+            if (target == null) {
+                target = new Batch(unitId, coils);
+                batches.add(target);
+                open.add(target);
+            }
+            target.add(write, start, data);
+        }
+        return batches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ModbusWriteBatcher(windowMillis=%d, submittedWrites=%d, sentRequests=%d)", windowMillis,
+                submittedWrites.get(), sentRequests.get());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.config;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Configuration for merging the reads of the pollers of tcp and serial things
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ModbusPollPlannerConfiguration {
+    private boolean mergeReads;
+    private int mergeReadsMaxGap;
+    private int mergeReadsMaxLength;
+
+    public boolean isMergeReads() {
+        return mergeReads;
+    }
+
+    public void setMergeReads(boolean mergeReads) {
+        this.mergeReads = mergeReads;
+    }
+
+    public int getMergeReadsMaxGap() {
+        return mergeReadsMaxGap;
+    }
+
+    public void setMergeReadsMaxGap(int mergeReadsMaxGap) {
+        this.mergeReadsMaxGap = mergeReadsMaxGap;
+    }
+
+    public int getMergeReadsMaxLength() {
+        return mergeReadsMaxLength;
+    }
+
+    public void setMergeReadsMaxLength(int mergeReadsMaxLength) {
+        this.mergeReadsMaxLength = mergeReadsMaxLength;
+    }
+}
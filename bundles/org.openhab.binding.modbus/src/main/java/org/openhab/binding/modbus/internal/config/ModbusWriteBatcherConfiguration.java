@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.config;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Configuration for merging the writes to tcp and serial things
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ModbusWriteBatcherConfiguration {
+    private int writeBatchWindowMillis;
+
+    public int getWriteBatchWindowMillis() {
+        return writeBatchWindowMillis;
+    }
+
+    public void setWriteBatchWindowMillis(int writeBatchWindowMillis) {
+        this.writeBatchWindowMillis = writeBatchWindowMillis;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.ModbusBindingConstants;
+import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.MergedRead;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.binding.modbus.internal.ModbusWriteBatcher;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusCommandExtension} is responsible for handling console commands
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class ModbusCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String PLAN = "plan";
+    private static final String WRITES = "writes";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(PLAN, WRITES), false);
+
+    private final ThingRegistry thingRegistry;
+
+    @Activate
+    public ModbusCommandExtension(final @Reference ThingRegistry thingRegistry) {
+        super(ModbusBindingConstants.BINDING_ID, "Interact with the Modbus binding.");
+        this.thingRegistry = thingRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length < 1 || args.length > 2 || !(PLAN.equals(args[0]) || WRITES.equals(args[0]))) {
+            printUsage(console);
+            return;
+        }
+
+        List<Thing> endpoints = getEndpoints();
+        if (args.length == 2) {
+            endpoints = endpoints.stream().filter(thing -> thing.getUID().toString().equals(args[1])).toList();
+            if (endpoints.isEmpty()) {
+                console.println("Unknown endpoint thing '" + args[1] + "'");
+                return;
+            }
+        }
+        for (Thing endpoint : endpoints) {
+            if (PLAN.equals(args[0])) {
+                printPlan(endpoint, console);
+            } else {
+                printWrites(endpoint, console);
+            }
+        }
+    }
+
+    private void printPlan(Thing endpoint, Console console) {
+        console.println(endpoint.getUID() + ":");
+        ModbusPollPlanner planner = endpoint.getHandler() instanceof AbstractModbusEndpointThingHandler<?, ?> handler
+                ? handler.getPollPlanner()
+                : null;
+        if (planner == null) {
+            console.println("  reads are not merged");
+            return;
+        }
+        List<MergedRead> plan = planner.getPlan();
+        int polls = plan.stream().mapToInt(mergedRead -> mergedRead.getPolls().size()).sum();
+        console.println(String.format("  %d pollers read with %d requests", polls, plan.size()));
+        for (MergedRead mergedRead : plan) {
+            ModbusReadRequestBlueprint request = mergedRead.getRequest();
+            console.println(String.format("  unit %d %s start %d length %d every %d ms", request.getUnitID(),
+                    request.getFunctionCode(), request.getReference(), request.getDataLength(),
+                    mergedRead.getRefreshMillis()));
+            for (PlannedPoll poll : mergedRead.getPolls()) {
+                console.println(String.format("    %s start %d length %d", poll.getName(),
+                        poll.getRequest().getReference(), poll.getRequest().getDataLength()));
+            }
+        }
+    }
+
+    private void printWrites(Thing endpoint, Console console) {
+        console.println(endpoint.getUID() + ":");
+        ModbusWriteBatcher batcher = endpoint.getHandler() instanceof AbstractModbusEndpointThingHandler<?, ?> handler
+                ? handler.getWriteBatcher()
+                : null;
+        if (batcher == null) {
+            console.println("  writes are not batched");
+            return;
+        }
+        long writes = batcher.getSubmittedWrites();
+        long requests = batcher.getSentRequests();
+        console.println(String.format("  %d writes sent with %d requests (%.2f writes per request)", writes, requests,
+                requests > 0 ? (double) writes / requests : 0.0));
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(
+                buildCommandUsage(PLAN + " [<endpointThingUID>]",
+                        "show the merged reads of the pollers of all or the given tcp or serial thing"),
+                buildCommandUsage(WRITES + " [<endpointThingUID>]",
+                        "show how many writes to all or the given tcp or serial thing were merged"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        } else if (cursorArgumentIndex == 1 && (PLAN.equals(args[0]) || WRITES.equals(args[0]))) {
+            return new StringsCompleter(getEndpoints().stream().map(thing -> thing.getUID().toString()).toList(), true)
+                    .complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+
+    private List<Thing> getEndpoints() {
+        return thingRegistry.getAll().stream().filter(thing -> thing.getHandler() instanceof ModbusEndpointThingHandler)
+                .toList();
+    }
+}
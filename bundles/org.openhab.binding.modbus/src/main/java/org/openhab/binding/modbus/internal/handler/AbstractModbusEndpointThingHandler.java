@@ -17,6 +17,10 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.ModbusWriteBatcher;
+import org.openhab.binding.modbus.internal.config.ModbusPollPlannerConfiguration;
+import org.openhab.binding.modbus.internal.config.ModbusWriteBatcherConfiguration;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -48,6 +52,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
+    private volatile @Nullable ModbusWriteBatcher writeBatcher;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +82,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    ModbusPollPlannerConfiguration plannerConfig = getConfigAs(ModbusPollPlannerConfiguration.class);
+                    if (plannerConfig.isMergeReads()) {
+                        pollPlanner = new ModbusPollPlanner(comms, plannerConfig.getMergeReadsMaxGap(),
+                                plannerConfig.getMergeReadsMaxLength());
+                    }
+                    ModbusWriteBatcherConfiguration batcherConfig = getConfigAs(ModbusWriteBatcherConfiguration.class);
+                    if (batcherConfig.getWriteBatchWindowMillis() > 0) {
+                        writeBatcher = new ModbusWriteBatcher(comms, scheduler,
+                                batcherConfig.getWriteBatchWindowMillis());
+                    }
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +109,17 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollPlanner localPollPlanner = pollPlanner;
+        if (localPollPlanner != null) {
+            localPollPlanner.close();
+            pollPlanner = null;
+        }
+        ModbusWriteBatcher localWriteBatcher = writeBatcher;
+        if (localWriteBatcher != null) {
+            // sends the pending writes before the communication interface is closed
+            localWriteBatcher.close();
+            writeBatcher = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +137,26 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Gets the {@link ModbusPollPlanner} merging the regular polls of the pollers of this endpoint
+     *
+     * @return poll planner, or <code>null</code> if the polls should be registered with the communication interface
+     *         directly
+     */
+    public @Nullable ModbusPollPlanner getPollPlanner() {
+        return pollPlanner;
+    }
+
+    /**
+     * Gets the {@link ModbusWriteBatcher} merging the writes to this endpoint
+     *
+     * @return write batcher, or <code>null</code> if the writes should be submitted to the communication interface
+     *         directly
+     */
+    public @Nullable ModbusWriteBatcher getWriteBatcher() {
+        return writeBatcher;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -35,6 +35,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteBatcher;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -137,6 +138,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusWriteBatcher writeBatcher;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
@@ -217,8 +219,25 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
 
-        logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        // a write of an individual bit of a register contains the whole register, combined with the cached value
+        submitWrite(comms, request, ValueType.BIT.equals(writeValueType) ? writeSubIndex : Optional.empty());
+    }
+
+    private void submitWrite(ModbusCommunicationInterface comms, ModbusWriteRequestBlueprint request,
+            Optional<Integer> bitIndex) {
+        ModbusWriteBatcher writeBatcher = this.writeBatcher;
+        if (writeBatcher != null) {
+            logger.trace("Submitting write task {} to write batcher of endpoint {}", request, comms.getEndpoint());
+            if (request instanceof ModbusWriteRegisterRequestBlueprint registerRequest && bitIndex.isPresent()) {
+                writeBatcher.submitBitWrite(registerRequest, bitIndex.get(), this::onWriteResponse,
+                        this::handleWriteError);
+            } else {
+                writeBatcher.submitWrite(request, this::onWriteResponse, this::handleWriteError);
+            }
+        } else {
+            logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
+            comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        }
     }
 
     /**
@@ -385,7 +404,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request, Optional.empty());
         });
     }
 
@@ -414,6 +433,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                writeBatcher = getWriteBatcher(endpointHandler);
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +452,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeBatcher = getWriteBatcher(localPollerHandler.getEndpointThingHandler());
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -468,6 +489,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         pollStart = 0;
         slaveId = 0;
         comms = null;
+        writeBatcher = null;
         functionCode = null;
         readRequest = null;
         isWriteEnabled = false;
@@ -495,6 +517,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 && statusInfo.getStatusDetail() == ThingStatusDetail.CONFIGURATION_ERROR;
     }
 
+    private static @Nullable ModbusWriteBatcher getWriteBatcher(@Nullable ModbusEndpointThingHandler endpointHandler) {
+        return endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler
+                ? abstractEndpointHandler.getWriteBatcher()
+                : null;
+    }
+
     private void validateMustReadOrWrite() throws ModbusConfigurationException {
         if (!isReadEnabled && !isWriteEnabled) {
             throw new ModbusConfigurationException("Should try to read or write data!");
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.MergedRead;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final List<AsyncModbusReadResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> mock(PollTask.class));
+    }
+
+    private PlannedPoll register(ModbusPollPlanner planner, ModbusReadFunctionCode functionCode, int start, int length,
+            long refresh) {
+        return planner.registerRegularPoll("poller" + start,
+                new ModbusReadRequestBlueprint(1, functionCode, start, length, 3), refresh, results::add,
+                failures::add);
+    }
+
+    private List<Integer> registers(AsyncModbusReadResult result) {
+        ModbusRegisterArray registers = result.getRegisters().get();
+        return IntStream.range(0, registers.size()).mapToObj(registers::getRegister).toList();
+    }
+
+    private List<Boolean> bits(AsyncModbusReadResult result) {
+        BitArray bits = result.getBits().get();
+        return IntStream.range(0, bits.size()).mapToObj(bits::getBit).toList();
+    }
+
+    @Test
+    public void testMergeAdjacentAndNearbyPolls() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 2, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 5, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 17, 3, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 30, 2, 1000);
+
+        List<MergedRead> plan = planner.getPlan().stream()
+                .sorted((a, b) -> a.getRequest().getReference() - b.getRequest().getReference()).toList();
+        assertThat(plan.size(), is(2));
+        assertThat(plan.get(0).getRequest().getReference(), is(0));
+        assertThat(plan.get(0).getRequest().getDataLength(), is(20));
+        assertThat(plan.get(0).getRequest().getMaxTries(), is(3));
+        assertThat(plan.get(0).getPolls().size(), is(3));
+        assertThat(plan.get(1).getRequest().getReference(), is(30));
+        assertThat(plan.get(1).getRequest().getDataLength(), is(2));
+    }
+
+    @Test
+    public void testDoNotMergeDifferentFunctionCodesOrRefresh() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 10, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 5, 1000);
+        register(planner, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 5, 5, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 5, 500);
+
+        assertThat(planner.getPlan().size(), is(3));
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    public void testMaxLength() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 10);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 6, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 6, 6, 1000);
+        assertThat(planner.getPlan().size(), is(2));
+
+        ModbusPollPlanner protocolLimited = new ModbusPollPlanner(comms, 0, 0);
+        register(protocolLimited, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100, 1000);
+        register(protocolLimited, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 100, 1000);
+        assertThat(protocolLimited.getPlan().size(), is(2));
+        register(protocolLimited, ModbusReadFunctionCode.READ_COILS, 0, 100, 1000);
+        register(protocolLimited, ModbusReadFunctionCode.READ_COILS, 100, 100, 1000);
+        assertThat(protocolLimited.getPlan().size(), is(3));
+    }
+
+    @Test
+    public void testSliceRegisters() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 1, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 3, 2, 1000);
+        MergedRead mergedRead = planner.getPlan().getFirst();
+
+        mergedRead.handle(new AsyncModbusReadResult(mergedRead.getRequest(), new ModbusRegisterArray(1, 2, 3, 4, 5)));
+
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getRequest().getReference(), is(0));
+        assertThat(registers(results.get(0)), is(equalTo(List.of(1, 2))));
+        assertThat(results.get(1).getRequest().getReference(), is(3));
+        assertThat(registers(results.get(1)), is(equalTo(List.of(4, 5))));
+        assertThat(failures.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testSliceBits() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 0);
+        register(planner, ModbusReadFunctionCode.READ_COILS, 0, 3, 1000);
+        register(planner, ModbusReadFunctionCode.READ_COILS, 3, 2, 1000);
+        MergedRead mergedRead = planner.getPlan().getFirst();
+
+        mergedRead.handle(
+                new AsyncModbusReadResult(mergedRead.getRequest(), new BitArray(true, false, false, true, true)));
+
+        assertThat(results.size(), is(2));
+        assertThat(bits(results.get(0)), is(equalTo(List.of(true, false, false))));
+        assertThat(bits(results.get(1)), is(equalTo(List.of(true, true))));
+    }
+
+    @Test
+    public void testShortResponseAndFailure() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, 1000);
+        MergedRead mergedRead = planner.getPlan().getFirst();
+
+        mergedRead.handle(new AsyncModbusReadResult(mergedRead.getRequest(), new ModbusRegisterArray(1, 2, 3)));
+        assertThat(results.size(), is(1));
+        assertThat(failures.size(), is(1));
+        assertThat(failures.get(0).getRequest().getReference(), is(2));
+
+        mergedRead.handle(new AsyncModbusFailure<>(mergedRead.getRequest(), new IOException("timeout")));
+        assertThat(failures.size(), is(3));
+        assertThat(failures.get(1).getRequest().getReference(), is(0));
+        assertThat(failures.get(2).getRequest().getReference(), is(2));
+        assertThat(failures.get(2).getCause(), is(instanceOf(IOException.class)));
+    }
+
+    @Test
+    public void testUnregisterSplitsMergedRead() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1000);
+        PlannedPoll middle = register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 4, 2, 1000);
+        assertThat(planner.getPlan().size(), is(1));
+
+        planner.unregisterRegularPoll(middle);
+        assertThat(planner.getPlan().size(), is(2));
+
+        planner.close();
+        assertThat(planner.getPlan().isEmpty(), is(true));
+        // every registered poll task is unregistered again
+        verify(comms, times(5)).registerRegularPoll(any(), anyLong(), anyLong(), any(), any());
+        verify(comms, times(5)).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testRegisterRestartsChangedReadsOnly() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1000);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, 1000);
+        verify(comms, times(2)).registerRegularPoll(any(), anyLong(), eq(0L), any(), any());
+        verify(comms, times(1)).unregisterRegularPoll(any());
+
+        // a poll in another range does not touch the running read
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 2, 1000);
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), eq(0L), any(), any());
+        verify(comms, times(1)).unregisterRegularPoll(any());
+        assertThat(planner.getPlan().size(), is(2));
+    }
+
+    @Test
+    public void testUnregisterKeepsTimingOfRemainingPolls() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0, 0);
+        register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, 1000);
+        PlannedPoll second = register(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, 1000);
+
+        planner.unregisterRegularPoll(second);
+
+        // the remaining poll is not read again right away, but one interval after its last read
+        ArgumentCaptor<Long> initialDelay = ArgumentCaptor.forClass(Long.class);
+        verify(comms, times(3)).registerRegularPoll(any(), anyLong(), initialDelay.capture(), any(), any());
+        long delay = initialDelay.getAllValues().get(2);
+        assertThat(delay > 0 && delay <= 1000, is(true));
+        assertThat(planner.getPlan().getFirst().getRequest().getDataLength(), is(2));
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteBatcherTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<AsyncModbusWriteResult> results = new ArrayList<>();
+    private final List<AsyncModbusFailure<ModbusWriteRequestBlueprint>> failures = new ArrayList<>();
+    private final ModbusWriteBatcher batcher = new ModbusWriteBatcher(comms, scheduler, 50);
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private void writeRegisters(int unitId, int start, int... values) {
+        batcher.submitWrite(new ModbusWriteRegisterRequestBlueprint(unitId, start, new ModbusRegisterArray(values),
+                values.length > 1, 3), results::add, failures::add);
+    }
+
+    private void writeBit(int start, int bitIndex, int register) {
+        batcher.submitBitWrite(
+                new ModbusWriteRegisterRequestBlueprint(1, start, new ModbusRegisterArray(register), false, 3),
+                bitIndex, results::add, failures::add);
+    }
+
+    private void writeCoil(int start, boolean value) {
+        batcher.submitWrite(new ModbusWriteCoilRequestBlueprint(1, start, value, false, 3), results::add,
+                failures::add);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ModbusWriteRequestBlueprint> flush() {
+        batcher.flush();
+        ArgumentCaptor<ModbusWriteRequestBlueprint> requests = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        verify(comms, atLeast(0)).submitOneTimeWrite(requests.capture(), any(ModbusWriteCallback.class),
+                any(ModbusFailureCallback.class));
+        return requests.getAllValues();
+    }
+
+    private void complete(ModbusWriteRequestBlueprint request) {
+        ArgumentCaptor<ModbusWriteCallback> resultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        verify(comms).submitOneTimeWrite(eq(request), resultCallback.capture(), any());
+        resultCallback.getValue().handle(new AsyncModbusWriteResult(request, mock(ModbusResponse.class)));
+    }
+
+    private List<Integer> registers(ModbusWriteRequestBlueprint request) {
+        ModbusRegisterArray registers = ((ModbusWriteRegisterRequestBlueprint) request).getRegisters();
+        return IntStream.range(0, registers.size()).mapToObj(registers::getRegister).toList();
+    }
+
+    @Test
+    public void testMergeContiguousRegisterWrites() {
+        writeRegisters(1, 12, 3);
+        writeRegisters(1, 10, 1, 2);
+        writeRegisters(1, 13, 4);
+        writeRegisters(1, 20, 5);
+        writeRegisters(2, 14, 6);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(50L), eq(TimeUnit.MILLISECONDS));
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(3));
+        assertThat(requests.get(0).getReference(), is(10));
+        assertThat(requests.get(0).getUnitID(), is(1));
+        assertThat(registers(requests.get(0)), is(equalTo(List.of(1, 2, 3, 4))));
+        assertThat(requests.get(1).getReference(), is(20));
+        assertThat(requests.get(2).getUnitID(), is(2));
+        assertThat(batcher.getSubmittedWrites(), is(5L));
+        assertThat(batcher.getSentRequests(), is(3L));
+    }
+
+    @Test
+    public void testSameRegisterKeepsOrder() {
+        writeRegisters(1, 10, 1);
+        writeRegisters(1, 11, 2);
+        writeRegisters(1, 10, 3);
+        writeRegisters(1, 11, 4);
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        assertThat(registers(requests.get(0)), is(equalTo(List.of(1, 2))));
+
+        complete(requests.get(0));
+        requests = flush();
+        assertThat(requests.size(), is(2));
+        assertThat(registers(requests.get(1)), is(equalTo(List.of(3, 4))));
+    }
+
+    @Test
+    public void testBitWritesUpdatePendingRegister() {
+        // writes of bits 0 and 1 of register 10, each combined with the cached register value
+        writeBit(10, 0, 0b101);
+        writeRegisters(1, 11, 7);
+        writeBit(10, 1, 0b111);
+        writeBit(10, 2, 0b011);
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        assertThat(registers(requests.get(0)), is(equalTo(List.of(0b011, 7))));
+    }
+
+    @Test
+    public void testBitWritesKeepPendingBitsWhenCacheIsRefreshed() {
+        // bit 0 is set based on the cached value 0
+        writeBit(10, 0, 0b01);
+        // a poll during the window refreshes the cache to 0 again before bit 1 is set
+        writeBit(10, 1, 0b10);
+        // bits of the high byte
+        writeBit(10, 9, 0x0200);
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        assertThat(registers(requests.get(0)), is(equalTo(List.of(0x0203))));
+    }
+
+    @Test
+    public void testBitWriteAfterRegisterWrite() {
+        writeRegisters(1, 10, 0x0F0F);
+        writeBit(10, 4, 0x0010);
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        assertThat(registers(requests.get(0)), is(equalTo(List.of(0x0F1F))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testOverlappingRequestIsSentAfterCompletion() {
+        writeRegisters(1, 10, 1);
+        writeRegisters(1, 20, 2);
+        writeRegisters(1, 10, 3);
+        writeRegisters(1, 20, 4);
+        batcher.flush();
+
+        ArgumentCaptor<ModbusWriteRequestBlueprint> request = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        ArgumentCaptor<ModbusWriteCallback> resultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms, times(2)).submitOneTimeWrite(request.capture(), resultCallback.capture(),
+                failureCallback.capture());
+        assertThat(registers(request.getAllValues().get(0)), is(equalTo(List.of(1))));
+        assertThat(registers(request.getAllValues().get(1)), is(equalTo(List.of(2))));
+
+        // the second write of register 10 is sent when the first one has completed
+        resultCallback.getAllValues().get(0)
+                .handle(new AsyncModbusWriteResult(request.getAllValues().get(0), mock(ModbusResponse.class)));
+        verify(comms, times(3)).submitOneTimeWrite(request.capture(), resultCallback.capture(),
+                failureCallback.capture());
+        assertThat(registers(request.getValue()), is(equalTo(List.of(3))));
+
+        // also after a failure
+        failureCallback.getAllValues().get(1)
+                .handle(new AsyncModbusFailure<>(request.getAllValues().get(1), new IOException("timeout")));
+        verify(comms, times(4)).submitOneTimeWrite(request.capture(), resultCallback.capture(),
+                failureCallback.capture());
+        assertThat(registers(request.getValue()), is(equalTo(List.of(4))));
+        assertThat(batcher.getSentRequests(), is(4L));
+    }
+
+    @Test
+    public void testOverlappingRequestOfNextWindowIsSentAfterCompletion() {
+        writeRegisters(1, 10, 1);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+
+        // the first request has not completed when the next window is flushed
+        writeRegisters(1, 10, 2);
+        writeRegisters(1, 20, 3);
+        requests = flush();
+        assertThat(requests.size(), is(2));
+        assertThat(registers(requests.get(1)), is(equalTo(List.of(3))));
+
+        complete(requests.get(0));
+        requests = flush();
+        assertThat(requests.size(), is(3));
+        assertThat(registers(requests.get(2)), is(equalTo(List.of(2))));
+    }
+
+    @Test
+    public void testWriteAfterCloseIsSentAfterCompletion() {
+        writeRegisters(1, 10, 1);
+        batcher.close();
+        writeRegisters(1, 10, 2);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+
+        complete(requests.get(0));
+        requests = flush();
+        assertThat(requests.size(), is(2));
+        assertThat(registers(requests.get(1)), is(equalTo(List.of(2))));
+    }
+
+    @Test
+    public void testMergeCoilWrites() {
+        writeCoil(0, true);
+        writeCoil(1, false);
+        writeCoil(2, true);
+
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        BitArray coils = ((ModbusWriteCoilRequestBlueprint) requests.get(0)).getCoils();
+        assertThat(coils.size(), is(3));
+        assertThat(coils.getBit(0), is(true));
+        assertThat(coils.getBit(1), is(false));
+        assertThat(coils.getBit(2), is(true));
+    }
+
+    @Test
+    public void testSingleWriteIsSentUnchanged() {
+        writeRegisters(1, 10, 1);
+        List<ModbusWriteRequestBlueprint> requests = flush();
+        assertThat(requests.size(), is(1));
+        assertThat(((ModbusWriteRegisterRequestBlueprint) requests.get(0)).isWriteMultiple(), is(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCallbacksOfMergedWrite() {
+        writeRegisters(1, 10, 1);
+        writeRegisters(1, 11, 2);
+        batcher.flush();
+
+        ArgumentCaptor<ModbusWriteRequestBlueprint> request = ArgumentCaptor
+                .forClass(ModbusWriteRequestBlueprint.class);
+        ArgumentCaptor<ModbusWriteCallback> resultCallback = ArgumentCaptor.forClass(ModbusWriteCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusWriteRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).submitOneTimeWrite(request.capture(), resultCallback.capture(), failureCallback.capture());
+
+        resultCallback.getValue().handle(new AsyncModbusWriteResult(request.getValue(), mock(ModbusResponse.class)));
+        assertThat(results.size(), is(2));
+        assertThat(results.get(0).getRequest().getReference(), is(10));
+        assertThat(results.get(1).getRequest().getReference(), is(11));
+
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(request.getValue(), new IOException("timeout")));
+        assertThat(failures.size(), is(2));
+        assertThat(failures.get(1).getRequest().getReference(), is(11));
+    }
+
+    @Test
+    public void testCloseSendsPendingWrites() {
+        writeRegisters(1, 10, 1);
+        batcher.close();
+        writeRegisters(1, 11, 2);
+
+        assertThat(flush().size(), is(2));
+        assertThat(batcher.getSentRequests(), is(2L));
+    }
+}
@@ -13,6 +13,7 @@
 package org.openhab.binding.mqtt.generic;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -35,7 +36,6 @@ import org.openhab.core.thing.binding.generic.ChannelTransformation;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
-import org.openhab.core.types.TypeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +66,11 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
+    // Set if messages are dispatched to this channel by a subscription on a parent topic filter
+    private boolean dispatched = false;
+    // The last payload and the state it resulted in, for skipping transformation and parsing of repeated payloads
+    private byte @Nullable [] lastPayload;
+    private @Nullable State lastState;
 
     /**
      * Creates a new channel state.
@@ -158,6 +163,16 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        // Repeated payload: The transformation and parsing result in the same state again, unless the cached value
+        // has been changed in the meantime, for example by a command.
+        final State lastState = this.lastState;
+        if (lastState != null && lastState == cachedValue.getChannelState() && Arrays.equals(lastPayload, payload)) {
+            updateChannel(channelStateUpdateListener, lastState);
+            receivedOrTimeout();
+            return;
+        }
+        this.lastState = null;
+
         // String value: Apply transformations
         String strValue = new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
@@ -185,7 +200,7 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+        Command command = cachedValue.parseIncomingMessage(strValue);
         if (command == null) {
             logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
                     cachedValue.getClass().getSimpleName());
@@ -218,6 +233,15 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         State newState = cachedValue.getChannelState();
+        if (!cachedValue.isStateDependent(command)) {
+            this.lastPayload = payload;
+            this.lastState = newState;
+        }
+        updateChannel(channelStateUpdateListener, newState);
+        receivedOrTimeout();
+    }
+
+    private void updateChannel(ChannelStateUpdateListener channelStateUpdateListener, State newState) {
         // If the user explicitly wants a command sent, not an update, do that. But
         // we have to check that the state is even possible to send as a command
         // (i.e. not UNDEF)
@@ -226,7 +250,6 @@ public class ChannelState implements MqttMessageSubscriber {
         } else {
             channelStateUpdateListener.updateChannelState(channelUID, newState);
         }
-        receivedOrTimeout();
     }
 
     /**
@@ -265,7 +288,7 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
-        if (connection != null && !config.stateTopic.isBlank()) {
+        if (connection != null && !config.stateTopic.isBlank() && !dispatched) {
             return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
         } else {
             internalStop();
@@ -278,6 +301,9 @@ public class ChannelState implements MqttMessageSubscriber {
         this.connection = null;
         this.channelStateUpdateListener = null;
         hasSubscribed = false;
+        dispatched = false;
+        lastPayload = null;
+        lastState = null;
         cachedValue.resetState();
     }
 
@@ -317,6 +343,7 @@ public class ChannelState implements MqttMessageSubscriber {
                 return future;
             }
             hasSubscribed = false;
+            dispatched = false;
 
             this.connection = connection;
 
@@ -338,6 +365,23 @@ public class ChannelState implements MqttMessageSubscriber {
         return future;
     }
 
+    /**
+     * Starts this channel without subscribing to the state topic, because the messages of the state topic are
+     * dispatched to {@link #processMessage(String, byte[])} by a subscription on a topic filter covering it.
+     *
+     * @param connection A broker connection
+     */
+    public void startDispatched(MqttBrokerConnection connection) {
+        synchronized (futureLock) {
+            this.connection = connection;
+            this.dispatched = true;
+            this.hasSubscribed = true;
+            this.future = CompletableFuture.completedFuture(null);
+        }
+        logger.debug("Channel {} receives topic {} from a device topic subscription", this.channelUID,
+                config.stateTopic);
+    }
+
     /**
      * Return true if this channel has subscribed to its MQTT topics.
      * You need to call {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)} and
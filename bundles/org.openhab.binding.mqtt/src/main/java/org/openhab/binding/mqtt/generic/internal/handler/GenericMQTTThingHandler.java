@@ -30,10 +30,12 @@ import org.openhab.binding.mqtt.generic.ChannelState;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.internal.MqttBindingConstants;
+import org.openhab.binding.mqtt.generic.tools.TopicTrie;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.binding.mqtt.generic.values.ValueFactory;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -59,6 +61,11 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
     private final Logger logger = LoggerFactory.getLogger(GenericMQTTThingHandler.class);
     final Map<ChannelUID, ChannelState> channelStateByChannelUID = new HashMap<>();
     protected final MqttChannelStateDescriptionProvider stateDescProvider;
+    // Channels receiving their state topic from the device topic subscription
+    private final TopicTrie<ChannelState> deviceTopicChannels = new TopicTrie<>();
+    private final MqttMessageSubscriber deviceTopicSubscriber = this::dispatchMessage;
+    private @Nullable String deviceTopic;
+    private @Nullable MqttBrokerConnection deviceTopicConnection;
 
     /**
      * Creates a new Thing handler for generic MQTT channels.
@@ -89,8 +96,30 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
         // availability topics are also started asynchronously, so no problem here
         clearAllAvailabilityTopics();
         initializeAvailabilityTopicsFromConfig();
-        return channelStateByChannelUID.values().stream().map(c -> c.start(connection, scheduler, 0))
-                .collect(FutureCollector.allOf()).thenRun(() -> calculateAndUpdateThingStatus(false));
+
+        // Channels with a state topic below the device topic are served by a single subscription
+        final String deviceTopic = getConfigAs(GenericThingConfiguration.class).deviceTopic;
+        this.deviceTopic = deviceTopic;
+        deviceTopicChannels.clear();
+        List<CompletableFuture<@Nullable Void>> futures = new ArrayList<>();
+        for (ChannelState channelState : channelStateByChannelUID.values()) {
+            if (deviceTopic != null && TopicTrie.covers(deviceTopic, channelState.getStateTopic())) {
+                deviceTopicChannels.add(channelState.getStateTopic(), channelState);
+                channelState.startDispatched(connection);
+            } else {
+                futures.add(channelState.start(connection, scheduler, 0));
+            }
+        }
+        if (deviceTopic != null && !deviceTopicChannels.isEmpty()) {
+            deviceTopicConnection = connection;
+            futures.add(connection.subscribe(deviceTopic, deviceTopicSubscriber).thenRun(
+                    () -> logger.debug("Subscribed thing {} to device topic {}", thing.getUID(), deviceTopic)));
+        }
+        return futures.stream().collect(FutureCollector.allOf()).thenRun(() -> calculateAndUpdateThingStatus(false));
+    }
+
+    private void dispatchMessage(String topic, byte[] payload) {
+        deviceTopicChannels.match(topic).forEach(c -> c.processMessage(topic, payload));
     }
 
     @Override
@@ -111,8 +140,16 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
 
     @Override
     public CompletableFuture<Void> unsubscribeAll() {
-        return CompletableFuture.allOf(
-                channelStateByChannelUID.values().stream().map(ChannelState::stop).toArray(CompletableFuture[]::new));
+        List<CompletableFuture<?>> futures = channelStateByChannelUID.values().stream().map(ChannelState::stop)
+                .collect(Collectors.toCollection(ArrayList::new));
+        final MqttBrokerConnection deviceTopicConnection = this.deviceTopicConnection;
+        final String deviceTopic = this.deviceTopic;
+        if (deviceTopicConnection != null && deviceTopic != null) {
+            futures.add(deviceTopicConnection.unsubscribe(deviceTopic, deviceTopicSubscriber));
+            this.deviceTopicConnection = null;
+        }
+        deviceTopicChannels.clear();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
     }
 
     /**
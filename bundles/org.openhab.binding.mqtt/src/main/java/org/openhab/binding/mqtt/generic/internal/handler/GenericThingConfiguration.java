@@ -45,4 +45,9 @@ public class GenericThingConfiguration {
      * transformation pattern for the availability payload
      */
     public List<String> transformationPattern = List.of();
+
+    /**
+     * topic filter covering the state topics of the channels, subscribed to once instead of per channel
+     */
+    public @Nullable String deviceTopic;
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * <p>
+ * Maps MQTT topic filters to values and finds all values whose filter matches a topic.
+ * </p>
+ *
+ * <p>
+ * The filters are stored level by level, so matching a topic only visits the levels of that topic, the single level
+ * wildcard "+" and the multi level wildcard "#", instead of testing every filter. This is used to dispatch the
+ * messages of a single subscription on a device topic to the channels of that device.
+ * </p>
+ *
+ * <p>
+ * Wildcards follow the MQTT specification: "#" also matches the parent level, and wildcards in the first level do
+ * not match topics starting with "$".
+ * </p>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ * @param <T> Any object
+ */
+@NonNullByDefault
+public class TopicTrie<T> {
+    private static final String LEVEL_SEPARATOR = "/";
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static class Node<T> {
+        final Map<String, Node<T>> children = new HashMap<>();
+        final Set<T> values = new LinkedHashSet<>();
+
+        boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds a value for the given topic filter.
+     *
+     * @param topicFilter A topic or a topic filter with wildcards
+     * @param value The value returned by {@link #match(String)} for matching topics
+     */
+    public synchronized void add(String topicFilter, T value) {
+        Node<T> node = root;
+        for (String level : topicFilter.split(LEVEL_SEPARATOR, -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * Removes a value of the given topic filter.
+     *
+     * @param topicFilter A topic or a topic filter with wildcards
+     * @param value The value to remove
+     * @return True if the value was found and removed
+     */
+    public synchronized boolean remove(String topicFilter, T value) {
+        return remove(root, topicFilter.split(LEVEL_SEPARATOR, -1), 0, value);
+    }
+
+    private boolean remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            return node.values.remove(value);
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null || !remove(child, levels, index + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+        root.values.clear();
+    }
+
+    /**
+     * Returns true if no values are stored.
+     */
+    public synchronized boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Returns all values with a topic filter matching the given topic.
+     *
+     * @param topic A topic without wildcards, as received in a message
+     * @return The matching values, each value only once
+     */
+    public synchronized List<T> match(String topic) {
+        String[] levels = topic.split(LEVEL_SEPARATOR, -1);
+        Set<T> result = new LinkedHashSet<>();
+        match(root, levels, 0, !topic.startsWith("$"), result);
+        return new ArrayList<>(result);
+    }
+
+    private void match(Node<T> node, String[] levels, int index, boolean wildcards, Set<T> result) {
+        if (wildcards) {
+            Node<T> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevel != null) {
+                result.addAll(multiLevel.values);
+            }
+        }
+        if (index == levels.length) {
+            result.addAll(node.values);
+            return;
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child != null) {
+            match(child, levels, index + 1, true, result);
+        }
+        if (wildcards) {
+            Node<T> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (singleLevel != null) {
+                match(singleLevel, levels, index + 1, true, result);
+            }
+        }
+    }
+
+    /**
+     * Returns true if every topic matched by the second topic filter is also matched by the first one.
+     *
+     * @param filter A topic filter, for example "device/#"
+     * @param topicFilter A topic or topic filter, for example "device/sensor/temperature"
+     */
+    public static boolean covers(@Nullable String filter, String topicFilter) {
+        if (filter == null || filter.isBlank() || topicFilter.isBlank()) {
+            return false;
+        }
+        String[] filterLevels = filter.split(LEVEL_SEPARATOR, -1);
+        String[] topicLevels = topicFilter.split(LEVEL_SEPARATOR, -1);
+        for (int i = 0; i < filterLevels.length; i++) {
+            String level = filterLevels[i];
+            boolean firstSystemLevel = i == 0 && topicLevels[0].startsWith("$");
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return !firstSystemLevel;
+            }
+            if (i >= topicLevels.length) {
+                return false;
+            }
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (firstSystemLevel || MULTI_LEVEL_WILDCARD.equals(topicLevels[i])) {
+                    return false;
+                }
+            } else if (!level.equals(topicLevels[i])) {
+                return false;
+            }
+        }
+        return filterLevels.length == topicLevels.length;
+    }
+}
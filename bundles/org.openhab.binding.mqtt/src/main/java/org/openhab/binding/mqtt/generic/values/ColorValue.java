@@ -119,6 +119,13 @@ public class ColorValue extends Value {
         }
     }
 
+    @Override
+    public boolean isStateDependent(Command command) {
+        // on/off and brightness keep the hue and saturation of the current state
+        return command instanceof OnOffType || command instanceof PercentType || onValue.equals(command.toString())
+                || offValue.equals(command.toString());
+    }
+
     /**
      * Converts the color state to a string.
      *
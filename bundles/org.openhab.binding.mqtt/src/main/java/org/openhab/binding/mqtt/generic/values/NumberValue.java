@@ -151,6 +151,23 @@ public class NumberValue extends Value {
         return parseCommand(command);
     }
 
+    @Override
+    public @Nullable Command parseIncomingMessage(String message) {
+        if (isPlainNumber(message)) {
+            try {
+                return DecimalType.valueOf(message);
+            } catch (NumberFormatException e) {
+                // fall back to trying all supported command types
+            }
+        }
+        return super.parseIncomingMessage(message);
+    }
+
+    @Override
+    public boolean isStateDependent(Command command) {
+        return command instanceof IncreaseDecreaseType || command instanceof UpDownType;
+    }
+
     private BigDecimal getOldValue() {
         BigDecimal val = BigDecimal.ZERO;
         if (state instanceof DecimalType decimalCommand) {
@@ -111,6 +111,16 @@ public class OnOffValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Command parseIncomingMessage(String message) {
+        if ("ON".equals(message)) {
+            return OnOffType.ON;
+        } else if ("OFF".equals(message)) {
+            return OnOffType.OFF;
+        }
+        return new StringType(message);
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
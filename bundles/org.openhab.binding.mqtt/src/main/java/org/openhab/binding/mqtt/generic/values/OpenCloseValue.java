@@ -68,6 +68,16 @@ public class OpenCloseValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Command parseIncomingMessage(String message) {
+        if ("OPEN".equals(message)) {
+            return OpenClosedType.OPEN;
+        } else if ("CLOSED".equals(message)) {
+            return OpenClosedType.CLOSED;
+        }
+        return new StringType(message);
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
@@ -135,6 +135,24 @@ public class PercentageValue extends Value {
         }
     }
 
+    @Override
+    public @Nullable Command parseIncomingMessage(String message) {
+        if (isPlainNumber(message)) {
+            try {
+                return DecimalType.valueOf(message);
+            } catch (NumberFormatException e) {
+                // fall back to trying all supported command types
+            }
+        }
+        return super.parseIncomingMessage(message);
+    }
+
+    @Override
+    public boolean isStateDependent(Command command) {
+        return command instanceof IncreaseDecreaseType || command instanceof UpDownType
+                || command instanceof QuantityType;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = this.formatOverride;
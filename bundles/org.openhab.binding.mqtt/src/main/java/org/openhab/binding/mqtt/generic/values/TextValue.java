@@ -166,6 +166,11 @@ public class TextValue extends Value {
         return new StringType(valueStr);
     }
 
+    @Override
+    public @Nullable Command parseIncomingMessage(String message) {
+        return new StringType(message);
+    }
+
     @Override
     public Type parseMessage(Command command) throws IllegalArgumentException {
         if (command instanceof StringType) {
@@ -30,6 +30,7 @@ import org.openhab.core.types.CommandDescriptionBuilder;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.Type;
+import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
 
 /**
@@ -170,6 +171,49 @@ public abstract class Value {
         return parseCommand(command);
     }
 
+    /**
+     * Parses an incoming MQTT message into the first of the supported command types that accepts it,
+     * see {@link #getSupportedCommandTypes()}.
+     * <p>
+     * Subclasses may override this to recognize common messages without trying each command type, but must
+     * return the same command as the default implementation.
+     * </p>
+     *
+     * @param message The incoming message.
+     * @return The command or null if no supported command type accepts the message.
+     */
+    public @Nullable Command parseIncomingMessage(String message) {
+        return TypeParser.parseCommand(commandTypes, message);
+    }
+
+    /**
+     * Returns true if parsing the given command depends on the current state, for example an INCREASE command,
+     * which is relative to the current value. Otherwise a repeated identical message results in the same state and
+     * doesn't need to be parsed again.
+     *
+     * @param command The command parsed from an incoming message.
+     */
+    public boolean isStateDependent(Command command) {
+        return false;
+    }
+
+    /**
+     * Returns true if the message only consists of characters of a decimal number, so it can be parsed as
+     * {@link DecimalType} without trying other command types first.
+     */
+    protected static boolean isPlainNumber(String message) {
+        boolean digit = false;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c != '.' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+                return false;
+            }
+        }
+        return digit;
+    }
+
     /**
      * Updates the internal value state with the given binary payload.
      *
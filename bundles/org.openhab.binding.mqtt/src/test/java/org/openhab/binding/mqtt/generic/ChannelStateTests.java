@@ -52,6 +52,7 @@ import org.openhab.binding.mqtt.generic.values.NumberValue;
 import org.openhab.binding.mqtt.generic.values.PercentageValue;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.RawType;
@@ -234,6 +235,31 @@ public class ChannelStateTests {
         assertThat(value.getChannelState().toString(), is("16.0"));
     }
 
+    @Test
+    public void receiveRepeatedPayloadTest() {
+        NumberValue value = spy(new NumberValue(null, null, new BigDecimal(10), null));
+        ChannelState c = spy(new ChannelState(config, channelUIDMock, value, channelStateUpdateListenerMock));
+        c.start(connectionMock, mock(ScheduledExecutorService.class), 100);
+
+        c.processMessage("state", "15".getBytes());
+        c.processMessage("state", "15".getBytes());
+        assertThat(value.getChannelState().toString(), is("15"));
+        verify(value, times(1)).parseIncomingMessage(any());
+        verify(channelStateUpdateListenerMock, times(2)).updateChannelState(eq(channelUIDMock), any());
+
+        // a changed cached value requires parsing the repeated payload again
+        value.update(new DecimalType(20));
+        c.processMessage("state", "15".getBytes());
+        assertThat(value.getChannelState().toString(), is("15"));
+        verify(value, times(2)).parseIncomingMessage(any());
+
+        // relative commands depend on the current value and are never skipped
+        c.processMessage("state", "INCREASE".getBytes());
+        c.processMessage("state", "INCREASE".getBytes());
+        assertThat(value.getChannelState().toString(), is("35"));
+        verify(channelStateUpdateListenerMock, times(5)).updateChannelState(eq(channelUIDMock), any());
+    }
+
     @Test
     public void receiveDecimalUnitTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), Units.WATT);
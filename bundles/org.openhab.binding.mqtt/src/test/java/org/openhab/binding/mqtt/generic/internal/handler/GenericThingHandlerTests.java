@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.openhab.binding.mqtt.generic.internal.handler.ThingChannelConstants.*;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -125,6 +126,26 @@ public class GenericThingHandlerTests {
                 && ThingStatusDetail.NONE.equals(arg.getStatusDetail())));
     }
 
+    @Test
+    public void initializeWithDeviceTopic() {
+        when(thingMock.getConfiguration()).thenReturn(new Configuration(Map.of("deviceTopic", "test/#")));
+        thingHandler.initialize();
+
+        ChannelState channelConfig = thingHandler.channelStateByChannelUID.get(TEXT_CHANNEL_UID);
+        assertThat(channelConfig.hasSubscribed(), is(true));
+
+        // a single subscription for all channels instead of one per channel
+        verify(connectionMock).subscribe(eq("test/#"), any());
+        verify(connectionMock, never()).subscribe(eq("test/state"), any());
+
+        verify(callbackMock).statusUpdated(eq(thingMock), argThat(arg -> ThingStatus.ONLINE.equals(arg.getStatus())
+                && ThingStatusDetail.NONE.equals(arg.getStatusDetail())));
+
+        thingHandler.unsubscribeAll();
+        verify(connectionMock).unsubscribe(eq("test/#"), any());
+        verify(connectionMock, never()).unsubscribe(eq("test/state"), any());
+    }
+
     @Test
     public void handleCommandRefresh() {
         TextValue value = spy(new TextValue());
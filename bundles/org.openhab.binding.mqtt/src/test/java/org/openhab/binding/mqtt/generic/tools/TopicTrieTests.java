@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicTrie} class.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrieTests {
+
+    @Test
+    public void matchExactTopics() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("device/temperature", "temperature");
+        trie.add("device/humidity", "humidity");
+        trie.add("device/temperature", "temperature2");
+
+        assertThat(trie.match("device/temperature"), containsInAnyOrder("temperature", "temperature2"));
+        assertThat(trie.match("device/humidity"), containsInAnyOrder("humidity"));
+        assertThat(trie.match("device"), is(empty()));
+        assertThat(trie.match("device/temperature/unit"), is(empty()));
+    }
+
+    @Test
+    public void matchWildcards() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("device/+/state", "single");
+        trie.add("device/#", "multi");
+        trie.add("#", "all");
+
+        assertThat(trie.match("device/lamp/state"), containsInAnyOrder("single", "multi", "all"));
+        assertThat(trie.match("device"), containsInAnyOrder("multi", "all"));
+        assertThat(trie.match("device/lamp"), containsInAnyOrder("multi", "all"));
+        assertThat(trie.match("other/lamp/state"), containsInAnyOrder("all"));
+        // wildcards in the first level don't match system topics
+        assertThat(trie.match("$SYS/broker"), is(empty()));
+    }
+
+    @Test
+    public void matchEmptyLevels() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("device//state", "empty");
+        trie.add("device/+/state", "single");
+
+        assertThat(trie.match("device//state"), containsInAnyOrder("empty", "single"));
+        assertThat(trie.match("device/state"), is(empty()));
+    }
+
+    @Test
+    public void remove() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("device/temperature", "temperature");
+        trie.add("device/+", "any");
+
+        assertTrue(trie.remove("device/temperature", "temperature"));
+        assertFalse(trie.remove("device/temperature", "temperature"));
+        assertFalse(trie.remove("device/humidity", "any"));
+        assertThat(trie.match("device/temperature"), containsInAnyOrder("any"));
+
+        assertTrue(trie.remove("device/+", "any"));
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void covers() {
+        assertTrue(TopicTrie.covers("device/#", "device/temperature"));
+        assertTrue(TopicTrie.covers("device/#", "device"));
+        assertTrue(TopicTrie.covers("device/+", "device/temperature"));
+        assertTrue(TopicTrie.covers("device/+", "device/+"));
+        assertTrue(TopicTrie.covers("device/temperature", "device/temperature"));
+        assertTrue(TopicTrie.covers("#", "device/temperature"));
+
+        assertFalse(TopicTrie.covers("device/+", "device/sensor/temperature"));
+        assertFalse(TopicTrie.covers("device/+", "device/#"));
+        assertFalse(TopicTrie.covers("device/temperature", "device/+"));
+        assertFalse(TopicTrie.covers("other/#", "device/temperature"));
+        assertFalse(TopicTrie.covers("#", "$SYS/broker"));
+        assertFalse(TopicTrie.covers(null, "device/temperature"));
+        assertFalse(TopicTrie.covers("device/#", ""));
+    }
+}
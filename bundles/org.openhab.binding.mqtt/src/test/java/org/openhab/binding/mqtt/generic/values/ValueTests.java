@@ -456,4 +456,34 @@ public class ValueTests {
         v.setIgnoreValue("IGNORE");
         assertThat(v.parseMessage(new StringType("IGNORE")), is(IgnoreType.SENTINEL));
     }
+
+    @Test
+    public void parseIncomingMessageMatchesTypeParser() {
+        Value[] values = { new NumberValue(null, null, null, null),
+                new PercentageValue(null, null, null, null, null, null), new OnOffValue(), new OpenCloseValue(),
+                new TextValue() };
+        String[] messages = { "15", "-1.5", "1e3", "+2", "-", "e", "1-2", "0x1F", "ON", "OFF", "OPEN", "CLOSED",
+                "INCREASE", "UP", "on", "text", "" };
+        for (Value v : values) {
+            for (String message : messages) {
+                assertEquals(TypeParser.parseCommand(v.getSupportedCommandTypes(), message),
+                        v.parseIncomingMessage(message), v.getClass().getSimpleName() + ": " + message);
+            }
+        }
+    }
+
+    @Test
+    public void stateDependentCommands() {
+        NumberValue number = new NumberValue(null, null, null, null);
+        assertTrue(number.isStateDependent(IncreaseDecreaseType.INCREASE));
+        assertTrue(number.isStateDependent(UpDownType.DOWN));
+        assertFalse(number.isStateDependent(new DecimalType(15)));
+
+        ColorValue color = new ColorValue(ColorMode.RGB, "fancyON", "fancyOFF", 77);
+        assertTrue(color.isStateDependent(OnOffType.ON));
+        assertTrue(color.isStateDependent(new StringType("fancyOFF")));
+        assertFalse(color.isStateDependent(new StringType("255,255,255")));
+
+        assertFalse(new TextValue().isStateDependent(new StringType("INCREASE")));
+    }
 }
@@ -18,14 +18,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
@@ -50,6 +53,7 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.dynamodb.internal.DynamoDBWriteBuffer.PendingWrite;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -67,6 +71,7 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
@@ -74,7 +79,10 @@ import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * This is the implementation of the DynamoDB {@link PersistenceService}. It persists item values
@@ -102,6 +110,8 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
 
+    private static final String DYNAMODB_BATCH_THREADPOOL_NAME = "dynamodbBatchWrite";
+
     private final ItemRegistry itemRegistry;
     private final UnitProvider unitProvider;
     private @Nullable DynamoDbEnhancedAsyncClient client;
@@ -117,6 +127,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             2);
 
     private @Nullable URI endpointOverride;
+    private @Nullable DynamoDBWriteBuffer writeBuffer;
 
     void overrideConfig(AwsRequestOverrideConfiguration.Builder config) {
         config.apiCallAttemptTimeout(TIMEOUT_API_CALL_ATTEMPT).apiCallTimeout(TIMEOUT_API_CALL);
@@ -195,6 +206,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        if (localDbConfig.getBatchSize() > 0) {
+            ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(DYNAMODB_BATCH_THREADPOOL_NAME);
+            writeBuffer = new DynamoDBWriteBuffer(localDbConfig.getBatchSize(), localDbConfig.getBatchInterval(),
+                    scheduler, this::writeBatch);
+            logger.debug("Batching writes: batchSize={}, batchInterval={} ms", localDbConfig.getBatchSize(),
+                    localDbConfig.getBatchInterval());
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -314,6 +333,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBWriteBuffer localWriteBuffer = writeBuffer;
+        if (localWriteBuffer != null) {
+            // write pending items while the client is still open
+            localWriteBuffer.close();
+            writeBuffer = null;
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -362,6 +387,11 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             logger.warn("DynamoDB not connected. Returning empty query results.");
             return Collections.emptyList();
         }
+        DynamoDBWriteBuffer localWriteBuffer = writeBuffer;
+        if (localWriteBuffer != null) {
+            // make buffered writes visible to the query
+            localWriteBuffer.flush();
+        }
 
         //
         // Resolve unclear table schema if needed
@@ -559,27 +589,79 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
-            dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
-
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
-                        DynamoDBBigDecimalItem dynamoBigDecimalItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
-                            getTable(DynamoDBBigDecimalItem.class));
-                }
-
-                @Override
-                public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(DynamoDBStringItem dynamoStringItem) {
-                    return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
-                            getTable(DynamoDBStringItem.class));
-                }
-            }).putItemAsync();
+            TableCreatingPutItem<? extends DynamoDBItem<?>> putItem = dto
+                    .accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
+
+                        @Override
+                        public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
+                                DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                            return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoBigDecimalItem,
+                                    getTable(DynamoDBBigDecimalItem.class));
+                        }
+
+                        @Override
+                        public TableCreatingPutItem<? extends DynamoDBItem<?>> visit(
+                                DynamoDBStringItem dynamoStringItem) {
+                            return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
+                                    getTable(DynamoDBStringItem.class));
+                        }
+                    });
+            DynamoDBWriteBuffer localWriteBuffer = writeBuffer;
+            if (localWriteBuffer != null) {
+                localWriteBuffer.add(putItem.toPendingWrite());
+            } else {
+                putItem.putItemAsync();
+            }
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
         });
     }
 
+    /**
+     * Sends one BatchWriteItem request. Called by {@link DynamoDBWriteBuffer}.
+     *
+     * Throttled requests return all writes as unprocessed so that the buffer backs off and retries them. When a
+     * table does not exist, the writes fall back to PutItem requests creating the table.
+     *
+     * @param writes writes with distinct keys, at most {@link DynamoDBWriteBuffer#MAX_BATCH_WRITE_ITEMS}
+     * @return unprocessed writes
+     */
+    private List<PendingWrite> writeBatch(List<PendingWrite> writes) throws ExecutionException, InterruptedException {
+        DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
+        if (localLowLevelClient == null) {
+            throw new IllegalStateException("Client not ready");
+        }
+        Map<String, List<WriteRequest>> requestItems = writes.stream().collect(Collectors
+                .groupingBy(PendingWrite::tableName, Collectors.mapping(PendingWrite::request, Collectors.toList())));
+        final BatchWriteItemResponse response;
+        try {
+            response = localLowLevelClient
+                    .batchWriteItem(req -> req.requestItems(requestItems).overrideConfiguration(this::overrideConfig))
+                    .get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ProvisionedThroughputExceededException
+                    || (cause instanceof SdkServiceException serviceException
+                            && serviceException.isThrottlingException())) {
+                logger.debug("BatchWriteItem throttled: {}", cause.getMessage());
+                return writes;
+            } else if (cause instanceof ResourceNotFoundException) {
+                logger.trace("BatchWriteItem: table not present. Writing {} items with PutItem, creating the table",
+                        writes.size());
+                writes.forEach(write -> write.fallbackPut().run());
+                return List.of();
+            }
+            throw e;
+        }
+        if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+            return List.of();
+        }
+        Set<WriteRequest> unprocessed = new HashSet<>();
+        response.unprocessedItems().values().forEach(unprocessed::addAll);
+        return writes.stream().filter(write -> unprocessed.contains(write.request())).toList();
+    }
+
     private Item getEffectiveItem(Item item) {
         final Item effectiveItem;
         if (item instanceof GroupItem groupItem) {
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Buffers the PutItem requests of {@link DynamoDBPersistenceService} and sends them with BatchWriteItem, at most
+ * {@value #MAX_BATCH_WRITE_ITEMS} items per call.
+ *
+ * <p>
+ * The writes are sent by a background flush as soon as {@code batchSize} of them are queued, or at the latest after
+ * the batch interval. A BatchWriteItem call must not contain the same key twice, so of several writes of the same item
+ * and timestamp within a flush only the latest one is sent.
+ *
+ * <p>
+ * Items returned as unprocessed by DynamoDB, and items of failed calls, are put back at the head of the queue and
+ * retried by the scheduler with exponential backoff and full jitter, so that no thread waits for the write capacity.
+ * Unprocessed items are a sign of exhausted write capacity, so the buffer also adapts its write rate: each throttled or
+ * failed call doubles the pause between consecutive BatchWriteItem calls, each fully processed call halves it again.
+ *
+ * <p>
+ * The queue, retries included, holds writes for ten BatchWriteItem calls. If it is full, {@code store} runs the flush
+ * itself, unless the pause after a throttled call is pending. Then the oldest write is dropped instead.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBWriteBuffer {
+
+    /** Maximum number of put requests accepted by a single BatchWriteItem call. */
+    public static final int MAX_BATCH_WRITE_ITEMS = 25;
+
+    static final int MAX_ATTEMPTS = 8;
+    static final long DEFAULT_BASE_BACKOFF_MILLIS = 50;
+    static final long DEFAULT_MAX_BACKOFF_MILLIS = 5_000;
+
+    /**
+     * Sends a single BatchWriteItem call.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        /**
+         * @param writes At most {@value DynamoDBWriteBuffer#MAX_BATCH_WRITE_ITEMS} writes with distinct keys.
+         * @return The writes that were not processed and should be retried. Throttled calls return all writes.
+         */
+        List<PendingWrite> write(List<PendingWrite> writes) throws ExecutionException, InterruptedException;
+    }
+
+    /**
+     * A PutItem waiting to be written.
+     *
+     * @param tableName The name of the table the item is written to.
+     * @param key The primary key of the item, used to keep only the latest write of the same key in a batch.
+     * @param request The put request.
+     * @param fallbackPut Writes the item with a single PutItem, creating the table if needed.
+     */
+    public record PendingWrite(String tableName, Map<String, AttributeValue> key, WriteRequest request,
+            Runnable fallbackPut) {
+    }
+
+    /**
+     * A write that was sent {@code attempts} times without being processed.
+     */
+    private record Retry(PendingWrite write, int attempts) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DynamoDBWriteBuffer.class);
+
+    // unprocessed writes first, then the queued ones; guarded by itself
+    private final Deque<Retry> queue = new ArrayDeque<>();
+    private final int capacity;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final BatchWriter batchWriter;
+    private final long baseBackoff;
+    private final long maxBackoff;
+    private final ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private final AtomicInteger droppedWrites = new AtomicInteger();
+
+    // pause between consecutive BatchWriteItem calls, adapted to throttling
+    private volatile long throttleDelay;
+    private volatile long lastCallMillis;
+    // the following fields are guarded by flushLock
+    private @Nullable ScheduledFuture<?> retryJob;
+    private boolean closed;
+
+    public DynamoDBWriteBuffer(int batchSize, long flushInterval, ScheduledExecutorService scheduler,
+            BatchWriter batchWriter) {
+        this(batchSize, flushInterval, scheduler, batchWriter, DEFAULT_BASE_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS);
+    }
+
+    DynamoDBWriteBuffer(int batchSize, long flushInterval, ScheduledExecutorService scheduler, BatchWriter batchWriter,
+            long baseBackoff, long maxBackoff) {
+        // writes for ten BatchWriteItem calls can be queued while the retries wait for the write capacity
+        this.capacity = Math.max(batchSize, MAX_BATCH_WRITE_ITEMS) * 10;
+        this.batchSize = batchSize;
+        this.scheduler = scheduler;
+        this.batchWriter = batchWriter;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.flushJob = scheduler.scheduleWithFixedDelay(() -> flush(true), flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a write. If the queue is full, the pending writes are sent on the calling thread first, or if DynamoDB
+     * throttles the writes, the oldest pending write is dropped.
+     */
+    public void add(PendingWrite write) {
+        int size;
+        while (true) {
+            synchronized (queue) {
+                if (queue.size() >= capacity && getPause() > 0) {
+                    queue.pollFirst();
+                    droppedWrites.incrementAndGet();
+                }
+                if (queue.size() < capacity) {
+                    queue.addLast(new Retry(write, 0));
+                    size = queue.size();
+                    break;
+                }
+            }
+            // the scheduled flushes do not keep up
+            flush(true);
+        }
+        if (size >= batchSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(() -> flush(true));
+        }
+    }
+
+    private long getPause() {
+        return lastCallMillis + throttleDelay - System.currentTimeMillis();
+    }
+
+    /**
+     * Sends the queued writes with BatchWriteItem calls of at most {@value #MAX_BATCH_WRITE_ITEMS} items, e.g. before
+     * a query. The first call is made even if the pause after a throttled call is pending. The flush never waits:
+     * unprocessed items, and the items that have to wait for the pause, are put back at the head of the queue and
+     * retried by the scheduler. Items still unprocessed after {@value #MAX_ATTEMPTS} attempts are dropped.
+     */
+    public void flush() {
+        flush(false);
+    }
+
+    /**
+     * @param keepPause whether to wait for the pause after the last BatchWriteItem call before the first call, as the
+     *            scheduled flushes do
+     */
+    private void flush(boolean keepPause) {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            int dropped = droppedWrites.getAndSet(0);
+            if (dropped > 0) {
+                LOGGER.warn("Dropped {} items because the write capacity of DynamoDB does not keep up", dropped);
+            }
+            List<Retry> drained;
+            synchronized (queue) {
+                drained = new ArrayList<>(queue);
+                queue.clear();
+            }
+            if (drained.isEmpty()) {
+                return;
+            }
+            // BatchWriteItem rejects requests containing the same key twice, the latest write wins
+            Map<Map.Entry<String, Map<String, AttributeValue>>, Retry> latest = new LinkedHashMap<>();
+            for (Retry retry : drained) {
+                latest.put(Map.entry(retry.write().tableName(), retry.write().key()), retry);
+            }
+            List<Retry> pending = new ArrayList<>(latest.values());
+
+            long timerStart = System.currentTimeMillis();
+            for (int i = 0; i < pending.size(); i += MAX_BATCH_WRITE_ITEMS) {
+                long pause = getPause();
+                // the last flush when closing sends every write once
+                if (pause > 0 && (keepPause || i > 0) && !closed) {
+                    requeue(List.of(), pending.subList(i, pending.size()), pause);
+                    return;
+                }
+                List<Retry> chunk = pending.subList(i, Math.min(i + MAX_BATCH_WRITE_ITEMS, pending.size()));
+                List<Retry> rest = pending.subList(chunk.size() + i, pending.size());
+                final List<Retry> unprocessed;
+                try {
+                    unprocessed = writeChunk(chunk);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.debug("Interrupted while writing {} items, retrying them later", pending.size() - i);
+                    requeue(List.of(), pending.subList(i, pending.size()), -1);
+                    return;
+                }
+                if (!unprocessed.isEmpty()) {
+                    int attempts = unprocessed.stream().mapToInt(Retry::attempts).max().orElse(1);
+                    long backoff = Math.min(maxBackoff, baseBackoff << Math.min(attempts - 1, 30));
+                    LOGGER.debug("{} items unprocessed (attempt {}), retrying", unprocessed.size(), attempts);
+                    requeue(unprocessed, rest, throttleDelay + ThreadLocalRandom.current().nextLong(backoff + 1));
+                    return;
+                }
+            }
+            LOGGER.debug("Wrote {} items in {} ms", pending.size(), System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    /**
+     * Sends a single BatchWriteItem call.
+     *
+     * @return The unprocessed writes that are retried, with their attempt counted.
+     */
+    private List<Retry> writeChunk(List<Retry> chunk) throws InterruptedException {
+        long delay = throttleDelay;
+        List<PendingWrite> unprocessed;
+        lastCallMillis = System.currentTimeMillis();
+        try {
+            unprocessed = batchWriter.write(chunk.stream().map(Retry::write).toList());
+        } catch (ExecutionException | RuntimeException e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            LOGGER.warn("Failed to write {} items, retrying them: {} {}", chunk.size(),
+                    cause.getClass().getSimpleName(), cause.getMessage());
+            unprocessed = chunk.stream().map(Retry::write).toList();
+        }
+        if (unprocessed.isEmpty()) {
+            throttleDelay = delay < baseBackoff * 2 ? 0 : delay / 2;
+            return List.of();
+        }
+        throttleDelay = Math.min(maxBackoff, Math.max(baseBackoff, delay * 2));
+        Set<PendingWrite> unprocessedWrites = Collections.newSetFromMap(new IdentityHashMap<>());
+        unprocessedWrites.addAll(unprocessed);
+        List<Retry> retry = new ArrayList<>();
+        int dropped = 0;
+        for (Retry write : chunk) {
+            if (unprocessedWrites.contains(write.write())) {
+                if (write.attempts() + 1 >= MAX_ATTEMPTS) {
+                    dropped++;
+                } else {
+                    retry.add(new Retry(write.write(), write.attempts() + 1));
+                }
+            }
+        }
+        if (dropped > 0) {
+            LOGGER.warn("Dropping {} unprocessed items after {} attempts", dropped, MAX_ATTEMPTS);
+        }
+        return retry;
+    }
+
+    /**
+     * Puts writes back at the head of the queue, in their order, and schedules a flush retrying them. If writes were
+     * queued in the meantime and the queue is over its capacity, the oldest writes are dropped.
+     *
+     * @param delay The delay of the retry in milliseconds, or a negative value to leave it to the periodic flush.
+     */
+    private void requeue(List<Retry> unprocessed, List<Retry> unsent, long delay) {
+        List<Retry> writes = new ArrayList<>(unprocessed);
+        writes.addAll(unsent);
+        synchronized (queue) {
+            for (int i = writes.size() - 1; i >= 0; i--) {
+                queue.addFirst(writes.get(i));
+            }
+            while (queue.size() > capacity) {
+                queue.pollFirst();
+                droppedWrites.incrementAndGet();
+            }
+        }
+        if (delay >= 0 && !closed) {
+            // replaces a pending retry, which would send the same writes
+            ScheduledFuture<?> localRetryJob = retryJob;
+            if (localRetryJob != null) {
+                localRetryJob.cancel(false);
+            }
+            retryJob = scheduler.schedule(() -> flush(true), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return The number of writes waiting to be written.
+     */
+    public int getPendingCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return The current pause in milliseconds between consecutive BatchWriteItem calls.
+     */
+    public long getThrottleDelay() {
+        return throttleDelay;
+    }
+
+    /**
+     * Stops the periodic flush and sends the writes still queued, so they are written before the client is closed.
+     * Writes that are unprocessed by this last flush are dropped.
+     */
+    public void close() {
+        flushJob.cancel(false);
+        synchronized (flushLock) {
+            closed = true;
+            ScheduledFuture<?> localRetryJob = retryJob;
+            if (localRetryJob != null) {
+                localRetryJob.cancel(false);
+            }
+        }
+        flush();
+        int remaining = getPendingCount();
+        if (remaining > 0) {
+            LOGGER.warn("Dropping {} items not written before closing", remaining);
+            synchronized (queue) {
+                queue.clear();
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.ResourceInUseException;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * PutItem request which creates table if needed.
@@ -108,6 +109,20 @@ public class TableCreatingPutItem<T extends DynamoDBItem<?>> {
         return internalPutItemAsync(false, true);
     }
 
+    /**
+     * Converts this PutItem to a write of a BatchWriteItem call.
+     *
+     * The write falls back to this PutItem, creating the table if needed, when the table does not exist.
+     *
+     * @return pending write for {@link DynamoDBWriteBuffer}
+     */
+    public DynamoDBWriteBuffer.PendingWrite toPendingWrite() {
+        return new DynamoDBWriteBuffer.PendingWrite(table.tableName(),
+                table.tableSchema().itemToMap(dto, table.tableSchema().tableMetadata().primaryKeys()),
+                WriteRequest.builder().putRequest(req -> req.item(table.tableSchema().itemToMap(dto, true))).build(),
+                this::putItemAsync);
+    }
+
     private CompletableFuture<Void> internalPutItemAsync(boolean createTable, boolean recursionAllowed) {
         if (createTable) {
             // Try again, first creating the table
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+
+/**
+ * Integration test for writes buffered and sent with BatchWriteItem.
+ *
+ * The table does not exist when the first batch is written, exercising the fallback to PutItem creating the table.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class BatchWriteIntegrationTest extends BaseIntegrationTest {
+
+    public static final boolean LEGACY_MODE = false;
+    // more than two BatchWriteItem requests
+    private static final int STATE_COUNT = 60;
+
+    private static @Nullable ZonedDateTime storeStart;
+
+    @SuppressWarnings("null")
+    @BeforeAll
+    public static void initBatchingService() {
+        service.deactivate();
+        service = newService(LEGACY_MODE, false, null, null, null, Map.of("batchSize", "10", "batchInterval", "100"));
+        assertEquals(10, service.getDbConfig().getBatchSize());
+
+        storeStart = ZonedDateTime.now();
+        NumberItem numberItem = (NumberItem) ITEMS.get("number");
+        StringItem stringItem = (StringItem) ITEMS.get("string");
+        for (int i = 0; i < STATE_COUNT; i++) {
+            try {
+                // Add some delay to enforce different timestamps in ms accuracy
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                fail("Interrupted");
+                return;
+            }
+            numberItem.setState(new DecimalType(i));
+            service.store(numberItem);
+            stringItem.setState(new StringType("value" + i));
+            service.store(stringItem);
+        }
+    }
+
+    @Test
+    public void testAllNumbersWritten() {
+        waitForAssert(() -> {
+            List<HistoricItem> results = queryAll("number");
+            assertEquals(STATE_COUNT, results.size());
+            for (int i = 0; i < STATE_COUNT; i++) {
+                assertEquals(new DecimalType(new BigDecimal(i)), results.get(i).getState());
+            }
+        });
+    }
+
+    @Test
+    public void testAllStringsWritten() {
+        waitForAssert(() -> {
+            List<HistoricItem> results = queryAll("string");
+            assertEquals(STATE_COUNT, results.size());
+            for (int i = 0; i < STATE_COUNT; i++) {
+                assertEquals(new StringType("value" + i), results.get(i).getState());
+            }
+        });
+    }
+
+    @SuppressWarnings("null")
+    private List<HistoricItem> queryAll(String itemName) {
+        FilterCriteria criteria = new FilterCriteria();
+        criteria.setItemName(itemName);
+        criteria.setBeginDate(Objects.requireNonNull(storeStart));
+        criteria.setOrdering(Ordering.ASCENDING);
+        List<HistoricItem> results = new ArrayList<>();
+        service.query(criteria).forEach(results::add);
+        return results;
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.dynamodb.internal.DynamoDBWriteBuffer.PendingWrite;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Unit tests for {@link DynamoDBWriteBuffer}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBWriteBufferTest {
+
+    private static final long NO_PERIODIC_FLUSH = 3_600_000;
+    private static final long BASE_BACKOFF = 1;
+    private static final long MAX_BACKOFF = 16;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<PendingWrite>> calls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static PendingWrite write(String itemName, long time) {
+        Map<String, AttributeValue> key = Map.of("i", AttributeValue.builder().s(itemName).build(), "t",
+                AttributeValue.builder().n(String.valueOf(time)).build());
+        return new PendingWrite("openhab", key, WriteRequest.builder().putRequest(req -> req.item(key)).build(), () -> {
+        });
+    }
+
+    private DynamoDBWriteBuffer newBuffer(int batchSize, DynamoDBWriteBuffer.BatchWriter writer) {
+        return new DynamoDBWriteBuffer(batchSize, NO_PERIODIC_FLUSH, scheduler, writer, BASE_BACKOFF, MAX_BACKOFF);
+    }
+
+    /**
+     * Waits until the retries on the scheduler have made the given number of calls, and their flush has finished.
+     */
+    private void awaitCalls(int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (calls.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        scheduler.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+        assertEquals(count, calls.size());
+    }
+
+    private List<PendingWrite> recordAll(List<PendingWrite> writes) {
+        calls.add(List.copyOf(writes));
+        return List.of();
+    }
+
+    @Test
+    public void testFlushSplitsIntoBatchesOf25() {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, this::recordAll);
+        for (int i = 0; i < 60; i++) {
+            buffer.add(write("item", i));
+        }
+        assertEquals(60, buffer.getPendingCount());
+
+        buffer.flush();
+
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(List.of(25, 25, 10), calls.stream().map(List::size).toList());
+        assertEquals(write("item", 0).key(), calls.get(0).get(0).key());
+        assertEquals(write("item", 59).key(), calls.get(2).get(9).key());
+        buffer.close();
+    }
+
+    @Test
+    public void testReachingBatchSizeTriggersFlush() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(2, this::recordAll);
+        buffer.add(write("item", 1));
+        buffer.add(write("item", 2));
+
+        // the flush runs on the scheduler, wait for it to finish
+        scheduler.submit(() -> {
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, calls.size());
+        assertEquals(2, calls.get(0).size());
+        buffer.close();
+    }
+
+    @Test
+    public void testDuplicateKeysKeepLatestWrite() {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, this::recordAll);
+        PendingWrite first = write("item", 1);
+        PendingWrite other = write("other", 1);
+        PendingWrite latest = write("item", 1);
+        buffer.add(first);
+        buffer.add(other);
+        buffer.add(latest);
+
+        buffer.flush();
+
+        assertEquals(1, calls.size());
+        assertEquals(2, calls.get(0).size());
+        assertSame(latest, calls.get(0).get(0));
+        assertSame(other, calls.get(0).get(1));
+        buffer.close();
+    }
+
+    @Test
+    public void testUnprocessedItemsAreRetried() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            calls.add(List.copyOf(writes));
+            // first call processes only the first item
+            return calls.size() == 1 ? writes.subList(1, writes.size()) : List.of();
+        });
+        buffer.add(write("item", 1));
+        buffer.add(write("item", 2));
+        buffer.add(write("item", 3));
+
+        buffer.flush();
+
+        // the unprocessed items wait for their retry at the head of the queue
+        assertEquals(1, calls.size());
+        assertEquals(2, buffer.getPendingCount());
+        awaitCalls(2);
+        assertEquals(3, calls.get(0).size());
+        assertEquals(2, calls.get(1).size());
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testRetriedItemsAreSentBeforeNewItems() throws Exception {
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(1000, NO_PERIODIC_FLUSH, scheduler, writes -> {
+            calls.add(List.copyOf(writes));
+            return calls.size() == 1 ? writes : List.of();
+        }, 1_000, 1_000);
+        PendingWrite unprocessed = write("item", 1);
+        buffer.add(unprocessed);
+        buffer.flush();
+
+        // a query flushes before the retry is due
+        PendingWrite added = write("item", 2);
+        buffer.add(added);
+        buffer.flush();
+
+        assertEquals(2, calls.size());
+        assertEquals(List.of(unprocessed, added), calls.get(1));
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testUnprocessedItemsAreDroppedAfterMaxAttempts() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            calls.add(List.copyOf(writes));
+            return writes;
+        });
+        buffer.add(write("item", 1));
+
+        buffer.flush();
+
+        awaitCalls(DynamoDBWriteBuffer.MAX_ATTEMPTS);
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testThrottledFlushDoesNotBlock() {
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(1000, NO_PERIODIC_FLUSH, scheduler, writes -> {
+            calls.add(List.copyOf(writes));
+            return writes;
+        }, 60_000, 60_000);
+        buffer.add(write("item", 1));
+
+        long start = System.currentTimeMillis();
+        buffer.flush();
+
+        assertTrue(System.currentTimeMillis() - start < 30_000);
+        assertEquals(1, calls.size());
+        assertEquals(1, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testInterruptedWriteKeepsItems() {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            if (calls.isEmpty()) {
+                calls.add(List.of());
+                throw new InterruptedException();
+            }
+            return recordAll(writes);
+        });
+        buffer.add(write("item", 1));
+        buffer.flush();
+        assertTrue(Thread.interrupted());
+        assertEquals(1, buffer.getPendingCount());
+
+        buffer.flush();
+
+        assertEquals(2, calls.size());
+        assertEquals(1, calls.get(1).size());
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testThrottlingAdaptsDelayBetweenCalls() throws Exception {
+        AtomicInteger throttledCalls = new AtomicInteger(3);
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            calls.add(List.copyOf(writes));
+            return throttledCalls.getAndDecrement() > 0 ? writes : List.of();
+        });
+        buffer.add(write("item", 1));
+
+        buffer.flush();
+
+        // three throttled calls: 1 ms -> 2 ms -> 4 ms, then halved by the successful call
+        awaitCalls(4);
+        assertEquals(2, buffer.getThrottleDelay());
+
+        buffer.add(write("item", 2));
+        buffer.flush();
+        assertEquals(1, buffer.getThrottleDelay());
+        buffer.add(write("item", 3));
+        buffer.flush();
+        assertEquals(0, buffer.getThrottleDelay());
+        buffer.close();
+    }
+
+    @Test
+    public void testThrottleDelayIsCapped() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            calls.add(List.copyOf(writes));
+            return writes;
+        });
+        buffer.add(write("item", 1));
+
+        buffer.flush();
+
+        awaitCalls(DynamoDBWriteBuffer.MAX_ATTEMPTS);
+        assertEquals(MAX_BACKOFF, buffer.getThrottleDelay());
+        buffer.close();
+    }
+
+    @Test
+    public void testFailedWriteIsRetried() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            if (calls.isEmpty()) {
+                calls.add(List.of());
+                throw new ExecutionException("connection lost", new IllegalStateException());
+            }
+            return recordAll(writes);
+        });
+        buffer.add(write("item", 1));
+
+        buffer.flush();
+
+        assertEquals(1, buffer.getPendingCount());
+        awaitCalls(2);
+        assertEquals(1, calls.get(1).size());
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testFailedWritesAreDroppedAfterMaxAttempts() throws Exception {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, writes -> {
+            calls.add(List.copyOf(writes));
+            throw new ExecutionException("connection lost", new IllegalStateException());
+        });
+        buffer.add(write("item", 1));
+
+        buffer.flush();
+
+        awaitCalls(DynamoDBWriteBuffer.MAX_ATTEMPTS);
+        assertEquals(0, buffer.getPendingCount());
+        buffer.close();
+    }
+
+    @Test
+    public void testContinuousThrottlingStaysBounded() {
+        int capacity = DynamoDBWriteBuffer.MAX_BATCH_WRITE_ITEMS * 10;
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(25, NO_PERIODIC_FLUSH, scheduler, writes -> {
+            calls.add(List.copyOf(writes));
+            return writes;
+        }, 60_000, 60_000);
+
+        for (int i = 0; i < capacity * 10; i++) {
+            buffer.add(write("item", i));
+            assertTrue(buffer.getPendingCount() <= capacity);
+        }
+
+        // the first call is throttled, the following writes wait for the pause or replace the oldest ones
+        assertEquals(capacity, buffer.getPendingCount());
+        assertEquals(1, calls.size());
+        buffer.close();
+    }
+
+    @Test
+    public void testCloseFlushesPendingWrites() {
+        DynamoDBWriteBuffer buffer = newBuffer(1000, this::recordAll);
+        buffer.add(write("item", 1));
+
+        buffer.close();
+
+        assertEquals(1, calls.size());
+        assertEquals(0, buffer.getPendingCount());
+    }
+}
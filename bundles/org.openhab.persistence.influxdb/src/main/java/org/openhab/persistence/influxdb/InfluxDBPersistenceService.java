@@ -14,6 +14,8 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.File;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -27,12 +29,16 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -52,9 +58,13 @@ import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.openhab.persistence.influxdb.internal.InfluxDBOverflowPolicy;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpillFile;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
+import org.openhab.persistence.influxdb.internal.InfluxLineProtocolEncoder;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
@@ -98,6 +108,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int BLOCK_TIMEOUT = 10; // in s
+    private static final String SPILL_FILE_NAME = OpenHAB.getUserDataFolder() + File.separator + "persistence"
+            + File.separator + "influxdb" + File.separator + "pending-points.bin";
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -109,8 +122,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private boolean serviceActivated;
 
     // storage
+    private final ScheduledExecutorService scheduler;
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<InfluxPoint> pointsQueue;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong droppedPoints = new AtomicLong();
+    private final @Nullable InfluxDBSpillFile spillFile;
+    private final InfluxLineProtocolEncoder spillEncoder;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,11 +140,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        // spilled points are encoded like the repository of the configured version encodes them
+        this.spillEncoder = new InfluxLineProtocolEncoder(configuration.getVersion() == InfluxDBVersion.V1);
         if (configuration.isValid()) {
+            this.pointsQueue = new LinkedBlockingQueue<>(configuration.getQueueSize());
+            this.spillFile = configuration.isSpillToDisk() ? createSpillFile() : null;
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
-            this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
-                    .scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS);
+            this.scheduler = ThreadPoolManager.getScheduledPool("org.openhab.influxdb");
+            this.storeJob = scheduler.scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL,
+                    TimeUnit.SECONDS);
             serviceActivated = true;
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
@@ -144,6 +167,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    // Visible for testing
+    protected InfluxDBSpillFile createSpillFile() {
+        return new InfluxDBSpillFile(Path.of(SPILL_FILE_NAME));
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -157,6 +185,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (!pointsQueue.isEmpty()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
+        InfluxDBSpillFile spillFile = this.spillFile;
+        if (spillFile != null && !spillFile.isEmpty()) {
+            logger.info("{} points are kept in the spill file and will be written after the next start.",
+                    spillFile.size());
+        }
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -209,7 +242,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (enqueue(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
@@ -217,6 +250,56 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         });
     }
 
+    /**
+     * Add a point to the queue, applying the configured overflow policy if the queue is full. A flush is triggered
+     * as soon as the queue holds a complete batch.
+     *
+     * @param point the point to add
+     * @return <code>true</code> if the point has been queued, <code>false</code> otherwise
+     */
+    private boolean enqueue(InfluxPoint point) {
+        boolean queued = pointsQueue.offer(point);
+        if (!queued) {
+            if (configuration.getOverflowPolicy() == InfluxDBOverflowPolicy.BLOCK) {
+                triggerFlush();
+                try {
+                    queued = pointsQueue.offer(point, BLOCK_TIMEOUT, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                // make room by discarding the oldest point, recent data is usually more valuable
+                while (!queued) {
+                    if (pointsQueue.poll() != null) {
+                        logDroppedPoints(1);
+                    }
+                    queued = pointsQueue.offer(point);
+                }
+            }
+        }
+        if (pointsQueue.size() >= configuration.getBatchSize()) {
+            triggerFlush();
+        }
+        return queued;
+    }
+
+    private void triggerFlush() {
+        if (serviceActivated && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushScheduled.set(false);
+                commit();
+            });
+        }
+    }
+
+    private void logDroppedPoints(int count) {
+        long total = droppedPoints.addAndGet(count);
+        // log only once in a while, a full queue usually means a lot of dropped points
+        if (total == count || (total - count) / 1000 != total / 1000) {
+            logger.warn("Queue is full, {} points have been discarded so far.", total);
+        }
+    }
+
     @Override
     public boolean remove(FilterCriteria filter) throws IllegalArgumentException {
         if (serviceActivated && checkConnection()) {
@@ -280,20 +363,70 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+    private synchronized void commit() {
+        InfluxDBSpillFile spillFile = this.spillFile;
+        boolean hasSpilledPoints = spillFile != null && !spillFile.isEmpty();
+        if (pointsQueue.isEmpty() && !hasSpilledPoints) {
+            return;
+        }
+        if (!checkConnection()) {
+            if (spillFile != null) {
+                // keep the memory free while the database is unavailable
+                spill(spillFile, drainBatch(Integer.MAX_VALUE));
+            }
+            return;
+        }
+        if (spillFile != null && hasSpilledPoints) {
+            // write older points first
+            if (!spillFile.replay(configuration.getBatchSize(), influxDBRepository::writeRecords)) {
+                logger.warn("Failed to write points from spill file, {} points left.", spillFile.size());
+                spill(spillFile, drainBatch(Integer.MAX_VALUE));
                 influxDBRepository.disconnect();
-            } else {
+                return;
+            }
+        }
+        while (!pointsQueue.isEmpty()) {
+            List<InfluxPoint> points = drainBatch(configuration.getBatchSize());
+            if (influxDBRepository.write(points)) {
                 logger.trace("Wrote {} elements to database", points.size());
+            } else {
+                if (spillFile != null) {
+                    logger.warn("Failed to write batch, spilling {} elements to disk.", points.size());
+                    spill(spillFile, points);
+                } else {
+                    logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
+                    requeue(points);
+                }
+                influxDBRepository.disconnect();
+                return;
             }
         }
     }
 
+    private List<InfluxPoint> drainBatch(int maxSize) {
+        List<InfluxPoint> points = new ArrayList<>(Math.min(maxSize, pointsQueue.size()));
+        pointsQueue.drainTo(points, maxSize);
+        return points;
+    }
+
+    private void spill(InfluxDBSpillFile spillFile, List<InfluxPoint> points) {
+        if (!points.isEmpty() && !spillFile.append(spillEncoder.encode(points))) {
+            requeue(points);
+        }
+    }
+
+    private void requeue(List<InfluxPoint> points) {
+        int dropped = 0;
+        for (InfluxPoint point : points) {
+            if (!pointsQueue.offer(point)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            logDroppedPoints(dropped);
+        }
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
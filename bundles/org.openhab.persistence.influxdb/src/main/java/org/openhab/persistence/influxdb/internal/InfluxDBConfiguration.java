@@ -39,6 +39,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String QUEUE_SIZE_PARAM = "queueSize";
+    public static final String BATCH_SIZE_PARAM = "batchSize";
+    public static final String OVERFLOW_POLICY_PARAM = "overflowPolicy";
+    public static final String SPILL_TO_DISK_PARAM = "spillToDisk";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +55,10 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int queueSize;
+    private final int batchSize;
+    private final InfluxDBOverflowPolicy overflowPolicy;
+    private final boolean spillToDisk;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +72,20 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        queueSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(QUEUE_SIZE_PARAM), Integer.class, 100000));
+        batchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BATCH_SIZE_PARAM), Integer.class, 5000));
+        overflowPolicy = parseOverflowPolicy(
+                ConfigParser.valueAsOrElse(config.get(OVERFLOW_POLICY_PARAM), String.class, "DROP"));
+        spillToDisk = ConfigParser.valueAsOrElse(config.get(SPILL_TO_DISK_PARAM), Boolean.class, false);
+    }
+
+    private InfluxDBOverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return InfluxDBOverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid overflow policy {}, using {}", value, InfluxDBOverflowPolicy.DROP);
+            return InfluxDBOverflowPolicy.DROP;
+        }
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -142,6 +164,22 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public InfluxDBOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public boolean isSpillToDisk() {
+        return spillToDisk;
+    }
+
     public String getUser() {
         return user;
     }
@@ -160,6 +198,7 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", queueSize=" + queueSize + ", batchSize=" + batchSize
+                + ", overflowPolicy=" + overflowPolicy + ", spillToDisk=" + spillToDisk + '}';
     }
 }
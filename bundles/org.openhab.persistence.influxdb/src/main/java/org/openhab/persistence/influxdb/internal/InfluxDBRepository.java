@@ -80,6 +80,14 @@ public interface InfluxDBRepository {
      */
     boolean write(List<InfluxPoint> influxPoints);
 
+    /**
+     * Write records in line protocol with millisecond precision to database
+     *
+     * @param records {@link List<String>} of records to write
+     * @return <code>true</code> if records have been written, <code>false</code> otherwise
+     */
+    boolean writeRecords(List<String> records);
+
     /**
      * Execute delete query
      *
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpillFile} keeps line protocol records on disk while the database cannot be reached. Each record
+ * is stored with its length, so records may contain line breaks and a record that was only partially written (e.g. on
+ * a crash) is detected and skipped on replay.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpillFile {
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpillFile.class);
+
+    private final Path file;
+    private int size = -1;
+
+    public InfluxDBSpillFile(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Appends records to the end of the file.
+     *
+     * @param records the records to append
+     * @return <code>true</code> if the records have been written, <code>false</code> otherwise
+     */
+    public synchronized boolean append(List<String> records) {
+        if (records.isEmpty()) {
+            return true;
+        }
+        int currentSize = size();
+        try {
+            Path parent = file.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+                for (String record : records) {
+                    write(out, record);
+                }
+            }
+            size = currentSize + records.size();
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to write {} points to spill file '{}': {}", records.size(), file, e.getMessage());
+            // the file might contain a part of the records now, count again on next access
+            size = -1;
+            return false;
+        }
+    }
+
+    /**
+     * Passes all records in the order they were appended to the writer, in batches of at most {@code batchSize}
+     * records. Replayed records are removed from the file. If the writer fails, the remaining records are kept.
+     *
+     * @param batchSize the maximum number of records passed to the writer at once
+     * @param writer writes the records and returns <code>true</code> on success
+     * @return <code>true</code> if all records have been replayed, <code>false</code> otherwise
+     */
+    public synchronized boolean replay(int batchSize, Predicate<List<String>> writer) {
+        if (!Files.exists(file)) {
+            size = 0;
+            return true;
+        }
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (true) {
+                String record = read(in);
+                if (record != null) {
+                    batch.add(record);
+                }
+                if (batch.size() >= batchSize || (record == null && !batch.isEmpty())) {
+                    if (!writer.test(batch)) {
+                        keepRemaining(batch, in);
+                        logger.debug("Replaying spill file stopped after {} points", replayed);
+                        return false;
+                    }
+                    replayed += batch.size();
+                    batch.clear();
+                }
+                if (record == null) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read spill file '{}': {}", file, e.getMessage());
+            return false;
+        }
+        delete();
+        logger.debug("Replayed {} points from spill file", replayed);
+        return true;
+    }
+
+    /**
+     * @return the number of records in the file
+     */
+    public synchronized int size() {
+        if (size < 0) {
+            size = 0;
+            if (Files.exists(file)) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    while (read(in) != null) {
+                        size++;
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to read spill file '{}': {}", file, e.getMessage());
+                }
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void keepRemaining(List<String> batch, DataInputStream in) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        int remaining = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            for (String record : batch) {
+                write(out, record);
+                remaining++;
+            }
+            String record;
+            while ((record = read(in)) != null) {
+                write(out, record);
+                remaining++;
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        size = remaining;
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(file);
+            size = 0;
+        } catch (IOException e) {
+            logger.warn("Failed to delete spill file '{}', points might be written twice: {}", file, e.getMessage());
+            size = -1;
+        }
+    }
+
+    private static void write(DataOutputStream out, String record) throws IOException {
+        byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private @Nullable String read(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            // regular end of file
+            return null;
+        }
+        try {
+            int length = (first << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8)
+                    | in.readUnsignedByte();
+            if (length < 0) {
+                logger.warn("Spill file '{}' is corrupted, discarding the remaining points", file);
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (EOFException e) {
+            logger.warn("Spill file '{}' ends with an incomplete point, discarding it", file);
+            return null;
+        }
+    }
+}
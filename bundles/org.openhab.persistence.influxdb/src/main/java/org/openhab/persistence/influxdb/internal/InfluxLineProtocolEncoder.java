@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes {@link InfluxPoint}s to the InfluxDB line protocol with millisecond precision. The encoder writes directly
+ * into a reused buffer, so no client point objects with their tag and field maps are created.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocolEncoder {
+    private final Logger logger = LoggerFactory.getLogger(InfluxLineProtocolEncoder.class);
+
+    private final StringBuilder buffer = new StringBuilder(256);
+    private final boolean writeNullAsString;
+
+    /**
+     * Creates an encoder skipping points without value.
+     */
+    public InfluxLineProtocolEncoder() {
+        this(false);
+    }
+
+    /**
+     * @param writeNullAsString <code>true</code> to write points without value with the string value
+     *            <code>"null"</code>, as the InfluxDB 1 client did, <code>false</code> to skip them, as the InfluxDB 2
+     *            client did
+     */
+    public InfluxLineProtocolEncoder(boolean writeNullAsString) {
+        this.writeNullAsString = writeNullAsString;
+    }
+
+    /**
+     * Encodes a single point.
+     *
+     * @param point the point to encode
+     * @return the line or <code>null</code> if the point is skipped: its value is not supported, not finite or, unless
+     *         written as string, <code>null</code>
+     */
+    public @Nullable String encode(InfluxPoint point) {
+        buffer.setLength(0);
+        escape(point.getMeasurementName(), false);
+        for (Map.Entry<String, String> tag : point.getTags().entrySet()) {
+            String key = tag.getKey();
+            String value = tag.getValue();
+            if (key.isEmpty() || value.isEmpty()) {
+                // empty tags are not allowed by the line protocol
+                continue;
+            }
+            buffer.append(',');
+            escape(key, true);
+            buffer.append('=');
+            escape(value, true);
+        }
+        @Nullable
+        Object value = point.getValue();
+        if (value == null) {
+            if (!writeNullAsString) {
+                logger.debug("Skipping {} without value", point);
+                return null;
+            }
+            value = "null";
+        } else if ((value instanceof Double || value instanceof Float)
+                && !Double.isFinite(((Number) value).doubleValue())) {
+            // the line protocol has no representation for NaN and infinity
+            logger.debug("Skipping {} with non-finite value", point);
+            return null;
+        }
+        buffer.append(' ').append(FIELD_VALUE_NAME).append('=');
+        if (!appendValue(value)) {
+            logger.warn("Could not convert {}, discarding this datapoint", point);
+            return null;
+        }
+        buffer.append(' ').append(point.getTime().toEpochMilli());
+        return buffer.toString();
+    }
+
+    /**
+     * Encodes a list of points, points that cannot be encoded are skipped.
+     *
+     * @param points the points to encode
+     * @return the lines
+     */
+    public List<String> encode(List<InfluxPoint> points) {
+        List<String> lines = new ArrayList<>(points.size());
+        for (InfluxPoint point : points) {
+            String line = encode(point);
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private boolean appendValue(Object value) {
+        if (value instanceof String string) {
+            buffer.append('"');
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c == '"' || c == '\\') {
+                    buffer.append('\\');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        } else if (value instanceof BigDecimal decimal) {
+            buffer.append(decimal.toPlainString());
+        } else if (value instanceof Double || value instanceof Float) {
+            buffer.append(BigDecimal.valueOf(((Number) value).doubleValue()).toPlainString());
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            buffer.append(value).append('i');
+        } else if (value instanceof Boolean bool) {
+            buffer.append(bool.booleanValue());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private void escape(String value, boolean escapeEquals) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case ' ', ',' -> buffer.append('\\').append(c);
+                case '=' -> {
+                    if (escapeEquals) {
+                        buffer.append('\\');
+                    }
+                    buffer.append(c);
+                }
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> buffer.append(c);
+            }
+        }
+    }
+}
@@ -12,22 +12,29 @@
  */
 package org.openhab.persistence.influxdb;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.DATABASE_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.PASSWORD_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.RETENTION_POLICY_PARAM;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.SPILL_TO_DISK_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.TOKEN_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.URL_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.USER_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VERSION_PARAM;
 
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -36,6 +43,7 @@ import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpillFile;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
 import org.openhab.persistence.influxdb.internal.ItemTestHelper;
 import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
@@ -124,6 +132,25 @@ public class InfluxDBPersistenceServiceTest {
         verify(influxDBRepositoryMock, never()).write(any());
     }
 
+    @Test
+    public void failedWriteIsSpilledAndReplayed(@TempDir Path tempDir) throws UnexpectedConditionException {
+        Map<String, Object> config = new HashMap<>(VALID_V2_CONFIGURATION);
+        config.put(SPILL_TO_DISK_PARAM, true);
+        InfluxDBSpillFile spillFile = new InfluxDBSpillFile(tempDir.resolve("spill.bin"));
+        InfluxDBPersistenceService instance = getService(config, spillFile);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(any())).thenReturn(false);
+
+        instance.store(ItemTestHelper.createNumberItem("number", 5));
+        verify(influxDBRepositoryMock, timeout(5000)).disconnect();
+        assertThat(spillFile.size(), is(1));
+
+        when(influxDBRepositoryMock.writeRecords(any())).thenReturn(true);
+        verify(influxDBRepositoryMock, timeout(10000)).writeRecords(argThat(records -> records.size() == 1));
+        instance.deactivate();
+        assertThat(spillFile.isEmpty(), is(true));
+    }
+
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
         return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
             @Override
@@ -132,4 +159,18 @@ public class InfluxDBPersistenceServiceTest {
             }
         };
     }
+
+    private InfluxDBPersistenceService getService(Map<String, Object> config, InfluxDBSpillFile spillFile) {
+        return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
+            @Override
+            protected InfluxDBRepository createInfluxDBRepository() {
+                return influxDBRepositoryMock;
+            }
+
+            @Override
+            protected InfluxDBSpillFile createSpillFile() {
+                return spillFile;
+            }
+        };
+    }
 }
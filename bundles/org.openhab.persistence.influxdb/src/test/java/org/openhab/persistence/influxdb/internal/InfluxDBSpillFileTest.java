@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpillFileTest {
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void replayWritesAllRecordsInOrderAndDeletesFile() {
+        Path file = tempDir.resolve("influxdb").resolve("spill.bin");
+        InfluxDBSpillFile spillFile = new InfluxDBSpillFile(file);
+        assertThat(spillFile.isEmpty(), is(true));
+
+        spillFile.append(List.of("a value=1i 1", "b value=\"multi\nline\" 2"));
+        spillFile.append(List.of("c value=3i 3"));
+        assertThat(spillFile.size(), is(3));
+
+        List<List<String>> batches = new ArrayList<>();
+        assertThat(spillFile.replay(2, batch -> batches.add(List.copyOf(batch))), is(true));
+
+        assertThat(batches, contains(List.of("a value=1i 1", "b value=\"multi\nline\" 2"), List.of("c value=3i 3")));
+        assertThat(spillFile.isEmpty(), is(true));
+        assertThat(Files.exists(file), is(false));
+    }
+
+    @Test
+    public void failedReplayKeepsRemainingRecords() {
+        InfluxDBSpillFile spillFile = new InfluxDBSpillFile(tempDir.resolve("spill.bin"));
+        spillFile.append(List.of("a 1", "b 2", "c 3", "d 4", "e 5"));
+
+        List<String> written = new ArrayList<>();
+        assertThat(spillFile.replay(2, batch -> {
+            if (written.size() >= 2) {
+                return false;
+            }
+            written.addAll(batch);
+            return true;
+        }), is(false));
+
+        assertThat(written, contains("a 1", "b 2"));
+        assertThat(spillFile.size(), is(3));
+
+        List<String> replayed = new ArrayList<>();
+        assertThat(spillFile.replay(10, replayed::addAll), is(true));
+        assertThat(replayed, contains("c 3", "d 4", "e 5"));
+    }
+
+    @Test
+    public void incompleteRecordIsDiscarded() throws IOException {
+        Path file = tempDir.resolve("spill.bin");
+        InfluxDBSpillFile spillFile = new InfluxDBSpillFile(file);
+        spillFile.append(List.of("a 1"));
+        // simulate a crash while writing the next record
+        Files.write(file, new byte[] { 0, 0, 0, 10, 'b' }, StandardOpenOption.APPEND);
+
+        InfluxDBSpillFile reopened = new InfluxDBSpillFile(file);
+        assertThat(reopened.size(), is(1));
+
+        List<String> replayed = new ArrayList<>();
+        assertThat(reopened.replay(10, replayed::addAll), is(true));
+        assertThat(replayed, contains("a 1"));
+    }
+}
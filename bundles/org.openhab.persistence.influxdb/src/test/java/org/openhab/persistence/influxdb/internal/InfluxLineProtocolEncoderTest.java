@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxLineProtocolEncoderTest {
+    private static final Instant TIME = Instant.ofEpochMilli(1700000000123L);
+
+    private final InfluxLineProtocolEncoder encoder = new InfluxLineProtocolEncoder();
+
+    @Test
+    public void encodeDecimalValueWithTag() {
+        InfluxPoint point = InfluxPoint.newBuilder("temperature").withTime(TIME).withValue(new BigDecimal("21.50"))
+                .withTag("item", "temperature").build();
+
+        assertThat(encoder.encode(point), is("temperature,item=temperature value=21.50 1700000000123"));
+    }
+
+    @Test
+    public void encodeIntegerAndBooleanValues() {
+        InfluxPoint intPoint = InfluxPoint.newBuilder("switch").withTime(TIME).withValue(1).build();
+        InfluxPoint longPoint = InfluxPoint.newBuilder("date").withTime(TIME).withValue(1700000000000L).build();
+        InfluxPoint boolPoint = InfluxPoint.newBuilder("flag").withTime(TIME).withValue(true).build();
+
+        assertThat(encoder.encode(intPoint), is("switch value=1i 1700000000123"));
+        assertThat(encoder.encode(longPoint), is("date value=1700000000000i 1700000000123"));
+        assertThat(encoder.encode(boolPoint), is("flag value=true 1700000000123"));
+    }
+
+    @Test
+    public void encodeEscapesSpecialCharacters() {
+        InfluxPoint point = InfluxPoint.newBuilder("my measurement,1=x").withTime(TIME)
+                .withValue("say \"hello\" \\ world").withTag("label", "a=b, c").build();
+
+        assertThat(encoder.encode(point),
+                is("my\\ measurement\\,1=x,label=a\\=b\\,\\ c value=\"say \\\"hello\\\" \\\\ world\" 1700000000123"));
+    }
+
+    @Test
+    public void encodeSkipsEmptyTags() {
+        InfluxPoint point = InfluxPoint.newBuilder("number").withTime(TIME).withValue(new BigDecimal("5"))
+                .withTag("category", "").build();
+
+        assertThat(encoder.encode(point), is("number value=5 1700000000123"));
+    }
+
+    @Test
+    public void encodeSkipsUnsupportedValues() {
+        InfluxPoint nanPoint = InfluxPoint.newBuilder("number").withTime(TIME).withValue(Double.NaN).build();
+        InfluxPoint objectPoint = InfluxPoint.newBuilder("number").withTime(TIME).withValue(new Object()).build();
+        InfluxPoint validPoint = InfluxPoint.newBuilder("number").withTime(TIME).withValue(2.5).build();
+
+        assertThat(encoder.encode(nanPoint), is(nullValue()));
+        assertThat(encoder.encode(List.of(nanPoint, objectPoint, validPoint)),
+                contains("number value=2.5 1700000000123"));
+    }
+
+    @Test
+    public void encodeSkipsInfiniteValues() {
+        InfluxPoint infinitePoint = InfluxPoint.newBuilder("number").withTime(TIME)
+                .withValue(Double.POSITIVE_INFINITY).build();
+
+        assertThat(encoder.encode(infinitePoint), is(nullValue()));
+    }
+
+    @Test
+    public void encodePointWithoutValue() {
+        InfluxPoint nullPoint = InfluxPoint.newBuilder("string").withTime(TIME).build();
+
+        // skipped like by the InfluxDB 2 client
+        assertThat(encoder.encode(nullPoint), is(nullValue()));
+        // written as string like by the InfluxDB 1 client
+        assertThat(new InfluxLineProtocolEncoder(true).encode(nullPoint), is("string value=\"null\" 1700000000123"));
+    }
+}
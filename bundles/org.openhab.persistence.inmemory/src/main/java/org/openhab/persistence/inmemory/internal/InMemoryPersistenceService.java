@@ -12,16 +12,13 @@
  */
 package org.openhab.persistence.inmemory.internal;
 
-import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -32,6 +29,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -66,11 +65,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String COMPACT_NUMBERS_CONFIG = "compactNumbers";
+    private final boolean COMPACT_NUMBERS_DEFAULT = false;
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean compactNumbers = COMPACT_NUMBERS_DEFAULT;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,14 +83,24 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        compactNumbers = ConfigParser.valueAsOrElse(config.get(COMPACT_NUMBERS_CONFIG), Boolean.class,
+                COMPACT_NUMBERS_DEFAULT);
 
         persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
+            Lock lock = persistItem.lock;
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
+                if (compactNumbers && persistItem.storage instanceof StateStorage) {
+                    ItemStorage numericStorage = new NumericStorage();
+                    if (copy(persistItem.storage, numericStorage)) {
+                        persistItem.storage = numericStorage;
+                    }
+                } else if (!compactNumbers && persistItem.storage instanceof NumericStorage) {
+                    ItemStorage stateStorage = new StateStorage();
+                    copy(persistItem.storage, stateStorage);
+                    persistItem.storage = stateStorage;
                 }
+                persistItem.storage.trim(maxEntries);
             } finally {
                 lock.unlock();
             }
@@ -158,11 +170,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
+            persistItem.storage.remove(filter);
         } finally {
             lock.unlock();
         }
@@ -181,16 +192,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
         try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
+            return persistItem.storage.query(itemName, filter);
         } finally {
             lock.unlock();
         }
@@ -203,13 +208,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     }
 
     private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
+        Lock lock = itemEntry.getValue().lock;
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            ItemStorage storage = itemEntry.getValue().storage;
+            Integer count = storage.size();
+            ZonedDateTime earliest = storage.getEarliest();
+            ZonedDateTime latest = storage.getLatest();
             return new PersistenceItemInfo() {
 
                 @Override
@@ -224,12 +230,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
                 @Override
                 public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
+                    return earliest == null ? null : Date.from(earliest.toInstant());
                 }
 
                 @Override
                 public @Nullable Date getLatest() {
-                    return Date.from(latest);
+                    return latest == null ? null : Date.from(latest.toInstant());
                 }
             };
         } finally {
@@ -237,95 +243,49 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
     }
 
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
-        return new HistoricItem() {
-            @Override
-            public ZonedDateTime getTimestamp() {
-                return entry.timestamp();
-            }
-
-            @Override
-            public State getState() {
-                return entry.state();
-            }
-
-            @Override
-            public String getName() {
-                return itemName;
-            }
-        };
-    }
-
     private void internalStore(String itemName, ZonedDateTime timestamp, State state) {
         if (state instanceof UnDefType) {
             return;
         }
 
         PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+                k -> new PersistItem(
+                        compactNumbers && (state instanceof DecimalType || state instanceof QuantityType<?>)
+                                ? new NumericStorage()
+                                : new StateStorage())));
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+            if (!persistItem.storage.add(timestamp, state, maxEntries)) {
+                // the state does not fit into the compact storage, keep all values as states from now on
+                ItemStorage stateStorage = new StateStorage();
+                copy(persistItem.storage, stateStorage);
+                stateStorage.add(timestamp, state, maxEntries);
+                persistItem.storage = stateStorage;
             }
         } finally {
             lock.unlock();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
-        State refState = filter.getState();
-        FilterCriteria.Operator operator = filter.getOperator();
-        if (refState == null) {
-            // no state filter
-            return true;
-        }
-
-        if (operator == FilterCriteria.Operator.EQ) {
-            return entry.state().equals(refState);
-        }
-
-        if (operator == FilterCriteria.Operator.NEQ) {
-            return !entry.state().equals(refState);
-        }
-
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
-            if (operator == FilterCriteria.Operator.GT) {
-                return comparableState.compareTo(refState) > 0;
-            }
-            if (operator == FilterCriteria.Operator.GTE) {
-                return comparableState.compareTo(refState) >= 0;
-            }
-            if (operator == FilterCriteria.Operator.LT) {
-                return comparableState.compareTo(refState) < 0;
-            }
-            if (operator == FilterCriteria.Operator.LTE) {
-                return comparableState.compareTo(refState) <= 0;
-            }
-        } else {
-            logger.warn("Using operator {} but state {} is not comparable!", operator, refState);
-        }
-        return true;
+    /**
+     * Copies all values from one storage to another.
+     *
+     * @return false if the target storage cannot hold all values
+     */
+    private boolean copy(ItemStorage from, ItemStorage to) {
+        boolean[] success = { true };
+        from.forEach((timestamp, state) -> success[0] &= to.add(timestamp, state, 0));
+        return success[0];
     }
 
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
+    private static class PersistItem {
+        private final Lock lock = new ReentrantLock();
+        private ItemStorage storage;
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+        private PersistItem(ItemStorage storage) {
+            this.storage = storage;
+        }
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ItemStorage} holds the values of one item, ordered by timestamp. Only one value is kept per timestamp.
+ * Implementations are not thread-safe, callers have to hold the lock of the item.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+abstract class ItemStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemStorage.class);
+
+    /**
+     * Adds a value. If the storage holds more than {@code maxEntries} values afterwards, the oldest values are
+     * removed.
+     *
+     * @param timestamp the timestamp of the value
+     * @param state the value
+     * @param maxEntries the maximum number of values to keep, 0 for no limit
+     * @return false if the state cannot be held by this storage, true otherwise
+     */
+    abstract boolean add(ZonedDateTime timestamp, State state, long maxEntries);
+
+    /**
+     * Removes the oldest values until at most {@code maxEntries} values are left.
+     *
+     * @param maxEntries the maximum number of values to keep, 0 for no limit
+     */
+    abstract void trim(long maxEntries);
+
+    abstract int size();
+
+    abstract @Nullable ZonedDateTime getEarliest();
+
+    abstract @Nullable ZonedDateTime getLatest();
+
+    /**
+     * Removes all values matching the filter.
+     */
+    abstract void remove(FilterCriteria filter);
+
+    /**
+     * Returns all values matching the filter in the order requested by the filter.
+     */
+    abstract List<HistoricItem> query(String itemName, FilterCriteria filter);
+
+    /**
+     * Passes all values in ascending order of their timestamps to the consumer.
+     */
+    abstract void forEach(BiConsumer<ZonedDateTime, State> consumer);
+
+    /**
+     * Checks the state related conditions of the filter, the time range is handled by the implementations.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static boolean stateApplies(State state, FilterCriteria filter) {
+        State refState = filter.getState();
+        FilterCriteria.Operator operator = filter.getOperator();
+        if (refState == null) {
+            // no state filter
+            return true;
+        }
+
+        if (operator == FilterCriteria.Operator.EQ) {
+            return state.equals(refState);
+        }
+
+        if (operator == FilterCriteria.Operator.NEQ) {
+            return !state.equals(refState);
+        }
+
+        if (state instanceof Comparable comparableState && state.getClass().equals(refState.getClass())) {
+            if (operator == FilterCriteria.Operator.GT) {
+                return comparableState.compareTo(refState) > 0;
+            }
+            if (operator == FilterCriteria.Operator.GTE) {
+                return comparableState.compareTo(refState) >= 0;
+            }
+            if (operator == FilterCriteria.Operator.LT) {
+                return comparableState.compareTo(refState) < 0;
+            }
+            if (operator == FilterCriteria.Operator.LTE) {
+                return comparableState.compareTo(refState) <= 0;
+            }
+        } else {
+            LOGGER.warn("Using operator {} but state {} is not comparable!", operator, refState);
+        }
+        return true;
+    }
+
+    protected static HistoricItem toHistoricItem(String itemName, ZonedDateTime timestamp, State state) {
+        return new HistoricItem() {
+            @Override
+            public ZonedDateTime getTimestamp() {
+                return timestamp;
+            }
+
+            @Override
+            public State getState() {
+                return state;
+            }
+
+            @Override
+            public String getName() {
+                return itemName;
+            }
+        };
+    }
+}
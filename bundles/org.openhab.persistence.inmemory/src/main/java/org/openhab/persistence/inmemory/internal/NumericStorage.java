@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericStorage} keeps the values of a numeric item as primitive {@code long} timestamps (nanoseconds since
+ * the epoch) and {@code double} values in a ring buffer. States are only created when values are queried.
+ *
+ * It accepts {@link DecimalType} states or {@link QuantityType} states with the unit of the first stored value. Values
+ * are stored with double precision and returned with the system time zone.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class NumericStorage extends ItemStorage {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    // physical index of the oldest value
+    private int head = 0;
+    private int size = 0;
+
+    // all values have the same type, which is determined by the first value
+    private boolean typeKnown = false;
+    // the unit of QuantityType values, null for DecimalType values
+    private @Nullable Unit<?> unit;
+
+    @Override
+    boolean add(ZonedDateTime timestamp, State state, long maxEntries) {
+        long time;
+        try {
+            time = toNanos(timestamp.toInstant());
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        Double value = toValue(state);
+        if (value == null) {
+            return false;
+        }
+
+        int position;
+        if (size == 0 || time > timestamps[physical(size - 1)]) {
+            // common case: values are appended in chronological order
+            position = size;
+        } else {
+            position = search(time);
+            if (position < size && timestamps[physical(position)] == time) {
+                // keep the existing value, like a sorted set does
+                return true;
+            }
+        }
+
+        if (maxEntries > 0 && size >= maxEntries) {
+            int excess = (int) (size - maxEntries + 1);
+            if (position < excess) {
+                // the new value is one of the oldest and would be removed right away
+                removeOldest(excess - 1);
+                return true;
+            }
+            removeOldest(excess);
+            position -= excess;
+        }
+
+        ensureCapacity(size + 1, maxEntries);
+        // shift newer values to make room for the new one
+        for (int i = size; i > position; i--) {
+            int to = physical(i);
+            int from = physical(i - 1);
+            timestamps[to] = timestamps[from];
+            values[to] = values[from];
+        }
+        timestamps[physical(position)] = time;
+        values[physical(position)] = value;
+        size++;
+        return true;
+    }
+
+    @Override
+    void trim(long maxEntries) {
+        if (maxEntries > 0 && size > maxEntries) {
+            removeOldest((int) (size - maxEntries));
+        }
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    @Nullable
+    ZonedDateTime getEarliest() {
+        return size == 0 ? null : toZonedDateTime(timestamps[physical(0)]);
+    }
+
+    @Override
+    @Nullable
+    ZonedDateTime getLatest() {
+        return size == 0 ? null : toZonedDateTime(timestamps[physical(size - 1)]);
+    }
+
+    @Override
+    void remove(FilterCriteria filter) {
+        int from = lowerBound(filter.getBeginDate());
+        int to = upperBound(filter.getEndDate());
+        if (from >= to) {
+            return;
+        }
+
+        // compact the buffer, keeping all values that do not match the filter
+        long[] newTimestamps = new long[timestamps.length];
+        double[] newValues = new double[values.length];
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            int index = physical(i);
+            if (i >= from && i < to && stateApplies(toState(values[index]), filter)) {
+                continue;
+            }
+            newTimestamps[newSize] = timestamps[index];
+            newValues[newSize] = values[index];
+            newSize++;
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+        size = newSize;
+    }
+
+    @Override
+    List<HistoricItem> query(String itemName, FilterCriteria filter) {
+        int from = lowerBound(filter.getBeginDate());
+        int to = upperBound(filter.getEndDate());
+        if (from >= to) {
+            return List.of();
+        }
+
+        List<HistoricItem> result = new ArrayList<>(to - from);
+        boolean ascending = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING;
+        for (int i = 0; i < to - from; i++) {
+            int index = physical(ascending ? from + i : to - 1 - i);
+            State state = toState(values[index]);
+            if (stateApplies(state, filter)) {
+                result.add(toHistoricItem(itemName, toZonedDateTime(timestamps[index]), state));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        for (int i = 0; i < size; i++) {
+            int index = physical(i);
+            consumer.accept(toZonedDateTime(timestamps[index]), toState(values[index]));
+        }
+    }
+
+    private @Nullable Double toValue(State state) {
+        Unit<?> stateUnit;
+        if (state instanceof QuantityType<?> quantity) {
+            stateUnit = quantity.getUnit();
+        } else if (state.getClass() == DecimalType.class) {
+            stateUnit = null;
+        } else {
+            return null;
+        }
+        if (!typeKnown) {
+            unit = stateUnit;
+            typeKnown = true;
+        } else if (!Objects.equals(unit, stateUnit)) {
+            return null;
+        }
+        return ((Number) state).doubleValue();
+    }
+
+    private State toState(double value) {
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        Unit<?> unit = this.unit;
+        return unit != null ? toQuantityType(decimal, unit) : new DecimalType(decimal);
+    }
+
+    private <Q extends Quantity<Q>> QuantityType<Q> toQuantityType(BigDecimal value, Unit<?> unit) {
+        @SuppressWarnings("unchecked")
+        Unit<Q> typedUnit = (Unit<Q>) unit;
+        return new QuantityType<>(value, typedUnit);
+    }
+
+    private int physical(int logicalIndex) {
+        int index = head + logicalIndex;
+        return index < timestamps.length ? index : index - timestamps.length;
+    }
+
+    private void removeOldest(int count) {
+        int n = Math.min(count, size);
+        head = physical(n);
+        size -= n;
+    }
+
+    private void ensureCapacity(int required, long maxEntries) {
+        if (required <= timestamps.length) {
+            return;
+        }
+        long limit = maxEntries > 0 ? Math.min(maxEntries, MAX_CAPACITY) : MAX_CAPACITY;
+        int newCapacity = (int) Math.min(Math.max((long) timestamps.length * 2, required), limit);
+        long[] newTimestamps = new long[newCapacity];
+        double[] newValues = new double[newCapacity];
+        // unwrap the ring buffer, the oldest value is at index 0 afterwards
+        int firstPart = Math.min(size, timestamps.length - head);
+        System.arraycopy(timestamps, head, newTimestamps, 0, firstPart);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(timestamps, 0, newTimestamps, firstPart, size - firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, size - firstPart);
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+
+    /**
+     * @return the logical index of the first value with a timestamp not before {@code time}
+     */
+    private int search(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerBound(@Nullable ZonedDateTime beginDate) {
+        return beginDate == null ? 0 : search(toNanosSaturated(beginDate.toInstant()));
+    }
+
+    private int upperBound(@Nullable ZonedDateTime endDate) {
+        if (endDate == null) {
+            return size;
+        }
+        long end = toNanosSaturated(endDate.toInstant());
+        // the end date is inclusive
+        return end == Long.MAX_VALUE ? size : search(end + 1);
+    }
+
+    private static long toNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static long toNanosSaturated(Instant instant) {
+        try {
+            return toNanos(instant);
+        } catch (ArithmeticException e) {
+            return instant.getEpochSecond() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private static ZonedDateTime toZonedDateTime(long nanos) {
+        return ZonedDateTime.ofInstant(
+                Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L)),
+                ZoneId.systemDefault());
+    }
+}
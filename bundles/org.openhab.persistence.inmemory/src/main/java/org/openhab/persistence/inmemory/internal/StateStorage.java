@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link StateStorage} keeps the {@link State} objects of an item in a sorted set. It can hold states of any type.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class StateStorage extends ItemStorage {
+
+    private record PersistEntry(ZonedDateTime timestamp, State state) {
+    }
+
+    private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+
+    @Override
+    boolean add(ZonedDateTime timestamp, State state, long maxEntries) {
+        database.add(new PersistEntry(timestamp, state));
+        trim(maxEntries);
+        return true;
+    }
+
+    @Override
+    void trim(long maxEntries) {
+        while (maxEntries > 0 && database.size() > maxEntries) {
+            database.pollFirst();
+        }
+    }
+
+    @Override
+    int size() {
+        return database.size();
+    }
+
+    @Override
+    @Nullable
+    ZonedDateTime getEarliest() {
+        return database.isEmpty() ? null : database.first().timestamp();
+    }
+
+    @Override
+    @Nullable
+    ZonedDateTime getLatest() {
+        return database.isEmpty() ? null : database.last().timestamp();
+    }
+
+    @Override
+    void remove(FilterCriteria filter) {
+        List<PersistEntry> toRemove = database.stream().filter(e -> applies(e, filter)).toList();
+        toRemove.forEach(database::remove);
+    }
+
+    @Override
+    List<HistoricItem> query(String itemName, FilterCriteria filter) {
+        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
+                ? Comparator.comparing(PersistEntry::timestamp)
+                : Comparator.comparing(PersistEntry::timestamp).reversed();
+
+        return database.stream().filter(e -> applies(e, filter)).sorted(comparator)
+                .map(e -> toHistoricItem(itemName, e.timestamp(), e.state())).toList();
+    }
+
+    @Override
+    void forEach(BiConsumer<ZonedDateTime, State> consumer) {
+        database.forEach(e -> consumer.accept(e.timestamp(), e.state()));
+    }
+
+    private boolean applies(PersistEntry entry, FilterCriteria filter) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
+            return false;
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        if (endDate != null && endDate.isBefore(entry.timestamp())) {
+            return false;
+        }
+        return stateApplies(entry.state(), filter);
+    }
+}
@@ -20,7 +20,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,9 +38,11 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
 
 /**
@@ -275,4 +280,138 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void compactStorageQueriesDateRanges() {
+        service.activate(Map.of("compactNumbers", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 100; i++) {
+            service.store(item, start.plusMinutes(i), new DecimalType(i));
+        }
+
+        filterCriteria.setBeginDate(start.plusMinutes(10));
+        filterCriteria.setEndDate(start.plusMinutes(13));
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<HistoricItem> result = new ArrayList<>();
+        service.query(filterCriteria).forEach(result::add);
+
+        assertThat(result.stream().map(HistoricItem::getState).toList(),
+                contains(new DecimalType(10), new DecimalType(11), new DecimalType(12), new DecimalType(13)));
+        assertThat(result.getFirst().getTimestamp(), is(start.plusMinutes(10)));
+        assertThat(result.getFirst().getName(), is(ITEM_NAME));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        result.clear();
+        service.query(filterCriteria).forEach(result::add);
+
+        assertThat(result.stream().map(HistoricItem::getState).toList(),
+                contains(new DecimalType(13), new DecimalType(12), new DecimalType(11), new DecimalType(10)));
+    }
+
+    @Test
+    public void compactStorageSortsOutOfOrderValues() {
+        service.activate(Map.of("compactNumbers", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+        // an existing value is kept for the same timestamp
+        service.store(item, start.plusHours(1), new DecimalType(5));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(1, 2, 3));
+    }
+
+    @Test
+    public void compactStorageRemovesOldestValues() {
+        service.activate(Map.of("compactNumbers", true, "maxEntries", 3));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 10; i++) {
+            service.store(item, start.plusMinutes(i), new DecimalType(i));
+        }
+        // older than all stored values, dropped immediately
+        service.store(item, start.minusMinutes(1), new DecimalType(-1));
+        // replaces the oldest stored value
+        service.store(item, start.plusSeconds(450), new DecimalType(7.5));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new DecimalType(7.5), new DecimalType(8), new DecimalType(9)));
+
+        PersistenceItemInfo itemInfo = Objects.requireNonNull(service.getItemInfo(ITEM_NAME, null));
+        assertThat(itemInfo.getCount(), is(3));
+        assertThat(itemInfo.getEarliest(), is(Date.from(start.plusSeconds(450).toInstant())));
+        assertThat(itemInfo.getLatest(), is(Date.from(start.plusMinutes(9).toInstant())));
+    }
+
+    @Test
+    public void compactStorageRemoveBetweenTimes() {
+        service.activate(Map.of("compactNumbers", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new QuantityType<>("1 W"));
+        service.store(item, start.plusHours(2), new QuantityType<>("2 W"));
+        service.store(item, start.plusHours(4), new QuantityType<>("3 W"));
+
+        filterCriteria.setBeginDate(start.plusHours(1));
+        filterCriteria.setEndDate(start.plusHours(3));
+        service.remove(filterCriteria);
+
+        filterCriteria = new FilterCriteria();
+        filterCriteria.setItemName(ITEM_NAME);
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new QuantityType<>("1 W"), new QuantityType<>("3 W")));
+    }
+
+    @Test
+    public void compactStorageFallsBackForOtherStates() {
+        service.activate(Map.of("compactNumbers", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new QuantityType<>("2 W"));
+        service.store(item, start.plusHours(2), new StringType("value"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new DecimalType(1), new QuantityType<>("2 W"), new StringType("value")));
+    }
+
+    @Test
+    public void switchingStorageModeKeepsValues() {
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        service.modified(Map.of("compactNumbers", true));
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.modified(Map.of("compactNumbers", false));
+        service.store(item, start.plusHours(3), new StringType("value"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet,
+                contains(new DecimalType(1), new DecimalType(2), new DecimalType(3), new StringType("value")));
+    }
 }
@@ -66,6 +66,12 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int batchSize = 0;
+    private int batchInterval = 1000;
+    private int batchQueueSize = 10000;
+    private JdbcWriteBuffer.QueueFullPolicy batchQueueFullPolicy = JdbcWriteBuffer.QueueFullPolicy.BLOCK;
+    private int batchWriters = 1;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +197,42 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchInterval = Math.max(Integer.parseInt(bi), 10);
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueSize");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueSize = Integer.parseInt(bq);
+            logger.debug("JDBC::updateConfig: batchQueueSize={}", batchQueueSize);
+        }
+        batchQueueSize = Math.max(batchQueueSize, batchSize);
+
+        String bp = (String) configuration.get("batchQueueFullPolicy");
+        if (bp != null && !bp.isBlank()) {
+            try {
+                batchQueueFullPolicy = JdbcWriteBuffer.QueueFullPolicy.valueOf(bp.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: batchQueueFullPolicy={}", batchQueueFullPolicy);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: invalid batchQueueFullPolicy '{}', using {}", bp,
+                        batchQueueFullPolicy);
+            }
+        }
+
+        String bw = (String) configuration.get("batchWriters");
+        if (bw != null && !bw.isBlank() && isNumericPattern.matcher(bw).matches()) {
+            batchWriters = Math.max(Integer.parseInt(bw), 1);
+            logger.debug("JDBC::updateConfig: batchWriters={}", batchWriters);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +446,35 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    /**
+     * Checks if values are written in batches.
+     *
+     * @return true if batchSize is greater than 1.
+     */
+    public boolean isBatchEnabled() {
+        return batchSize > 1;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getBatchQueueSize() {
+        return batchQueueSize;
+    }
+
+    public JdbcWriteBuffer.QueueFullPolicy getBatchQueueFullPolicy() {
+        return batchQueueFullPolicy;
+    }
+
+    public int getBatchWriters() {
+        return batchWriters;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
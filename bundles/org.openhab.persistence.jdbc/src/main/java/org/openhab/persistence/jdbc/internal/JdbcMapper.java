@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
@@ -22,6 +23,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -59,10 +62,11 @@ public class JdbcMapper {
     private final TimeZoneProvider timeZoneProvider;
 
     // Error counter - used to reconnect to database on error
-    protected int errCnt;
-    protected boolean initialized = false;
+    protected final AtomicInteger errCnt = new AtomicInteger();
+    protected volatile boolean initialized = false;
+    private final Object reconnectLock = new Object();
     protected @NonNullByDefault({}) JdbcConfiguration conf;
-    protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
+    protected final Map<String, String> itemNameToTableNameMap = new ConcurrentHashMap<>();
     protected @NonNullByDefault({}) NamingStrategy namingStrategy;
     private long afterAccessMin = 10000;
     private long afterAccessMax = 0;
@@ -226,7 +230,16 @@ public class JdbcMapper {
             conf.getDBDAO().doStoreItemValue(item, itemState, new ItemVO(tableName, null), date);
         }
         logTime("storeItemValue", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
+    }
+
+    protected void storeItemValues(Item item, Map<Instant, State> values, @Nullable String alias) throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} count={}", item, values.size());
+        String tableName = getTable(item, alias);
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(item, tableName, values);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt.set(0);
     }
 
     public long getRowCount(String tableName) throws JdbcSQLException {
@@ -242,7 +255,7 @@ public class JdbcMapper {
         List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
                 item.getName(), timeZoneProvider.getTimeZone());
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
         return result;
     }
 
@@ -251,7 +264,7 @@ public class JdbcMapper {
         long timerStart = System.currentTimeMillis();
         conf.getDBDAO().doDeleteItemValues(filter, table, timeZoneProvider.getTimeZone());
         logTime("deleteItemValues", timerStart, System.currentTimeMillis());
-        errCnt = 0;
+        errCnt.set(0);
     }
 
     /***********************
@@ -296,21 +309,27 @@ public class JdbcMapper {
         if (initialized) {
             return true;
         }
-        try {
-            // first
-            boolean p = pingDB();
-            if (p) {
-                logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
-            } else {
-                // second
-                p = pingDB();
-                logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+        // the batch writers check concurrently, only one of them reconnects
+        synchronized (reconnectLock) {
+            if (initialized) {
+                return true;
+            }
+            try {
+                // first
+                boolean p = pingDB();
+                if (p) {
+                    logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
+                } else {
+                    // second
+                    p = pingDB();
+                    logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
+                }
+                return (p && !(conf.getErrReconnectThreshold() > 0
+                        && errCnt.get() <= conf.getErrReconnectThreshold()));
+            } catch (JdbcSQLException e) {
+                logger.warn("Unable to ping database", e);
+                return false;
             }
-        } catch (JdbcSQLException e) {
-            logger.warn("Unable to ping database", e);
-            return false;
         }
     }
 
@@ -333,7 +352,7 @@ public class JdbcMapper {
             logger.info(
                     "JDBC::checkDBSchema: Rebuild complete, configure the 'rebuildTableNames' setting to 'false' to stop rebuilds on startup");
             // Reset the error counter
-            errCnt = 0;
+            errCnt.set(0);
         }
         populateItemNameToTableNameMap();
     }
@@ -357,7 +376,7 @@ public class JdbcMapper {
         }
     }
 
-    protected String getTable(Item item, @Nullable String alias) throws JdbcException {
+    protected synchronized String getTable(Item item, @Nullable String alias) throws JdbcException {
         String itemName = alias != null ? alias : item.getName();
         if (!initialized) {
             throw new JdbcException("Not initialized, unable to find table for item " + itemName);
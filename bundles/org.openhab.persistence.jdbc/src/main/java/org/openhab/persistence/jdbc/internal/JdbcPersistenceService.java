@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -77,6 +78,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private volatile @Nullable JdbcWriteBuffer writeBuffer;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -120,6 +123,11 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.close();
+            this.writeBuffer = null;
+        }
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +145,37 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // Values are written later, so the time of the state change has to be captured now
+        writeBuffer.add(item, state, date != null ? date.toInstant() : Instant.now(), alias);
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -165,7 +188,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         if (!checkDBAccessability()) {
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
-                    state, item, errCnt, conf.getErrReconnectThreshold());
+                    state, item, errCnt.get(), conf.getErrReconnectThreshold());
             return;
         }
         try {
@@ -180,6 +203,20 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    private void internalStoreBatch(Item item, Map<Instant, State> values, @Nullable String alias)
+            throws JdbcException {
+        if (!checkDBAccessability()) {
+            throw new JdbcException("No connection to database, unable to persist " + values.size()
+                    + " values for item " + item.getName());
+        }
+        long timerStart = System.currentTimeMillis();
+        storeItemValues(item, values, alias);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} values of item '{}' in SQL database in {} ms.", values.size(), item.getName(),
+                    System.currentTimeMillis() - timerStart);
+        }
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -267,7 +304,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                         System.currentTimeMillis() - timerStart);
             }
             // Success
-            errCnt = 0;
+            errCnt.set(0);
             return items;
         } catch (JdbcSQLException e) {
             logger.warn("JDBC::query: Unable to query item", e);
@@ -278,6 +315,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.close();
+            this.writeBuffer = null;
+        }
+
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -293,6 +336,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        if (conf.valid && conf.isBatchEnabled()) {
+            this.writeBuffer = new JdbcWriteBuffer(conf.getBatchQueueSize(), conf.getBatchSize(),
+                    conf.getBatchInterval(), conf.getBatchQueueFullPolicy(), conf.getBatchWriters(), scheduler,
+                    this::internalStoreBatch);
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
@@ -343,6 +392,15 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         return itemNameToTableNameMap.keySet();
     }
 
+    /**
+     * Get the write buffer used for batched writes.
+     *
+     * @return the write buffer or null if batching is disabled
+     */
+    public @Nullable JdbcWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     /**
      * Get a map of item names to table names.
      */
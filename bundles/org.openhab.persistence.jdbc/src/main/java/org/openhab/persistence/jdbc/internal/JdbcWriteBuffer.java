@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcWriteBuffer} collects values to be persisted in a bounded queue and writes them as JDBC batches,
+ * one batch per item table.
+ *
+ * A flush is triggered when {@code batchSize} values are pending or when the flush interval has elapsed. Tables of a
+ * flush are written in parallel by a pool of writers, while consecutive flushes never overlap, so the order of values
+ * per table is kept.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    /**
+     * Policy applied when a value is offered while the queue is full.
+     */
+    public enum QueueFullPolicy {
+        /** The caller waits until the queue has room again. */
+        BLOCK,
+        /** The new value is discarded. */
+        DROP
+    }
+
+    /**
+     * Writes all values of one item table.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(Item item, Map<Instant, State> values, @Nullable String alias) throws JdbcException;
+    }
+
+    private record PendingValue(Item item, State state, Instant time, @Nullable String alias) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteBuffer.class);
+
+    private final BlockingQueue<PendingValue> queue;
+    private final int batchSize;
+    private final QueueFullPolicy queueFullPolicy;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+    private final BatchWriter batchWriter;
+    private final ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final MovingAverage flushTimeAverage = new MovingAverage(100);
+    private final MovingAverage flushSizeAverage = new MovingAverage(100);
+    private volatile long lastFlushTime;
+    private volatile long maxFlushTime;
+
+    public JdbcWriteBuffer(int queueSize, int batchSize, long flushInterval, QueueFullPolicy queueFullPolicy,
+            int writerCount, ScheduledExecutorService scheduler, BatchWriter batchWriter) {
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.queueFullPolicy = queueFullPolicy;
+        this.scheduler = scheduler;
+        this.batchWriter = batchWriter;
+        this.writers = Executors.newFixedThreadPool(writerCount,
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-writer"));
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a value to the queue, applying the configured {@link QueueFullPolicy} if the queue is full.
+     *
+     * @return true if the value was queued, false if it was dropped
+     */
+    public boolean add(Item item, State state, Instant time, @Nullable String alias) {
+        PendingValue value = new PendingValue(item, state, time, alias);
+        if (!queue.offer(value)) {
+            if (queueFullPolicy == QueueFullPolicy.DROP) {
+                if (droppedCount.getAndIncrement() % 1000 == 0) {
+                    logger.warn("JDBC::add: write queue is full, dropping values (dropped so far: {})",
+                            droppedCount.get());
+                }
+                return false;
+            }
+            requestFlush();
+            try {
+                queue.put(value);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+                return false;
+            }
+        }
+        if (queue.size() >= batchSize) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::scheduledFlush);
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // an exception would cancel the periodic flush
+            logger.warn("JDBC::flush: Unexpected error while writing values", e);
+        }
+    }
+
+    /**
+     * Writes all pending values. Values of the same table are coalesced into one batch; if a table receives several
+     * values for the same timestamp, only the last one is written.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            List<PendingValue> pending = new ArrayList<>(queue.size());
+            queue.drainTo(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+            long timerStart = System.currentTimeMillis();
+
+            Map<String, List<PendingValue>> valuesByTarget = new LinkedHashMap<>();
+            for (PendingValue value : pending) {
+                String alias = value.alias();
+                String target = alias != null ? alias : value.item().getName();
+                valuesByTarget.computeIfAbsent(target, k -> new ArrayList<>()).add(value);
+            }
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>(valuesByTarget.size());
+            for (List<PendingValue> values : valuesByTarget.values()) {
+                futures.add(CompletableFuture.runAsync(() -> write(values), writers));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            long flushTime = System.currentTimeMillis() - timerStart;
+            lastFlushTime = flushTime;
+            if (flushTime > maxFlushTime) {
+                maxFlushTime = flushTime;
+            }
+            flushCount.incrementAndGet();
+            synchronized (flushTimeAverage) {
+                flushTimeAverage.add(flushTime);
+                flushSizeAverage.add(pending.size());
+            }
+            logger.debug("JDBC::flush: wrote {} values into {} tables in {} ms", pending.size(), valuesByTarget.size(),
+                    flushTime);
+        }
+    }
+
+    private void write(List<PendingValue> values) {
+        PendingValue last = values.getLast();
+        Map<Instant, State> states = new LinkedHashMap<>();
+        for (PendingValue value : values) {
+            // re-insert to keep insertion order of the last value for a timestamp
+            states.remove(value.time());
+            states.put(value.time(), value.state());
+        }
+        try {
+            batchWriter.write(last.item(), states, last.alias());
+            storedCount.addAndGet(states.size());
+        } catch (JdbcException | RuntimeException e) {
+            failedCount.addAndGet(states.size());
+            logger.warn("JDBC::flush: Unable to store {} values of item '{}'", states.size(), last.item().getName(), e);
+        }
+    }
+
+    /**
+     * Stops the periodic flush and writes all values still pending.
+     */
+    public void close() {
+        flushJob.cancel(false);
+        flush();
+        writers.shutdown();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    public long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public double getAverageFlushTime() {
+        synchronized (flushTimeAverage) {
+            return flushTimeAverage.getAverageDouble();
+        }
+    }
+
+    public double getAverageFlushSize() {
+        synchronized (flushTimeAverage) {
+            return flushSizeAverage.getAverageDouble();
+        }
+    }
+}
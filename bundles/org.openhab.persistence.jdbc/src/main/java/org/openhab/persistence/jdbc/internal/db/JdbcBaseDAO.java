@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -446,12 +447,10 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        storedVO.setTime(Date.from(date.toInstant()));
+        String sql = storeItemValueWithTimeProvider(storedVO);
+        Object[] params = storeItemValueWithTimeParams(storedVO);
+        logger.debug("JDBC::doStoreItemValue sql={} time={} value='{}'", sql, storedVO.getTime(), storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +458,37 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values of one item into its table using a single JDBC batch.
+     *
+     * @param item the item the values belong to
+     * @param tableName the table to store the values into
+     * @param values the states to store, keyed by their timestamp
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(Item item, String tableName, Map<Instant, State> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = null;
+        Object[][] params = new Object[values.size()][];
+        int i = 0;
+        for (Map.Entry<Instant, State> value : values.entrySet()) {
+            ItemVO storedVO = storeItemValueProvider(item, value.getValue(), new ItemVO(tableName, null));
+            storedVO.setTime(Date.from(value.getKey()));
+            if (sql == null) {
+                sql = storeItemValueWithTimeProvider(storedVO);
+            }
+            params[i++] = storeItemValueWithTimeParams(storedVO);
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -567,6 +597,21 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Builds the insert statement for a value with an explicit timestamp, see
+     * {@link #storeItemValueWithTimeParams(ItemVO)} for the matching parameters.
+     */
+    protected String storeItemValueWithTimeProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] storeItemValueWithTimeParams(ItemVO storedVO) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(storedVO.getTime().getTime());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
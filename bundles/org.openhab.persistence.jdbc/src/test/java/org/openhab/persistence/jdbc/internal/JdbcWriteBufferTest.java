@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the {@link JdbcWriteBuffer}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private static final long NO_PERIODIC_FLUSH = 3_600_000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<Batch> batches = new CopyOnWriteArrayList<>();
+    private @Nullable JdbcWriteBuffer writeBuffer;
+
+    private record Batch(String name, Map<Instant, State> values) {
+    }
+
+    @AfterEach
+    public void tearDown() {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.close();
+        }
+        scheduler.shutdownNow();
+    }
+
+    private JdbcWriteBuffer createWriteBuffer(int queueSize, JdbcWriteBuffer.QueueFullPolicy policy) {
+        JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer(queueSize, queueSize, NO_PERIODIC_FLUSH, policy, 2, scheduler,
+                (item, values, alias) -> batches
+                        .add(new Batch(alias != null ? alias : item.getName(), Map.copyOf(values))));
+        this.writeBuffer = writeBuffer;
+        return writeBuffer;
+    }
+
+    @Test
+    void flushWritesOneBatchPerTableAndKeepsLastValuePerTimestamp() {
+        JdbcWriteBuffer writeBuffer = createWriteBuffer(100, JdbcWriteBuffer.QueueFullPolicy.BLOCK);
+        NumberItem item1 = new NumberItem("Item1");
+        NumberItem item2 = new NumberItem("Item2");
+        Instant t1 = Instant.parse("2024-01-01T00:00:00Z");
+        Instant t2 = t1.plusSeconds(1);
+
+        writeBuffer.add(item1, new DecimalType(1), t1, null);
+        writeBuffer.add(item2, new DecimalType(2), t1, null);
+        writeBuffer.add(item1, new DecimalType(3), t2, null);
+        writeBuffer.add(item1, new DecimalType(4), t2, null);
+        writeBuffer.add(item1, new DecimalType(5), t1, "Alias1");
+        assertThat(writeBuffer.getQueueSize(), is(5));
+
+        writeBuffer.flush();
+
+        assertThat(writeBuffer.getQueueSize(), is(0));
+        assertThat(batches, hasSize(3));
+        Batch batch1 = batches.stream().filter(b -> "Item1".equals(b.name())).findFirst().orElseThrow();
+        assertThat(batch1.values(), is(Map.of(t1, new DecimalType(1), t2, new DecimalType(4))));
+        Batch batch2 = batches.stream().filter(b -> "Item2".equals(b.name())).findFirst().orElseThrow();
+        assertThat(batch2.values(), is(Map.of(t1, new DecimalType(2))));
+        Batch alias = batches.stream().filter(b -> "Alias1".equals(b.name())).findFirst().orElseThrow();
+        assertThat(alias.values(), is(Map.of(t1, new DecimalType(5))));
+        assertThat(writeBuffer.getStoredCount(), is(4L));
+        assertThat(writeBuffer.getFlushCount(), is(1L));
+    }
+
+    @Test
+    void dropPolicyDiscardsValuesWhenQueueIsFull() {
+        JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer(2, 100, NO_PERIODIC_FLUSH,
+                JdbcWriteBuffer.QueueFullPolicy.DROP, 1, scheduler, (item, values, alias) -> {
+                });
+        this.writeBuffer = writeBuffer;
+        NumberItem item = new NumberItem("Item1");
+        Instant now = Instant.now();
+
+        assertTrue(writeBuffer.add(item, new DecimalType(1), now, null));
+        assertTrue(writeBuffer.add(item, new DecimalType(2), now.plusSeconds(1), null));
+        assertFalse(writeBuffer.add(item, new DecimalType(3), now.plusSeconds(2), null));
+
+        assertThat(writeBuffer.getQueueSize(), is(2));
+        assertThat(writeBuffer.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    void closeFlushesPendingValues() {
+        JdbcWriteBuffer writeBuffer = createWriteBuffer(100, JdbcWriteBuffer.QueueFullPolicy.BLOCK);
+        writeBuffer.add(new NumberItem("Item1"), new DecimalType(1), Instant.now(), null);
+
+        writeBuffer.close();
+        this.writeBuffer = null;
+
+        assertThat(batches, hasSize(1));
+    }
+
+    @Test
+    void periodicFlushContinuesAfterUnexpectedError() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer(100, 100, 10, JdbcWriteBuffer.QueueFullPolicy.BLOCK, 1,
+                scheduler, (item, values, alias) -> {
+                    if (failed.compareAndSet(false, true)) {
+                        throw new AssertionError("unexpected");
+                    }
+                    batches.add(new Batch(item.getName(), Map.copyOf(values)));
+                });
+        this.writeBuffer = writeBuffer;
+        NumberItem item = new NumberItem("Item1");
+        writeBuffer.add(item, new DecimalType(1), Instant.now(), null);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!failed.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        writeBuffer.add(item, new DecimalType(2), Instant.now(), null);
+        while (batches.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThat(batches, hasSize(1));
+    }
+}
@@ -35,12 +35,22 @@ public class JpaConfiguration {
     private static final String CFG_USERNAME = "user";
     private static final String CFG_PASSWORD = "password";
     private static final String CFG_SYNCMAPPING = "syncmappings";
+    private static final String CFG_BATCH_SIZE = "batchSize";
+    private static final String CFG_BATCH_INTERVAL = "batchInterval";
+    private static final String CFG_QUERY_PAGE_SIZE = "queryPageSize";
+
+    public static final int DEFAULT_BATCH_SIZE = 0;
+    public static final int DEFAULT_BATCH_INTERVAL = 1000;
+    public static final int DEFAULT_QUERY_PAGE_SIZE = 0;
 
     public final String dbConnectionUrl;
     public final String dbDriverClass;
     public final String dbUserName;
     public final String dbPassword;
     public final String dbSyncMapping;
+    public final int batchSize;
+    public final int batchInterval;
+    public final int queryPageSize;
 
     public JpaConfiguration(final Map<String, @Nullable Object> properties) throws IllegalArgumentException {
         logger.debug("Creating JPA config...");
@@ -81,6 +91,28 @@ public class JpaConfiguration {
         }
         dbSyncMapping = param == null ? "" : param;
 
+        batchSize = parseInt(properties, CFG_BATCH_SIZE, DEFAULT_BATCH_SIZE, 0);
+        batchInterval = parseInt(properties, CFG_BATCH_INTERVAL, DEFAULT_BATCH_INTERVAL, 1);
+        queryPageSize = parseInt(properties, CFG_QUERY_PAGE_SIZE, DEFAULT_QUERY_PAGE_SIZE, 0);
+
         logger.debug("Creating JPA config... done");
     }
+
+    private static int parseInt(final Map<String, @Nullable Object> properties, String key, int defaultValue,
+            int minValue) throws IllegalArgumentException {
+        Object value = properties.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + " '" + value + "' in JPA configuration!");
+        }
+        if (result < minValue) {
+            throw new IllegalArgumentException(key + " must be at least " + minValue + " in JPA configuration!");
+        }
+        return result;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Query result that loads the matching rows page by page while it is iterated, so that large results are never held
+ * in memory at once.
+ *
+ * <p>
+ * The first page is read at the offset of the requested {@code FilterCriteria} page. Subsequent pages continue after
+ * the last row read (keyset pagination on timestamp and id), which keeps every page query cheap regardless of how
+ * far the iteration has progressed. At most {@code limit} rows are read in total.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JpaPagedQueryResult implements Iterable<HistoricItem> {
+
+    /**
+     * Loads one page of rows.
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        /**
+         * @param after The last row of the previous page, or {@code null} for the first page.
+         * @param firstResult The offset of the first row, only used for the first page.
+         * @param maxResults The maximum number of rows to load.
+         * @return The rows of the page in query order.
+         */
+        List<JpaPersistentItem> load(@Nullable JpaPersistentItem after, int firstResult, int maxResults);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JpaPagedQueryResult.class);
+
+    private final PageLoader pageLoader;
+    private final Item item;
+    private final int firstResult;
+    private final int limit;
+    private final int pageSize;
+
+    /**
+     * @param pageLoader Loads the pages from the database.
+     * @param item The queried item, used to convert the persisted values.
+     * @param firstResult The offset of the first row.
+     * @param limit The maximum number of rows.
+     * @param pageSize The number of rows loaded per database query.
+     */
+    public JpaPagedQueryResult(PageLoader pageLoader, Item item, int firstResult, int limit, int pageSize) {
+        this.pageLoader = pageLoader;
+        this.item = item;
+        this.firstResult = firstResult;
+        this.limit = limit;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new PageIterator();
+    }
+
+    private class PageIterator implements Iterator<HistoricItem> {
+        private Iterator<JpaPersistentItem> page = List.<JpaPersistentItem> of().iterator();
+        private @Nullable JpaPersistentItem last;
+        private @Nullable HistoricItem next;
+        private int remaining = limit;
+        private boolean firstPage = true;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (!page.hasNext() && !loadPage()) {
+                    return false;
+                }
+                JpaPersistentItem pItem = page.next();
+                last = pItem;
+                next = JpaHistoricItem.fromPersistedItem(pItem, item);
+            }
+            return true;
+        }
+
+        @Override
+        public HistoricItem next() {
+            HistoricItem result = next;
+            if (result == null && hasNext()) {
+                result = next;
+            }
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            next = null;
+            return result;
+        }
+
+        private boolean loadPage() {
+            if (exhausted || remaining <= 0) {
+                return false;
+            }
+            int maxResults = Math.min(pageSize, remaining);
+            List<JpaPersistentItem> rows;
+            try {
+                rows = pageLoader.load(firstPage ? null : last, firstPage ? firstResult : 0, maxResults);
+            } catch (RuntimeException e) {
+                logger.error("Error while querying database!", e);
+                rows = List.of();
+            }
+            firstPage = false;
+            remaining -= rows.size();
+            // a short page is the last one
+            exhausted = rows.size() < maxResults;
+            page = rows.iterator();
+            return page.hasNext();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -63,6 +64,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     private static final String SERVICE_ID = "jpa";
     private static final String SERVICE_LABEL = "JPA";
     protected static final String CONFIG_URI = "persistence:jpa";
+    private static final String THREAD_POOL_NAME = "jpa";
 
     private final Logger logger = LoggerFactory.getLogger(JpaPersistenceService.class);
 
@@ -74,6 +76,8 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private boolean initialized;
 
+    private @Nullable JpaWriteBuffer writeBuffer;
+
     @Activate
     public JpaPersistenceService(BundleContext context, Map<String, @Nullable Object> properties,
             final @Reference ItemRegistry itemRegistry) {
@@ -82,6 +86,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         try {
             config = new JpaConfiguration(properties);
             initialized = true;
+            if (config.batchSize > 0) {
+                writeBuffer = new JpaWriteBuffer(config.batchSize, config.batchInterval,
+                        ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME), this::persist);
+            }
         } catch (IllegalArgumentException e) {
             logger.warn("{}", e.getMessage());
         }
@@ -107,6 +115,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating JPA persistence service");
+        JpaWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.close();
+            this.writeBuffer = null;
+        }
         closeEntityManagerFactory();
     }
 
@@ -155,28 +168,49 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
+        JpaWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            writeBuffer.add(pItem);
+        } else {
+            try {
+                persist(List.of(pItem));
+            } catch (RuntimeException e) {
+                if (e.getCause() instanceof EntityExistsException) {
+                    // there's a UNIQUE constraint in the database, and we tried to write
+                    // a duplicate timestamp. Just ignore
+                    logger.debug("Failed to persist item {} because of duplicate timestamp", name);
+                } else {
+                    logger.error("Error while persisting item! Rolling back if needed.", e);
+                }
+            }
+        }
+
+        logger.debug("Storing item...done");
+    }
+
+    /**
+     * Persists the items in a single transaction.
+     *
+     * @param items the items to persist
+     * @throws RuntimeException if the transaction failed and was rolled back
+     */
+    private void persist(List<JpaPersistentItem> items) {
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
-            logger.debug("Persisting item...");
+            logger.debug("Persisting {} items...", items.size());
             // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
             em.getTransaction().begin();
-            em.persist(pItem);
-            em.getTransaction().commit();
-            logger.debug("Persisting item...done");
-        } catch (Exception e) {
-            if (e.getCause() instanceof EntityExistsException) {
-                // there's a UNIQUE constraint in the database, and we tried to write
-                // a duplicate timestamp. Just ignore
-                logger.debug("Failed to persist item {} because of duplicate timestamp", name);
-            } else {
-                logger.error("Error while persisting item! Rolling back if needed.", e);
+            for (JpaPersistentItem pItem : items) {
+                em.persist(pItem);
             }
-            rollbackIfActive(em, "persisting item " + name);
+            em.getTransaction().commit();
+            logger.debug("Persisting {} items...done", items.size());
+        } catch (RuntimeException e) {
+            rollbackIfActive(em, "persisting " + items.size() + " items");
+            throw e;
         } finally {
             em.close();
         }
-
-        logger.debug("Storing item...done");
     }
 
     @Override
@@ -204,11 +238,54 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             return List.of();
         }
 
+        JpaWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            // make buffered items visible to the query
+            writeBuffer.flush();
+        }
+
+        String name = alias != null ? alias : item.getName();
+        int firstResult = filter.getPageNumber() * filter.getPageSize();
+        int queryPageSize = config.queryPageSize;
+        if (queryPageSize > 0 && filter.getPageSize() > queryPageSize) {
+            logger.debug("Querying in pages of {} rows", queryPageSize);
+            return new JpaPagedQueryResult((after, first, max) -> queryPage(filter, name, after, first, max), item,
+                    firstResult, filter.getPageSize(), queryPageSize);
+        }
+
+        try {
+            List<JpaPersistentItem> result = queryPage(filter, name, null, firstResult, filter.getPageSize());
+            List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
+            logger.debug("Convert to HistoricItem: {}", historicList.size());
+            return historicList;
+        } catch (RuntimeException e) {
+            logger.error("Error while querying database!", e);
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Loads one page of persisted items matching the filter.
+     *
+     * @param filter the filter criteria
+     * @param name the persisted item name
+     * @param after when set, only rows following this row in query order are loaded (keyset pagination)
+     * @param firstResult the offset of the first row
+     * @param maxResults the maximum number of rows
+     * @return the persisted items
+     * @throws RuntimeException if the query fails, the transaction has been rolled back
+     */
+    private List<JpaPersistentItem> queryPage(FilterCriteria filter, String name, @Nullable JpaPersistentItem after,
+            int firstResult, int maxResults) {
         String sortOrder;
+        String keysetOperator;
         if (filter.getOrdering() == Ordering.ASCENDING) {
             sortOrder = "ASC";
+            keysetOperator = ">";
         } else {
             sortOrder = "DESC";
+            keysetOperator = "<";
         }
 
         boolean hasBeginDate = false;
@@ -227,7 +304,15 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         if ((state = filter.getState()) != null) {
             queryString += " AND n.value " + filter.getOperator().getSymbol() + " :state";
         }
+        if (after != null) {
+            queryString += " AND (n.timestamp " + keysetOperator + " :afterTimestamp OR (n.timestamp = :afterTimestamp"
+                    + " AND n.id " + keysetOperator + " :afterId))";
+        }
         queryString += " ORDER BY n.timestamp " + sortOrder;
+        if (config.queryPageSize > 0) {
+            // unique order for keyset pagination
+            queryString += ", n.id " + sortOrder;
+        }
 
         logger.debug("The query: {}", queryString);
 
@@ -238,7 +323,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
             logger.debug("Creating query...");
             Query query = em.createQuery(queryString);
-            query.setParameter("itemName", alias != null ? alias : item.getName());
+            query.setParameter("itemName", name);
             if (hasBeginDate) {
                 query.setParameter("beginDate", Date.from(filter.getBeginDate().toInstant()));
             }
@@ -248,9 +333,13 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             if (state != null) {
                 query.setParameter("state", StateHelper.toString(state));
             }
+            if (after != null) {
+                query.setParameter("afterTimestamp", Date.from(after.getInstant()));
+                query.setParameter("afterId", after.getId());
+            }
 
-            query.setFirstResult(filter.getPageNumber() * filter.getPageSize());
-            query.setMaxResults(filter.getPageSize());
+            query.setFirstResult(firstResult);
+            query.setMaxResults(maxResults);
             logger.debug("Creating query...done");
 
             logger.debug("Retrieving result list...");
@@ -258,20 +347,15 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             List<JpaPersistentItem> result = query.getResultList();
             logger.debug("Retrieving result list...done");
 
-            List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
-            logger.debug("Convert to HistoricItem: {}", historicList.size());
-
             em.getTransaction().commit();
 
-            return historicList;
-        } catch (Exception e) {
-            logger.error("Error while querying database!", e);
+            return result;
+        } catch (RuntimeException e) {
             rollbackIfActive(em, "querying historic items");
+            throw e;
         } finally {
             em.close();
         }
-
-        return List.of();
     }
 
     /**
@@ -298,6 +382,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             logger.info("You are setting openjpa.jdbc.SynchronizeMappings, I hope you know what you're doing!");
             properties.put("openjpa.jdbc.SynchronizeMappings", config.dbSyncMapping);
         }
+        if (config.batchSize > 0) {
+            // let OpenJPA send the INSERTs of a buffered transaction as JDBC batches
+            properties.put("openjpa.jdbc.DBDictionary", "batchLimit=" + config.batchSize);
+        }
 
         EntityManagerFactory factory = Persistence.createEntityManagerFactory(getPersistenceUnitName(), properties);
         logger.debug("Creating EntityManagerFactory...done");
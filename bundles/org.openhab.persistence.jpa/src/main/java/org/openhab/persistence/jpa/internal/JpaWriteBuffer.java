@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.persistence.EntityExistsException;
+
+/**
+ * Collects the entities of {@link JpaPersistenceService#store} so that many of them are persisted in one transaction
+ * instead of one transaction each.
+ *
+ * <p>
+ * A transaction is started as soon as {@code batchSize} entities are collected, or at the latest
+ * {@code batchInterval} after the first entity of the batch. If the transaction fails because an entity duplicates
+ * the timestamp of a stored one, the batch is split in halves that are persisted in transactions of their own, until
+ * only the failing entities remain. A single failing entity thus costs a few transactions per batch, not one per
+ * entity. If the transaction fails for any other reason, for example because the database is unreachable, the batch
+ * is dropped.
+ *
+ * <p>
+ * Entities stored during a transaction are collected for the next one. If ten batches are collected, {@code store}
+ * persists them itself and waits for the running transaction.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JpaWriteBuffer {
+
+    /**
+     * Persists entities in a single transaction.
+     */
+    @FunctionalInterface
+    public interface TransactionWriter {
+        /**
+         * @param items The entities of the transaction.
+         * @throws RuntimeException if the transaction failed and was rolled back.
+         */
+        void persist(List<JpaPersistentItem> items);
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JpaWriteBuffer.class);
+
+    private final int batchSize;
+    private final long batchInterval;
+    private final ScheduledExecutorService scheduler;
+    private final TransactionWriter writer;
+    // held while a transaction runs, so that the batches are persisted in the order they were collected
+    private final Object transactionLock = new Object();
+
+    // the following fields are guarded by this
+    private List<JpaPersistentItem> batch = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> batchJob;
+    private boolean closed;
+
+    public JpaWriteBuffer(int batchSize, long batchInterval, ScheduledExecutorService scheduler,
+            TransactionWriter writer) {
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.scheduler = scheduler;
+        this.writer = writer;
+    }
+
+    /**
+     * Adds an entity to the current batch.
+     */
+    public void add(JpaPersistentItem item) {
+        int size;
+        synchronized (this) {
+            if (closed) {
+                size = -1;
+            } else {
+                batch.add(item);
+                size = batch.size();
+                if (size == 1) {
+                    batchJob = scheduler.schedule(this::flush, batchInterval, TimeUnit.MILLISECONDS);
+                } else if (size == batchSize) {
+                    scheduleNow();
+                }
+            }
+        }
+        if (size < 0) {
+            persist(List.of(item));
+        } else if (size >= batchSize * 10) {
+            // the transactions do not keep up, persist on the calling thread
+            flush();
+        }
+    }
+
+    private void scheduleNow() {
+        ScheduledFuture<?> localBatchJob = batchJob;
+        if (localBatchJob != null) {
+            localBatchJob.cancel(false);
+        }
+        batchJob = scheduler.schedule(this::flush, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Persists the collected entities, in the order they were stored.
+     */
+    public void flush() {
+        synchronized (transactionLock) {
+            List<JpaPersistentItem> items;
+            synchronized (this) {
+                items = batch;
+                batch = new ArrayList<>();
+                ScheduledFuture<?> localBatchJob = batchJob;
+                if (localBatchJob != null) {
+                    localBatchJob.cancel(false);
+                    batchJob = null;
+                }
+            }
+            if (items.isEmpty()) {
+                return;
+            }
+            long timerStart = System.currentTimeMillis();
+            int transactions = persist(items);
+            LOGGER.debug("Persisted {} items with {} transactions in {} ms", items.size(), transactions,
+                    System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    /**
+     * Persists the entities in one transaction, or if that fails because of a duplicate, splits them in halves.
+     *
+     * @return The number of transactions
+     */
+    private int persist(List<JpaPersistentItem> items) {
+        try {
+            writer.persist(items);
+            return 1;
+        } catch (RuntimeException e) {
+            if (!isConstraintViolation(e)) {
+                // splitting would only repeat the failure
+                LOGGER.warn("Failed to persist {} items, dropping them: {}", items.size(), e.getMessage());
+                return 1;
+            }
+            if (items.size() == 1) {
+                // there's a UNIQUE constraint in the database, and we tried to write a duplicate timestamp
+                LOGGER.debug("Failed to persist item {} because of duplicate timestamp", items.getFirst().getName());
+                return 1;
+            }
+            LOGGER.debug("Failed to persist {} items, splitting them: {}", items.size(), e.getMessage());
+            // the entities may have been assigned ids by the failed transaction, persist fresh copies
+            List<JpaPersistentItem> copies = items.stream().map(JpaWriteBuffer::copyOf).toList();
+            int half = copies.size() / 2;
+            return 1 + persist(copies.subList(0, half)) + persist(copies.subList(half, copies.size()));
+        }
+    }
+
+    private static boolean isConstraintViolation(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof EntityExistsException || cause instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JpaPersistentItem copyOf(JpaPersistentItem pItem) {
+        JpaPersistentItem copy = new JpaPersistentItem();
+        copy.setName(pItem.getName());
+        copy.setRealName(pItem.getRealName());
+        copy.setTimestamp(Date.from(pItem.getInstant()));
+        copy.setValue(pItem.getValue());
+        return copy;
+    }
+
+    /**
+     * @return The number of entities waiting to be persisted.
+     */
+    public synchronized int getPendingCount() {
+        return batch.size();
+    }
+
+    /**
+     * Persists the collected entities, so they are written before the entity manager factory is closed. Entities
+     * added afterwards are persisted immediately.
+     */
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+}
@@ -12,12 +12,18 @@
  */
 package org.openhab.persistence.jpa.internal;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,11 +32,15 @@ import org.junit.jupiter.api.Test;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
 import org.osgi.framework.BundleContext;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
 
 /**
  * Tests for {@link JpaPersistenceService}.
@@ -88,11 +98,118 @@ class JpaPersistenceServiceTest {
         verify(entityManager).close();
     }
 
+    @Test
+    void batchedStorePersistsAllItemsInOneTransaction() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityTransaction transaction = mock(EntityTransaction.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.getTransaction()).thenReturn(transaction);
+
+        JpaPersistenceService service = new TestJpaPersistenceService(entityManagerFactory, batchConfig(),
+                mock(ItemRegistry.class));
+        for (int i = 0; i < 3; i++) {
+            service.store(numberItem(i));
+        }
+        verify(entityManager, never()).persist(any());
+
+        service.deactivate();
+
+        verify(entityManager, times(3)).persist(any(JpaPersistentItem.class));
+        verify(transaction).commit();
+        verify(entityManager).close();
+    }
+
+    @Test
+    void failedBatchIsPersistedInHalves() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityTransaction transaction = mock(EntityTransaction.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.getTransaction()).thenReturn(transaction);
+        when(transaction.isActive()).thenReturn(true);
+        org.mockito.Mockito.doThrow(new RuntimeException("duplicate")).doNothing().when(transaction).commit();
+
+        JpaPersistenceService service = new TestJpaPersistenceService(entityManagerFactory, batchConfig(),
+                mock(ItemRegistry.class));
+        for (int i = 0; i < 3; i++) {
+            service.store(numberItem(i));
+        }
+        service.deactivate();
+
+        // the failed batch, then one transaction per half
+        verify(entityManager, times(6)).persist(any(JpaPersistentItem.class));
+        verify(transaction, times(3)).commit();
+        verify(transaction).rollback();
+        verify(entityManager, times(3)).close();
+    }
+
+    @Test
+    void largeQueryIsLoadedInPages() throws Exception {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityTransaction transaction = mock(EntityTransaction.class);
+        Query query = mock(Query.class);
+        ItemRegistry itemRegistry = mock(ItemRegistry.class);
+        Item item = mock(Item.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.getTransaction()).thenReturn(transaction);
+        when(entityManager.createQuery(anyString())).thenReturn(query);
+        when(itemRegistry.getItem("Kitchen_Persons")).thenReturn(item);
+        when(item.getName()).thenReturn("Kitchen_Persons");
+        when(query.getResultList()).thenReturn(rows(0, 2), rows(2, 2), rows(4, 1));
+
+        Map<String, @Nullable Object> config = new HashMap<>(validConfig());
+        config.put("queryPageSize", "2");
+        JpaPersistenceService service = new TestJpaPersistenceService(entityManagerFactory, config, itemRegistry);
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("Kitchen_Persons");
+
+        Iterable<HistoricItem> result = service.query(filter);
+        // nothing is loaded before the result is iterated
+        verify(entityManager, never()).createQuery(anyString());
+
+        List<HistoricItem> historicItems = new ArrayList<>();
+        result.forEach(historicItems::add);
+
+        assertEquals(List.of("0", "1", "2", "3", "4"),
+                historicItems.stream().map(h -> h.getState().toString()).toList());
+        verify(entityManager, times(3)).createQuery(anyString());
+        verify(entityManager, times(2)).createQuery(contains(":afterId"));
+        verify(query, times(3)).setMaxResults(2);
+    }
+
+    private static Item numberItem(int value) {
+        Item item = mock(Item.class);
+        when(item.getName()).thenReturn("Kitchen_Persons");
+        when(item.getState()).thenReturn(new DecimalType(value));
+        return item;
+    }
+
+    private static List<JpaPersistentItem> rows(int first, int count) {
+        List<JpaPersistentItem> rows = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            JpaPersistentItem row = new JpaPersistentItem();
+            row.setId((long) i);
+            row.setName("Kitchen_Persons");
+            row.setRealName("Kitchen_Persons");
+            row.setTimestamp(new Date(i * 1000L));
+            row.setValue(String.valueOf(i));
+            rows.add(row);
+        }
+        return rows;
+    }
+
     private static final class TestJpaPersistenceService extends JpaPersistenceService {
         private final EntityManagerFactory entityManagerFactory;
 
         TestJpaPersistenceService(EntityManagerFactory entityManagerFactory) {
-            super(mock(BundleContext.class), validConfig(), mock(ItemRegistry.class));
+            this(entityManagerFactory, validConfig(), mock(ItemRegistry.class));
+        }
+
+        TestJpaPersistenceService(EntityManagerFactory entityManagerFactory, Map<String, @Nullable Object> config,
+                ItemRegistry itemRegistry) {
+            super(mock(BundleContext.class), config, itemRegistry);
             this.entityManagerFactory = entityManagerFactory;
         }
 
@@ -102,6 +219,14 @@ class JpaPersistenceServiceTest {
         }
     }
 
+    private static Map<String, @Nullable Object> batchConfig() {
+        Map<String, @Nullable Object> config = new HashMap<>(validConfig());
+        config.put("batchSize", "10");
+        // only flushed explicitly by the tests
+        config.put("batchInterval", "3600000");
+        return config;
+    }
+
     private static Map<String, @Nullable Object> validConfig() {
         return Map.of("url", "jdbc:derby:memory:test;create=true", "driver", "org.apache.derby.jdbc.EmbeddedDriver");
     }
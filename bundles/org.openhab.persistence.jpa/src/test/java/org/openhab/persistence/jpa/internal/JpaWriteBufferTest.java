@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Tests for {@link JpaWriteBuffer}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class JpaWriteBufferTest {
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    // the values of each transaction, committed or not
+    private final List<List<String>> transactions = new ArrayList<>();
+    private final List<String> committed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private static JpaPersistentItem item(int value) {
+        JpaPersistentItem item = new JpaPersistentItem();
+        item.setName("Kitchen_Persons");
+        item.setRealName("Kitchen_Persons");
+        item.setTimestamp(new Date(value * 1000L));
+        item.setValue(String.valueOf(value));
+        return item;
+    }
+
+    /**
+     * A writer rolling back every transaction that contains one of the given values.
+     */
+    private JpaWriteBuffer.TransactionWriter rejecting(String... duplicates) {
+        return items -> {
+            List<String> values = items.stream().map(JpaPersistentItem::getValue).toList();
+            transactions.add(values);
+            for (String duplicate : duplicates) {
+                if (values.contains(duplicate)) {
+                    throw new PersistenceException("duplicate", new EntityExistsException());
+                }
+            }
+            committed.addAll(values);
+        };
+    }
+
+    @Test
+    void batchIsPersistedInOneTransaction() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(100, 1000, scheduler, rejecting());
+        for (int i = 0; i < 5; i++) {
+            buffer.add(item(i));
+        }
+        assertEquals(5, buffer.getPendingCount());
+        verify(scheduler).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        buffer.flush();
+
+        assertEquals(List.of(List.of("0", "1", "2", "3", "4")), transactions);
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void fullBatchIsPersistedWithoutWaitingForTheInterval() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(2, 1000, scheduler, rejecting());
+        buffer.add(item(0));
+        buffer.add(item(1));
+
+        verify(scheduler).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void failingItemIsIsolatedByBisection() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(100, 1000, scheduler, rejecting("5"));
+        for (int i = 0; i < 16; i++) {
+            buffer.add(item(i));
+        }
+
+        buffer.flush();
+
+        // 16 -> 8 -> 4 -> 2 -> 1: the failed batch plus two transactions per level instead of 16
+        assertEquals(9, transactions.size());
+        assertEquals(15, committed.size());
+        assertFalse(committed.contains("5"));
+        assertEquals(List.of("0", "1", "2", "3", "4", "6", "7"), committed.subList(0, 7));
+    }
+
+    @Test
+    void failingItemsAreIsolatedInBothHalves() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(100, 1000, scheduler, rejecting("0", "3"));
+        for (int i = 0; i < 4; i++) {
+            buffer.add(item(i));
+        }
+
+        buffer.flush();
+
+        assertEquals(List.of("1", "2"), committed);
+    }
+
+    @Test
+    void batchIsNotSplitIfTheDatabaseFails() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(100, 1000, scheduler, items -> {
+            transactions.add(items.stream().map(JpaPersistentItem::getValue).toList());
+            throw new PersistenceException("connection refused");
+        });
+        for (int i = 0; i < 16; i++) {
+            buffer.add(item(i));
+        }
+
+        buffer.flush();
+
+        assertEquals(1, transactions.size());
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void itemsAddedAfterCloseArePersistedImmediately() {
+        JpaWriteBuffer buffer = new JpaWriteBuffer(100, 1000, scheduler, rejecting());
+        buffer.add(item(0));
+        buffer.close();
+        buffer.add(item(1));
+
+        assertEquals(List.of(List.of("0"), List.of("1")), transactions);
+        assertEquals(0, buffer.getPendingCount());
+    }
+}
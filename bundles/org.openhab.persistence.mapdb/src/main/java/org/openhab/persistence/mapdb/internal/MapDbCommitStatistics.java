@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MapDbCommitStatistics} is a snapshot of the commit counters of the MapDB persistence service.
+ *
+ * @param commitInterval configured seconds between group commits, 0 if each write is committed
+ * @param commitBatchSize configured number of writes that trigger a group commit
+ * @param uncommittedWrites number of writes waiting for the next commit
+ * @param commits number of commits since activation
+ * @param committedWrites number of writes committed since activation
+ * @param failedCommits number of commits that failed
+ * @param commitRate average number of commits per second since activation
+ * @param writesPerCommit average number of writes per commit
+ * @param averageCommitTime average time in milliseconds of a commit
+ * @param maxCommitTime maximum time in milliseconds of a commit
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public record MapDbCommitStatistics(int commitInterval, int commitBatchSize, int uncommittedWrites, long commits,
+        long committedWrites, long failedCommits, double commitRate, double writesPerCommit, double averageCommitTime,
+        double maxCommitTime) {
+}
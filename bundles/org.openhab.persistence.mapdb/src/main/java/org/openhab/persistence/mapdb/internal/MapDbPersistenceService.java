@@ -27,6 +27,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +40,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -52,6 +57,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,12 +72,19 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
-    private static final String SERVICE_ID = "mapdb";
+    public static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final int COMMIT_INTERVAL_DEFAULT = 0;
+    private static final String COMMIT_BATCH_SIZE_CONFIG = "commitBatchSize";
+    private static final int COMMIT_BATCH_SIZE_DEFAULT = 100;
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
@@ -80,9 +93,25 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("org.openhab.mapdb");
     private final AtomicInteger pendingTasks = new AtomicInteger(0);
     private volatile boolean active;
 
+    // seconds between group commits, 0 to commit after each write
+    private volatile int commitInterval = COMMIT_INTERVAL_DEFAULT;
+    private volatile int commitBatchSize = COMMIT_BATCH_SIZE_DEFAULT;
+    private @Nullable ScheduledFuture<?> commitJob;
+
+    // writes that have been put into the map but are not yet committed
+    private final AtomicInteger uncommittedWrites = new AtomicInteger(0);
+    // commit counters, guarded by the lock of this instance
+    private long activationTime = System.nanoTime();
+    private long commits;
+    private long committedWrites;
+    private long failedCommits;
+    private long totalCommitTime;
+    private long maxCommitTime;
+
     /**
      * holds the local instance of the MapDB database
      */
@@ -94,8 +123,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        readConfig(config);
+        resetStatistics();
         active = true;
 
         try {
@@ -145,11 +176,47 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
+                return;
             }
         }
+        scheduleCommitJob();
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        readConfig(config);
+        if (db != null) {
+            scheduleCommitJob();
+            // writes collected so far must not wait for the new interval
+            commit();
+        }
+    }
+
+    private void readConfig(Map<String, Object> config) {
+        commitInterval = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Integer.class, COMMIT_INTERVAL_DEFAULT));
+        commitBatchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(COMMIT_BATCH_SIZE_CONFIG), Integer.class,
+                COMMIT_BATCH_SIZE_DEFAULT));
+        if (commitInterval > 0) {
+            logger.debug("Using group commits every {} s or after {} writes", commitInterval, commitBatchSize);
+        } else {
+            logger.debug("Committing after each write");
+        }
+    }
+
+    private synchronized void scheduleCommitJob() {
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
+        int interval = commitInterval;
+        if (interval > 0) {
+            commitJob = scheduler.scheduleWithFixedDelay(this::commit, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
@@ -167,7 +234,16 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         if (pendingTasks.get() > 0) {
             logger.warn("Timed out waiting for MapDB persistence tasks; {} tasks still pending.", pendingTasks.get());
         }
+        synchronized (this) {
+            ScheduledFuture<?> job = commitJob;
+            if (job != null) {
+                job.cancel(false);
+                commitJob = null;
+            }
+        }
         if (db != null) {
+            // closing the database discards all uncommitted writes
+            commit();
             db.close();
         }
     }
@@ -222,12 +298,14 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 try {
                     String json = serialize(mItem);
                     map.put(localAlias, json);
-                    db.commit();
+                    int uncommitted = uncommittedWrites.incrementAndGet();
+                    if (commitInterval == 0 || uncommitted >= commitBatchSize) {
+                        commit();
+                    }
                     logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
                 } finally {
                     pendingTasks.decrementAndGet();
                 }
-
             });
         } catch (RejectedExecutionException e) {
             logger.warn("Task submission rejected for item '{}': {}", localAlias, e.getMessage());
@@ -259,6 +337,52 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return dbItem;
     }
 
+    /**
+     * Commits all writes that have been put into the map so far. Concurrent callers wait for a running commit, so a
+     * write is durable when this method returns.
+     */
+    private synchronized void commit() {
+        int writes = uncommittedWrites.getAndSet(0);
+        if (writes == 0 || db == null || db.isClosed()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            db.commit();
+        } catch (RuntimeException e) {
+            // the writes are still uncommitted, the next commit includes them
+            uncommittedWrites.addAndGet(writes);
+            failedCommits++;
+            logger.warn("Failed to commit {} writes to MapDB: {}", writes, e.getMessage());
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        commits++;
+        committedWrites += writes;
+        totalCommitTime += duration;
+        maxCommitTime = Math.max(maxCommitTime, duration);
+        logger.trace("Committed {} writes in {} µs", writes, duration / 1000);
+    }
+
+    private synchronized void resetStatistics() {
+        activationTime = System.nanoTime();
+        commits = 0;
+        committedWrites = 0;
+        failedCommits = 0;
+        totalCommitTime = 0;
+        maxCommitTime = 0;
+    }
+
+    /**
+     * @return a snapshot of the commit counters since the service has been activated
+     */
+    public synchronized MapDbCommitStatistics getCommitStatistics() {
+        double uptime = Math.max(1, System.nanoTime() - activationTime) / 1e9;
+        return new MapDbCommitStatistics(commitInterval, commitBatchSize, uncommittedWrites.get(), commits,
+                committedWrites, failedCommits, commits / uptime, commits == 0 ? 0 : (double) committedWrites / commits,
+                commits == 0 ? 0 : totalCommitTime / 1e6 / commits, maxCommitTime / 1e6);
+    }
+
     private String serialize(MapDbItem item) {
         return mapper.toJson(item);
     }
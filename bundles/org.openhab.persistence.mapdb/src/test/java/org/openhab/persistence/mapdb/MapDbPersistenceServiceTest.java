@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistedItem;
+import org.openhab.persistence.mapdb.internal.MapDbCommitStatistics;
 import org.openhab.persistence.mapdb.internal.MapDbPersistenceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +73,7 @@ class MapDbPersistenceServiceTest {
     void setUp() throws Exception {
         // Create service and activate OSGi lifecycle manually for tests
         service = new MapDbPersistenceService();
-        service.activate();
+        service.activate(Map.of());
     }
 
     /**
@@ -149,7 +151,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -185,7 +187,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -226,7 +228,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -267,7 +269,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -293,6 +295,70 @@ class MapDbPersistenceServiceTest {
         logger.debug("Ending queryWithTimeRange with reloadAfterStore={}", reloadAfterStore);
     }
 
+    @Test
+    void groupCommitIsForcedOnDeactivate() throws Exception {
+        configureNumberItem("_GROUP_COMMIT");
+        service.deactivate();
+        // neither the interval nor the batch size will trigger a commit during the test
+        service.activate(Map.of("commitInterval", 3600, "commitBatchSize", 1000));
+
+        service.store(numberItem);
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+
+        long deadline = System.currentTimeMillis() + STORAGE_TIMEOUT_MS;
+        while (service.getCommitStatistics().uncommittedWrites() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        MapDbCommitStatistics statistics = service.getCommitStatistics();
+        assertEquals(1, statistics.uncommittedWrites());
+        assertEquals(0, statistics.commits());
+
+        service.deactivate();
+        service.activate(Map.of());
+
+        PersistedItem persistedItem = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedItem);
+        assertEquals(new DecimalType(42.5), persistedItem.getState());
+    }
+
+    @Test
+    void groupCommitAfterBatchSize() throws Exception {
+        service.deactivate();
+        service.activate(Map.of("commitInterval", 3600, "commitBatchSize", 2));
+
+        configureNumberItem("_BATCH");
+        configureStringItem("_BATCH");
+        service.store(numberItem);
+        service.store(stringItem);
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+        waitForStorage(stringItem.getName(), STORAGE_TIMEOUT_MS);
+
+        long deadline = System.currentTimeMillis() + STORAGE_TIMEOUT_MS;
+        while (service.getCommitStatistics().commits() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        MapDbCommitStatistics statistics = service.getCommitStatistics();
+        assertEquals(1, statistics.commits());
+        assertEquals(2, statistics.committedWrites());
+        assertEquals(0, statistics.uncommittedWrites());
+    }
+
+    @Test
+    void immediateCommitIsCounted() throws Exception {
+        configureSwitchItem("_IMMEDIATE");
+        service.store(switchItem);
+        waitForStorage(switchItem.getName(), STORAGE_TIMEOUT_MS);
+
+        long deadline = System.currentTimeMillis() + STORAGE_TIMEOUT_MS;
+        while (service.getCommitStatistics().commits() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        MapDbCommitStatistics statistics = service.getCommitStatistics();
+        assertEquals(0, statistics.commitInterval());
+        assertEquals(1, statistics.commits());
+        assertEquals(1, statistics.committedWrites());
+    }
+
     @Test
     void serviceIdIsCorrect() throws Exception {
         assertEquals("mapdb", service.getId());
@@ -19,11 +19,14 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -48,10 +51,17 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -67,12 +77,25 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final String BATCH_SIZE_CONFIG = "batchSize";
+    private static final int BATCH_SIZE_DEFAULT = 0;
+    private static final String BATCH_INTERVAL_CONFIG = "batchInterval";
+    private static final long BATCH_INTERVAL_DEFAULT = 1000;
+    private static final String TIME_SERIES_CONFIG = "timeSeries";
+    private static final String TIME_SERIES_GRANULARITY_CONFIG = "timeSeriesGranularity";
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private boolean timeSeries;
+    private TimeSeriesGranularity timeSeriesGranularity = TimeSeriesGranularity.SECONDS;
+
+    // collections that have already been created and indexed on the current connection
+    private final Map<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+    private @Nullable MongoDBWriteBuffer writeBuffer;
 
     private boolean initialized = false;
 
@@ -111,6 +134,25 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        timeSeries = ConfigParser.valueAsOrElse(config.get(TIME_SERIES_CONFIG), Boolean.class, false);
+        String granularity = ConfigParser.valueAsOrElse(config.get(TIME_SERIES_GRANULARITY_CONFIG), String.class,
+                TimeSeriesGranularity.SECONDS.name());
+        try {
+            timeSeriesGranularity = TimeSeriesGranularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid time series granularity '{}', using 'seconds'", granularity);
+            timeSeriesGranularity = TimeSeriesGranularity.SECONDS;
+        }
+
+        int batchSize = ConfigParser.valueAsOrElse(config.get(BATCH_SIZE_CONFIG), Integer.class, BATCH_SIZE_DEFAULT);
+        long batchInterval = ConfigParser.valueAsOrElse(config.get(BATCH_INTERVAL_CONFIG), Long.class,
+                BATCH_INTERVAL_DEFAULT);
+        if (batchSize > 1) {
+            logger.debug("MongoDB bulk writes of up to {} documents every {} ms", batchSize, batchInterval);
+            writeBuffer = new MongoDBWriteBuffer(batchSize, Math.max(100, batchInterval),
+                    ThreadPoolManager.getScheduledPool("org.openhab.mongodb"), this::insertMany);
+        }
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
@@ -121,6 +163,11 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.close();
+            writeBuffer = null;
+        }
         disconnectFromDatabase();
     }
 
@@ -204,6 +251,10 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
      * @return The collection object when collection creation was successful. Null otherwise.
      */
     private @Nullable MongoCollection<Document> connectToCollection(String collectionName) {
+        MongoCollection<Document> cachedCollection = collections.get(collectionName);
+        if (cachedCollection != null) {
+            return cachedCollection;
+        }
         try {
             @Nullable
             MongoClient db = getDatabase();
@@ -213,12 +264,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
+            MongoDatabase database = db.getDatabase(this.db);
+            if (timeSeries) {
+                createTimeSeriesCollection(database, collectionName);
+            }
+            MongoCollection<Document> mongoCollection = database.getCollection(collectionName);
 
             Document idx = new Document();
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            collections.put(collectionName, mongoCollection);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -226,6 +282,52 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
     }
 
+    /**
+     * Creates a time series collection with the timestamp as time field and the item name as meta field, so the
+     * documents are stored in buckets per item and time range. Existing collections are used as they are.
+     */
+    void createTimeSeriesCollection(MongoDatabase database, String collectionName) {
+        for (String name : database.listCollectionNames()) {
+            if (name.equals(collectionName)) {
+                return;
+            }
+        }
+        try {
+            TimeSeriesOptions options = new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP)
+                    .metaField(MongoDBFields.FIELD_ITEM).granularity(timeSeriesGranularity);
+            database.createCollection(collectionName, new CreateCollectionOptions().timeSeriesOptions(options));
+            logger.debug("Created time series collection {}", collectionName);
+        } catch (MongoException e) {
+            // time series collections need MongoDB 5.0 or newer
+            logger.warn("Failed to create time series collection {}, using a regular collection: {}", collectionName,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Writes documents with an unordered bulk insert, so documents failing to insert do not prevent the others from
+     * being written.
+     */
+    private void insertMany(String collectionName, List<Document> documents) {
+        if (!tryConnectToDatabase()) {
+            logger.warn("mongodb: No connection to database. Cannot persist {} documents to collection {}!",
+                    documents.size(), collectionName);
+            return;
+        }
+        MongoCollection<Document> collection = connectToCollection(collectionName);
+        if (collection == null) {
+            // Logging is done in connectToCollection()
+            return;
+        }
+        try {
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+            logger.debug("MongoDB saved {} documents to collection {}", documents.size(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            logger.warn("{} of {} documents could not be written to collection {}: {}", e.getWriteErrors().size(),
+                    documents.size(), collectionName, e.getWriteErrors().getFirst().getMessage());
+        }
+    }
+
     /**
      * Disconnects from the database
      */
@@ -236,6 +338,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        collections.clear();
     }
 
     @Override
@@ -245,6 +348,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        flushWriteBuffer();
         String realItemName = filter.getItemName();
         if (alias != null) {
             filter.setItemName(alias);
@@ -344,6 +448,18 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            // the connection is checked once per bulk write
+            buffer.add(collectionName, createDocument(item, date, state, name));
+            logger.debug("MongoDB queued {}", name);
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -353,10 +469,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -365,24 +477,38 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
+        Document obj = createDocument(item, date, state, name);
+        Object value = obj.get(MongoDBFields.FIELD_VALUE);
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        }
+        logger.debug("MongoDB save {}={}", name, value);
+    }
 
+    private Document createDocument(Item item, Date date, State state, String name) {
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
+        obj.put(MongoDBFields.FIELD_VALUE, MongoDBTypeConversions.convertValue(state));
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
+        return obj;
+    }
+
+    /**
+     * Writes all buffered documents, so queries and removals see all values stored before.
+     */
+    private void flushWriteBuffer() {
+        MongoDBWriteBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.flush();
         }
-        logger.debug("MongoDB save {}={}", name, value);
     }
 
     @Nullable
@@ -465,6 +591,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        flushWriteBuffer();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
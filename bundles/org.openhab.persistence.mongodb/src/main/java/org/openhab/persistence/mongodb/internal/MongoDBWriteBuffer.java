@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link MongoDBWriteBuffer} collects documents to be persisted and writes them with one bulk insert per
+ * collection.
+ *
+ * A flush is triggered when {@code batchSize} documents are pending or when the flush interval has elapsed. If the
+ * queue is full, the caller flushes it before its document is queued.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBWriteBuffer {
+
+    /**
+     * Writes all pending documents of one collection.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        void write(String collectionName, List<Document> documents);
+    }
+
+    private record PendingDocument(String collectionName, Document document) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBWriteBuffer.class);
+
+    private final BlockingQueue<PendingDocument> queue;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final BatchWriter batchWriter;
+    private final ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+
+    public MongoDBWriteBuffer(int batchSize, long flushInterval, ScheduledExecutorService scheduler,
+            BatchWriter batchWriter) {
+        // leave room for the documents arriving while a flush is running
+        this.queue = new ArrayBlockingQueue<>(batchSize * 10);
+        this.batchSize = batchSize;
+        this.scheduler = scheduler;
+        this.batchWriter = batchWriter;
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a document to the queue.
+     */
+    public void add(String collectionName, Document document) {
+        PendingDocument pending = new PendingDocument(collectionName, document);
+        while (!queue.offer(pending)) {
+            flush();
+        }
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes all pending documents, one bulk insert per collection. The order of the documents of a collection is
+     * kept.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            List<PendingDocument> pending = new ArrayList<>(queue.size());
+            queue.drainTo(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+            long timerStart = System.currentTimeMillis();
+
+            Map<String, List<Document>> documentsByCollection = new LinkedHashMap<>();
+            for (PendingDocument document : pending) {
+                documentsByCollection.computeIfAbsent(document.collectionName(), k -> new ArrayList<>())
+                        .add(document.document());
+            }
+            documentsByCollection.forEach((collectionName, documents) -> {
+                try {
+                    batchWriter.write(collectionName, documents);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to write {} documents to collection {}: {}", documents.size(), collectionName,
+                            e.getMessage());
+                }
+            });
+            logger.debug("Wrote {} documents into {} collections in {} ms", pending.size(),
+                    documentsByCollection.size(), System.currentTimeMillis() - timerStart);
+        }
+    }
+
+    /**
+     * @return the number of documents waiting to be written
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stops the periodic flush and writes all documents still pending.
+     */
+    public void close() {
+        flushJob.cancel(false);
+        flush();
+    }
+}
@@ -33,6 +33,7 @@ import org.eclipse.jdt.annotation.NonNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.ItemNotFoundException;
@@ -53,6 +54,9 @@ import org.osgi.framework.BundleContext;
 
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -1033,4 +1037,121 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /*
+     * Test that buffered values are written with bulk writes before a query and on deactivation
+     */
+    @Test
+    public void testStoreWithBulkWrites() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            // neither the batch size nor the interval will trigger a write during the test
+            setupResult.config.put("batchSize", 100);
+            setupResult.config.put("batchInterval", 3600000);
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            NumberItem item = DataCreationHelper.createNumberItem("TestItem", 10.1);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(item);
+            } catch (ItemNotFoundException e) {
+            }
+
+            // Execution
+            service.store(item, null);
+            service.store(DataCreationHelper.createNumberItem("TestItemOther", 20.2), null);
+
+            // Verification
+            MongoCollection<Document> collection = database.getCollection("testcollection");
+            assertEquals(0, collection.countDocuments()); // Nothing written yet
+
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+            VerificationHelper.verifyQueryResult(result, new DecimalType(10.1));
+            assertEquals(2, collection.countDocuments()); // The query has written all pending values
+
+            service.store(DataCreationHelper.createNumberItem("TestItem", 30.3), null);
+            service.deactivate(1);
+            assertEquals(3, collection.countDocuments()); // Pending values are written on deactivation
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that values are stored and the collection is indexed when time series collections are enabled
+     */
+    @Test
+    public void testStoreToTimeSeriesCollection() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("timeSeries", true);
+            setupResult.config.put("timeSeriesGranularity", "minutes");
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Execution
+            service.store(DataCreationHelper.createNumberItem("TestItem", 10.1), null);
+            service.store(DataCreationHelper.createNumberItem("TestItem", 20.2), null);
+
+            // Verification
+            assertTrue(database.listCollectionNames().into(new ArrayList<>()).contains("testcollection"));
+            MongoCollection<Document> collection = database.getCollection("testcollection");
+            assertEquals(2, collection.countDocuments());
+            assertTrue(collection.listIndexes().into(new ArrayList<>()).stream()
+                    .anyMatch(index -> new Document(MongoDBFields.FIELD_ITEM, 1)
+                            .append(MongoDBFields.FIELD_TIMESTAMP, 1).equals(index.get("key"))));
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that a missing collection is created as time series collection with the timestamp as time field and the
+     * item as meta field. The in-memory backend has no time series collections, so the options passed to the driver
+     * are verified.
+     */
+    @Test
+    public void testCreateTimeSeriesCollection() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            setupResult.config.put("timeSeries", true);
+            setupResult.config.put("timeSeriesGranularity", "minutes");
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            MongoDatabase database = Mockito.spy(setupResult.database);
+            Mockito.doNothing().when(database).createCollection(Mockito.anyString(),
+                    Mockito.any(CreateCollectionOptions.class));
+            setupResult.database.createCollection("existingcollection");
+
+            // Execution
+            service.createTimeSeriesCollection(database, "testcollection");
+            service.createTimeSeriesCollection(database, "existingcollection");
+
+            // Verification
+            ArgumentCaptor<CreateCollectionOptions> captor = ArgumentCaptor.forClass(CreateCollectionOptions.class);
+            Mockito.verify(database).createCollection(Mockito.eq("testcollection"), captor.capture());
+            TimeSeriesOptions options = captor.getValue().getTimeSeriesOptions();
+            assertNotNull(options);
+            assertEquals(MongoDBFields.FIELD_TIMESTAMP, options.getTimeField());
+            assertEquals(MongoDBFields.FIELD_ITEM, options.getMetaField());
+            assertEquals(TimeSeriesGranularity.MINUTES, options.getGranularity());
+            // Existing collections are used as they are
+            Mockito.verify(database, Mockito.never()).createCollection(Mockito.eq("existingcollection"),
+                    Mockito.any(CreateCollectionOptions.class));
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
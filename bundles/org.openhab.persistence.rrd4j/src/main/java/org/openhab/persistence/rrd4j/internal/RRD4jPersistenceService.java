@@ -25,15 +25,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -83,11 +79,13 @@ import org.rrd4j.DsType;
 import org.rrd4j.core.Archive;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
-import org.rrd4j.core.Sample;
+import org.rrd4j.core.RrdNioBackendFactory;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -107,15 +105,6 @@ import org.slf4j.LoggerFactory;
                 + "=org.openhab.rrd4j")
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
-    private record Key(long timestamp, String name) implements Comparable<Key> {
-        @Override
-        public int compareTo(Key other) {
-            int c = Long.compare(timestamp, other.timestamp);
-
-            return (c == 0) ? Objects.compare(name, other.name, String::compareTo) : c;
-        }
-    }
-
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -125,19 +114,35 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Set<String> SUPPORTED_TYPES = Set.of(CoreItemFactory.SWITCH, CoreItemFactory.CONTACT,
             CoreItemFactory.DIMMER, CoreItemFactory.NUMBER, CoreItemFactory.ROLLERSHUTTER, CoreItemFactory.COLOR);
 
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
-            new NamedThreadFactory("RRD4j"));
+    private static final String CONFIG_WRITER_THREADS = "writerThreads";
+    private static final String CONFIG_OPEN_FILES = "openFiles";
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_SYNC_PERIOD = "syncPeriod";
+    private static final Set<String> SERVICE_CONFIG_KEYS = Set.of(CONFIG_WRITER_THREADS, CONFIG_OPEN_FILES,
+            CONFIG_BACKEND, CONFIG_SYNC_PERIOD);
+    private static final int DEFAULT_WRITER_THREADS = Math.min(4, Runtime.getRuntime().availableProcessors());
+    private static final int DEFAULT_OPEN_FILES = 100;
+    private static final String BACKEND_NIO = "nio";
+    private static final String BACKEND_FILE = "file";
 
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
-    private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
+    private volatile RRD4jWriterShard[] shards = new RRD4jWriterShard[0];
+    private int writerThreads;
+    private int openFiles;
+    private final ScheduledExecutorService syncScheduler = Executors
+            .newSingleThreadScheduledExecutor(new NamedThreadFactory("RRD4j-sync"));
+    private String backend = "";
+    private int syncPeriod;
 
-    private static final String DATASOURCE_STATE = "state";
+    static final String DATASOURCE_STATE = "state";
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    private volatile RrdBackendFactory backendFactory = RrdBackendFactory.getDefaultFactory();
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
@@ -150,12 +155,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
-    private final ScheduledFuture<?> storeJob;
-
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
-        storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
     }
@@ -204,6 +206,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        configureBackend(config.getOrDefault(CONFIG_BACKEND, BACKEND_NIO).toString().trim().toLowerCase(),
+                getIntConfig(config, CONFIG_SYNC_PERIOD, RrdNioBackendFactory.DEFAULT_SYNC_PERIOD, 1));
+        configureWriters(getIntConfig(config, CONFIG_WRITER_THREADS, DEFAULT_WRITER_THREADS, 1),
+                getIntConfig(config, CONFIG_OPEN_FILES, DEFAULT_OPEN_FILES, 0));
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -213,8 +220,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || SERVICE_CONFIG_KEYS.contains(key)) {
+                // ignore service.pid and name, service settings have already been processed
                 continue;
             }
 
@@ -268,13 +275,92 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue, int minValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(minValue, Integer.parseInt(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring illegal configuration {} = {}, using {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Selects the backend used to access the database files. Databases which are already open keep their backend until
+     * they are closed.
+     */
+    private synchronized void configureBackend(String backend, int syncPeriod) {
+        if (!BACKEND_FILE.equals(backend) && !BACKEND_NIO.equals(backend)) {
+            logger.warn("Ignoring unknown backend '{}', using '{}'", backend, BACKEND_NIO);
+            backend = BACKEND_NIO;
+        }
+        if (backend.equals(this.backend) && (BACKEND_FILE.equals(backend) || syncPeriod == this.syncPeriod)) {
+            return;
+        }
+        this.backend = backend;
+        this.syncPeriod = syncPeriod;
+        if (BACKEND_FILE.equals(backend)) {
+            backendFactory = new RrdRandomAccessFileBackendFactory();
+        } else {
+            // memory mapped files, modified pages are written back to disk every syncPeriod seconds and on close
+            backendFactory = new RrdNioBackendFactory(syncPeriod, syncScheduler);
+        }
+        logger.debug("Using {} backend for rrd4j databases", backend);
+    }
+
+    /**
+     * (Re-)creates the writer shards if the number of writer threads or open files has changed. Samples pending in the
+     * previous shards are written before the method returns.
+     */
+    private synchronized void configureWriters(int writerThreads, int openFiles) {
+        RRD4jWriterShard[] oldShards = shards;
+        if (oldShards.length == writerThreads && this.openFiles == openFiles) {
+            return;
+        }
+        this.writerThreads = writerThreads;
+        this.openFiles = openFiles;
+
+        // the writers keep files open, make sure the pool still has room for queries and charts
+        if (DATABASE_POOL.getCapacity() < openFiles + RrdDbPool.INITIAL_CAPACITY) {
+            DATABASE_POOL.setCapacity(openFiles + RrdDbPool.INITIAL_CAPACITY);
+        }
+        int openFilesPerShard = (openFiles + writerThreads - 1) / writerThreads;
+        RRD4jWriterShard[] newShards = new RRD4jWriterShard[writerThreads];
+        for (int i = 0; i < writerThreads; i++) {
+            newShards[i] = new RRD4jWriterShard(this, i, openFilesPerShard);
+        }
+        shards = newShards;
+        logger.debug("Using {} writer thread(s) keeping up to {} file(s) open", writerThreads, openFiles);
+
+        closeShards(oldShards);
+    }
+
+    private void closeShards(RRD4jWriterShard[] shards) {
+        for (RRD4jWriterShard shard : shards) {
+            shard.shutdown();
+        }
+        for (RRD4jWriterShard shard : shards) {
+            shard.awaitTermination();
+        }
+    }
+
+    private RRD4jWriterShard getShard(String name) {
+        RRD4jWriterShard[] shards = this.shards;
+        return shards[Math.floorMod(name.hashCode(), shards.length)];
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
-        storeJob.cancel(false);
 
         // make sure we really store everything
-        doStore(true);
+        closeShards(shards);
+
+        backendFactory = RrdBackendFactory.getDefaultFactory();
+        syncScheduler.shutdown();
     }
 
     @Override
@@ -332,79 +418,56 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
 
         long now = System.currentTimeMillis() / 1000;
-        Double oldValue = storageMap.put(new Key(now, name), value);
-        if (oldValue != null && !oldValue.equals(value)) {
-            logger.debug(
-                    "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
-                    oldValue, item.getName(), now, value);
-        }
+        getShard(name).add(name, value, now, item.getName());
     }
 
-    private void doStore(boolean force) {
-        long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
-                return;
-            }
-        }
+    /**
+     * Closes a database if it is kept open by a writer, e.g. before the database file is deleted.
+     *
+     * @param name the name of the database, i.e. the item name or alias
+     */
+    public void releaseDatabase(String name) {
+        getShard(name).release(name);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
-        }
-
-        ConsolFun function = getConsolidationFunction(db);
-        if (function != ConsolFun.AVERAGE) {
-            try {
-                // we store the last value again, so that the value change
-                // in the database is not interpolated, but
-                // happens right at this spot
-                if (timestamp - 1 > db.getLastUpdateTime()) {
-                    // only do it if there is not already a value
-                    double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                    if (!Double.isNaN(lastValue) && lastValue != value) {
-                        Sample sample = db.createSample(timestamp - 1);
-                        sample.setValue(DATASOURCE_STATE, lastValue);
-                        sample.update();
-                        logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database (again)", name,
-                                lastValue, timestamp - 1);
-                    }
-                }
-            } catch (IOException e) {
-                logger.debug("Error storing last value (again) for {}: {}", e.getMessage(), name);
+    /**
+     * Returns the current counters of the writers.
+     *
+     * @return a snapshot of the writer statistics
+     */
+    public RRD4jWriterStatistics getWriterStatistics() {
+        RRD4jWriterShard[] shards = this.shards;
+        long now = System.currentTimeMillis() / 1000;
+        int openDatabases = 0;
+        long backlog = 0;
+        long oldestPending = 0;
+        long stored = 0;
+        long failed = 0;
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        long totalWriteNanos = 0;
+        long maxWriteNanos = 0;
+        for (RRD4jWriterShard shard : shards) {
+            openDatabases += shard.getOpenDatabaseCount();
+            backlog += shard.getBacklog();
+            long pending = shard.getOldestPendingTimestamp();
+            if (pending > 0 && (oldestPending == 0 || pending < oldestPending)) {
+                oldestPending = pending;
             }
+            stored += shard.getStoredCount();
+            failed += shard.getFailedCount();
+            hits += shard.getHitCount();
+            misses += shard.getMissCount();
+            evictions += shard.getEvictedCount();
+            totalWriteNanos += shard.getTotalWriteNanos();
+            maxWriteNanos = Math.max(maxWriteNanos, shard.getMaxWriteNanos());
         }
-        try {
-            Sample sample = db.createSample(timestamp);
-            double storeValue = value;
-            if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) {
-                // counter values must be adjusted by stepsize
-                storeValue = value * db.getHeader().getStep();
-            }
-            sample.setValue(DATASOURCE_STATE, storeValue);
-            sample.update();
-            logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
-        } catch (Exception e) {
-            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
-        }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+        long writes = stored + failed;
+        double averageWriteTime = writes == 0 ? 0 : totalWriteNanos / 1e6 / writes;
+        return new RRD4jWriterStatistics(shards.length, openDatabases, backlog,
+                oldestPending == 0 ? 0 : Math.max(0, now - oldestPending), stored, failed, hits, misses, evictions,
+                averageWriteTime, maxWriteNanos / 1e6);
     }
 
     @Override
@@ -700,6 +763,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
+            builder.setBackendFactory(backendFactory);
 
             if (Files.exists(path)) {
                 // recreate the RrdDb instance from the file
@@ -777,6 +841,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     public ConsolFun getConsolidationFunction(RrdDb db) {
+        return consolidationFunction(db);
+    }
+
+    private static ConsolFun consolidationFunction(RrdDb db) {
         try {
             return db.getArchive(0).getConsolFun();
         } catch (IOException e) {
@@ -784,6 +852,35 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Fetches the values of a database, e.g. for a series of a chart. The database is read through the shared pool, so
+     * a database kept open by the writers is reused.
+     *
+     * @param name the name of the database, i.e. the item name or alias
+     * @param start start of the time range in seconds
+     * @param end end of the time range in seconds
+     * @param resolution the requested resolution in seconds, used to select the matching archive
+     * @return the fetched data, or <code>null</code> if the database does not exist or cannot be read
+     */
+    public @Nullable FetchData fetch(String name, long start, long end, long resolution) {
+        Path path = getDatabasePath(name);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            RrdDb db = RrdDb.getBuilder().setPool(DATABASE_POOL).setBackendFactory(backendFactory)
+                    .setPath(path.toString()).build();
+            try {
+                return db.createFetchRequest(consolidationFunction(db), start, end, resolution).fetchData();
+            } finally {
+                db.close();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.debug("Could not fetch data of '{}': {}", name, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Get the state Mapper for a given item
      *
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.Sample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jWriterShard} buffers and writes the samples of a subset of the rrd4j databases.
+ *
+ * Each shard has its own writer thread, so different database files are written in parallel, while all samples of one
+ * database are always written by the same thread and in timestamp order. The most recently written databases are kept
+ * open and are only released when they are evicted from the shard's LRU cache.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jWriterShard {
+
+    private record Key(long timestamp, String name) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int c = Long.compare(timestamp, other.timestamp);
+
+            return (c == 0) ? Objects.compare(name, other.name, String::compareTo) : c;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jWriterShard.class);
+
+    private final RRD4jPersistenceService service;
+    private final int maxOpenDatabases;
+    private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
+    private final AtomicInteger backlog = new AtomicInteger();
+    private final ScheduledExecutorService executor;
+    private final ScheduledFuture<?> storeJob;
+
+    // only accessed from the writer thread of this shard
+    private final LinkedHashMap<String, RrdDb> openDatabases = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, RrdDb> eldest) {
+            if (eldest != null && size() > maxOpenDatabases) {
+                evictedCount.incrementAndGet();
+                closeDatabase(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private volatile long maxWriteNanos;
+    // size of openDatabases, written by the writer thread and read by the statistics
+    private volatile int openDatabaseCount;
+
+    RRD4jWriterShard(RRD4jPersistenceService service, int index, int maxOpenDatabases) {
+        this.service = service;
+        this.maxOpenDatabases = maxOpenDatabases;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("RRD4j-writer-" + index));
+        this.storeJob = executor.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Adds a sample to the backlog of this shard. A sample for the same database and timestamp replaces the pending
+     * one.
+     */
+    void add(String name, double value, long timestamp, String itemName) {
+        Double oldValue = storageMap.put(new Key(timestamp, name), value);
+        if (oldValue == null) {
+            backlog.incrementAndGet();
+        } else if (!oldValue.equals(value)) {
+            logger.debug(
+                    "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
+                    oldValue, itemName, timestamp, value);
+        }
+    }
+
+    private void doStore(boolean force) {
+        long now = System.currentTimeMillis() / 1000;
+        while (!storageMap.isEmpty()) {
+            Key key = storageMap.firstKey();
+            if (now > key.timestamp || force) {
+                // no new elements can be added for this timestamp because we are already past that time or the service
+                // requires forced storing
+                Double value = storageMap.pollFirstEntry().getValue();
+                backlog.decrementAndGet();
+                writePointToDatabase(key.name, value, key.timestamp);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void writePointToDatabase(String name, double value, long timestamp) {
+        long start = System.nanoTime();
+        RrdDb db = getDatabase(name);
+        if (db == null) {
+            failedCount.incrementAndGet();
+            return;
+        }
+
+        ConsolFun function = service.getConsolidationFunction(db);
+        if (function != ConsolFun.AVERAGE) {
+            try {
+                // we store the last value again, so that the value change
+                // in the database is not interpolated, but
+                // happens right at this spot
+                if (timestamp - 1 > db.getLastUpdateTime()) {
+                    // only do it if there is not already a value
+                    double lastValue = db.getLastDatasourceValue(RRD4jPersistenceService.DATASOURCE_STATE);
+                    if (!Double.isNaN(lastValue) && lastValue != value) {
+                        Sample sample = db.createSample(timestamp - 1);
+                        sample.setValue(RRD4jPersistenceService.DATASOURCE_STATE, lastValue);
+                        sample.update();
+                        logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database (again)", name,
+                                lastValue, timestamp - 1);
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("Error storing last value (again) for {}: {}", e.getMessage(), name);
+            }
+        }
+        try {
+            Sample sample = db.createSample(timestamp);
+            double storeValue = value;
+            if (db.getDatasource(RRD4jPersistenceService.DATASOURCE_STATE).getType() == DsType.COUNTER) {
+                // counter values must be adjusted by stepsize
+                storeValue = value * db.getHeader().getStep();
+            }
+            sample.setValue(RRD4jPersistenceService.DATASOURCE_STATE, storeValue);
+            sample.update();
+            storedCount.incrementAndGet();
+            logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            // the handle might be broken, make sure it is opened again for the next sample
+            if (openDatabases.remove(name) == db) {
+                openDatabaseCount = openDatabases.size();
+                closeDatabase(db);
+            }
+        }
+        if (maxOpenDatabases == 0) {
+            closeDatabase(db);
+        }
+
+        long writeNanos = System.nanoTime() - start;
+        totalWriteNanos.addAndGet(writeNanos);
+        if (writeNanos > maxWriteNanos) {
+            maxWriteNanos = writeNanos;
+        }
+    }
+
+    private @Nullable RrdDb getDatabase(String name) {
+        RrdDb db = openDatabases.get(name);
+        if (db != null && !db.isClosed()) {
+            hitCount.incrementAndGet();
+            return db;
+        }
+        missCount.incrementAndGet();
+        try {
+            db = service.getDB(name, true);
+        } catch (Exception e) {
+            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            db = null;
+        }
+        if (db != null && maxOpenDatabases > 0) {
+            openDatabases.put(name, db);
+        } else {
+            openDatabases.remove(name);
+        }
+        openDatabaseCount = openDatabases.size();
+        return db;
+    }
+
+    private void closeDatabase(RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+        }
+    }
+
+    private void closeDatabases() {
+        List<RrdDb> databases = new ArrayList<>(openDatabases.values());
+        openDatabases.clear();
+        openDatabaseCount = 0;
+        databases.forEach(this::closeDatabase);
+    }
+
+    /**
+     * Closes the handle of the given database, so that the file is no longer in use by this shard. Blocks until the
+     * writer thread has processed the request.
+     */
+    void release(String name) {
+        try {
+            executor.submit(() -> {
+                RrdDb db = openDatabases.remove(name);
+                if (db != null) {
+                    openDatabaseCount = openDatabases.size();
+                    closeDatabase(db);
+                }
+            }).get(10, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // shard is already closed, no handles left
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.debug("Failed to release rrd4j database '{}': {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the periodic store, writes all pending samples and closes all open databases. Use
+     * {@link #awaitTermination()} to wait for completion.
+     */
+    void shutdown() {
+        storeJob.cancel(false);
+        try {
+            executor.execute(() -> {
+                // make sure we really store everything
+                doStore(true);
+                closeDatabases();
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("rrd4j writer already shut down");
+        }
+        executor.shutdown();
+    }
+
+    void awaitTermination() {
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Timeout while waiting for rrd4j writer to store {} pending values", backlog.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * @return the timestamp in seconds of the oldest pending sample or 0 if there is no pending sample
+     */
+    long getOldestPendingTimestamp() {
+        Map.Entry<Key, Double> first = storageMap.firstEntry();
+        return first == null ? 0 : first.getKey().timestamp;
+    }
+
+    int getOpenDatabaseCount() {
+        return openDatabaseCount;
+    }
+
+    long getStoredCount() {
+        return storedCount.get();
+    }
+
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    long getTotalWriteNanos() {
+        return totalWriteNanos.get();
+    }
+
+    long getMaxWriteNanos() {
+        return maxWriteNanos;
+    }
+}
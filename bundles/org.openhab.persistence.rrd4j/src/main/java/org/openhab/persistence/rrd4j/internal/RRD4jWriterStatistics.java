@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RRD4jWriterStatistics} is a snapshot of the counters of all writer shards.
+ *
+ * @param writers number of writer threads
+ * @param openDatabases number of databases currently kept open by the writers
+ * @param backlog number of samples waiting to be written
+ * @param oldestPendingAge age in seconds of the oldest sample waiting to be written
+ * @param stored number of samples written
+ * @param failed number of samples that could not be written
+ * @param hits number of writes that used an already open database
+ * @param misses number of writes that had to open the database
+ * @param evictions number of databases closed to make room for others
+ * @param averageWriteTime average time in milliseconds to write a sample
+ * @param maxWriteTime maximum time in milliseconds to write a sample
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public record RRD4jWriterStatistics(int writers, int openDatabases, long backlog, long oldestPendingAge, long stored,
+        long failed, long hits, long misses, long evictions, double averageWriteTime, double maxWriteTime) {
+}
@@ -14,11 +14,14 @@ package org.openhab.persistence.rrd4j.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
@@ -37,6 +40,7 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistedItem;
+import org.rrd4j.core.FetchData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -289,6 +293,41 @@ class RRD4jPersistenceServiceTest {
         assertEquals(new DecimalType(42.5), item.getState());
     }
 
+    @Test
+    void writerStatisticsReflectStoredValues() throws Exception {
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of("writerThreads", "2", "openFiles", "10"));
+        configureNumberItem("_STATS");
+
+        service.store(numberItem);
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+
+        RRD4jWriterStatistics statistics = service.getWriterStatistics();
+        assertEquals(2, statistics.writers());
+        assertEquals(0, statistics.backlog());
+        assertEquals(1, statistics.stored());
+        assertEquals(1, statistics.openDatabases());
+        assertEquals(1, statistics.misses());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "file", "nio" })
+    void fetchReturnsDataOfExistingDatabasesOnly(String backend) throws Exception {
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of("backend", backend));
+        configureNumberItem("_FETCH_" + backend);
+
+        service.store(numberItem);
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+
+        long end = System.currentTimeMillis() / 1000;
+        FetchData data = service.fetch(numberItem.getName(), end - 3600, end, 10);
+        assertNotNull(data);
+        assertTrue(Arrays.stream(data.getValues("state")).anyMatch(value -> value == 42.5));
+        assertNotNull(service.fetch("KnownNumber", end - 3600, end, 10));
+        assertNull(service.fetch("DoesNotExist", end - 3600, end, 10));
+    }
+
     @Test
     void checkRddFormatCompatibility() throws Exception {
         PersistedItem persistedItem = service.persistedItem("KnownNumber", null);
@@ -30,6 +30,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriterStatistics;
 
 /**
  * Tests for {@link RRD4jCommandExtension}.
@@ -72,6 +73,26 @@ class RRD4jCommandExtensionTest {
         order.verify(console).println("2 files found.");
     }
 
+    @Test
+    void statsCommandPrintsWriterStatistics() {
+        when(persistenceServiceRegistry.getAll()).thenReturn(Set.<PersistenceService> of(persistenceService));
+        when(persistenceService.getWriterStatistics())
+                .thenReturn(new RRD4jWriterStatistics(4, 12, 3, 1, 100, 2, 90, 12, 5, 0.25, 4.5));
+
+        RRD4jCommandExtension extension = new RRD4jCommandExtension(persistenceServiceRegistry, itemRegistry,
+                persistenceServiceConfigurationRegistry);
+
+        extension.execute(new String[] { "stats" }, console);
+
+        InOrder order = inOrder(console);
+        order.verify(console).println("Writer threads: 4");
+        order.verify(console).println("Open RRD files: 12");
+        order.verify(console).println("Pending values: 3 (oldest 1 s)");
+        order.verify(console).println("Stored values: 100, failed: 2");
+        order.verify(console).println("Open file hits: 90, misses: 12, evictions: 5");
+        order.verify(console).println("Write time: average 0.250 ms, max 4.500 ms");
+    }
+
     @Test
     void missingServicePrintsWarning() {
         when(persistenceServiceRegistry.getAll()).thenReturn(Set.of());
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.persistence.FilterCriteria;
+
+/**
+ * Continuous aggregates maintained on top of the {@code items} hypertable.
+ *
+ * <p>
+ * Each aggregate stores the average numeric value per item and time bucket. Long-range queries of numeric items are
+ * answered from the coarsest aggregate that still fits the requested range, see {@link #forQuery}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public enum ContinuousAggregate {
+
+    HOURLY("items_hourly", "1 hour", "3 days", "1 hour"),
+    DAILY("items_daily", "1 day", "7 days", "1 day");
+
+    // ranges of at least this length are answered with daily buckets
+    private static final Duration DAILY_MIN_RANGE = Duration.ofDays(180);
+
+    private final String viewName;
+    private final String bucketInterval;
+    private final String refreshStartOffset;
+    private final String refreshEndOffset;
+
+    ContinuousAggregate(String viewName, String bucketInterval, String refreshStartOffset, String refreshEndOffset) {
+        this.viewName = viewName;
+        this.bucketInterval = bucketInterval;
+        this.refreshStartOffset = refreshStartOffset;
+        this.refreshEndOffset = refreshEndOffset;
+    }
+
+    /** Name of the materialized view. */
+    public String getViewName() {
+        return viewName;
+    }
+
+    /** Bucket width as SQL interval literal, e.g. {@code "1 hour"}. */
+    public String getBucketInterval() {
+        return bucketInterval;
+    }
+
+    /** Start of the window re-materialized by the refresh policy, relative to now. */
+    public String getRefreshStartOffset() {
+        return refreshStartOffset;
+    }
+
+    /** End of the window re-materialized by the refresh policy, relative to now. */
+    public String getRefreshEndOffset() {
+        return refreshEndOffset;
+    }
+
+    /**
+     * Selects the aggregate that answers the given query.
+     *
+     * <p>
+     * Only plain range queries of numeric items are routed: the query must have a begin date, no state filter and
+     * span at least {@code threshold}. Ranges of 180 days or more use daily buckets, shorter ones hourly buckets.
+     *
+     * @param item The queried item.
+     * @param filter The filter criteria.
+     * @param threshold The minimum range for routing, {@link Duration#ZERO} disables routing.
+     * @return The aggregate to query, or {@code null} if the raw rows must be queried.
+     */
+    public static @Nullable ContinuousAggregate forQuery(Item item, FilterCriteria filter, Duration threshold) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        if (threshold.isZero() || beginDate == null || filter.getState() != null || !(item instanceof NumberItem)) {
+            return null;
+        }
+        ZonedDateTime endDate = filter.getEndDate();
+        Duration range = Duration.between(beginDate, endDate != null ? endDate : ZonedDateTime.now());
+        if (range.compareTo(threshold) < 0) {
+            return null;
+        }
+        return range.compareTo(DAILY_MIN_RANGE) >= 0 ? DAILY : HOURLY;
+    }
+}
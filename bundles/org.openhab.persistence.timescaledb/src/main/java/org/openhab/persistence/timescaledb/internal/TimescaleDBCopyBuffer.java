@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes the rows of {@link TimescaleDBPersistenceService#store} into binary {@code COPY} data as they are stored,
+ * so that many of them are inserted with a single {@code COPY} instead of one {@code INSERT} each.
+ *
+ * <p>
+ * A {@code COPY} is sealed when it holds {@code batchSize} rows, or at the latest {@code batchInterval} after its
+ * first row, and is then sent by the scheduler. The sealed {@code COPY} data is sent in order, one at a time. The
+ * {@code COPY} and the insert into the hypertable run in one transaction, so if the database rejects it, none of its
+ * rows are stored. Rejected data is not sent again, as a lost connection would otherwise let the buffer grow without
+ * bounds.
+ *
+ * <p>
+ * When the database is slower than the rows are stored, sealed {@code COPY} data piles up. Beyond
+ * {@value #MAX_SEALED} of them, {@code store} sends them itself, which slows down the persistence calls instead of
+ * dropping rows.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TimescaleDBCopyBuffer {
+
+    static final int MAX_SEALED = 10;
+
+    /**
+     * Sends one {@code COPY}.
+     */
+    @FunctionalInterface
+    public interface CopyWriter {
+        /**
+         * @param copyData The rows encoded by {@link TimescaleDBCopyEncoder}, including header and trailer.
+         * @param rowCount The number of rows.
+         */
+        void write(byte[] copyData, int rowCount) throws SQLException;
+    }
+
+    private record SealedCopy(byte[] data, int rowCount) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimescaleDBCopyBuffer.class);
+
+    private final int batchSize;
+    private final long batchInterval;
+    private final ScheduledExecutorService scheduler;
+    private final CopyWriter writer;
+    // held while a COPY is sent, so that the COPY data is sent in order
+    private final Object sendLock = new Object();
+
+    // the following fields are guarded by this
+    private @Nullable TimescaleDBCopyEncoder encoder;
+    private @Nullable ScheduledFuture<?> sealJob;
+    private final Deque<SealedCopy> sealed = new ArrayDeque<>();
+    private int sealedRows;
+
+    public TimescaleDBCopyBuffer(int batchSize, long batchInterval, ScheduledExecutorService scheduler,
+            CopyWriter writer) {
+        this.batchSize = batchSize;
+        this.batchInterval = batchInterval;
+        this.scheduler = scheduler;
+        this.writer = writer;
+    }
+
+    /**
+     * Appends a row to the current {@code COPY}.
+     *
+     * @param itemId The item_id from {@code item_meta}.
+     * @param time The measurement timestamp.
+     * @param row The mapped state row.
+     */
+    public void add(int itemId, Instant time, TimescaleDBMapper.Row row) {
+        boolean sendNow;
+        synchronized (this) {
+            TimescaleDBCopyEncoder localEncoder = encoder;
+            if (localEncoder == null) {
+                // rows encode to about 50 bytes with a short unit or string
+                localEncoder = new TimescaleDBCopyEncoder(Math.min(batchSize, 1024) * 64);
+                encoder = localEncoder;
+                sealJob = scheduler.schedule(this::sealAndSend, batchInterval, TimeUnit.MILLISECONDS);
+            }
+            localEncoder.add(itemId, time, row);
+            if (localEncoder.getRowCount() < batchSize) {
+                return;
+            }
+            seal();
+            sendNow = sealed.size() > MAX_SEALED;
+        }
+        if (sendNow) {
+            send();
+        } else {
+            scheduler.execute(this::send);
+        }
+    }
+
+    private void seal() {
+        TimescaleDBCopyEncoder localEncoder = encoder;
+        if (localEncoder == null) {
+            return;
+        }
+        ScheduledFuture<?> localSealJob = sealJob;
+        if (localSealJob != null) {
+            localSealJob.cancel(false);
+            sealJob = null;
+        }
+        encoder = null;
+        sealed.add(new SealedCopy(localEncoder.finish(), localEncoder.getRowCount()));
+        sealedRows += localEncoder.getRowCount();
+    }
+
+    private void sealAndSend() {
+        synchronized (this) {
+            seal();
+        }
+        send();
+    }
+
+    /**
+     * Sends the sealed {@code COPY} data, oldest first.
+     */
+    private void send() {
+        synchronized (sendLock) {
+            while (true) {
+                SealedCopy copy;
+                synchronized (this) {
+                    copy = sealed.poll();
+                    if (copy == null) {
+                        return;
+                    }
+                    sealedRows -= copy.rowCount();
+                }
+                long timerStart = System.currentTimeMillis();
+                try {
+                    writer.write(copy.data(), copy.rowCount());
+                    LOGGER.debug("Copied {} rows ({} bytes) in {} ms", copy.rowCount(), copy.data().length,
+                            System.currentTimeMillis() - timerStart);
+                } catch (SQLException | RuntimeException e) {
+                    LOGGER.warn("Failed to copy {} rows: {}", copy.rowCount(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends all rows stored so far. Rows with the same item and timestamp as an existing row are discarded by the
+     * database, like with single inserts.
+     */
+    public void flush() {
+        sealAndSend();
+    }
+
+    /**
+     * @return The number of rows waiting to be copied.
+     */
+    public synchronized int getPendingCount() {
+        TimescaleDBCopyEncoder localEncoder = encoder;
+        return sealedRows + (localEncoder != null ? localEncoder.getRowCount() : 0);
+    }
+
+    /**
+     * Sends the rows stored so far, so they are written before the data source closes.
+     */
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Encodes rows of the {@code items} table in the binary format of the PostgreSQL {@code COPY} command.
+ *
+ * <p>
+ * Each row consists of the columns {@code (time, item_id, value, string, unit)}, matching
+ * {@link TimescaleDBQuery#SQL_COPY_STAGING}. Binary values are sent as-is, so the server does not need to parse
+ * any text representation of timestamps or numbers.
+ *
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TimescaleDBCopyEncoder {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+    private static final short FIELD_COUNT = 5;
+    // PostgreSQL timestamps are microseconds since 2000-01-01T00:00:00Z
+    private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L;
+
+    private final ByteArrayOutputStream buffer;
+    private final DataOutputStream out;
+    private int rowCount;
+
+    public TimescaleDBCopyEncoder() {
+        this(4096);
+    }
+
+    public TimescaleDBCopyEncoder(int initialSize) {
+        buffer = new ByteArrayOutputStream(initialSize);
+        out = new DataOutputStream(buffer);
+        try {
+            out.write(SIGNATURE);
+            out.writeInt(0); // flags
+            out.writeInt(0); // header extension length
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends one row.
+     *
+     * @param itemId The item_id from {@code item_meta}.
+     * @param time The measurement timestamp.
+     * @param row The mapped state row.
+     */
+    public void add(int itemId, Instant time, TimescaleDBMapper.Row row) {
+        try {
+            out.writeShort(FIELD_COUNT);
+            out.writeInt(Long.BYTES);
+            out.writeLong(toPostgresMicros(time));
+            out.writeInt(Integer.BYTES);
+            out.writeInt(itemId);
+            Double value = row.value();
+            if (value != null) {
+                out.writeInt(Double.BYTES);
+                out.writeDouble(value);
+            } else {
+                out.writeInt(-1);
+            }
+            writeText(row.string());
+            writeText(row.unit());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rowCount++;
+    }
+
+    /**
+     * @return The number of rows added so far.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Appends the trailer and returns the complete {@code COPY} data. No rows may be added afterwards.
+     *
+     * @return The encoded data.
+     */
+    public byte[] finish() {
+        try {
+            out.writeShort(-1);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static long toPostgresMicros(Instant time) {
+        return Math.addExact(Math.multiplyExact(time.getEpochSecond() - POSTGRES_EPOCH_SECONDS, 1_000_000L),
+                time.getNano() / 1_000);
+    }
+
+    private void writeText(@Nullable String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
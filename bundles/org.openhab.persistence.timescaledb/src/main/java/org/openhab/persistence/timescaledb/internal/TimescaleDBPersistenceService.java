@@ -14,6 +14,7 @@ package org.openhab.persistence.timescaledb.internal;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -65,6 +66,11 @@ import com.zaxxer.hikari.HikariDataSource;
  * Item names are cached in-memory ({@code name → item_id}) to avoid a SELECT on every
  * {@link #store} call. The cache is populated lazily on first store per item.
  *
+ * <p>
+ * With {@code batchSize > 0} states are buffered and written in batches with a binary {@code COPY}. With
+ * {@code continuousAggregates} enabled, long-range queries of numeric items are answered from hourly or daily
+ * continuous aggregates instead of the raw rows.
+ *
  * @author René Ulbricht - Initial contribution
  */
 @NonNullByDefault
@@ -93,6 +99,8 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     private @Nullable HikariDataSource dataSource;
     private @Nullable ScheduledFuture<?> downsampleJob;
     private @Nullable TimescaleDBDownsampleJob downsampleJobInstance;
+    private @Nullable TimescaleDBCopyBuffer writeBuffer;
+    private Duration aggregateQueryThreshold = Duration.ZERO;
 
     @Activate
     public TimescaleDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -128,11 +136,18 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         String chunkInterval = (String) config.getOrDefault("chunkInterval", "7 days");
         int retentionDays = parseIntConfig(config, "retentionDays", 0);
         int compressionAfterDays = parseIntConfig(config, "compressionAfterDays", 0);
+        int batchSize = parseIntConfig(config, "batchSize", 0);
+        int batchInterval = parseIntConfig(config, "batchInterval", 1000);
+        boolean continuousAggregates = Boolean
+                .parseBoolean(String.valueOf(config.getOrDefault("continuousAggregates", "false")));
+        int aggregateQueryDays = parseIntConfig(config, "aggregateQueryDays", 30);
 
         LOGGER.debug(
                 "Activating TimescaleDB persistence: url={}, user={}, maxConnections={}, "
                         + "chunkInterval={}, retentionDays={}, compressionAfterDays={}",
                 url, user, maxConnections, chunkInterval, retentionDays, compressionAfterDays);
+        LOGGER.debug("TimescaleDB write and query tuning: batchSize={}, batchInterval={}, continuousAggregates={}, "
+                + "aggregateQueryDays={}", batchSize, batchInterval, continuousAggregates, aggregateQueryDays);
 
         HikariDataSource ds;
         try {
@@ -152,6 +167,22 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return;
         }
 
+        aggregateQueryThreshold = Duration.ZERO;
+        if (continuousAggregates) {
+            try (Connection conn = ds.getConnection()) {
+                TimescaleDBSchema.initializeContinuousAggregates(conn);
+                aggregateQueryThreshold = Duration.ofDays(Math.max(aggregateQueryDays, 1));
+            } catch (SQLException e) {
+                LOGGER.warn("Failed to create TimescaleDB continuous aggregates, all queries use the raw data: {}",
+                        e.getMessage());
+            }
+        }
+
+        if (batchSize > 0) {
+            writeBuffer = new TimescaleDBCopyBuffer(batchSize, Math.max(batchInterval, 1),
+                    ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME), this::writeBatch);
+        }
+
         if (compressionAfterDays > 0) {
             LOGGER.warn("TimescaleDB: compressionAfterDays={} is set. Ensure all per-item retainRawDays "
                     + "are less than compressionAfterDays, otherwise downsampling will attempt to write into "
@@ -198,6 +229,13 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
         downsampleJobInstance = null;
 
+        TimescaleDBCopyBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.close();
+            writeBuffer = null;
+        }
+        aggregateQueryThreshold = Duration.ZERO;
+
         HikariDataSource ds = dataSource;
         if (ds != null) {
             ds.close();
@@ -271,9 +309,23 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return;
         }
 
+        TimescaleDBCopyBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            // avoid borrowing a connection if the item_id is already known
+            Integer cachedId = itemIdCache.get(name);
+            if (cachedId != null) {
+                buffer.add(cachedId, date.toInstant(), row);
+                return;
+            }
+        }
+
         try (Connection conn = ds.getConnection()) {
             int itemId = getOrCreateItemId(conn, name, label, valueStr, metadataJson);
-            TimescaleDBQuery.insert(conn, itemId, date, row);
+            if (buffer != null) {
+                buffer.add(itemId, date.toInstant(), row);
+            } else {
+                TimescaleDBQuery.insert(conn, itemId, date, row);
+            }
         } catch (SQLException e) {
             LOGGER.error("Failed to store item '{}': {}", name, e.getMessage(), e);
         }
@@ -293,6 +345,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
 
         String queryName = alias != null ? alias : itemName;
+        flushWriteBuffer();
 
         @Nullable
         Integer itemId = itemIdCache.get(queryName);
@@ -332,8 +385,14 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return Collections.emptyList();
         }
 
+        ContinuousAggregate aggregate = ContinuousAggregate.forQuery(item, filter, aggregateQueryThreshold);
+        if (aggregate != null) {
+            LOGGER.debug("Answering query for item '{}' from continuous aggregate {}", queryName,
+                    aggregate.getViewName());
+        }
+
         try (Connection conn = ds.getConnection()) {
-            return TimescaleDBQuery.query(conn, item, itemId, filter);
+            return TimescaleDBQuery.query(conn, item, itemId, filter, aggregate);
         } catch (SQLException e) {
             LOGGER.error("Query failed for item '{}': {}", queryName, e.getMessage(), e);
             return Collections.emptyList();
@@ -347,6 +406,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             LOGGER.warn("FilterCriteria has no item name — cannot remove data");
             return false;
         }
+        flushWriteBuffer();
 
         @Nullable
         Integer itemId = itemIdCache.get(itemName);
@@ -419,6 +479,23 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     // Internal helpers
     // -------------------------------------------------------------------------
 
+    private void flushWriteBuffer() {
+        TimescaleDBCopyBuffer buffer = writeBuffer;
+        if (buffer != null) {
+            buffer.flush();
+        }
+    }
+
+    private void writeBatch(byte[] copyData, int rowCount) throws SQLException {
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            throw new SQLException("TimescaleDB data source not available");
+        }
+        try (Connection conn = ds.getConnection()) {
+            TimescaleDBQuery.insertBatch(conn, copyData);
+        }
+    }
+
     private int getOrCreateItemId(Connection conn, String name, @Nullable String label, @Nullable String value,
             @Nullable String metadataJson) throws SQLException {
         Integer cached = itemIdCache.get(name);
@@ -12,10 +12,13 @@
  */
 package org.openhab.persistence.timescaledb.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.ZonedDateTime;
@@ -29,6 +32,7 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +60,14 @@ public class TimescaleDBQuery {
     // timestamp can coexist and only true duplicates are dropped.
     private static final String SQL_INSERT = "INSERT INTO items (time, item_id, value, string, unit) VALUES (?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
 
+    // --- Batched INSERT via binary COPY ---
+    // COPY cannot skip duplicates, so the rows are copied into a session-local staging table first and then
+    // moved with the same ON CONFLICT DO NOTHING semantics as SQL_INSERT. ON COMMIT DELETE ROWS empties the
+    // staging table at the end of each batch transaction.
+    private static final String SQL_CREATE_STAGING = "CREATE TEMP TABLE IF NOT EXISTS items_staging (time TIMESTAMPTZ NOT NULL, item_id INTEGER NOT NULL, value DOUBLE PRECISION, string TEXT, unit TEXT) ON COMMIT DELETE ROWS";
+    static final String SQL_COPY_STAGING = "COPY items_staging (time, item_id, value, string, unit) FROM STDIN (FORMAT binary)";
+    private static final String SQL_INSERT_FROM_STAGING = "INSERT INTO items (time, item_id, value, string, unit) SELECT time, item_id, value, string, unit FROM items_staging ON CONFLICT DO NOTHING";
+
     // --- item_meta lookup / insert ---
     private static final String SQL_SELECT_ITEM_ID = "SELECT id FROM item_meta WHERE name = ?";
 
@@ -66,6 +78,9 @@ public class TimescaleDBQuery {
     // --- SELECT base ---
     private static final String SQL_SELECT_BASE = "SELECT time, value, string, unit FROM items WHERE item_id = ?";
 
+    // --- SELECT from a continuous aggregate, the view name is a ContinuousAggregate constant ---
+    private static final String SQL_SELECT_AGGREGATE_BASE = "SELECT bucket, value, NULL AS string, unit FROM %s WHERE item_id = ?";
+
     // --- DELETE ---
     private static final String SQL_DELETE_BASE = "DELETE FROM items WHERE item_id = ?";
 
@@ -101,6 +116,37 @@ public class TimescaleDBQuery {
                 row.unit());
     }
 
+    /**
+     * Inserts a batch of rows with a single binary {@code COPY}. Duplicate rows are discarded like in
+     * {@link #insert}.
+     *
+     * @param connection The JDBC connection, must be a PostgreSQL connection in auto-commit mode.
+     * @param copyData The rows encoded by {@link TimescaleDBCopyEncoder}.
+     * @return The number of inserted rows.
+     * @throws SQLException on any database error; the whole batch is rolled back.
+     */
+    public static int insertBatch(Connection connection, byte[] copyData) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(SQL_CREATE_STAGING);
+            long copied = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(SQL_COPY_STAGING,
+                    new ByteArrayInputStream(copyData));
+            int inserted = stmt.executeUpdate(SQL_INSERT_FROM_STAGING);
+            connection.commit();
+            LOGGER.debug("Copied {} rows, inserted {} (duplicates discarded)", copied, inserted);
+            return inserted;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } catch (IOException e) {
+            connection.rollback();
+            throw new SQLException("Failed to send COPY data: " + e.getMessage(), e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
     /**
      * Returns the item_id for the given name, inserting or updating the {@code item_meta} row as needed.
      *
@@ -155,19 +201,44 @@ public class TimescaleDBQuery {
      */
     public static List<HistoricItem> query(Connection connection, Item item, int itemId, FilterCriteria filter)
             throws SQLException {
-        StringBuilder sql = new StringBuilder(SQL_SELECT_BASE);
+        return query(connection, item, itemId, filter, null);
+    }
+
+    /**
+     * Queries historic items according to the given filter criteria, either from the raw rows or from a continuous
+     * aggregate. Rows of an aggregate carry the start of their bucket as timestamp, so the first of them may be
+     * older than the begin date.
+     *
+     * @param connection The JDBC connection.
+     * @param item The openHAB item (used for state reconstruction).
+     * @param itemId The item_id from {@code item_meta}.
+     * @param filter The filter criteria.
+     * @param aggregate The continuous aggregate to query, or {@code null} to query the raw rows.
+     * @return An ordered list of matching {@link HistoricItem}s.
+     * @throws SQLException on any database error.
+     */
+    public static List<HistoricItem> query(Connection connection, Item item, int itemId, FilterCriteria filter,
+            @Nullable ContinuousAggregate aggregate) throws SQLException {
+        String timeColumn = aggregate != null ? "bucket" : "time";
+        StringBuilder sql = new StringBuilder(
+                aggregate != null ? SQL_SELECT_AGGREGATE_BASE.formatted(aggregate.getViewName()) : SQL_SELECT_BASE);
         List<Object> params = new ArrayList<>();
         params.add(itemId);
 
         // Date range filters
         ZonedDateTime beginDate = filter.getBeginDate();
         if (beginDate != null) {
-            sql.append(" AND time >= ?");
+            if (aggregate != null) {
+                // the bucket containing the begin date starts before it
+                sql.append(" AND bucket > ? - INTERVAL '").append(aggregate.getBucketInterval()).append('\'');
+            } else {
+                sql.append(" AND time >= ?");
+            }
             params.add(Timestamp.from(beginDate.toInstant()));
         }
         ZonedDateTime endDate = filter.getEndDate();
         if (endDate != null) {
-            sql.append(" AND time <= ?");
+            sql.append(" AND ").append(timeColumn).append(" <= ?");
             params.add(Timestamp.from(endDate.toInstant()));
         }
 
@@ -187,7 +258,7 @@ public class TimescaleDBQuery {
 
         // ORDER BY
         String direction = filter.getOrdering() == Ordering.ASCENDING ? "ASC" : "DESC";
-        sql.append(" ORDER BY time ").append(direction);
+        sql.append(" ORDER BY ").append(timeColumn).append(' ').append(direction);
 
         // Pagination
         if (filter.getPageSize() > 0) {
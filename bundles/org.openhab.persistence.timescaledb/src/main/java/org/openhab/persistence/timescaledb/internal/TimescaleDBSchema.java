@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
  * <li>{@code item_meta} — name-to-ID lookup table for items, stores user-defined value string and full config
  * JSONB</li>
  * <li>{@code items} — single hypertable for all item states</li>
+ * <li>{@code items_hourly}, {@code items_daily} — optional continuous aggregates, see {@link ContinuousAggregate}</li>
  * </ul>
  *
  * @author René Ulbricht - Initial contribution
@@ -122,6 +123,26 @@ public class TimescaleDBSchema {
 
     private static final String SQL_ADD_RETENTION_POLICY = "SELECT add_retention_policy('items', INTERVAL '%d days', if_not_exists => TRUE)";
 
+    private static final String SQL_CHECK_CONTINUOUS_AGGREGATE = "SELECT 1 FROM timescaledb_information.continuous_aggregates WHERE view_name = ?";
+
+    /**
+     * Real-time aggregation ({@code materialized_only = false}) combines the materialized buckets with the raw rows
+     * not yet materialized, so recent values are included without waiting for the refresh policy.
+     */
+    private static final String SQL_CREATE_CONTINUOUS_AGGREGATE = """
+            CREATE MATERIALIZED VIEW IF NOT EXISTS %s
+            WITH (timescaledb.continuous, timescaledb.materialized_only = false) AS
+            SELECT time_bucket(INTERVAL '%s', time) AS bucket, item_id, AVG(value) AS value, MAX(unit) AS unit
+            FROM items
+            WHERE value IS NOT NULL
+            GROUP BY bucket, item_id
+            WITH NO DATA
+            """;
+
+    private static final String SQL_ADD_CONTINUOUS_AGGREGATE_POLICY = "SELECT add_continuous_aggregate_policy('%s', start_offset => INTERVAL '%s', end_offset => INTERVAL '%s', schedule_interval => INTERVAL '%s', if_not_exists => TRUE)";
+
+    private static final String SQL_REFRESH_CONTINUOUS_AGGREGATE = "CALL refresh_continuous_aggregate('%s', NULL, NOW() - INTERVAL '%s')";
+
     private TimescaleDBSchema() {
         // utility class
     }
@@ -150,6 +171,43 @@ public class TimescaleDBSchema {
                 compressionAfterDays, retentionDays);
     }
 
+    /**
+     * Creates the continuous aggregates and their refresh policies. An aggregate created for the first time is
+     * materialized once over the whole existing history, as the refresh policy only covers a recent window.
+     *
+     * <p>
+     * All interpolated values are constants of {@link ContinuousAggregate}.
+     *
+     * @param connection An open JDBC connection in auto-commit mode.
+     * @throws SQLException on any database error.
+     */
+    public static void initializeContinuousAggregates(Connection connection) throws SQLException {
+        for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+            boolean exists;
+            try (PreparedStatement ps = connection.prepareStatement(SQL_CHECK_CONTINUOUS_AGGREGATE)) {
+                ps.setString(1, aggregate.getViewName());
+                try (ResultSet rs = ps.executeQuery()) {
+                    exists = rs.next();
+                }
+            }
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(SQL_CREATE_CONTINUOUS_AGGREGATE.formatted(aggregate.getViewName(),
+                        aggregate.getBucketInterval()));
+                stmt.execute(SQL_ADD_CONTINUOUS_AGGREGATE_POLICY.formatted(aggregate.getViewName(),
+                        aggregate.getRefreshStartOffset(), aggregate.getRefreshEndOffset(),
+                        aggregate.getBucketInterval()));
+                if (!exists) {
+                    LOGGER.info("Materializing continuous aggregate {} over the existing data, this may take a while",
+                            aggregate.getViewName());
+                    stmt.execute(SQL_REFRESH_CONTINUOUS_AGGREGATE.formatted(aggregate.getViewName(),
+                            aggregate.getRefreshEndOffset()));
+                }
+            }
+            LOGGER.debug("Continuous aggregate {} ready", aggregate.getViewName());
+        }
+        LOGGER.info("TimescaleDB continuous aggregates initialized");
+    }
+
     private static void checkTimescaleDBExtension(Connection connection) throws SQLException {
         try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery(SQL_CHECK_TIMESCALEDB)) {
             if (!rs.next()) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Operator;
+
+/**
+ * Unit tests for the query routing of {@link ContinuousAggregate}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+@SuppressWarnings("null")
+class ContinuousAggregateTest {
+
+    private static final Duration THRESHOLD = Duration.ofDays(30);
+
+    private final NumberItem item = new NumberItem("Sensor");
+
+    private static FilterCriteria range(Duration duration) {
+        ZonedDateTime end = ZonedDateTime.now();
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setBeginDate(end.minus(duration));
+        filter.setEndDate(end);
+        return filter;
+    }
+
+    @Test
+    void shortRangeQueriesRawData() {
+        assertNull(ContinuousAggregate.forQuery(item, range(Duration.ofDays(29)), THRESHOLD));
+    }
+
+    @Test
+    void rangeAboveThresholdQueriesHourlyAggregate() {
+        assertEquals(ContinuousAggregate.HOURLY, ContinuousAggregate.forQuery(item, range(THRESHOLD), THRESHOLD));
+        assertEquals(ContinuousAggregate.HOURLY,
+                ContinuousAggregate.forQuery(item, range(Duration.ofDays(179)), THRESHOLD));
+    }
+
+    @Test
+    void rangeOfHalfAYearOrMoreQueriesDailyAggregate() {
+        assertEquals(ContinuousAggregate.DAILY,
+                ContinuousAggregate.forQuery(item, range(Duration.ofDays(180)), THRESHOLD));
+        assertEquals(ContinuousAggregate.DAILY,
+                ContinuousAggregate.forQuery(item, range(Duration.ofDays(365)), THRESHOLD));
+    }
+
+    @Test
+    void missingEndDateMeasuresRangeUntilNow() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setBeginDate(ZonedDateTime.now().minusDays(60));
+
+        assertEquals(ContinuousAggregate.HOURLY, ContinuousAggregate.forQuery(item, filter, THRESHOLD));
+    }
+
+    @Test
+    void missingBeginDateQueriesRawData() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setEndDate(ZonedDateTime.now());
+
+        assertNull(ContinuousAggregate.forQuery(item, filter, THRESHOLD));
+    }
+
+    @Test
+    void stateFilterQueriesRawData() {
+        FilterCriteria filter = range(Duration.ofDays(365));
+        filter.setState(new DecimalType(10));
+        filter.setOperator(Operator.GT);
+
+        assertNull(ContinuousAggregate.forQuery(item, filter, THRESHOLD));
+    }
+
+    @Test
+    void nonNumericItemQueriesRawData() {
+        assertNull(ContinuousAggregate.forQuery(new SwitchItem("Switch"), range(Duration.ofDays(365)), THRESHOLD));
+    }
+
+    @Test
+    void zeroThresholdDisablesRouting() {
+        assertNull(ContinuousAggregate.forQuery(item, range(Duration.ofDays(365)), Duration.ZERO));
+    }
+}
@@ -1026,6 +1026,86 @@ class TimescaleDBContainerTest {
         }
     }
 
+    // ------------------------------------------------------------------
+    // Batched insert via binary COPY
+    // ------------------------------------------------------------------
+
+    @Test
+    @Order(88)
+    void insertBatchStoresAllStateColumnsAndDropsDuplicates() throws SQLException {
+        ZonedDateTime base = ZonedDateTime.now().minusHours(1).withNano(123_456_000);
+        NumberItem item = new NumberItem("CopySensor");
+
+        try (Connection conn = dataSource.getConnection()) {
+            int id = TimescaleDBQuery.getOrCreateItemId(conn, "CopySensor", null);
+            TimescaleDBQuery.insert(conn, id, base, new TimescaleDBMapper.Row(1.0, null, null));
+
+            var encoder = new TimescaleDBCopyEncoder();
+            // duplicate of the row stored above, must be dropped like with INSERT ... ON CONFLICT DO NOTHING
+            encoder.add(id, base.toInstant(), new TimescaleDBMapper.Row(99.0, null, null));
+            encoder.add(id, base.plusMinutes(1).toInstant(), new TimescaleDBMapper.Row(2.5, null, "°C"));
+            encoder.add(id, base.plusMinutes(2).toInstant(), new TimescaleDBMapper.Row(null, "text", null));
+            int inserted = TimescaleDBQuery.insertBatch(conn, encoder.finish());
+            assertEquals(2, inserted, "Duplicate row must not be inserted");
+            assertTrue(conn.getAutoCommit(), "Auto-commit must be restored after the batch");
+
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName("CopySensor");
+            filter.setOrdering(Ordering.ASCENDING);
+            List<HistoricItem> results = TimescaleDBQuery.query(conn, item, id, filter);
+            assertEquals(3, results.size());
+            assertEquals(1.0, ((DecimalType) results.get(0).getState()).doubleValue(), 1e-6, "First write must win");
+            assertEquals(base.toInstant(), results.get(0).getTimestamp().toInstant(),
+                    "Microsecond precision must be kept");
+            assertEquals(new QuantityType<>("2.5 °C"), results.get(1).getState());
+
+            // the staging table is emptied on commit, a second batch on the same connection starts clean
+            var second = new TimescaleDBCopyEncoder();
+            second.add(id, base.plusMinutes(3).toInstant(), new TimescaleDBMapper.Row(3.0, null, null));
+            assertEquals(1, TimescaleDBQuery.insertBatch(conn, second.finish()));
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Continuous aggregates
+    // ------------------------------------------------------------------
+
+    @Test
+    @Order(89)
+    void continuousAggregateAnswersLongRangeQueryWithBucketAverages() throws SQLException {
+        NumberItem item = new NumberItem("AggregateSensor");
+        ZonedDateTime base = ZonedDateTime.now().minusDays(40).truncatedTo(java.time.temporal.ChronoUnit.DAYS);
+
+        try (Connection conn = dataSource.getConnection()) {
+            int id = TimescaleDBQuery.getOrCreateItemId(conn, "AggregateSensor", null);
+            // two values in each of the first two hours
+            TimescaleDBQuery.insert(conn, id, base, new TimescaleDBMapper.Row(1.0, null, null));
+            TimescaleDBQuery.insert(conn, id, base.plusMinutes(30), new TimescaleDBMapper.Row(3.0, null, null));
+            TimescaleDBQuery.insert(conn, id, base.plusHours(1), new TimescaleDBMapper.Row(10.0, null, null));
+            TimescaleDBQuery.insert(conn, id, base.plusHours(1).plusMinutes(30),
+                    new TimescaleDBMapper.Row(20.0, null, null));
+
+            TimescaleDBSchema.initializeContinuousAggregates(conn);
+
+            FilterCriteria filter = new FilterCriteria();
+            filter.setItemName("AggregateSensor");
+            filter.setBeginDate(base.minusDays(1));
+            filter.setEndDate(ZonedDateTime.now());
+            filter.setOrdering(Ordering.ASCENDING);
+            ContinuousAggregate aggregate = ContinuousAggregate.forQuery(item, filter, java.time.Duration.ofDays(30));
+            assertEquals(ContinuousAggregate.HOURLY, aggregate);
+
+            List<HistoricItem> results = TimescaleDBQuery.query(conn, item, id, filter, aggregate);
+            assertEquals(2, results.size(), "One row per hourly bucket expected");
+            assertEquals(2.0, ((DecimalType) results.get(0).getState()).doubleValue(), 1e-6);
+            assertEquals(base.toInstant(), results.get(0).getTimestamp().toInstant());
+            assertEquals(15.0, ((DecimalType) results.get(1).getState()).doubleValue(), 1e-6);
+
+            // initializing again keeps the existing aggregates
+            assertDoesNotThrow(() -> TimescaleDBSchema.initializeContinuousAggregates(conn));
+        }
+    }
+
     @SafeVarargs
     private void storeAndVerify(String itemName, org.openhab.core.items.Item item, State state,
             java.util.function.Consumer<State>... assertions) throws SQLException {
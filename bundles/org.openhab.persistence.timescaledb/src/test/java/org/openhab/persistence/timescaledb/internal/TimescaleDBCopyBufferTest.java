@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link TimescaleDBCopyBuffer}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+@SuppressWarnings("null")
+class TimescaleDBCopyBufferTest {
+
+    private record Copy(byte[] data, int rowCount) {
+    }
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<Copy> copies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private static TimescaleDBMapper.Row row(int i) {
+        return new TimescaleDBMapper.Row((double) i, null, "W");
+    }
+
+    private static void add(TimescaleDBCopyBuffer buffer, int i) {
+        buffer.add(1, Instant.ofEpochSecond(i), row(i));
+    }
+
+    private static byte[] encode(int... rows) {
+        var encoder = new TimescaleDBCopyEncoder();
+        for (int i : rows) {
+            encoder.add(1, Instant.ofEpochSecond(i), row(i));
+        }
+        return encoder.finish();
+    }
+
+    private TimescaleDBCopyBuffer newBuffer(int batchSize) {
+        return new TimescaleDBCopyBuffer(batchSize, 1000, scheduler,
+                (data, rowCount) -> copies.add(new Copy(data, rowCount)));
+    }
+
+    /**
+     * Runs the sends handed to the scheduler.
+     */
+    private void runSends() {
+        ArgumentCaptor<Runnable> sends = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeast(0)).execute(sends.capture());
+        sends.getAllValues().forEach(Runnable::run);
+    }
+
+    @Test
+    void rowsAreEncodedIntoOneCopy() {
+        var buffer = newBuffer(100);
+        add(buffer, 1);
+        add(buffer, 2);
+        add(buffer, 3);
+        assertEquals(3, buffer.getPendingCount());
+
+        buffer.flush();
+
+        assertEquals(1, copies.size());
+        assertEquals(3, copies.get(0).rowCount());
+        assertArrayEquals(encode(1, 2, 3), copies.get(0).data());
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void copyIsSealedAtBatchSize() {
+        var buffer = newBuffer(2);
+        for (int i = 0; i < 5; i++) {
+            add(buffer, i);
+        }
+        verify(scheduler, times(2)).execute(any(Runnable.class));
+        assertEquals(5, buffer.getPendingCount());
+
+        runSends();
+
+        assertEquals(2, copies.size());
+        assertArrayEquals(encode(0, 1), copies.get(0).data());
+        assertArrayEquals(encode(2, 3), copies.get(1).data());
+        assertEquals(1, buffer.getPendingCount());
+
+        buffer.close();
+        assertArrayEquals(encode(4), copies.get(2).data());
+    }
+
+    @Test
+    void copyIsSealedAfterBatchIntervalOfItsFirstRow() {
+        var buffer = newBuffer(100);
+        add(buffer, 1);
+        add(buffer, 2);
+
+        ArgumentCaptor<Runnable> sealJob = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(sealJob.capture(), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        sealJob.getValue().run();
+
+        assertEquals(1, copies.size());
+        assertArrayEquals(encode(1, 2), copies.get(0).data());
+    }
+
+    @Test
+    void rejectedCopyDoesNotBlockLaterCopies() {
+        var buffer = new TimescaleDBCopyBuffer(100, 1000, scheduler, (data, rowCount) -> {
+            if (copies.isEmpty()) {
+                copies.add(new Copy(new byte[0], 0));
+                throw new SQLException("connection lost");
+            }
+            copies.add(new Copy(data, rowCount));
+        });
+        add(buffer, 1);
+        buffer.flush();
+        add(buffer, 2);
+        buffer.flush();
+
+        assertEquals(2, copies.size());
+        assertArrayEquals(encode(2), copies.get(1).data());
+    }
+
+    @Test
+    void storeSendsTheCopiesWhenTooManyAreSealed() {
+        var buffer = newBuffer(1);
+        for (int i = 0; i < TimescaleDBCopyBuffer.MAX_SEALED; i++) {
+            add(buffer, i);
+        }
+        // the scheduler has not sent any of them yet
+        assertTrue(copies.isEmpty());
+
+        add(buffer, TimescaleDBCopyBuffer.MAX_SEALED);
+
+        assertEquals(TimescaleDBCopyBuffer.MAX_SEALED + 1, copies.size());
+        assertArrayEquals(encode(0), copies.get(0).data());
+        assertEquals(0, buffer.getPendingCount());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimescaleDBCopyEncoder}, decoding the produced PostgreSQL binary COPY data.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+class TimescaleDBCopyEncoderTest {
+
+    private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+    @Test
+    void emptyEncoderWritesHeaderAndTrailerOnly() throws IOException {
+        DataInputStream in = readHeader(new TimescaleDBCopyEncoder().finish());
+
+        assertEquals(-1, in.readShort(), "Trailer must be a field count of -1");
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    void numericRowWritesAllFiveFields() throws IOException {
+        var encoder = new TimescaleDBCopyEncoder();
+        Instant time = Instant.parse("2024-01-01T12:00:00.123456Z");
+
+        encoder.add(42, time, new TimescaleDBMapper.Row(23.5, null, "°C"));
+        assertEquals(1, encoder.getRowCount());
+        DataInputStream in = readHeader(encoder.finish());
+
+        assertEquals(5, in.readShort());
+        assertEquals(8, in.readInt());
+        assertEquals(TimescaleDBCopyEncoder.toPostgresMicros(time), in.readLong());
+        assertEquals(4, in.readInt());
+        assertEquals(42, in.readInt());
+        assertEquals(8, in.readInt());
+        assertEquals(23.5, in.readDouble());
+        assertEquals(-1, in.readInt(), "Null string must be encoded with length -1");
+        byte[] unit = "°C".getBytes(StandardCharsets.UTF_8);
+        assertEquals(unit.length, in.readInt());
+        assertArrayEquals(unit, in.readNBytes(unit.length));
+        assertEquals(-1, in.readShort());
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    void stringRowWritesNullValue() throws IOException {
+        var encoder = new TimescaleDBCopyEncoder();
+
+        encoder.add(1, Instant.now(), new TimescaleDBMapper.Row(null, "hello", null));
+        DataInputStream in = readHeader(encoder.finish());
+
+        assertEquals(5, in.readShort());
+        in.skipNBytes(4 + 8 + 4 + 4);
+        assertEquals(-1, in.readInt(), "Null value must be encoded with length -1");
+        assertEquals(5, in.readInt());
+        assertEquals("hello", new String(in.readNBytes(5), StandardCharsets.UTF_8));
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readShort());
+    }
+
+    @Test
+    void multipleRowsAreWrittenInOrder() throws IOException {
+        var encoder = new TimescaleDBCopyEncoder(16);
+        for (int i = 0; i < 100; i++) {
+            encoder.add(i, Instant.ofEpochSecond(i), new TimescaleDBMapper.Row((double) i, null, null));
+        }
+        DataInputStream in = readHeader(encoder.finish());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(5, in.readShort());
+            in.skipNBytes(4 + 8 + 4);
+            assertEquals(i, in.readInt());
+            in.skipNBytes(4);
+            assertEquals(i, in.readDouble());
+            in.skipNBytes(4 + 4);
+        }
+        assertEquals(-1, in.readShort());
+    }
+
+    @Test
+    void toPostgresMicrosUsesPostgresEpoch() {
+        assertEquals(0L, TimescaleDBCopyEncoder.toPostgresMicros(Instant.parse("2000-01-01T00:00:00Z")));
+        assertEquals(1_500_001L, TimescaleDBCopyEncoder.toPostgresMicros(Instant.parse("2000-01-01T00:00:01.500001Z")));
+        assertEquals(-946_684_800_000_000L, TimescaleDBCopyEncoder.toPostgresMicros(Instant.EPOCH));
+        // sub-microsecond precision is truncated
+        assertEquals(1L, TimescaleDBCopyEncoder.toPostgresMicros(Instant.parse("2000-01-01T00:00:00.000001999Z")));
+    }
+
+    private static DataInputStream readHeader(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        assertArrayEquals(SIGNATURE, in.readNBytes(SIGNATURE.length));
+        assertEquals(0, in.readInt(), "Flags must be 0");
+        assertEquals(0, in.readInt(), "Header extension length must be 0");
+        return in;
+    }
+}
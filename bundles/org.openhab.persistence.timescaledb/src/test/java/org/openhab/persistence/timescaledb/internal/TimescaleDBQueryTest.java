@@ -19,6 +19,8 @@ import static org.mockito.Mockito.*;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -35,6 +37,8 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
 /**
  * Unit tests for {@link TimescaleDBQuery} using mocked JDBC connections.
@@ -107,6 +111,55 @@ class TimescaleDBQueryTest {
         verify(preparedStatement).setNull(eq(3), anyInt());
     }
 
+    // ------------------------------------------------------------------
+    // insertBatch — binary COPY via staging table
+    // ------------------------------------------------------------------
+
+    @Test
+    void insertBatchCopiesIntoStagingAndMovesRowsInOneTransaction() throws Exception {
+        Statement statement = mock(Statement.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(java.io.InputStream.class))).thenReturn(2L);
+        when(statement.executeUpdate(anyString())).thenReturn(2);
+
+        int inserted = TimescaleDBQuery.insertBatch(connection, new TimescaleDBCopyEncoder().finish());
+
+        assertEquals(2, inserted);
+        var inOrder = inOrder(connection, statement, copyManager);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute(contains("CREATE TEMP TABLE IF NOT EXISTS items_staging"));
+        inOrder.verify(copyManager).copyIn(eq(TimescaleDBQuery.SQL_COPY_STAGING), any(java.io.InputStream.class));
+        inOrder.verify(statement).executeUpdate(
+                argThat(sql -> sql.contains("FROM items_staging") && sql.contains("ON CONFLICT DO NOTHING")));
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void insertBatchRollsBackOnFailure() throws Exception {
+        Statement statement = mock(Statement.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString(), any(java.io.InputStream.class)))
+                .thenThrow(new SQLException("invalid input"));
+
+        assertThrows(SQLException.class,
+                () -> TimescaleDBQuery.insertBatch(connection, new TimescaleDBCopyEncoder().finish()));
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+    }
+
     // ------------------------------------------------------------------
     // getOrCreateItemId — UPSERT behaviour
     // ------------------------------------------------------------------
@@ -303,6 +356,52 @@ class TimescaleDBQueryTest {
         assertTrue(sql.contains("OFFSET ?"), "Should have OFFSET clause");
     }
 
+    @Test
+    void queryWithAggregateSelectsFromViewByBucket() throws Exception {
+        var capturedSql = new java.util.ArrayList<String>();
+        when(connection.prepareStatement(anyString())).thenAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return preparedStatement;
+        });
+
+        var filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setBeginDate(ZonedDateTime.now().minusDays(365));
+        filter.setEndDate(ZonedDateTime.now());
+        filter.setOrdering(Ordering.ASCENDING);
+
+        TimescaleDBQuery.query(connection, new NumberItem("Sensor"), 1, filter, ContinuousAggregate.DAILY);
+
+        String sql = capturedSql.get(0);
+        assertTrue(sql.contains("FROM items_daily"), "Should query the daily aggregate");
+        assertTrue(sql.contains("bucket > ? - INTERVAL '1 day'"),
+                "Should have begin date filter including the bucket containing the begin date");
+        assertTrue(sql.contains("bucket <= ?"), "Should have end date filter on the bucket");
+        assertTrue(sql.contains("ORDER BY bucket ASC"));
+        assertFalse(sql.contains("FROM items "), "Must not query the raw hypertable");
+    }
+
+    @Test
+    void queryWithAggregateReturnsBucketAverage() throws Exception {
+        Instant bucket = Instant.parse("2024-01-01T00:00:00Z");
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getTimestamp(1)).thenReturn(Timestamp.from(bucket));
+        when(resultSet.getObject(2)).thenReturn(21.25);
+        when(resultSet.getString(3)).thenReturn(null);
+        when(resultSet.getString(4)).thenReturn(null);
+
+        var filter = new FilterCriteria();
+        filter.setItemName("Sensor");
+        filter.setBeginDate(ZonedDateTime.now().minusDays(60));
+
+        List<HistoricItem> result = TimescaleDBQuery.query(connection, new NumberItem("Sensor"), 1, filter,
+                ContinuousAggregate.HOURLY);
+
+        assertEquals(1, result.size());
+        assertEquals(new DecimalType(21.25), result.get(0).getState());
+        assertEquals(bucket, result.get(0).getTimestamp().toInstant());
+    }
+
     // ------------------------------------------------------------------
     // findItemId — SELECT-only cache-miss fallback
     // ------------------------------------------------------------------
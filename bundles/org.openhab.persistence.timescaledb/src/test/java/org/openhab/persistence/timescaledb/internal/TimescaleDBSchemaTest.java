@@ -353,4 +353,62 @@ class TimescaleDBSchemaTest {
         assertTrue(createTableIdx < migrationIdx,
                 "Migration must run after CREATE TABLE item_meta so that the ALTER runs on an existing table");
     }
+
+    // ------------------------------------------------------------------
+    // continuous aggregates
+    // ------------------------------------------------------------------
+
+    @Test
+    void initializeContinuousAggregatesCreatesViewsPoliciesAndInitialRefresh() throws SQLException {
+        PreparedStatement checkPs = mock(PreparedStatement.class);
+        ResultSet checkResultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(contains("continuous_aggregates"))).thenReturn(checkPs);
+        when(checkPs.executeQuery()).thenReturn(checkResultSet);
+        when(checkResultSet.next()).thenReturn(false); // aggregates do not exist yet
+        var capturedSql = new java.util.ArrayList<String>();
+        doAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return false;
+        }).when(statement).execute(anyString());
+
+        TimescaleDBSchema.initializeContinuousAggregates(connection);
+
+        for (ContinuousAggregate aggregate : ContinuousAggregate.values()) {
+            verify(checkPs).setString(1, aggregate.getViewName());
+            assertTrue(capturedSql.stream()
+                    .anyMatch(s -> s.contains("CREATE MATERIALIZED VIEW IF NOT EXISTS " + aggregate.getViewName())
+                            && s.contains("timescaledb.continuous")
+                            && s.contains("time_bucket(INTERVAL '" + aggregate.getBucketInterval() + "'")),
+                    "Continuous aggregate " + aggregate.getViewName() + " must be created");
+            assertTrue(
+                    capturedSql.stream()
+                            .anyMatch(s -> s.contains("add_continuous_aggregate_policy('" + aggregate.getViewName())
+                                    && s.contains("if_not_exists => TRUE")),
+                    "Refresh policy for " + aggregate.getViewName() + " must be added");
+            assertTrue(
+                    capturedSql.stream()
+                            .anyMatch(s -> s.contains("refresh_continuous_aggregate('" + aggregate.getViewName())),
+                    "New aggregate " + aggregate.getViewName() + " must be materialized once");
+        }
+    }
+
+    @Test
+    void initializeContinuousAggregatesSkipsInitialRefreshForExistingViews() throws SQLException {
+        PreparedStatement checkPs = mock(PreparedStatement.class);
+        ResultSet checkResultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(contains("continuous_aggregates"))).thenReturn(checkPs);
+        when(checkPs.executeQuery()).thenReturn(checkResultSet);
+        when(checkResultSet.next()).thenReturn(true); // aggregates already exist
+        var capturedSql = new java.util.ArrayList<String>();
+        doAnswer(inv -> {
+            capturedSql.add(inv.getArgument(0));
+            return false;
+        }).when(statement).execute(anyString());
+
+        TimescaleDBSchema.initializeContinuousAggregates(connection);
+
+        assertTrue(capturedSql.stream().anyMatch(s -> s.contains("add_continuous_aggregate_policy")));
+        assertFalse(capturedSql.stream().anyMatch(s -> s.contains("refresh_continuous_aggregate")),
+                "Existing aggregates are kept up to date by their refresh policy");
+    }
 }
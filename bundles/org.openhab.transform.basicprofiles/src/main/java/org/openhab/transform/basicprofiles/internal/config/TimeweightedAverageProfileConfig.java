@@ -23,4 +23,5 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class TimeweightedAverageProfileConfig {
     public String duration = "60s";
     public double delta = 0.0;
+    public boolean sliding = false;
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.util.Statistics;
+
+/**
+ * Statistics of the last values added, updated incrementally for every added value.
+ *
+ * <p>
+ * The values are kept in a ring buffer. The sum and the sum of squares are updated when a value enters or leaves the
+ * window, so the average and the standard deviation are calculated in constant time. The minimum and the maximum are
+ * the heads of two monotonic queues. If enabled, the median is tracked by two sorted multisets, the lower one holding
+ * the smaller half of the window, which costs logarithmic time per added value.
+ *
+ * <p>
+ * All arithmetic is exact, the results are the same as if they were calculated from all values of the window.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class RollingStatistics {
+
+    private record Entry(long index, BigDecimal value) {
+    }
+
+    private final BigDecimal[] values;
+    private final boolean trackMedian;
+
+    // index of the next value, the number of values added so far
+    private long next = 0;
+    private int size = 0;
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+    // candidates for the minimum and maximum in order of their index, the heads are the current minimum and maximum
+    private final Deque<Entry> minima = new ArrayDeque<>();
+    private final Deque<Entry> maxima = new ArrayDeque<>();
+
+    // the lower half of the window, with one value more than the upper half if the size is odd
+    private final TreeMap<BigDecimal, Integer> lower = new TreeMap<>();
+    private final TreeMap<BigDecimal, Integer> upper = new TreeMap<>();
+    private int lowerSize = 0;
+    private int upperSize = 0;
+
+    /**
+     * @param capacity the number of values in the window
+     * @param trackMedian whether the median is tracked
+     */
+    RollingStatistics(int capacity, boolean trackMedian) {
+        this.values = new BigDecimal[capacity];
+        this.trackMedian = trackMedian;
+    }
+
+    /**
+     * Adds a value, removing the oldest value if the window is full.
+     */
+    void add(BigDecimal value) {
+        int slot = (int) (next % values.length);
+        if (size == values.length) {
+            remove(values[slot]);
+        } else {
+            size++;
+        }
+        values[slot] = value;
+
+        sum = sum.add(value);
+        sumOfSquares = sumOfSquares.add(value.multiply(value));
+
+        long oldest = next - size + 1;
+        // values that are not smaller than a later one can never become the minimum, and vice versa
+        while (!minima.isEmpty() && minima.peekLast().value().compareTo(value) > 0) {
+            minima.pollLast();
+        }
+        minima.addLast(new Entry(next, value));
+        while (minima.peekFirst().index() < oldest) {
+            minima.pollFirst();
+        }
+        while (!maxima.isEmpty() && maxima.peekLast().value().compareTo(value) < 0) {
+            maxima.pollLast();
+        }
+        maxima.addLast(new Entry(next, value));
+        while (maxima.peekFirst().index() < oldest) {
+            maxima.pollFirst();
+        }
+
+        if (trackMedian) {
+            if (lower.isEmpty() || value.compareTo(lower.lastKey()) <= 0) {
+                increment(lower, value);
+                lowerSize++;
+            } else {
+                increment(upper, value);
+                upperSize++;
+            }
+            balance();
+        }
+        next++;
+    }
+
+    private void remove(BigDecimal value) {
+        sum = sum.subtract(value);
+        sumOfSquares = sumOfSquares.subtract(value.multiply(value));
+        if (trackMedian) {
+            if (value.compareTo(lower.lastKey()) <= 0) {
+                decrement(lower, value);
+                lowerSize--;
+            } else {
+                decrement(upper, value);
+                upperSize--;
+            }
+            balance();
+        }
+    }
+
+    private void balance() {
+        if (lowerSize > upperSize + 1) {
+            BigDecimal value = lower.lastKey();
+            decrement(lower, value);
+            increment(upper, value);
+            lowerSize--;
+            upperSize++;
+        } else if (upperSize > lowerSize) {
+            BigDecimal value = upper.firstKey();
+            decrement(upper, value);
+            increment(lower, value);
+            upperSize--;
+            lowerSize++;
+        }
+    }
+
+    private static void increment(TreeMap<BigDecimal, Integer> multiset, BigDecimal value) {
+        multiset.merge(value, 1, Integer::sum);
+    }
+
+    private static void decrement(TreeMap<BigDecimal, Integer> multiset, BigDecimal value) {
+        multiset.computeIfPresent(value, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * @return the number of values in the window
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the average, or null if the window is empty
+     */
+    @Nullable
+    BigDecimal average() {
+        return size == 0 ? null : sum.divide(BigDecimal.valueOf(size), MathContext.DECIMAL32);
+    }
+
+    /**
+     * Calculates the population standard deviation around the average rounded to two decimal places.
+     *
+     * @return the standard deviation, or null if the window is empty
+     */
+    @Nullable
+    BigDecimal standardDeviation() {
+        if (size == 0) {
+            return null;
+        }
+        BigDecimal count = BigDecimal.valueOf(size);
+        BigDecimal average = sum.divide(count, 2, RoundingMode.HALF_EVEN);
+        // sum of (value - average)² = sum of squares - 2 * average * sum + count * average²
+        BigDecimal squaredDeviations = sumOfSquares.subtract(average.multiply(sum).multiply(BigDecimal.TWO))
+                .add(count.multiply(average).multiply(average));
+        return squaredDeviations.divide(count, MathContext.DECIMAL32).sqrt(MathContext.DECIMAL32);
+    }
+
+    /**
+     * @return the median, or null if the window is empty or the median is not tracked
+     */
+    @Nullable
+    BigDecimal median() {
+        if (size == 0 || !trackMedian) {
+            return null;
+        }
+        // the median of the two middle values is calculated the same way as the median of the whole window
+        return lowerSize > upperSize ? lower.lastKey() : Statistics.median(List.of(lower.lastKey(), upper.firstKey()));
+    }
+
+    /**
+     * @return the minimum, or null if the window is empty
+     */
+    @Nullable
+    BigDecimal min() {
+        return size == 0 ? null : minima.peekFirst().value();
+    }
+
+    /**
+     * @return the maximum, or null if the window is empty
+     */
+    @Nullable
+    BigDecimal max() {
+        return size == 0 ? null : maxima.peekFirst().value();
+    }
+}
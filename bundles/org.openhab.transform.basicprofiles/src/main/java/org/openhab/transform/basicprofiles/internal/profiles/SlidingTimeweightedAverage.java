@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Moving time-weighted average over a sliding window, each sample being valid until the next one.
+ *
+ * <p>
+ * The window is divided into a fixed number of time buckets, each holding the area and the duration integrated in
+ * its time slot. The oldest bucket is only partially inside the window and is weighted by the share of its time slot
+ * that is inside the window. The memory used does not depend on the number of samples, and the average is exact up
+ * to the distribution of the samples within the oldest bucket.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class SlidingTimeweightedAverage {
+
+    static final int BUCKETS = 60;
+
+    private final long windowMs;
+    private final long bucketMs;
+    // a window spans BUCKETS complete time slots plus the partial oldest one
+    private final long[] slots = new long[BUCKETS + 1];
+    private final double[] areas = new double[BUCKETS + 1];
+    private final long[] durations = new long[BUCKETS + 1];
+
+    private long latestMs;
+    private double latestValue;
+    private boolean empty = true;
+
+    SlidingTimeweightedAverage(Duration window) {
+        this.windowMs = Math.max(window.toMillis(), BUCKETS);
+        this.bucketMs = (windowMs + BUCKETS - 1) / BUCKETS;
+        Arrays.fill(slots, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds a sample and calculates the average of the window ending at the sample.
+     *
+     * @return the time-weighted average, or null if no time has passed since the first sample
+     */
+    @Nullable
+    Double add(Instant timestamp, double value) {
+        long nowMs = timestamp.toEpochMilli();
+        if (!empty) {
+            // periods older than the window are never read, so they are not integrated
+            integrate(Math.max(latestMs, nowMs - windowMs - bucketMs), nowMs, latestValue);
+        }
+        latestMs = empty ? nowMs : Math.max(latestMs, nowMs);
+        latestValue = value;
+        empty = false;
+        return average(nowMs);
+    }
+
+    private void integrate(long fromMs, long toMs, double value) {
+        long startMs = fromMs;
+        while (startMs < toMs) {
+            long slot = Math.floorDiv(startMs, bucketMs);
+            long endMs = Math.min(toMs, (slot + 1) * bucketMs);
+            int index = (int) Math.floorMod(slot, (long) slots.length);
+            if (slots[index] != slot) {
+                // the bucket is reused for a new time slot
+                slots[index] = slot;
+                areas[index] = 0;
+                durations[index] = 0;
+            }
+            areas[index] += value * (endMs - startMs);
+            durations[index] += endMs - startMs;
+            startMs = endMs;
+        }
+    }
+
+    private @Nullable Double average(long nowMs) {
+        long windowStartMs = nowMs - windowMs;
+        long oldestSlot = Math.floorDiv(windowStartMs, bucketMs);
+        long latestSlot = Math.floorDiv(nowMs, bucketMs);
+        double area = 0;
+        double duration = 0;
+        for (int i = 0; i < slots.length; i++) {
+            long slot = slots[i];
+            if (slot < oldestSlot || slot > latestSlot) {
+                continue;
+            }
+            double weight = slot == oldestSlot ? ((slot + 1) * bucketMs - windowStartMs) / (double) bucketMs : 1;
+            area += areas[i] * weight;
+            duration += durations[i] * weight;
+        }
+        return duration > 0 ? area / duration : null;
+    }
+}
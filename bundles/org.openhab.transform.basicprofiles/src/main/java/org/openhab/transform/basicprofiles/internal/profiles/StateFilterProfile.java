@@ -17,14 +17,15 @@ import static org.openhab.transform.basicprofiles.internal.factory.BasicProfiles
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -49,7 +50,6 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
-import org.openhab.core.util.Statistics;
 import org.openhab.transform.basicprofiles.internal.config.StateFilterProfileConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,8 +109,9 @@ public class StateFilterProfile implements StateProfile {
     // single cached numeric state for use in conjunction with DELTA and DELTA_PERCENT functions
     private Optional<State> acceptedState = Optional.empty();
 
-    // cached list of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
-    private final List<State> previousStates = new LinkedList<>();
+    // rolling statistics of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions,
+    // one per window size
+    private final Map<Integer, RollingStatistics> previousStates = new HashMap<>();
 
     private final int windowSize;
 
@@ -148,6 +149,20 @@ public class StateFilterProfile implements StateProfile {
         }
 
         windowSize = maxWindowSize;
+
+        // functions with the same window size share their statistics, the median is only tracked if it is used
+        List<FunctionType> functions = conditions.stream()
+                .flatMap(condition -> Stream.of(condition.lhsState, condition.rhsState))
+                .filter(FunctionType.class::isInstance).map(FunctionType.class::cast)
+                .filter(function -> function.getWindowSize() > 0).toList();
+        Set<Integer> medianWindowSizes = functions.stream()
+                .filter(function -> function.getType() == FunctionType.Function.MEDIAN)
+                .map(FunctionType::getStatisticsWindowSize).collect(Collectors.toSet());
+        for (FunctionType function : functions) {
+            function.statistics = previousStates.computeIfAbsent(function.getStatisticsWindowSize(),
+                    size -> new RollingStatistics(size, medianWindowSizes.contains(size)));
+        }
+
         configMismatchState = parseState(config.mismatchState, context.getAcceptedDataTypes());
     }
 
@@ -219,11 +234,8 @@ public class StateFilterProfile implements StateProfile {
         } else {
             logger.debug("Received state update from handler: {}, not forwarded to item", state);
         }
-        if (windowSize > 0 && isCacheable(state)) {
-            previousStates.add(state);
-            if (previousStates.size() > windowSize) {
-                previousStates.removeFirst();
-            }
+        if (windowSize > 0 && isCacheable(state) && toBigDecimal(state) instanceof BigDecimal value) {
+            previousStates.values().forEach(statistics -> statistics.add(value));
         }
     }
 
@@ -557,6 +569,7 @@ public class StateFilterProfile implements StateProfile {
 
         private final Function type;
         private final Optional<Integer> windowSize;
+        private @Nullable RollingStatistics statistics;
 
         public FunctionType(Function type, Optional<Integer> windowSize) {
             this.type = type;
@@ -570,22 +583,20 @@ public class StateFilterProfile implements StateProfile {
                 case DELTA -> result = calculateDelta();
                 case DELTA_PERCENT -> result = calculateDeltaPercent();
                 default -> {
-                    int size = previousStates.size();
-                    Integer start = windowSize.map(w -> size - w).orElse(0);
-                    List<BigDecimal> values = toBigDecimals(
-                            start == null || start <= 0 ? previousStates : previousStates.subList(start, size));
-                    if (values.isEmpty()) {
+                    RollingStatistics statistics = this.statistics;
+                    if (statistics == null || statistics.size() == 0) {
                         logger.debug("Not enough states to calculate {}", type);
                         result = null;
                     } else {
-                        switch (type) {
-                            case AVG, AVERAGE -> result = calculateAverage(values);
-                            case MEDIAN -> result = calculateMedian(values);
-                            case STDDEV -> result = calculateStdDev(values);
-                            case MIN -> result = calculateMin(values);
-                            case MAX -> result = calculateMax(values);
-                            default -> result = null;
-                        }
+                        BigDecimal value = switch (type) {
+                            case AVG, AVERAGE -> statistics.average();
+                            case MEDIAN -> statistics.median();
+                            case STDDEV -> statistics.standardDeviation();
+                            case MIN -> statistics.min();
+                            case MAX -> statistics.max();
+                            default -> null;
+                        };
+                        result = value == null ? null : toState(value);
                     }
                 }
             }
@@ -631,6 +642,13 @@ public class StateFilterProfile implements StateProfile {
             return windowSize.isPresent() ? windowSize.get() : DEFAULT_WINDOW_SIZE;
         }
 
+        /**
+         * Functions without an explicit window size are calculated over the largest window of the profile.
+         */
+        int getStatisticsWindowSize() {
+            return windowSize.orElse(StateFilterProfile.this.windowSize);
+        }
+
         public Function getType() {
             return type;
         }
@@ -650,40 +668,6 @@ public class StateFilterProfile implements StateProfile {
             return toFullString();
         }
 
-        private @Nullable State calculateAverage(List<BigDecimal> values) {
-            return Optional
-                    .ofNullable(values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32))
-                    .map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateMedian(List<BigDecimal> values) {
-            return Optional.ofNullable(Statistics.median(values)).map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateStdDev(List<BigDecimal> values) {
-            BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
-
-            BigDecimal variance = values.stream().map(value -> {
-                BigDecimal delta = value.subtract(average);
-                return delta.multiply(delta);
-            }).reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
-                    MathContext.DECIMAL32);
-
-            return toState(variance.sqrt(MathContext.DECIMAL32));
-        }
-
-        private @Nullable State calculateMin(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().min(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
-        private @Nullable State calculateMax(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().max(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
         private @Nullable State calculateDelta() {
             return acceptedState.isPresent() //
                     && toBigDecimal(acceptedState.get()) instanceof BigDecimal acceptedValue
@@ -743,16 +727,6 @@ public class StateFilterProfile implements StateProfile {
                 : null;
     }
 
-    /**
-     * Convert a list of {@link State} to a list of {@link BigDecimal} values.
-     *
-     * @param states list of {@link State} values.
-     * @return list of {@link BigDecimal} values.
-     */
-    protected List<BigDecimal> toBigDecimals(List<? extends State> states) {
-        return states.stream().map(s -> toBigDecimal(s)).filter(Objects::nonNull).toList();
-    }
-
     /**
      * Create a new {@link State} from the given {@link BigDecimal} value. If there is a 'systemUnit' it creates a
      * {@link QuantityType} based on that unit. Otherwise it creates a {@link DecimalType}.
@@ -792,7 +766,7 @@ public class StateFilterProfile implements StateProfile {
 
     /**
      * Check if the given {@link State} is suitable to be cached. This means it is suitable to add to the
-     * 'previousStates' list and/or to set to the 'acceptedState' field. This means that either there is a
+     * 'previousStates' statistics and/or to set to the 'acceptedState' field. This means that either there is a
      * 'systemUnit' with which 'state' is compatible, or it can provide a {@link DecimalType} value.
      *
      * @param state the {@link State} to be tested.
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Integrates samples over time, each sample being valid until the next one. Only the running area, the total
+ * duration and the latest sample are kept, so the memory used does not depend on the number of samples.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class TimeweightedAccumulator {
+
+    private @Nullable Instant latestTimestamp;
+    private double latestValue;
+    private double area;
+    private long durationMs;
+    private int samples;
+
+    /**
+     * Adds a sample. The previous sample is weighted with the time passed since it was added. A sample with the same
+     * timestamp as the previous one replaces it.
+     */
+    void add(Instant timestamp, double value) {
+        Instant localLatestTimestamp = latestTimestamp;
+        if (localLatestTimestamp == null) {
+            samples++;
+        } else if (!timestamp.equals(localLatestTimestamp)) {
+            long sampleDurationMs = Duration.between(localLatestTimestamp, timestamp).toMillis();
+            area += latestValue * sampleDurationMs;
+            durationMs += sampleDurationMs;
+            samples++;
+        }
+        latestTimestamp = timestamp;
+        latestValue = value;
+    }
+
+    /**
+     * @return the number of samples, samples replaced by a sample with the same timestamp are not counted
+     */
+    int getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return the time-weighted average of all samples but the latest one, or 0 if no time has passed
+     */
+    double average() {
+        return durationMs > 0 ? area / durationMs : 0;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    void clear() {
+        latestTimestamp = null;
+        latestValue = 0;
+        area = 0;
+        durationMs = 0;
+        samples = 0;
+    }
+}
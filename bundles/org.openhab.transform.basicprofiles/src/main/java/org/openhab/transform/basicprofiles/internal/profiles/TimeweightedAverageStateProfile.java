@@ -14,10 +14,9 @@ package org.openhab.transform.basicprofiles.internal.profiles;
 
 import static org.openhab.transform.basicprofiles.internal.factory.BasicProfilesFactory.TIME_WEIGHTED_AVERAGE_UID;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +41,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Build time-weighted average {@link State} values.
  *
+ * <p>
+ * By default the average of each time frame is delivered at its end. If configured, a moving average over the
+ * duration is delivered on every state update instead. In both cases the states are integrated as they arrive, so
+ * the memory used does not depend on the number of state updates.
+ *
  * @author Bernd Weymann - Initial contribution
  */
 @NonNullByDefault
@@ -49,10 +53,11 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
 
     private final Logger logger = LoggerFactory.getLogger(TimeweightedAverageStateProfile.class);
-    private final TreeMap<Instant, State> timeframe = new TreeMap<>();
+    private final TimeweightedAccumulator timeframe = new TimeweightedAccumulator();
     private final TimeweightedAverageProfileConfig config;
     private final ScheduledExecutorService scheduler;
     private final ProfileCallback callback;
+    private final Clock clock;
 
     private boolean streamingInTimeframe = false;
     private Duration scheduleDuration;
@@ -60,9 +65,15 @@ public class TimeweightedAverageStateProfile implements StateProfile {
     private @Nullable ScheduledFuture<?> twaJob;
     private @Nullable State latestState;
     private @Nullable Unit<?> stateUnit;
+    private final @Nullable SlidingTimeweightedAverage slidingWindow;
 
     public TimeweightedAverageStateProfile(ProfileCallback callback, ProfileContext context) {
+        this(callback, context, Clock.systemUTC());
+    }
+
+    TimeweightedAverageStateProfile(ProfileCallback callback, ProfileContext context, Clock clock) {
         this.callback = callback;
+        this.clock = clock;
         this.scheduler = context.getExecutorService();
         this.config = context.getConfiguration().as(TimeweightedAverageProfileConfig.class);
         itemName = callback.getItemChannelLink().getItemName();
@@ -73,6 +84,7 @@ public class TimeweightedAverageStateProfile implements StateProfile {
             logger.warn("Invalid duration configuration {} for item {}. Fallback to {}", config.duration, itemName,
                     DEFAULT_TIMEOUT);
         }
+        slidingWindow = config.sliding ? new SlidingTimeweightedAverage(scheduleDuration) : null;
     }
 
     @Override
@@ -91,6 +103,13 @@ public class TimeweightedAverageStateProfile implements StateProfile {
                 init(state);
             }
 
+            SlidingTimeweightedAverage localSlidingWindow = slidingWindow;
+            if (localSlidingWindow != null) {
+                deliverMovingAverage(localSlidingWindow, state);
+                latestState = state;
+                return;
+            }
+
             // if state change is above delta threshold, deliver immediately collected values plus latest reported state
             if (deltaExceeded(state)) {
                 deliver();
@@ -99,7 +118,7 @@ public class TimeweightedAverageStateProfile implements StateProfile {
 
             // start new time frame
             startJob();
-            timeframe.put(Instant.now(), state);
+            timeframe.add(clock.instant(), state2Double(state));
             latestState = state;
             streamingInTimeframe = true;
         }
@@ -132,33 +151,37 @@ public class TimeweightedAverageStateProfile implements StateProfile {
         return false;
     }
 
-    private void deliver() {
-        TreeMap<Instant, State> delivery = prepareDelivery();
-        if (delivery.size() <= 1) {
-            logger.debug("Cannot calculate time-weighted average for item {} with {} elements", itemName,
-                    delivery.size());
+    private void deliverMovingAverage(SlidingTimeweightedAverage localSlidingWindow, State state) {
+        Double average = localSlidingWindow.add(clock.instant(), state2Double(state));
+        if (deltaExceeded(state)) {
+            callback.sendUpdate(state);
+        } else if (average == null) {
+            logger.debug("Cannot calculate moving time-weighted average for item {} from the first state", itemName);
         } else {
-            callback.sendUpdate(getState(average(delivery)));
+            logger.debug("Moving average {} is {}", itemName, average);
+            callback.sendUpdate(getState(average));
         }
     }
 
-    private TreeMap<Instant, State> prepareDelivery() {
-        TreeMap<Instant, State> delivery;
+    private void deliver() {
+        int samples;
+        double average;
         // synchronize access to timeframe and latestState to prepare delivery without parallel execution of
         // onStateUpdateFromHandler
         synchronized (timeframe) {
             resetJob();
-            delivery = new TreeMap<>(timeframe);
             // add termination element
-            Instant now = Instant.now();
-            delivery.put(now, DecimalType.ZERO);
+            Instant now = clock.instant();
+            timeframe.add(now, 0);
+            samples = timeframe.getSamples();
+            average = timeframe.average();
             // clear time frame and put latest reported state as start point of the next calculation
             timeframe.clear();
             State localState = latestState;
             if (localState != null) {
                 if (streamingInTimeframe) {
                     // state updates retrieved in time frame, start new job
-                    timeframe.put(now, localState);
+                    timeframe.add(now, state2Double(localState));
                     streamingInTimeframe = false;
                     startJob();
                 } else {
@@ -167,7 +190,13 @@ public class TimeweightedAverageStateProfile implements StateProfile {
                 }
             }
         }
-        return delivery;
+
+        if (samples <= 1) {
+            logger.debug("Cannot calculate time-weighted average for item {} with {} elements", itemName, samples);
+        } else {
+            logger.debug("Average {} is {} for {} updates", itemName, average, samples);
+            callback.sendUpdate(getState(average));
+        }
     }
 
     private void startJob() {
@@ -195,26 +224,6 @@ public class TimeweightedAverageStateProfile implements StateProfile {
         return as.doubleValue();
     }
 
-    public double average(TreeMap<Instant, State> values) {
-        Instant previousTimestamp = null;
-        State previousValue = DecimalType.ZERO;
-        double totalWeightedValue = 0;
-        long totalDurationMs = 0;
-
-        for (Map.Entry<Instant, State> entry : values.entrySet()) {
-            if (previousTimestamp != null) {
-                long durationMs = Duration.between(previousTimestamp, entry.getKey()).toMillis();
-                totalWeightedValue += state2Double(previousValue) * durationMs;
-                totalDurationMs += durationMs;
-            }
-            previousTimestamp = entry.getKey();
-            previousValue = entry.getValue();
-        }
-        double average = (totalDurationMs > 0) ? totalWeightedValue / totalDurationMs : 0;
-        logger.debug("Average {} is {} for {} updates", itemName, average, values.size());
-        return average;
-    }
-
     private State getState(double average) {
         Unit<?> localUnit = stateUnit;
         if (localUnit == null) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.util.Statistics;
+
+/**
+ * Tests for {@link RollingStatistics}, comparing its results with the results calculated from all values of the
+ * window.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class RollingStatisticsTest {
+
+    @Test
+    public void testEmptyWindow() {
+        RollingStatistics statistics = new RollingStatistics(3, true);
+
+        assertEquals(0, statistics.size());
+        assertNull(statistics.average());
+        assertNull(statistics.median());
+        assertNull(statistics.standardDeviation());
+        assertNull(statistics.min());
+        assertNull(statistics.max());
+    }
+
+    @Test
+    public void testOldestValueLeavesTheWindow() {
+        RollingStatistics statistics = new RollingStatistics(3, true);
+        for (int value : new int[] { 1, 9, 5, 3, 4 }) {
+            statistics.add(BigDecimal.valueOf(value));
+        }
+
+        // window is 5, 3, 4
+        assertEquals(3, statistics.size());
+        assertEquals(0, BigDecimal.valueOf(4).compareTo(Objects.requireNonNull(statistics.average())));
+        assertEquals(BigDecimal.valueOf(4), statistics.median());
+        assertEquals(BigDecimal.valueOf(3), statistics.min());
+        assertEquals(BigDecimal.valueOf(5), statistics.max());
+    }
+
+    @Test
+    public void testMedianNotTracked() {
+        RollingStatistics statistics = new RollingStatistics(3, false);
+        statistics.add(BigDecimal.ONE);
+
+        assertNull(statistics.median());
+        assertEquals(BigDecimal.ONE, statistics.min());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 5, 16, 101 })
+    public void testResultsMatchFullCalculation(int capacity) {
+        Random random = new Random(capacity);
+        RollingStatistics statistics = new RollingStatistics(capacity, true);
+        List<BigDecimal> window = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            // few distinct values with different scales, so that equal values are common
+            BigDecimal value = BigDecimal.valueOf(random.nextInt(40) - 20, random.nextInt(3));
+            statistics.add(value);
+            window.add(value);
+            if (window.size() > capacity) {
+                window.removeFirst();
+            }
+
+            assertEquals(window.size(), statistics.size());
+            assertSameValue(average(window), statistics.average());
+            assertSameValue(Statistics.median(window), statistics.median());
+            assertSameValue(standardDeviation(window), statistics.standardDeviation());
+            assertSameValue(window.stream().min(BigDecimal::compareTo).orElseThrow(), statistics.min());
+            assertSameValue(window.stream().max(BigDecimal::compareTo).orElseThrow(), statistics.max());
+        }
+    }
+
+    private static void assertSameValue(@Nullable BigDecimal expected, @Nullable BigDecimal actual) {
+        assertNotNull(expected);
+        assertNotNull(actual);
+        assertEquals(0, expected.compareTo(actual), () -> "expected " + expected + " but was " + actual);
+    }
+
+    private static BigDecimal average(List<BigDecimal> values) {
+        return values.stream().reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
+                MathContext.DECIMAL32);
+    }
+
+    private static BigDecimal standardDeviation(List<BigDecimal> values) {
+        BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
+        BigDecimal variance = values.stream().map(value -> value.subtract(average).pow(2))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32);
+        return variance.sqrt(MathContext.DECIMAL32);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimeweightedAccumulator} and {@link SlidingTimeweightedAverage}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SlidingTimeweightedAverageTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void testAccumulator() {
+        TimeweightedAccumulator accumulator = new TimeweightedAccumulator();
+        accumulator.add(START, 300);
+        accumulator.add(START.plusSeconds(20), 900);
+        // same timestamp replaces the previous sample
+        accumulator.add(START.plusSeconds(40), 100);
+        accumulator.add(START.plusSeconds(40), 600);
+        accumulator.add(START.plusSeconds(60), 0);
+
+        assertEquals(4, accumulator.getSamples());
+        assertEquals(600.0, accumulator.average());
+
+        accumulator.clear();
+        assertEquals(0, accumulator.getSamples());
+        assertEquals(0.0, accumulator.average());
+    }
+
+    @Test
+    public void testFirstSampleHasNoAverage() {
+        SlidingTimeweightedAverage average = new SlidingTimeweightedAverage(Duration.ofMinutes(1));
+
+        assertNull(average.add(START, 100));
+    }
+
+    @Test
+    public void testAverageWithinWindow() {
+        SlidingTimeweightedAverage average = new SlidingTimeweightedAverage(Duration.ofMinutes(1));
+        average.add(START, 300);
+        average.add(START.plusSeconds(20), 900);
+
+        assertEquals(600.0, average.add(START.plusSeconds(40), 0));
+        assertEquals(400.0, average.add(START.plusSeconds(60), 0));
+    }
+
+    @Test
+    public void testOldSamplesLeaveTheWindow() {
+        SlidingTimeweightedAverage average = new SlidingTimeweightedAverage(Duration.ofMinutes(1));
+        average.add(START, 1000);
+        average.add(START.plusSeconds(30), 0);
+
+        // 1000 from 0:00 to 0:30 and 0 from 0:30 to 1:30, only 0:30 to 1:30 is in the window
+        assertEquals(0.0, average.add(START.plusSeconds(90), 500));
+        // 0 from 0:45 to 1:30 and 500 from 1:30 to 1:45
+        assertEquals(125.0, average.add(START.plusSeconds(105), 500));
+    }
+
+    @Test
+    public void testLongGap() {
+        SlidingTimeweightedAverage average = new SlidingTimeweightedAverage(Duration.ofMinutes(1));
+        average.add(START, 1000);
+        average.add(START.plusSeconds(30), 200);
+
+        // the latest sample was valid for the whole window
+        assertEquals(200.0, average.add(START.plus(Duration.ofDays(365)), 0));
+    }
+
+    @Test
+    public void testPartialBucketIsWeighted() {
+        // buckets of one second
+        SlidingTimeweightedAverage average = new SlidingTimeweightedAverage(Duration.ofMinutes(1));
+        average.add(START, 100);
+        average.add(START.plusMillis(60_000), 100);
+        average.add(START.plusMillis(60_500), 200);
+
+        // the window starts in the middle of the first bucket, 100 for 59.5s and 200 for 0.5s
+        double expected = (100 * 59.5 + 200 * 0.5) / 60;
+        assertEquals(expected, Objects.requireNonNull(average.add(START.plusMillis(61_000), 0)), 1e-9);
+    }
+}
@@ -16,9 +16,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
-import java.util.TreeMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.config.core.Configuration;
@@ -52,6 +53,7 @@ class TimeweightedAverageProfileTest {
     private @Mock @NonNullByDefault({}) ProfileCallback mockCallback;
     private @Mock @NonNullByDefault({}) ProfileContext mockContext;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService mockScheduler;
+    private @Mock @NonNullByDefault({}) Clock mockClock;
     private final String testItemName = "testItem";
     private final ChannelUID testChannelUID = new ChannelUID("this:test:channel:uid");
     private ItemChannelLink testLink = new ItemChannelLink(testItemName, testChannelUID);
@@ -106,12 +108,25 @@ class TimeweightedAverageProfileTest {
     @ParameterizedTest
     @MethodSource
     public void testTWAAverages(List<String> timeStrings, List<String> stateStrings, double expectedAverage) {
-        TimeweightedAverageStateProfile profile = initTWAProfile("10s", 0);
-        TreeMap<Instant, State> testData = new TreeMap<>();
+        initTWAProfile("10s", 0);
+        TimeweightedAverageStateProfile profile = new TimeweightedAverageStateProfile(mockCallback, mockContext,
+                mockClock);
         for (int i = 0; i < timeStrings.size(); i++) {
-            testData.put(Instant.parse(timeStrings.get(i)), QuantityType.valueOf(stateStrings.get(i)));
+            when(mockClock.instant()).thenReturn(Instant.parse(timeStrings.get(i)));
+            profile.onStateUpdateFromHandler(QuantityType.valueOf(stateStrings.get(i)));
         }
-        assertEquals(expectedAverage, profile.average(testData));
+        verify(mockCallback, never()).sendUpdate(any());
+
+        // the time frame ends with the last state
+        ArgumentCaptor<Runnable> deliveryJob = ArgumentCaptor.forClass(Runnable.class);
+        verify(mockScheduler, atLeastOnce()).schedule(deliveryJob.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        deliveryJob.getValue().run();
+
+        ArgumentCaptor<State> average = ArgumentCaptor.forClass(State.class);
+        verify(mockCallback).sendUpdate(average.capture());
+        QuantityType<?> averageState = (QuantityType<?>) average.getValue();
+        assertEquals(expectedAverage, averageState.doubleValue());
+        assertEquals("W", averageState.getUnit().toString());
     }
 
     public static Stream<Arguments> testTWADelta() {
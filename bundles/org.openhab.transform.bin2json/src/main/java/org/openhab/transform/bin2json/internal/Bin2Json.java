@@ -14,16 +14,19 @@ package org.openhab.transform.bin2json.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import com.igormaznitsa.jbbp.JBBPParser;
 import com.igormaznitsa.jbbp.exceptions.JBBPException;
 import com.igormaznitsa.jbbp.model.JBBPAbstractArrayField;
@@ -58,12 +61,15 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * "https://github.com/raydac/java-binary-block-parser">https://github.com/raydac/java-binary-block-parser</a>
  *
  * <p>
+ * The JSON document is written field by field to a {@link JsonWriter}, without building a JSON tree first.
+ *
+ * <p>
  * Usage example:
  *
  * <pre>
  * {@code
- * JsonObject json = new Bin2Json("byte a; byte b; ubyte c;").convert("03FAFF");
- * json.toString() = {"a":3,"b":-6,"c":255}}
+ * String json = new Bin2Json("byte a; byte b; ubyte c;").convert("03FAFF");
+ * json = {"a":3,"b":-6,"c":255}}
  * </pre>
  *
  * @author Pauli Anttila - Initial contribution
@@ -71,6 +77,8 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  */
 public class Bin2Json {
 
+    private static final String UNNAMED_FIELD = "nonamed";
+
     private final Logger logger = LoggerFactory.getLogger(Bin2Json.class);
 
     private JBBPParser parser;
@@ -81,157 +89,185 @@ public class Bin2Json {
      * @throws ConversionException
      */
     public Bin2Json(String parserRule) throws ConversionException {
-        try {
-            parser = JBBPParser.prepare(parserRule);
-        } catch (JBBPException e) {
-            throw new ConversionException(String.format("Illegal parser rule, reason: %s", e.getMessage(), e));
-        }
+        this(JBBPParserCache.prepare(parserRule));
     }
 
     /**
-     * Convert {@link String} in hexadecimal string format to JSON object.
+     *
+     * @param parser Prepared binary data parser, e.g. from a {@link JBBPParserCache}
+     */
+    public Bin2Json(JBBPParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Convert {@link String} in hexadecimal string format to JSON.
      *
      * @param hexString Data in hexadecimal string format. Example data: 03FAFF
-     * @return Gson {@link JsonObject}
+     * @return JSON document
      * @throws ConversionException
      */
-    public JsonObject convert(String hexString) throws ConversionException {
+    public String convert(String hexString) throws ConversionException {
         try {
             return convert(HexUtils.hexToBytes(hexString));
         } catch (IllegalArgumentException e) {
-            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage(), e));
+            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage()), e);
         }
     }
 
     /**
-     * Convert byte array to JSON object.
+     * Convert byte array to JSON.
      *
      * @param data Data in byte array format.
-     * @return Gson {@link JsonObject}
+     * @return JSON document
      * @throws ConversionException
      */
-    public JsonObject convert(byte[] data) throws ConversionException {
+    public String convert(byte[] data) throws ConversionException {
         try {
             return convert(parser.parse(data));
         } catch (IOException e) {
-            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
         } catch (JBBPException e) {
-            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
         }
     }
 
     /**
-     * Convert data from {@link InputStream} to JSON object.
+     * Convert data from {@link InputStream} to JSON.
      *
      * @param inputStream
-     * @return Gson {@link JsonObject}
+     * @return JSON document
      * @throws ConversionException
      */
-    public JsonObject convert(InputStream inputStream) throws ConversionException {
+    public String convert(InputStream inputStream) throws ConversionException {
         try {
             return convert(parser.parse(inputStream));
         } catch (IOException e) {
-            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
         } catch (JBBPException e) {
-            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
         }
     }
 
-    private JsonObject convert(JBBPFieldStruct data) throws ConversionException {
+    private String convert(JBBPFieldStruct data) throws ConversionException {
         try {
             LocalDateTime start = LocalDateTime.now();
-            final JsonObject json = convertToJSon(data);
+            final StringWriter out = new StringWriter();
+            try (JsonWriter writer = new JsonWriter(out)) {
+                writeStruct(writer, data);
+            }
+            final String json = out.toString();
             if (logger.isTraceEnabled()) {
                 Duration duration = Duration.between(start, LocalDateTime.now());
-                logger.trace("Conversion time={}, json={}", duration, json.toString());
+                logger.trace("Conversion time={}, json={}", duration, json);
             }
             return json;
-        } catch (JBBPException e) {
-            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage(), e));
+        } catch (IOException | JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
         }
     }
 
-    private JsonObject convertToJSon(final JBBPAbstractField field) throws ConversionException {
-        return convertToJSon(null, field);
+    private void writeStruct(final JsonWriter writer, final JBBPFieldStruct struct)
+            throws IOException, ConversionException {
+        writer.beginObject();
+        for (final JBBPAbstractField field : fields(struct)) {
+            writer.name(fieldName(field));
+            writeValue(writer, field);
+        }
+        writer.endObject();
     }
 
-    private JsonObject convertToJSon(final JsonObject json, final JBBPAbstractField field) throws ConversionException {
-        JsonObject jsn = json == null ? new JsonObject() : json;
-
-        final String fieldName = field.getFieldName() == null ? "nonamed" : field.getFieldName();
+    private void writeValue(final JsonWriter writer, final JBBPAbstractField field)
+            throws IOException, ConversionException {
         if (field instanceof JBBPAbstractArrayField) {
-            final JsonArray jsonArray = new JsonArray();
+            writer.beginArray();
             if (field instanceof JBBPFieldArrayBit bit) {
                 for (final byte b : bit.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayBoolean boolean1) {
                 for (final boolean b : boolean1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayByte byte1) {
                 for (final byte b : byte1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayInt int1) {
                 for (final int b : int1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayLong long1) {
                 for (final long b : long1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayShort short1) {
                 for (final short b : short1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b));
+                    writer.value(b);
                 }
             } else if (field instanceof JBBPFieldArrayStruct array) {
                 for (int i = 0; i < array.size(); i++) {
-                    jsonArray.add(convertToJSon(new JsonObject(), array.getElementAt(i)));
+                    // every structure of the array is wrapped in an object with the name of the array
+                    final JBBPFieldStruct element = array.getElementAt(i);
+                    writer.beginObject();
+                    writer.name(fieldName(element));
+                    writeStruct(writer, element);
+                    writer.endObject();
                 }
             } else if (field instanceof JBBPFieldArrayUByte byte1) {
                 for (final byte b : byte1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b & 0xFF));
+                    writer.value(b & 0xFF);
                 }
             } else if (field instanceof JBBPFieldArrayUShort short1) {
                 for (final short b : short1.getArray()) {
-                    jsonArray.add(new JsonPrimitive(b & 0xFFFF));
+                    writer.value(b & 0xFFFF);
                 }
             } else {
                 throw new ConversionException(String.format("Unexpected field type '%s'", field));
             }
-            jsn.add(fieldName, jsonArray);
+            writer.endArray();
         } else {
             if (field instanceof JBBPFieldBit bit) {
-                jsn.addProperty(fieldName, bit.getAsInt());
+                writer.value(bit.getAsInt());
             } else if (field instanceof JBBPFieldBoolean boolean1) {
-                jsn.addProperty(fieldName, boolean1.getAsBool());
+                writer.value(boolean1.getAsBool());
             } else if (field instanceof JBBPFieldByte byte1) {
-                jsn.addProperty(fieldName, byte1.getAsInt());
+                writer.value(byte1.getAsInt());
             } else if (field instanceof JBBPFieldInt int1) {
-                jsn.addProperty(fieldName, int1.getAsInt());
+                writer.value(int1.getAsInt());
             } else if (field instanceof JBBPFieldLong long1) {
-                jsn.addProperty(fieldName, long1.getAsLong());
+                writer.value(long1.getAsLong());
             } else if (field instanceof JBBPFieldShort short1) {
-                jsn.addProperty(fieldName, short1.getAsInt());
+                writer.value(short1.getAsInt());
             } else if (field instanceof JBBPFieldStruct struct) {
-                final JsonObject obj = new JsonObject();
-                for (final JBBPAbstractField f : struct.getArray()) {
-                    convertToJSon(obj, f);
-                }
-                if (json == null) {
-                    return obj;
-                } else {
-                    jsn.add(fieldName, obj);
-                }
+                writeStruct(writer, struct);
             } else if (field instanceof JBBPFieldUByte byte1) {
-                jsn.addProperty(fieldName, byte1.getAsInt());
+                writer.value(byte1.getAsInt());
             } else if (field instanceof JBBPFieldUShort short1) {
-                jsn.addProperty(fieldName, short1.getAsInt());
+                writer.value(short1.getAsInt());
             } else {
                 throw new ConversionException(String.format("Unexpected field '%s'", field));
             }
         }
-        return jsn;
+    }
+
+    private static String fieldName(final JBBPAbstractField field) {
+        final String fieldName = field.getFieldName();
+        return fieldName == null ? UNNAMED_FIELD : fieldName;
+    }
+
+    private static Collection<JBBPAbstractField> fields(final JBBPFieldStruct struct) {
+        final JBBPAbstractField[] fields = struct.getArray();
+        for (final JBBPAbstractField field : fields) {
+            if (field.getFieldName() == null) {
+                // unnamed fields share a name, only the last one is kept at the position of the first one
+                final Map<String, JBBPAbstractField> byName = new LinkedHashMap<>();
+                for (final JBBPAbstractField f : fields) {
+                    byName.put(fieldName(f), f);
+                }
+                return byName.values();
+            }
+        }
+        return Arrays.asList(fields);
     }
 }
@@ -14,6 +14,7 @@ package org.openhab.transform.bin2json.internal;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.RawType;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Component;
@@ -24,19 +25,27 @@ import org.slf4j.LoggerFactory;
  * The implementation of {@link TransformationService} which transforms the
  * hexa string formatted binary data by Binary Block Parser syntax to JSON format.
  *
+ * <p>
+ * Binary data can also be given as the full string of a {@link RawType}, i.e. as a {@code data:} URI. The prepared
+ * parsers are cached per syntax.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=BIN2JSON" })
 public class Bin2JsonTransformationService implements TransformationService {
 
+    private static final String DATA_URI_PREFIX = "data:";
+
     private Logger logger = LoggerFactory.getLogger(Bin2JsonTransformationService.class);
 
+    private final JBBPParserCache parserCache = new JBBPParserCache();
+
     /**
      * Transforms the input <code>source</code> by Java Binary Block Parser syntax.
      *
      * @param syntax Java Binary Block Parser syntax.
-     * @param source the input to transform
+     * @param source the input to transform, either a hexa string or the full string of a {@link RawType}
      */
     @Override
     public @Nullable String transform(String syntax, String source) throws TransformationException {
@@ -46,14 +55,25 @@ public class Bin2JsonTransformationService implements TransformationService {
         String result = "";
 
         try {
-            result = String.valueOf(new Bin2Json(syntax).convert(source));
+            Bin2Json bin2Json = new Bin2Json(parserCache.get(syntax));
+            if (source.startsWith(DATA_URI_PREFIX)) {
+                result = bin2Json.convert(RawType.valueOf(source).getBytes());
+            } else {
+                result = bin2Json.convert(source);
+            }
             logger.debug("transformation resulted '{}'", result);
             return result;
         } catch (ConversionException e) {
             throw new TransformationException("An error occurred while executing the converter. " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new TransformationException("Illegal raw data, reason: " + e.getMessage(), e);
         } finally {
             logger.trace("Bin2Json execution elapsed {} ms. Result: {}", System.currentTimeMillis() - startTime,
                     result);
         }
     }
+
+    JBBPParserCache getParserCache() {
+        return parserCache;
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.igormaznitsa.jbbp.JBBPParser;
+import com.igormaznitsa.jbbp.exceptions.JBBPException;
+
+/**
+ * Bounded cache of prepared {@link JBBPParser}s, keyed by the parser rule. The least recently used parser is evicted
+ * when the cache is full.
+ *
+ * <p>
+ * A prepared parser keeps no state between calls of its parse methods, so a cached parser may be used by several
+ * threads at the same time.
+ *
+ * <p>
+ * Rules are short, so a missing parser is prepared while holding the lock of the cache.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JBBPParserCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 128;
+
+    private final Map<String, JBBPParser> cache;
+
+    public JBBPParserCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    JBBPParserCache(int maxEntries) {
+        this.cache = new LRUMap<>(maxEntries);
+    }
+
+    /**
+     * Returns the prepared parser, preparing it on first use.
+     *
+     * @param parserRule Binary data parser rule
+     * @throws ConversionException if the rule is invalid
+     */
+    public synchronized JBBPParser get(String parserRule) throws ConversionException {
+        JBBPParser parser = cache.get(parserRule);
+        if (parser == null) {
+            parser = prepare(parserRule);
+            cache.put(parserRule, parser);
+        }
+        return parser;
+    }
+
+    static JBBPParser prepare(String parserRule) throws ConversionException {
+        try {
+            return JBBPParser.prepare(parserRule);
+        } catch (JBBPException e) {
+            throw new ConversionException(String.format("Illegal parser rule, reason: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * @return The number of cached parsers.
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Tests for {@link Bin2JsonTransformationService}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Bin2JsonTransformationServiceTest {
+
+    private @NonNullByDefault({}) Bin2JsonTransformationService processor;
+
+    @BeforeEach
+    public void init() {
+        processor = new Bin2JsonTransformationService();
+    }
+
+    @Test
+    public void testHexString() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("byte a; byte b; ubyte c;", "03FAFF"));
+    }
+
+    @Test
+    public void testRawType() throws TransformationException {
+        String source = new RawType(new byte[] { 0x03, (byte) 0xFA, (byte) 0xFF }, RawType.DEFAULT_MIME_TYPE)
+                .toFullString();
+
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", processor.transform("byte a; byte b; ubyte c;", source));
+    }
+
+    @Test
+    public void testArraysAndStructures() throws TransformationException {
+        String syntax = "bit:4 [2] bits; bool flag; ushort u; int[1] ints; s [2] { ubyte x; } long l; t { short v; }";
+        String source = "A301FFFE0000000280" + "0100000000000000FF" + "FFFE";
+
+        assertEquals(
+                "{\"bits\":[3,10],\"flag\":true,\"u\":65534,\"ints\":[2],"
+                        + "\"s\":[{\"s\":{\"x\":128}},{\"s\":{\"x\":1}}],\"l\":255,\"t\":{\"v\":-2}}",
+                processor.transform(syntax, source));
+    }
+
+    @Test
+    public void testUnnamedFieldsKeepLastValue() throws TransformationException {
+        assertEquals("{\"nonamed\":3,\"a\":2}", processor.transform("byte; byte a; byte;", "010203"));
+    }
+
+    @Test
+    public void testParserIsPreparedOncePerSyntax() throws TransformationException {
+        processor.transform("byte a;", "01");
+        processor.transform("byte a;", "02");
+        processor.transform("ubyte a;", "03");
+
+        assertEquals(2, processor.getParserCache().size());
+    }
+
+    @Test
+    public void testInvalidSyntaxIsNotCached() {
+        assertThrows(TransformationException.class, () -> processor.transform("byte a; byte a;", "0102"));
+        assertEquals(0, processor.getParserCache().size());
+    }
+
+    @Test
+    public void testInvalidInput() {
+        assertThrows(TransformationException.class, () -> processor.transform("byte a;", "0"));
+        assertThrows(TransformationException.class, () -> processor.transform("byte a;", "data:invalid"));
+        assertThrows(TransformationException.class, () -> processor.transform("int a;", "01"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedParserIsEvicted() throws ConversionException {
+        JBBPParserCache cache = new JBBPParserCache(2);
+        Object a = cache.get("byte a;");
+        cache.get("byte b;");
+        // use the first rule again so that the second one is the eldest entry
+        cache.get("byte a;");
+        Object c = cache.get("byte c;");
+
+        assertEquals(2, cache.size());
+        assertSame(a, cache.get("byte a;"));
+        assertSame(c, cache.get("byte c;"));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A long-running external program that transforms one request after the other. Requests are written to the standard
+ * input of the program and responses are read from its standard output.
+ *
+ * <p>
+ * The program is killed if it does not respond within the timeout, and it cannot be used afterwards. The error
+ * output of the program is discarded.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoprocess implements AutoCloseable {
+
+    /**
+     * How requests and responses are separated on the streams.
+     */
+    public enum Framing {
+        /**
+         * Every request and response is a single line, terminated by a newline. Line breaks in the request are
+         * replaced by spaces.
+         */
+        LINE,
+        /**
+         * Every request and response is a line with the length of the content in bytes, followed by the UTF-8
+         * encoded content.
+         */
+        LENGTH_PREFIXED
+    }
+
+    /**
+     * The program exited before it received the request or before it started to respond. The request can be sent to
+     * another program.
+     */
+    public static class ProgramExitedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        ProgramExitedException(String message, @Nullable Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static final int MAX_HEADER_LENGTH = 20;
+
+    private final Process process;
+    private final Framing framing;
+    private final PushbackInputStream stdout;
+    private final OutputStream stdin;
+    private volatile boolean broken = false;
+    private volatile boolean responded = false;
+
+    /**
+     * Starts the program.
+     *
+     * @param command the program and its arguments
+     * @throws IOException if the program cannot be started
+     */
+    public ExecCoprocess(List<String> command, Framing framing) throws IOException {
+        this.process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        this.framing = framing;
+        this.stdout = new PushbackInputStream(process.getInputStream());
+        this.stdin = process.getOutputStream();
+    }
+
+    /**
+     * Sends a request and waits for the response.
+     *
+     * @param request the request
+     * @param timeout the maximum time to wait for the response
+     * @param scheduler the scheduler used to kill the program on timeout
+     * @return the response
+     * @throws IOException if the program did not respond, the program cannot be used afterwards
+     */
+    public synchronized String transform(String request, Duration timeout, ScheduledExecutorService scheduler)
+            throws IOException {
+        if (!isUsable()) {
+            throw new IOException("Program is not running");
+        }
+        // a blocking read cannot be interrupted, killing the program closes the stream instead
+        // cancelling the watchdog still succeeds while it is killing the program, so it records that it fired
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> watchdog = scheduler.schedule(() -> {
+            timedOut.set(true);
+            kill();
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        String response;
+        try {
+            try {
+                writeRequest(request);
+            } catch (IOException e) {
+                throw new ProgramExitedException("Program closed its input", e);
+            }
+            // the program might have exited after its previous response, before it read this request
+            int first = stdout.read();
+            if (first < 0) {
+                throw new ProgramExitedException("Program closed its output", null);
+            }
+            stdout.unread(first);
+            response = readResponse();
+        } catch (IOException e) {
+            kill();
+            watchdog.cancel(false);
+            if (timedOut.get()) {
+                throw new IOException("Program did not respond within " + timeout.toMillis() + " ms", e);
+            }
+            throw e;
+        }
+        // if the watchdog fired after the response was read, the response is still complete
+        watchdog.cancel(false);
+        responded = true;
+        return response;
+    }
+
+    private void writeRequest(String request) throws IOException {
+        if (framing == Framing.LINE) {
+            stdin.write((request.replace('\r', ' ').replace('\n', ' ') + "\n").getBytes(StandardCharsets.UTF_8));
+        } else {
+            byte[] content = request.getBytes(StandardCharsets.UTF_8);
+            stdin.write((content.length + "\n").getBytes(StandardCharsets.UTF_8));
+            stdin.write(content);
+        }
+        stdin.flush();
+    }
+
+    private String readResponse() throws IOException {
+        if (framing == Framing.LINE) {
+            return readLine(Integer.MAX_VALUE);
+        }
+        String header = readLine(MAX_HEADER_LENGTH).strip();
+        int length;
+        try {
+            length = Integer.parseInt(header);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid length '" + header + "'");
+        }
+        if (length < 0) {
+            throw new IOException("Invalid length '" + header + "'");
+        }
+        byte[] content = stdout.readNBytes(length);
+        if (content.length < length) {
+            throw new EOFException("Program closed its output");
+        }
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    private String readLine(int maxLength) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = stdout.read()) != '\n') {
+            if (b < 0) {
+                throw new EOFException("Program closed its output");
+            }
+            if (line.size() >= maxLength) {
+                throw new IOException("Line is too long");
+            }
+            line.write(b);
+        }
+        String result = line.toString(StandardCharsets.UTF_8);
+        return result.endsWith("\r") ? result.substring(0, result.length() - 1) : result;
+    }
+
+    /**
+     * @return true if the program has responded to a request before
+     */
+    public boolean hasResponded() {
+        return responded;
+    }
+
+    /**
+     * @return true if the program is running and has not failed to respond to a request
+     */
+    public boolean isUsable() {
+        return !broken && process.isAlive();
+    }
+
+    private void kill() {
+        broken = true;
+        // children started by the program, e.g. by a shell script, would keep the output open
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    @Override
+    public void close() {
+        kill();
+    }
+}
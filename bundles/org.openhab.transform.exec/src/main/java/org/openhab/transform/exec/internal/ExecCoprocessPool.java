@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.transform.exec.internal.ExecCoprocess.Framing;
+import org.openhab.transform.exec.internal.ExecCoprocess.ProgramExitedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of {@link ExecCoprocess}es running the same command. Programs are started on demand, up to the size of the
+ * pool. A program that has exited or did not respond in time is discarded, and a new one is started for the next
+ * request. A program might exit right after its previous response, while it still seems to be running: if such a
+ * program does not receive or does not start to answer the request, the request is sent once more to a new program.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoprocessPool implements AutoCloseable {
+
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoprocessPool.class);
+
+    private final List<String> command;
+    private final Framing framing;
+    private final int size;
+    private final Duration timeout;
+    private final ScheduledExecutorService scheduler;
+
+    // programs that are not in use, most recently used first
+    private final LinkedBlockingDeque<ExecCoprocess> idle = new LinkedBlockingDeque<>();
+    private final List<ExecCoprocess> all = new ArrayList<>();
+    private boolean closed = false;
+
+    /**
+     * @param command the program and its arguments
+     * @param framing how requests and responses are separated
+     * @param size the maximum number of programs running at the same time
+     * @param timeout the maximum time to wait for a program and for its response
+     * @param scheduler the scheduler used to kill programs that do not respond
+     */
+    public ExecCoprocessPool(List<String> command, Framing framing, int size, Duration timeout,
+            ScheduledExecutorService scheduler) {
+        this.command = List.copyOf(command);
+        this.framing = framing;
+        this.size = size;
+        this.timeout = timeout;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Transforms the request by one of the programs of the pool.
+     *
+     * @throws IOException if no program is available in time, it cannot be started or did not respond
+     */
+    public String transform(String request) throws IOException {
+        ExecCoprocess coprocess = acquire();
+        try {
+            return coprocess.transform(request, timeout, scheduler);
+        } catch (ProgramExitedException e) {
+            if (!coprocess.hasResponded()) {
+                throw e;
+            }
+            logger.debug("Program {} exited after its previous response, sending the request to a new program",
+                    command);
+        } finally {
+            release(coprocess);
+        }
+
+        ExecCoprocess retry = startIfPossible();
+        if (retry == null) {
+            retry = acquire();
+        }
+        try {
+            return retry.transform(request, timeout, scheduler);
+        } finally {
+            release(retry);
+        }
+    }
+
+    private ExecCoprocess acquire() throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            ExecCoprocess coprocess = idle.pollFirst();
+            if (coprocess == null) {
+                coprocess = startIfPossible();
+            }
+            if (coprocess == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IOException(
+                            "No program of " + command + " available within " + timeout.toMillis() + " ms");
+                }
+                try {
+                    // wake up regularly, a discarded program frees a slot without being returned to the pool
+                    coprocess = idle.pollFirst(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for a program of " + command);
+                }
+                if (coprocess == null) {
+                    continue;
+                }
+            }
+            if (coprocess.isUsable()) {
+                return coprocess;
+            }
+            discard(coprocess);
+        }
+    }
+
+    private @Nullable ExecCoprocess startIfPossible() throws IOException {
+        synchronized (all) {
+            if (closed) {
+                throw new IOException("Pool of " + command + " is closed");
+            }
+            if (all.size() >= size) {
+                return null;
+            }
+            logger.debug("Starting program {}", command);
+            ExecCoprocess coprocess = new ExecCoprocess(command, framing);
+            all.add(coprocess);
+            return coprocess;
+        }
+    }
+
+    private void release(ExecCoprocess coprocess) {
+        if (coprocess.isUsable()) {
+            synchronized (all) {
+                if (!closed) {
+                    idle.offerFirst(coprocess);
+                    return;
+                }
+            }
+        }
+        discard(coprocess);
+    }
+
+    private void discard(ExecCoprocess coprocess) {
+        logger.debug("Discarding program {}, a new one will be started when needed", command);
+        coprocess.close();
+        synchronized (all) {
+            all.remove(coprocess);
+        }
+    }
+
+    /**
+     * @return the number of running programs
+     */
+    public int getSize() {
+        synchronized (all) {
+            return all.size();
+        }
+    }
+
+    /**
+     * Stops all programs. Requests in progress are aborted.
+     */
+    @Override
+    public void close() {
+        synchronized (all) {
+            closed = true;
+            all.forEach(ExecCoprocess::close);
+            all.clear();
+            idle.clear();
+        }
+    }
+}
@@ -12,16 +12,24 @@
  */
 package org.openhab.transform.exec.internal;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.exec.ExecUtil;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.transform.exec.internal.ExecCoprocess.Framing;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +38,11 @@ import org.slf4j.LoggerFactory;
  * The implementation of {@link TransformationService} which transforms the
  * input by command line.
  *
+ * <p>
+ * If the command line is prefixed with {@value #COPROCESS_PREFIX} or {@value #COPROCESS_LENGTH_PREFIX}, the program
+ * is not started for every transformation. Instead, up to {@value #COPROCESS_POOL_SIZE} instances of the program are
+ * kept running and each receives one input after the other on its standard input, answering on its standard output.
+ *
  * @author Pauli Anttila - Initial contribution
  * @author Jan N. Klug - added command whitelist service
  */
@@ -37,8 +50,16 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=EXEC" })
 public class ExecTransformationService implements TransformationService {
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
+    static final String COPROCESS_PREFIX = "coprocess:";
+    static final String COPROCESS_LENGTH_PREFIX = "coprocess-length:";
+    static final int COPROCESS_POOL_SIZE = 2;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String THREAD_POOL_NAME = "transform-exec";
+
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+    private final Map<String, ExecCoprocessPool> coprocessPools = new ConcurrentHashMap<>();
 
     @Activate
     public ExecTransformationService(
@@ -46,11 +67,18 @@ public class ExecTransformationService implements TransformationService {
         this.execTransformationWhitelistWatchService = execTransformationWhitelistWatchService;
     }
 
+    @Deactivate
+    public void deactivate() {
+        coprocessPools.values().forEach(ExecCoprocessPool::close);
+        coprocessPools.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by the command line.
      *
      * @param commandLine the command to execute. Command line should contain %s string, which will be replaced by the
-     *            input data.
+     *            input data. If it is prefixed to run as a coprocess, the input data is passed on the standard input
+     *            instead.
      * @param source the input to transform
      */
     @Override
@@ -61,18 +89,47 @@ public class ExecTransformationService implements TransformationService {
 
         if (!execTransformationWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            // stop programs of commands that have been removed from the whitelist
+            ExecCoprocessPool pool = coprocessPools.remove(commandLine);
+            if (pool != null) {
+                pool.close();
+            }
             return null;
         }
         logger.debug("about to transform '{}' by the commandline '{}'", source, commandLine);
 
         long startTime = System.currentTimeMillis();
 
-        String formattedCommandLine = String.format(commandLine, source);
-        String[] cmdLineParts = SPLIT_ON_SPACE.matcher(formattedCommandLine).results()
-                .map(mr -> mr.group(2) == null ? mr.group() : mr.group(2)).toArray(String[]::new);
-        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(5), cmdLineParts);
+        String result;
+        if (commandLine.startsWith(COPROCESS_PREFIX) || commandLine.startsWith(COPROCESS_LENGTH_PREFIX)) {
+            result = transformByCoprocess(commandLine, source);
+        } else {
+            String formattedCommandLine = String.format(commandLine, source);
+            result = ExecUtil.executeCommandLineAndWaitResponse(TIMEOUT, splitCommandLine(formattedCommandLine));
+        }
         logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
 
         return result;
     }
+
+    private String transformByCoprocess(String commandLine, String source) throws TransformationException {
+        ExecCoprocessPool pool = coprocessPools.computeIfAbsent(commandLine, key -> {
+            Framing framing = key.startsWith(COPROCESS_PREFIX) ? Framing.LINE : Framing.LENGTH_PREFIXED;
+            String command = key
+                    .substring(framing == Framing.LINE ? COPROCESS_PREFIX.length() : COPROCESS_LENGTH_PREFIX.length());
+            return new ExecCoprocessPool(List.of(splitCommandLine(command)), framing, COPROCESS_POOL_SIZE, TIMEOUT,
+                    scheduler);
+        });
+        try {
+            return pool.transform(source);
+        } catch (IOException e) {
+            throw new TransformationException(
+                    "Transformation by '" + commandLine + "' failed, reason: " + e.getMessage(), e);
+        }
+    }
+
+    private static String[] splitCommandLine(String commandLine) {
+        return SPLIT_ON_SPACE.matcher(commandLine).results().map(mr -> mr.group(2) == null ? mr.group() : mr.group(2))
+                .toArray(String[]::new);
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.openhab.transform.exec.internal.ExecCoprocess.Framing;
+
+/**
+ * Tests for {@link ExecCoprocessPool}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecCoprocessPoolTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<ExecCoprocessPool> pools = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        pools.forEach(ExecCoprocessPool::close);
+        scheduler.shutdownNow();
+    }
+
+    private ExecCoprocessPool createPool(Framing framing, String script) {
+        ExecCoprocessPool pool = new ExecCoprocessPool(List.of("/bin/sh", "-c", script), framing, 2, TIMEOUT,
+                scheduler);
+        pools.add(pool);
+        return pool;
+    }
+
+    @Test
+    public void testLineFramingReusesProgram() throws IOException {
+        ExecCoprocessPool pool = createPool(Framing.LINE, "cat");
+
+        assertEquals("first", pool.transform("first"));
+        assertEquals("second", pool.transform("second"));
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testLineFramingReplacesLineBreaks() throws IOException {
+        ExecCoprocessPool pool = createPool(Framing.LINE, "cat");
+
+        assertEquals("a b  c", pool.transform("a\nb\r\nc"));
+    }
+
+    @Test
+    public void testLengthPrefixedFraming() throws IOException {
+        // answers with the request as is, read by the length given in the header
+        ExecCoprocessPool pool = createPool(Framing.LENGTH_PREFIXED,
+                "while read n; do printf '%s\\n' \"$n\"; head -c \"$n\"; done");
+
+        assertEquals("multi\nline", pool.transform("multi\nline"));
+        assertEquals("", pool.transform(""));
+        assertEquals("ä€", pool.transform("ä€"));
+    }
+
+    @Test
+    public void testExitedProgramIsRestarted() throws IOException {
+        // answers one request, then exits when the next request arrives, without answering it
+        ExecCoprocessPool pool = createPool(Framing.LINE, "read line; echo \"$line\"; read line");
+
+        assertEquals("first", pool.transform("first"));
+        assertEquals("second", pool.transform("second"));
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testProgramClosingInputIsRestarted() throws IOException {
+        // closes its input while it keeps running, then answers one request
+        ExecCoprocessPool pool = createPool(Framing.LINE, "read line; exec 0<&-; echo \"$line\"; sleep 60");
+
+        assertEquals("first", pool.transform("first"));
+        assertEquals("second", pool.transform("second"));
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    public void testNewProgramExitingIsNotRetried() {
+        ExecCoprocessPool pool = createPool(Framing.LINE, "read line");
+
+        assertThrows(IOException.class, () -> pool.transform("request"));
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testProgramNotRespondingIsKilled() throws IOException {
+        ExecCoprocessPool pool = createPool(Framing.LINE, "read line; sleep 60");
+
+        IOException e = assertThrows(IOException.class, () -> pool.transform("request"));
+        assertTrue(e.getMessage().contains("did not respond"));
+        assertEquals(0, pool.getSize());
+    }
+
+    @Test
+    public void testClosedPoolRejectsRequests() {
+        ExecCoprocessPool pool = createPool(Framing.LINE, "cat");
+        pool.close();
+
+        assertThrows(IOException.class, () -> pool.transform("request"));
+    }
+}
@@ -52,6 +52,9 @@ public class GeoProfileConstants {
     public static final List<String> DISTRICT_KEYS = List.of("city_district", "district", "borough", "suburb",
             "subdivision");
 
+    // Storage of resolved addresses
+    public static final String CACHE_STORAGE_NAME = "org.openhab.transform.geocoding.cache";
+
     // Nominatim / OpenStreetMap URLs
     public static final String BASE_URL = "https://nominatim.openstreetmap.org/";
     public static final String SEARCH_URL = BASE_URL + "search?q=%s&format=jsonv2";
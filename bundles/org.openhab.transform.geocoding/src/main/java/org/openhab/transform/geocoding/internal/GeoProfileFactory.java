@@ -12,8 +12,9 @@
  */
 package org.openhab.transform.geocoding.internal;
 
-import static org.openhab.transform.geocoding.internal.GeoProfileConstants.GEOCODING_PROFILE_TYPE_UID;
+import static org.openhab.transform.geocoding.internal.GeoProfileConstants.*;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
@@ -23,6 +24,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.i18n.LocaleProvider;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.library.CoreItemFactory;
+import org.openhab.core.storage.StorageService;
 import org.openhab.core.thing.profiles.Profile;
 import org.openhab.core.thing.profiles.ProfileCallback;
 import org.openhab.core.thing.profiles.ProfileContext;
@@ -31,7 +33,9 @@ import org.openhab.core.thing.profiles.ProfileType;
 import org.openhab.core.thing.profiles.ProfileTypeBuilder;
 import org.openhab.core.thing.profiles.ProfileTypeProvider;
 import org.openhab.core.thing.profiles.ProfileTypeUID;
+import org.openhab.transform.geocoding.internal.cache.GeoCache;
 import org.openhab.transform.geocoding.internal.profiles.GeoProfile;
+import org.openhab.transform.geocoding.internal.provider.TokenBucket;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -46,11 +50,16 @@ import org.osgi.service.component.annotations.Reference;
 public class GeoProfileFactory implements ProfileFactory, ProfileTypeProvider {
     private final HttpClientFactory httpClientFactory;
     private final LocaleProvider localeProvider;
+    private final GeoCache cache;
+    // shared by all profiles, Nominatim allows 1 request per second
+    private final TokenBucket rateLimiter = new TokenBucket(1, Duration.ofSeconds(1));
 
     @Activate
-    public GeoProfileFactory(final @Reference HttpClientFactory httpFactory, final @Reference LocaleProvider locale) {
+    public GeoProfileFactory(final @Reference HttpClientFactory httpFactory, final @Reference LocaleProvider locale,
+            final @Reference StorageService storageService) {
         this.httpClientFactory = httpFactory;
         this.localeProvider = locale;
+        this.cache = new GeoCache(storageService.getStorage(CACHE_STORAGE_NAME));
     }
 
     @Override
@@ -63,7 +72,8 @@ public class GeoProfileFactory implements ProfileFactory, ProfileTypeProvider {
     @Override
     public @Nullable Profile createProfile(ProfileTypeUID profileTypeUID, ProfileCallback profileCallback,
             ProfileContext profileContext) {
-        return new GeoProfile(profileCallback, profileContext, httpClientFactory.getCommonHttpClient(), localeProvider);
+        return new GeoProfile(profileCallback, profileContext, httpClientFactory.getCommonHttpClient(), localeProvider,
+                cache, rateLimiter);
     }
 
     @Override
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.geocoding.internal.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openhab.core.storage.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link GeoCache} keeps resolved addresses in a persistent storage, so they survive restarts. It is shared by all
+ * profiles. Concurrent lookups of the same key are coalesced into one call of the resolver. Failed lookups are not
+ * cached.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class GeoCache {
+    private static final String ADDRESS_KEY = "address";
+    private static final String TIME_KEY = "time";
+    private static final String EXPIRES_KEY = "expires";
+
+    private final Logger logger = LoggerFactory.getLogger(GeoCache.class);
+    private final Storage<String> store;
+    private final Supplier<Instant> clock;
+    private final Map<String, CompletableFuture<@Nullable String>> pendingLookups = new ConcurrentHashMap<>();
+
+    public GeoCache(Storage<String> store) {
+        this(store, Instant::now);
+    }
+
+    GeoCache(Storage<String> store, Supplier<Instant> clock) {
+        this.store = store;
+        this.clock = clock;
+        removeExpired();
+    }
+
+    /**
+     * Gets a cached address
+     *
+     * @param key of the address
+     * @param ttl maximum age of the address
+     * @return address or null if not cached or expired
+     */
+    public @Nullable String get(String key, Duration ttl) {
+        String stored = store.get(key);
+        if (stored == null) {
+            return null;
+        }
+        try {
+            JSONObject entry = new JSONObject(stored);
+            long now = clock.get().toEpochMilli();
+            if (now < entry.getLong(EXPIRES_KEY) && now < entry.getLong(TIME_KEY) + ttl.toMillis()) {
+                return entry.getString(ADDRESS_KEY);
+            }
+        } catch (JSONException e) {
+            logger.debug("Cache entry {} format exception {}", stored, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Gets a cached address or resolves it. If the same key is already resolved by another thread, its result is
+     * awaited instead of resolving it again.
+     *
+     * @param key of the address
+     * @param ttl maximum age of the address
+     * @param resolver to resolve the address if it is not cached
+     * @return address or null if it could not be resolved
+     */
+    public @Nullable String resolve(String key, Duration ttl, Supplier<@Nullable String> resolver) {
+        String cached = get(key, ttl);
+        if (cached != null) {
+            logger.trace("Address for {} found in cache", key);
+            return cached;
+        }
+        CompletableFuture<@Nullable String> lookup = new CompletableFuture<>();
+        CompletableFuture<@Nullable String> pendingLookup = pendingLookups.putIfAbsent(key, lookup);
+        if (pendingLookup != null) {
+            logger.trace("Waiting for pending lookup of {}", key);
+            return pendingLookup.join();
+        }
+        String address = null;
+        try {
+            // the address may have been stored since the first check
+            address = get(key, ttl);
+            if (address == null) {
+                address = resolver.get();
+                if (address != null) {
+                    put(key, address, ttl);
+                }
+            }
+        } finally {
+            pendingLookups.remove(key, lookup);
+            lookup.complete(address);
+        }
+        return address;
+    }
+
+    private void put(String key, String address, Duration ttl) {
+        Instant now = clock.get();
+        JSONObject entry = new JSONObject();
+        entry.put(ADDRESS_KEY, address);
+        entry.put(TIME_KEY, now.toEpochMilli());
+        entry.put(EXPIRES_KEY, now.plus(ttl).toEpochMilli());
+        store.put(key, entry.toString());
+    }
+
+    /**
+     * Removes all entries which are expired
+     */
+    public void removeExpired() {
+        long now = clock.get().toEpochMilli();
+        for (String key : store.getKeys()) {
+            String stored = store.get(key);
+            try {
+                if (stored == null || now >= new JSONObject(stored).getLong(EXPIRES_KEY)) {
+                    store.remove(key);
+                }
+            } catch (JSONException e) {
+                store.remove(key);
+            }
+        }
+    }
+}
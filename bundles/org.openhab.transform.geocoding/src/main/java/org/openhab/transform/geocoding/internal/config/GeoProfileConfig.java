@@ -28,4 +28,6 @@ public class GeoProfileConfig {
     public String format = FORMAT_ADDRESS_ROW;
     public String resolveInterval = "5m";
     public String language = "";
+    public int cachePrecision = 8;
+    public String cacheExpiry = "7d";
 }
@@ -33,9 +33,12 @@ import org.openhab.core.thing.profiles.StateProfile;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.util.DurationUtils;
+import org.openhab.transform.geocoding.internal.cache.GeoCache;
+import org.openhab.transform.geocoding.internal.cache.GeoHash;
 import org.openhab.transform.geocoding.internal.config.GeoProfileConfig;
 import org.openhab.transform.geocoding.internal.provider.BaseGeoResolver;
 import org.openhab.transform.geocoding.internal.provider.GeoResolverFactory;
+import org.openhab.transform.geocoding.internal.provider.TokenBucket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,21 +50,33 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class GeoProfile extends GeoResolverFactory implements StateProfile {
+    // maximum time to wait for the rate limit of the provider
+    private static final Duration MAX_RATE_LIMIT_WAIT = Duration.ofSeconds(10);
+
     private final Logger logger = LoggerFactory.getLogger(GeoProfile.class);
     private final ProfileCallback callback;
 
     private final ScheduledExecutorService scheduler;
+    private final GeoCache cache;
+    private final TokenBucket rateLimiter;
+    private final int cachePrecision;
+    private Duration cacheExpiry;
     private BaseGeoResolver lastState;
+    private PointType lastLocation = PointType.valueOf("0,0");
     private Instant lastResolveTime = Instant.MIN;
     private Duration refreshInterval;
     private String language;
     private @Nullable ScheduledFuture<?> resolverJob;
 
     public GeoProfile(final ProfileCallback callback, final ProfileContext context, final HttpClient client,
-            final LocaleProvider locale) {
+            final LocaleProvider locale, final GeoCache cache, final TokenBucket rateLimiter) {
         super(context.getConfiguration().as(GeoProfileConfig.class), client);
         this.callback = callback;
         this.scheduler = context.getExecutorService();
+        this.cache = cache;
+        this.rateLimiter = rateLimiter;
+        // precision 0 disables the cache
+        cachePrecision = Math.min(Math.max(configuration.cachePrecision, 0), GeoHash.MAX_PRECISION);
 
         if (!configuration.language.isBlank()) {
             language = configuration.language;
@@ -80,8 +95,16 @@ public class GeoProfile extends GeoResolverFactory implements StateProfile {
             logger.warn("Could not parse interval '{}', using default interval {}", configuration.resolveInterval,
                     refreshInterval);
         }
+        try {
+            cacheExpiry = DurationUtils.parse(configuration.cacheExpiry);
+        } catch (IllegalArgumentException e) {
+            // fallback to default expiry of 7 days
+            cacheExpiry = Duration.ofDays(7);
+            logger.warn("Could not parse cache expiry '{}', using default expiry {}", configuration.cacheExpiry,
+                    cacheExpiry);
+        }
         logger.debug("GeoProfile created with language: {} and resolve interval: {}", language, refreshInterval);
-        lastState = super.createResolver(PointType.valueOf("0,0"));
+        lastState = super.createResolver(lastLocation);
     }
 
     @Override
@@ -108,6 +131,7 @@ public class GeoProfile extends GeoResolverFactory implements StateProfile {
         if (location instanceof PointType point) {
             synchronized (this) {
                 lastState = super.createResolver(point);
+                lastLocation = point;
                 Instant now = Instant.now();
                 Instant nextResolveTime = lastResolveTime.plus(refreshInterval);
                 if (resolverJob == null) {
@@ -134,20 +158,74 @@ public class GeoProfile extends GeoResolverFactory implements StateProfile {
      */
     private void doResolve() {
         BaseGeoResolver localLastState;
+        PointType localLastLocation;
         synchronized (this) {
             localLastState = lastState;
+            localLastLocation = lastLocation;
             lastResolveTime = Instant.now();
             resolverJob = null;
         }
         // do reverse geocoding and double check for success before sending update
-        localLastState.resolve();
-        if (localLastState.isResolved()) {
-            callback.sendUpdate(StringType.valueOf(localLastState.getResolved()));
+        if (cachePrecision > 0) {
+            // all locations within the same grid cell share the address
+            String cacheKey = getCacheKey(localLastLocation);
+            String cached = cache.get(cacheKey, cacheExpiry);
+            if (cached != null) {
+                callback.sendUpdate(StringType.valueOf(cached));
+                return;
+            }
+            scheduleWithinRateLimit(localLastState, () -> sendAddress(localLastState,
+                    cache.resolve(cacheKey, cacheExpiry, () -> resolve(localLastState))));
         } else {
-            logger.debug("Could not resolve address for location: {}", localLastState.toString());
+            scheduleWithinRateLimit(localLastState, () -> sendAddress(localLastState, resolve(localLastState)));
         }
     }
 
+    private void sendAddress(BaseGeoResolver resolver, @Nullable String address) {
+        if (address != null) {
+            callback.sendUpdate(StringType.valueOf(address));
+        } else {
+            logger.debug("Could not resolve address for location: {}", resolver.toString());
+        }
+    }
+
+    /**
+     * Key of the cached address, depending on all parameters influencing the result
+     *
+     * @param location to be resolved
+     * @return key for the cache
+     */
+    private String getCacheKey(PointType location) {
+        return String.join("/", configuration.provider, configuration.format, language, GeoHash
+                .encode(location.getLatitude().doubleValue(), location.getLongitude().doubleValue(), cachePrecision));
+    }
+
+    /**
+     * Schedules a call of the provider when its rate limit allows it, so the calling thread doesn't wait for it
+     *
+     * @param resolver to be called
+     * @param call calling the provider
+     */
+    private void scheduleWithinRateLimit(BaseGeoResolver resolver, Runnable call) {
+        long waitNanos = rateLimiter.reserve(MAX_RATE_LIMIT_WAIT);
+        if (waitNanos < 0) {
+            logger.debug("Rate limit of provider {} exceeded, skipping {}", configuration.provider, resolver);
+            return;
+        }
+        scheduler.schedule(call, waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Calls the provider
+     *
+     * @param resolver to be called
+     * @return resolved String or null if not resolved
+     */
+    private @Nullable String resolve(BaseGeoResolver resolver) {
+        resolver.resolve();
+        return resolver.isResolved() ? resolver.getResolved() : null;
+    }
+
     @Override
     public void onCommandFromItem(Command command) {
         search(command);
@@ -166,15 +244,16 @@ public class GeoProfile extends GeoResolverFactory implements StateProfile {
     private void search(Command command) {
         if (command instanceof StringType string) {
             BaseGeoResolver geoSearch = createResolver(string);
-            geoSearch.resolve();
-            if (geoSearch.isResolved()) {
-                String geoCoordinates = geoSearch.getResolved();
-                PointType point = PointType.valueOf(geoCoordinates);
-                logger.trace("Send coordinates {} for address {}", point.toFullString(), command.toFullString());
-                callback.handleCommand(point);
-            } else {
-                logger.debug("Geo search could not resolve coordinates for command {}", command.toFullString());
-            }
+            scheduleWithinRateLimit(geoSearch, () -> {
+                String geoCoordinates = resolve(geoSearch);
+                if (geoCoordinates != null) {
+                    PointType point = PointType.valueOf(geoCoordinates);
+                    logger.trace("Send coordinates {} for address {}", point.toFullString(), command.toFullString());
+                    callback.handleCommand(point);
+                } else {
+                    logger.debug("Geo search could not resolve coordinates for command {}", command.toFullString());
+                }
+            });
         } else {
             logger.trace("No possible geo search for command {}", command.toFullString());
         }
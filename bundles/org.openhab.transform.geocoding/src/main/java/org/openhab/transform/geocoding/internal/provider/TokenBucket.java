@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.geocoding.internal.provider;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TokenBucket} limits the rate of requests towards a provider. The bucket holds up to capacity tokens and
+ * is refilled continuously by one token per period. Each request reserves one token and is delayed by the caller until
+ * the token is available, so no thread is blocked while waiting.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TokenBucket {
+    private final double capacity;
+    private final long periodNanos;
+    private final LongSupplier nanoClock;
+    // negative if tokens are reserved by waiting requests
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param capacity maximum number of requests in a burst
+     * @param period time to refill one token
+     */
+    public TokenBucket(int capacity, Duration period) {
+        this(capacity, period, System::nanoTime);
+    }
+
+    TokenBucket(int capacity, Duration period, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.periodNanos = period.toNanos();
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves a token
+     *
+     * @param maxWait maximum time to wait for a token
+     * @return nanoseconds until the reserved token is available, or -1 if no token is reserved
+     */
+    public synchronized long reserve(Duration maxWait) {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / (double) periodNanos);
+        lastRefill = now;
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * periodNanos);
+        if (waitNanos > maxWait.toNanos()) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+}
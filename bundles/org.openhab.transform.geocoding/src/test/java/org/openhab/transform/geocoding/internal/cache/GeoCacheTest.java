@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.geocoding.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.storage.VolatileStorage;
+
+/**
+ * The {@link GeoCacheTest} tests the {@link GeoCache} and the {@link GeoHash} encoding.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class GeoCacheTest {
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private final VolatileStorage<String> storage = new VolatileStorage<>();
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    void testGeoHash() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("ezs42", GeoHash.encode(42.6, -5.6, 5));
+        // nearby locations share the cell
+        assertEquals(GeoHash.encode(52.52529, 13.37068, 7), GeoHash.encode(52.52539, 13.37078, 7));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(0, 0, GeoHash.MAX_PRECISION + 1));
+    }
+
+    @Test
+    void testCacheHitAndExpiry() {
+        GeoCache cache = new GeoCache(storage, now::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("Address", cache.resolve("key", TTL, () -> {
+            calls.incrementAndGet();
+            return "Address";
+        }));
+        assertEquals("Address", cache.resolve("key", TTL, () -> {
+            calls.incrementAndGet();
+            return "Other";
+        }));
+        assertEquals(1, calls.get());
+
+        // a shorter TTL of the reader applies as well
+        now.set(now.get().plus(Duration.ofHours(2)));
+        assertEquals("Address", cache.get("key", TTL));
+        assertNull(cache.get("key", Duration.ofHours(1)));
+
+        now.set(now.get().plus(TTL));
+        assertNull(cache.get("key", TTL));
+        assertEquals("Other", cache.resolve("key", TTL, () -> "Other"));
+    }
+
+    @Test
+    void testFailureNotCached() {
+        GeoCache cache = new GeoCache(storage, now::get);
+
+        assertNull(cache.resolve("key", TTL, () -> null));
+        assertEquals("Address", cache.resolve("key", TTL, () -> "Address"));
+    }
+
+    @Test
+    void testPersistence() {
+        new GeoCache(storage, now::get).resolve("key", TTL, () -> "Address");
+        assertEquals("Address", new GeoCache(storage, now::get).get("key", TTL));
+
+        // expired entries are removed on startup
+        now.set(now.get().plus(TTL));
+        new GeoCache(storage, now::get);
+        assertTrue(storage.getKeys().isEmpty());
+    }
+
+    @Test
+    void testConcurrentLookupsAreCoalesced() throws Exception {
+        GeoCache cache = new GeoCache(storage, now::get);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> cache.resolve("key", TTL, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "Address";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> cache.resolve("key", TTL, () -> {
+                calls.incrementAndGet();
+                return "Other";
+            }));
+            // give the second lookup time to join the pending one
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("Address", first.get(5, TimeUnit.SECONDS));
+            assertEquals("Address", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.geocoding.internal.provider;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link TokenBucketTest} tests the rate limiting of the {@link TokenBucket}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class TokenBucketTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testBurstAndRefill() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), now::get);
+
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+        assertEquals(-1, bucket.reserve(Duration.ZERO));
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(-1, bucket.reserve(Duration.ZERO));
+        now.addAndGet(SECOND / 2);
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+
+        // refill is capped by the capacity
+        now.addAndGet(10 * SECOND);
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+        assertEquals(-1, bucket.reserve(Duration.ZERO));
+    }
+
+    @Test
+    void testWaitingRequestsAreQueued() {
+        TokenBucket bucket = new TokenBucket(1, Duration.ofSeconds(1), now::get);
+
+        assertEquals(0, bucket.reserve(Duration.ZERO));
+        assertEquals(SECOND, bucket.reserve(Duration.ofSeconds(5)));
+        assertEquals(2 * SECOND, bucket.reserve(Duration.ofSeconds(5)));
+        // exceeding the maximum wait doesn't reserve a token
+        assertEquals(-1, bucket.reserve(Duration.ofSeconds(2)));
+        now.addAndGet(SECOND);
+        assertEquals(2 * SECOND, bucket.reserve(Duration.ofSeconds(2)));
+    }
+}
@@ -20,6 +20,7 @@ import static org.openhab.transform.geocoding.internal.GeoProfileConstants.*;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -40,12 +41,15 @@ import org.openhab.core.config.core.Configuration;
 import org.openhab.core.i18n.LocaleProvider;
 import org.openhab.core.library.types.PointType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.test.storage.VolatileStorage;
 import org.openhab.core.thing.profiles.ProfileCallback;
 import org.openhab.core.thing.profiles.ProfileContext;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.transform.geocoding.internal.cache.GeoCache;
 import org.openhab.transform.geocoding.internal.profiles.GeoProfile;
 import org.openhab.transform.geocoding.internal.provider.BaseGeoResolver;
+import org.openhab.transform.geocoding.internal.provider.TokenBucket;
 
 /**
  * The {@link OSMProviderTest} tests GeoResolverFactory and GeoResolver basic classes. Tests are executed with different
@@ -127,7 +131,8 @@ class OSMProviderTest {
         when(contentResponse.getStatus()).thenReturn(responseStatus);
         when(contentResponse.getContentAsString()).thenReturn(response);
 
-        GeoProfile profile = new GeoProfile(mock(ProfileCallback.class), context, httpClient, localeProvider);
+        GeoProfile profile = new GeoProfile(mock(ProfileCallback.class), context, httpClient, localeProvider,
+                new GeoCache(new VolatileStorage<>()), new TokenBucket(1, Duration.ofSeconds(1)));
         return profile;
     }
 
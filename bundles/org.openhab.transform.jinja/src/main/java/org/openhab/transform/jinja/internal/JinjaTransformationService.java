@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -31,7 +32,12 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
@@ -44,10 +50,33 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 @Component(property = { "openhab.transform=JINJA" })
 public class JinjaTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_TEMPLATES = 256;
+    private static final String VALUE_JSON = "value_json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
     private final Jinjava jinjava = new Jinjava();
 
+    /**
+     * A parsed template.
+     *
+     * @param root The root of the parsed template, which is only read while rendering and shared between threads.
+     * @param usesValueJson {@code true} if the template references {@code value_json}, otherwise the value is not
+     *            parsed as JSON.
+     */
+    private record CompiledTemplate(Node root, boolean usesValueJson) {
+    }
+
+    private final Map<String, CompiledTemplate> cachedTemplates = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CompiledTemplate> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
     /**
      * Transforms the input <code>value</code> by Jinja template.
      *
@@ -65,14 +94,18 @@ public class JinjaTransformationService implements TransformationService {
         bindings.put("value", value);
 
         try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
-        }
+            CompiledTemplate compiled = compile(template);
 
-        try {
-            transformationResult = jinjava.render(template, bindings);
+            if (compiled.usesValueJson()) {
+                try {
+                    JsonNode tree = OBJECT_MAPPER.readTree(value);
+                    bindings.put(VALUE_JSON, toObject(tree));
+                } catch (IOException e) {
+                    // ok, then value_json is null...
+                }
+            }
+
+            transformationResult = render(template, compiled, bindings);
         } catch (FatalTemplateErrorsException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
         }
@@ -82,6 +115,55 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
+    private CompiledTemplate compile(String template) {
+        synchronized (cachedTemplates) {
+            CompiledTemplate compiled = cachedTemplates.get(template);
+            if (compiled != null) {
+                return compiled;
+            }
+        }
+
+        JinjavaInterpreter interpreter = jinjava.newInterpreter();
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            Node root = interpreter.parse(template);
+            // templates with syntax errors are not cached, they fail on every call
+            checkFatalErrors(template, interpreter);
+            CompiledTemplate compiled = new CompiledTemplate(root, template.contains(VALUE_JSON));
+            synchronized (cachedTemplates) {
+                cachedTemplates.put(template, compiled);
+            }
+            return compiled;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    /**
+     * Renders a parsed template, like {@link Jinjava#render(String, Map)} does for the template source.
+     */
+    private String render(String template, CompiledTemplate compiled, Map<String, @Nullable Object> bindings) {
+        // the bindings go into a child context of this rendering only, the global context is shared by all threads
+        Context context = new Context(jinjava.getGlobalContext(), bindings);
+        JinjavaInterpreter interpreter = new JinjavaInterpreter(jinjava, context, jinjava.getGlobalConfig());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            String result = interpreter.render(compiled.root(), true);
+            checkFatalErrors(template, interpreter);
+            return result;
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+    }
+
+    private static void checkFatalErrors(String template, JinjavaInterpreter interpreter) {
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+    }
+
     private static @Nullable Object toObject(JsonNode node) {
         switch (node.getNodeType()) {
             case ARRAY: {
@@ -14,6 +14,13 @@ package org.openhab.transform.jinja.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
@@ -113,4 +120,50 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithDifferentValues() throws TransformationException {
+        String template = "{{ value_json.temperature }} {{ value }}";
+        for (int i = 0; i < 3; i++) {
+            String json = "{\"temperature\": " + i + "}";
+            assertEquals(i + " " + json, processor.transform(template, json));
+        }
+    }
+
+    @Test
+    public void testValueJsonIsNotKeptForNextCall() throws TransformationException {
+        String template = "{{ value_json is defined }}";
+        assertEquals("true", processor.transform(template, "{\"string\": \"world\"}"));
+
+        // when the next value is no JSON
+        String transformedResponse = processor.transform(template, "world");
+
+        // then value_json of the previous call is not defined anymore
+        assertEquals("false", transformedResponse);
+    }
+
+    @Test
+    public void testTemplateErrorIsReportedOnEveryCall() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(TransformationException.class, () -> processor.transform("{% if %}", "world"));
+        }
+    }
+
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        String template = "{% for v in value_json.values %}{{ v * 2 }},{% endfor %}";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<@Nullable String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String json = "{\"values\": [" + i + ", " + (i + 1) + "]}";
+                results.add(executor.submit(() -> processor.transform(template, json)));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(2 * i + "," + 2 * (i + 1) + ",", results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
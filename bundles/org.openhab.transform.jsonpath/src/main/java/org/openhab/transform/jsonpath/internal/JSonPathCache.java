@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.cache.LRUCache;
+
+/**
+ * Caches compiled {@link JsonPath} expressions and recently parsed JSON documents.
+ *
+ * <p>
+ * Compiled expressions are kept in an {@link LRUCache} of the JsonPath library. Things usually apply many JSONPATH
+ * transformations to the same payload, one per channel, so the last few parsed documents are kept for a short time as
+ * well, and all transformations of one payload share a single parse.
+ *
+ * <p>
+ * Parsed documents are shared between threads and must only be read.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JSonPathCache {
+
+    static final int DEFAULT_MAX_PATHS = 256;
+    static final int DEFAULT_MAX_DOCUMENTS = 8;
+    static final Duration DEFAULT_DOCUMENT_TTL = Duration.ofSeconds(5);
+
+    private record ParsedDocument(String source, Object document, long expiresAt) {
+    }
+
+    private final Configuration configuration;
+    private final int maxDocuments;
+    private final long documentTtlNanos;
+    private final LRUCache paths;
+    // the most recently parsed document first, guarded by itself
+    private final Deque<ParsedDocument> documents = new ArrayDeque<>();
+
+    public JSonPathCache(Configuration configuration) {
+        this(configuration, DEFAULT_MAX_PATHS, DEFAULT_MAX_DOCUMENTS, DEFAULT_DOCUMENT_TTL);
+    }
+
+    JSonPathCache(Configuration configuration, int maxPaths, int maxDocuments, Duration documentTtl) {
+        this.configuration = configuration;
+        this.maxDocuments = maxDocuments;
+        this.documentTtlNanos = documentTtl.toNanos();
+        this.paths = new LRUCache(maxPaths);
+    }
+
+    /**
+     * Returns the compiled expression, compiling it on first use.
+     *
+     * @throws InvalidPathException if the expression is invalid
+     */
+    public JsonPath getPath(String expression) {
+        JsonPath path = paths.get(expression);
+        if (path == null) {
+            path = JsonPath.compile(expression);
+            paths.put(expression, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the parsed document, parsing the source unless it has been parsed recently.
+     *
+     * @throws InvalidJsonException if the source is not valid JSON
+     */
+    public Object getDocument(String source) {
+        long now = System.nanoTime();
+        synchronized (documents) {
+            documents.removeIf(parsed -> now - parsed.expiresAt() >= 0);
+            for (ParsedDocument parsed : documents) {
+                if (parsed.source().equals(source)) {
+                    return parsed.document();
+                }
+            }
+        }
+        Object document = configuration.jsonProvider().parse(source);
+        synchronized (documents) {
+            documents.addFirst(new ParsedDocument(source, document, now + documentTtlNanos));
+            if (documents.size() > maxDocuments) {
+                documents.removeLast();
+            }
+        }
+        return document;
+    }
+
+    /**
+     * @return The number of cached expressions.
+     */
+    public int getPathCount() {
+        return paths.size();
+    }
+
+    /**
+     * @return The number of cached documents.
+     */
+    public int getDocumentCount() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
+
+/**
+ * Tests for {@link JSonPathCache}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class JSonPathCacheTest {
+
+    private static final Configuration CONFIGURATION = Configuration.defaultConfiguration();
+
+    @Test
+    public void testPathIsCompiledOnce() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION);
+
+        assertSame(cache.getPath("$.a"), cache.getPath("$.a"));
+        assertNotSame(cache.getPath("$.a"), cache.getPath("$.b"));
+        assertEquals(2, cache.getPathCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPathIsEvicted() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION, 2, 2, Duration.ofMinutes(1));
+        Object a = cache.getPath("$.a");
+        cache.getPath("$.b");
+        // use $.a again so that $.b is the eldest entry
+        cache.getPath("$.a");
+        Object c = cache.getPath("$.c");
+
+        assertEquals(2, cache.getPathCount());
+        assertSame(a, cache.getPath("$.a"));
+        assertSame(c, cache.getPath("$.c"));
+    }
+
+    @Test
+    public void testInvalidPathIsNotCached() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION);
+
+        assertThrows(InvalidPathException.class, () -> cache.getPath("$$"));
+        assertEquals(0, cache.getPathCount());
+    }
+
+    @Test
+    public void testEqualPayloadIsParsedOnce() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION);
+        String payload = "{\"a\":1}";
+
+        Object document = cache.getDocument(payload);
+
+        // a different instance with the same content, as received from another channel
+        assertSame(document, cache.getDocument(new String(payload)));
+        assertNotSame(document, cache.getDocument("{\"a\":2}"));
+        assertEquals(2, cache.getDocumentCount());
+    }
+
+    @Test
+    public void testExpiredDocumentIsParsedAgain() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION, 2, 2, Duration.ZERO);
+        String payload = "{\"a\":1}";
+
+        Object document = cache.getDocument(payload);
+
+        assertNotSame(document, cache.getDocument(payload));
+        assertEquals(1, cache.getDocumentCount());
+    }
+
+    @Test
+    public void testDocumentCacheIsBounded() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION, 2, 2, Duration.ofMinutes(1));
+        Object first = cache.getDocument("{\"a\":1}");
+        cache.getDocument("{\"a\":2}");
+        cache.getDocument("{\"a\":3}");
+
+        assertEquals(2, cache.getDocumentCount());
+        assertNotSame(first, cache.getDocument("{\"a\":1}"));
+    }
+
+    @Test
+    public void testInvalidDocumentIsNotCached() {
+        JSonPathCache cache = new JSonPathCache(CONFIGURATION);
+
+        assertThrows(InvalidJsonException.class, () -> cache.getDocument("{id:"));
+        assertEquals(0, cache.getDocumentCount());
+    }
+}
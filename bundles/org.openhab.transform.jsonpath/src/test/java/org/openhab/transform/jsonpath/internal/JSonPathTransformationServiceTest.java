@@ -129,4 +129,14 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testSamePayloadWithDifferentPaths() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("[1, 2]", processor.transform("$.*.id", JSON_ARRAY));
+        // the same path on a different payload
+        assertEquals("carol", processor.transform("$[0].name", "[{ \"name\":\"carol\" }]"));
+        assertThrows(TransformationException.class, () -> processor.transform("$[0].name", "{id:"));
+    }
 }
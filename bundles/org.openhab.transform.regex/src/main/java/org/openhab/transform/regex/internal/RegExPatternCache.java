@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded cache of compiled REGEX transformation functions.
+ *
+ * <p>
+ * Expressions usually come from item and profile configurations, so their number is small and stable. If the cache
+ * fills up anyway, e.g. with expressions built by rules, it is cleared and filled again.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class RegExPatternCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+
+    /**
+     * A compiled REGEX transformation function.
+     *
+     * @param pattern The compiled expression.
+     * @param substitution The replacement of the {@code s/regex/substitution/options} form, {@code null} if the
+     *            expression is matched against the whole input.
+     * @param global {@code true} if all occurrences are substituted.
+     */
+    public record CompiledRegEx(Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
+    private final int maxEntries;
+    private final Map<String, CompiledRegEx> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public RegExPatternCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    RegExPatternCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the compiled function, compiling it on first use.
+     *
+     * @throws PatternSyntaxException if the expression is invalid
+     */
+    public CompiledRegEx get(String regExpression) {
+        CompiledRegEx compiled = cache.get(regExpression);
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(regExpression, RegExPatternCache::compile);
+    }
+
+    private static CompiledRegEx compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            return new CompiledRegEx(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        }
+        return new CompiledRegEx(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
+    }
+
+    /**
+     * @return The number of lookups served from the cache.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of lookups that compiled the expression.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of cached functions.
+     */
+    public int size() {
+        return cache.size();
+    }
+}
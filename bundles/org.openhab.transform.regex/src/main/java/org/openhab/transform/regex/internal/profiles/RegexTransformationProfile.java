@@ -24,6 +24,7 @@ import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
+import org.openhab.transform.regex.internal.RegExTransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +69,15 @@ public class RegexTransformationProfile implements StateProfile {
         if (paramFunction instanceof String pFunction && paramSource instanceof String pFormat) {
             function = pFunction;
             sourceFormat = pFormat;
+            if (service instanceof RegExTransformationService regExService) {
+                // report invalid expressions when the link is created instead of on every update
+                try {
+                    regExService.precompile(pFunction);
+                } catch (TransformationException e) {
+                    Throwable cause = e.getCause();
+                    logger.warn("{}: {}", e.getMessage(), cause == null ? "" : cause.getMessage());
+                }
+            }
         } else {
             logger.error("Parameter '{}' and '{}' have to be Strings. Profile will be inactive.", FUNCTION_PARAM,
                     SOURCE_FORMAT_PARAM);
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.transform.regex.internal.RegExPatternCache.CompiledRegEx;
+
+/**
+ * Tests for {@link RegExPatternCache}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class RegExPatternCacheTest {
+
+    @Test
+    public void testExpressionIsCompiledOnce() {
+        RegExPatternCache cache = new RegExPatternCache();
+
+        CompiledRegEx compiled = cache.get("(.*)");
+
+        assertSame(compiled, cache.get("(.*)"));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testMatchForm() {
+        CompiledRegEx compiled = new RegExPatternCache().get("a(.*)");
+
+        assertEquals("^a(.*)$", compiled.pattern().pattern());
+        assertNull(compiled.substitution());
+        assertTrue(compiled.pattern().matcher("a\nb").matches());
+    }
+
+    @Test
+    public void testSubstitutionForm() {
+        RegExPatternCache cache = new RegExPatternCache();
+
+        CompiledRegEx first = cache.get("s/a(.)/$1/");
+        CompiledRegEx global = cache.get("s/a(.)/$1/g");
+
+        assertEquals("a(.)", first.pattern().pattern());
+        assertEquals("$1", first.substitution());
+        assertFalse(first.global());
+        assertTrue(global.global());
+    }
+
+    @Test
+    public void testFullCacheIsCleared() {
+        RegExPatternCache cache = new RegExPatternCache(2);
+        CompiledRegEx a = cache.get("a");
+        cache.get("b");
+        assertSame(a, cache.get("a"));
+        assertEquals(2, cache.size());
+
+        CompiledRegEx c = cache.get("c");
+
+        assertEquals(1, cache.size());
+        assertSame(c, cache.get("c"));
+        assertNotSame(a, cache.get("a"));
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidExpressionIsNotCached() {
+        RegExPatternCache cache = new RegExPatternCache();
+
+        assertThrows(PatternSyntaxException.class, () -> cache.get("(unclosed"));
+        assertThrows(PatternSyntaxException.class, () -> cache.get("(unclosed"));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+}
@@ -75,4 +75,23 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testRepeatedTransformationUsesCache() throws TransformationException {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("SetMode(" + i + ")",
+                    processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:" + i));
+            assertEquals(String.valueOf(i), processor.transform("OP:.*,ARG:(.*)", "OP:SetMode,ARG:" + i));
+        }
+
+        assertEquals(2, processor.getPatternCache().getMissCount());
+        assertEquals(4, processor.getPatternCache().getHitCount());
+    }
+
+    @Test
+    public void testPrecompileRejectsInvalidExpression() throws TransformationException {
+        processor.precompile("(.*)");
+        assertThrows(TransformationException.class, () -> processor.precompile("(unclosed"));
+        assertEquals(1, processor.getPatternCache().size());
+    }
 }
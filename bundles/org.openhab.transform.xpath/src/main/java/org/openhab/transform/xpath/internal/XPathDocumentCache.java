@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.w3c.dom.Document;
+
+/**
+ * Keeps recently parsed XML documents for a short time, keyed by the source, so that transformations applied to the
+ * same payload share a single parse.
+ *
+ * <p>
+ * The cache also remembers payloads that have been seen but not parsed into a DOM. This allows the first
+ * transformation of a payload to be evaluated on a stream, and only payloads transformed more than once to be
+ * parsed. The cache is bounded and evicts the least recently used entry.
+ *
+ * <p>
+ * DOM implementations are not thread-safe, not even for reading. Cached documents must be locked while they are
+ * evaluated.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class XPathDocumentCache {
+
+    static final int DEFAULT_MAX_DOCUMENTS = 8;
+    static final Duration DEFAULT_TTL = Duration.ofSeconds(5);
+
+    // document is null if the payload has been seen, but not parsed yet
+    private record Entry(@Nullable Document document, long expiresAt) {
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    public XPathDocumentCache() {
+        this(DEFAULT_MAX_DOCUMENTS, DEFAULT_TTL);
+    }
+
+    XPathDocumentCache(int maxDocuments, Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, Entry> eldest) {
+                return size() > maxDocuments;
+            }
+        };
+    }
+
+    /**
+     * @return The parsed document, or {@code null} if the source has not been parsed recently.
+     */
+    public synchronized @Nullable Document getDocument(String source) {
+        Entry entry = getEntry(source);
+        return entry == null ? null : entry.document();
+    }
+
+    /**
+     * Records that the source has been seen.
+     *
+     * @return {@code true} if the source has not been seen recently.
+     */
+    public synchronized boolean markSeen(String source) {
+        if (getEntry(source) != null) {
+            return false;
+        }
+        entries.put(source, new Entry(null, System.nanoTime() + ttlNanos));
+        return true;
+    }
+
+    /**
+     * Adds a parsed document.
+     */
+    public synchronized void putDocument(String source, Document document) {
+        entries.put(source, new Entry(document, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * @return The number of cached entries, including expired ones not yet evicted.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private @Nullable Entry getEntry(String source) {
+        Entry entry = entries.get(source);
+        if (entry != null && System.nanoTime() - entry.expiresAt() >= 0) {
+            entries.remove(source);
+            return null;
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Evaluates simple location paths on a StAX stream, without building a DOM.
+ *
+ * <p>
+ * Supported are absolute paths of element name tests, optionally starting with {@code //} and optionally ending with
+ * an attribute ({@code @name}) or {@code text()} step, e.g. {@code /a/b/c}, {@code //b/@id} or
+ * {@code /a/b/text()}. The result is the string value of the first matching node in document order, or an empty
+ * string if no node matches, just like XPath's {@code string()} function. Element names are matched in the null
+ * namespace only, as for unprefixed names in XPath. All other expressions are not supported and
+ * {@link #compile(String)} returns {@code null} for them.
+ *
+ * <p>
+ * The whole document is always read, so that malformed documents are rejected as they are by the DOM parser.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class XPathStreamEvaluator {
+
+    private static final Pattern SIMPLE_PATH = Pattern.compile(
+            "(//?)((?:[A-Za-z_][\\w.\\-]*|\\*)(?:/(?:[A-Za-z_][\\w.\\-]*|\\*))*)(/@[A-Za-z_][\\w.\\-]*|/text\\(\\))?");
+    private static final String ANY = "*";
+
+    private enum Target {
+        ELEMENT,
+        ATTRIBUTE,
+        TEXT
+    }
+
+    private final List<String> steps;
+    private final boolean anywhere;
+    private final Target target;
+    private final @Nullable String attributeName;
+
+    private XPathStreamEvaluator(List<String> steps, boolean anywhere, Target target, @Nullable String attributeName) {
+        this.steps = steps;
+        this.anywhere = anywhere;
+        this.target = target;
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * @return An evaluator for the expression, or {@code null} if the expression is not a supported simple path.
+     */
+    public static @Nullable XPathStreamEvaluator compile(String expression) {
+        var matcher = SIMPLE_PATH.matcher(expression.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        List<String> steps = List.of(matcher.group(2).split("/"));
+        String last = matcher.group(3);
+        if (last == null) {
+            return new XPathStreamEvaluator(steps, matcher.group(1).length() == 2, Target.ELEMENT, null);
+        } else if (last.startsWith("/@")) {
+            return new XPathStreamEvaluator(steps, matcher.group(1).length() == 2, Target.ATTRIBUTE, last.substring(2));
+        } else {
+            return new XPathStreamEvaluator(steps, matcher.group(1).length() == 2, Target.TEXT, null);
+        }
+    }
+
+    /**
+     * Evaluates the path on the given document.
+     *
+     * @param inputFactory A factory configured to not resolve DTDs and external entities, and to coalesce text.
+     * @throws XMLStreamException if the document cannot be read
+     */
+    public String evaluate(XMLInputFactory inputFactory, String source) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader(source));
+        try {
+            String result = null;
+            List<String> path = new ArrayList<>();
+            // depth of the matched element while its string value is collected, 0 otherwise
+            int collectDepth = 0;
+            StringBuilder text = new StringBuilder();
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (result != null) {
+                    // keep reading to reject malformed documents
+                    continue;
+                }
+                switch (event) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        String namespace = reader.getNamespaceURI();
+                        path.add(namespace == null || namespace.isEmpty() ? reader.getLocalName() : "");
+                        if (target == Target.ATTRIBUTE) {
+                            if (matches(path)) {
+                                result = attributeValue(reader);
+                            }
+                        } else if (target == Target.ELEMENT && collectDepth == 0 && matches(path)) {
+                            collectDepth = path.size();
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (collectDepth == path.size()) {
+                            result = text.toString();
+                        }
+                        path.removeLast();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (collectDepth > 0) {
+                            text.append(reader.getText());
+                        } else if (target == Target.TEXT && matches(path)) {
+                            // text() selects the text node children of the matched elements only
+                            result = reader.getText();
+                        }
+                        break;
+                    case XMLStreamConstants.DTD:
+                    case XMLStreamConstants.ENTITY_REFERENCE:
+                        // entities declared in a DTD are left to the DOM parser
+                        throw new XMLStreamException("Documents with a DTD are not supported");
+                    default:
+                        break;
+                }
+            }
+            return result == null ? "" : result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private boolean matches(List<String> path) {
+        int offset = path.size() - steps.size();
+        if (offset < 0 || (!anywhere && offset > 0)) {
+            return false;
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            String step = steps.get(i);
+            String name = path.get(offset + i);
+            // elements in a namespace are recorded with an empty name and only match the wildcard
+            if (!ANY.equals(step) && !step.equals(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private @Nullable String attributeValue(XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String namespace = reader.getAttributeNamespace(i);
+            if ((namespace == null || namespace.isEmpty()) && reader.getAttributeLocalName(i).equals(attributeName)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+}
@@ -13,12 +13,20 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -41,8 +49,25 @@ import org.xml.sax.InputSource;
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_EXPRESSIONS = 64;
+    private static final int MAX_IDLE_PARSERS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    /**
+     * A compiled expression, with a stream evaluator if the expression is a simple path.
+     */
+    private record CompiledExpression(XPathExpression expression, @Nullable XPathStreamEvaluator streamEvaluator) {
+    }
+
+    // parsers are not thread-safe, a transformation takes one from the queue and puts it back when done
+    private final Queue<DocumentBuilder> documentBuilders = new ArrayBlockingQueue<>(MAX_IDLE_PARSERS);
+    private final Queue<XMLInputFactory> inputFactories = new ArrayBlockingQueue<>(MAX_IDLE_PARSERS);
+    // guarded by expressions, as is the XPath object compiling them; a compiled expression is locked while evaluated
+    private final Map<String, CompiledExpression> expressions = new HashMap<>();
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+    private final XPathDocumentCache documentCache = new XPathDocumentCache();
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,8 +76,78 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
+        try {
+            CompiledExpression compiled = compile(xpathExpression);
+            String transformationResult = null;
+
+            Document doc = documentCache.getDocument(source);
+            XPathStreamEvaluator streamEvaluator = compiled.streamEvaluator();
+            if (doc == null && streamEvaluator != null && documentCache.markSeen(source)) {
+                // first transformation of this payload, avoid building a DOM
+                XMLInputFactory inputFactory = inputFactories.poll();
+                if (inputFactory == null) {
+                    inputFactory = newInputFactory();
+                }
+                try {
+                    transformationResult = streamEvaluator.evaluate(inputFactory, source);
+                } catch (XMLStreamException e) {
+                    logger.trace("Streaming evaluation failed, falling back to DOM: {}", e.getMessage());
+                } finally {
+                    inputFactories.offer(inputFactory);
+                }
+            }
+            if (transformationResult == null) {
+                if (doc == null) {
+                    doc = parse(source);
+                    documentCache.putDocument(source, doc);
+                }
+                synchronized (compiled) {
+                    synchronized (doc) {
+                        transformationResult = (String) compiled.expression().evaluate(doc, XPathConstants.STRING);
+                    }
+                }
+            }
+
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
 
+    private CompiledExpression compile(String xpathExpression) throws XPathExpressionException {
+        synchronized (expressions) {
+            CompiledExpression compiled = expressions.get(xpathExpression);
+            if (compiled == null) {
+                if (expressions.size() >= MAX_CACHED_EXPRESSIONS) {
+                    // expressions usually come from configuration, so this only happens with generated ones
+                    expressions.clear();
+                }
+                compiled = new CompiledExpression(xpath.compile(xpathExpression),
+                        XPathStreamEvaluator.compile(xpathExpression));
+                expressions.put(xpathExpression, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    private Document parse(String source) throws Exception {
+        DocumentBuilder builder = documentBuilders.poll();
+        if (builder == null) {
+            builder = newDocumentBuilder();
+        }
+        try (StringReader stringReader = new StringReader(source)) {
+            InputSource inputSource = new InputSource(stringReader);
+            inputSource.setEncoding("UTF-8");
+            return builder.parse(inputSource);
+        } finally {
+            builder.reset();
+            documentBuilders.offer(builder);
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
         try {
             DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
@@ -63,28 +158,18 @@ public class XPathTransformationService implements TransformationService {
             domFactory.setExpandEntityReferences(false);
             domFactory.setNamespaceAware(true);
             domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
-
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
-
-            logger.debug("transformation resulted in '{}'", transformationResult);
-
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
-            }
+            return domFactory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create XML parser", e);
         }
     }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return inputFactory;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+/**
+ * Tests for {@link XPathDocumentCache}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class XPathDocumentCacheTest {
+
+    private static Document newDocument() throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    }
+
+    @Test
+    public void testPayloadIsSeenOnce() {
+        XPathDocumentCache cache = new XPathDocumentCache();
+
+        assertTrue(cache.markSeen("<a/>"));
+        assertFalse(cache.markSeen(new String("<a/>")));
+        assertNull(cache.getDocument("<a/>"));
+    }
+
+    @Test
+    public void testDocumentIsShared() throws Exception {
+        XPathDocumentCache cache = new XPathDocumentCache();
+        Document document = newDocument();
+
+        cache.markSeen("<a/>");
+        cache.putDocument("<a/>", document);
+
+        assertSame(document, cache.getDocument(new String("<a/>")));
+        assertFalse(cache.markSeen("<a/>"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemoved() throws Exception {
+        XPathDocumentCache cache = new XPathDocumentCache(2, Duration.ZERO);
+
+        cache.putDocument("<a/>", newDocument());
+
+        assertNull(cache.getDocument("<a/>"));
+        assertTrue(cache.markSeen("<a/>"));
+        assertTrue(cache.markSeen("<a/>"));
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        XPathDocumentCache cache = new XPathDocumentCache(2, Duration.ofMinutes(1));
+
+        cache.putDocument("<a/>", newDocument());
+        cache.putDocument("<b/>", newDocument());
+        cache.putDocument("<c/>", newDocument());
+
+        assertEquals(2, cache.size());
+        assertNull(cache.getDocument("<a/>"));
+        assertNotNull(cache.getDocument("<c/>"));
+    }
+}
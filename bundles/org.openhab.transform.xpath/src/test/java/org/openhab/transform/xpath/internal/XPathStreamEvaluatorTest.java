@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.Objects;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests for {@link XPathStreamEvaluator}, comparing its results with the results of the DOM based evaluation.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+public class XPathStreamEvaluatorTest extends AbstractTransformationServiceTest {
+
+    private static final String MIXED = """
+            <root><a id="1">x<!-- comment -->y<b>z</b></a><a id="2"><![CDATA[<c>]]>&amp;</a>\
+            <n:a xmlns:n="urn:test" id="3">namespaced</n:a><d><a id="4"><a>inner</a>outer</a></d><e/></root>\
+            """;
+
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "//current_conditions/temp_c/@data",
+            "/xml_api_reply/weather/forecast_information/city/@data", "//forecast_conditions/low/@data",
+            "//*/high/@data", "/xml_api_reply/@version", "//weather/@unknown", "/weather/@module_id", "//unknown",
+            "/xml_api_reply/weather/current_conditions" })
+    public void testWeatherDocument(String expression) throws Exception {
+        assertStreamMatchesDom(expression, source);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/root/a", "/root/a/text()", "//a/@id", "//a/text()", "//a", "/root/*/@id", "/root/e",
+            "/root/e/text()", "//d/a", "//d/a/text()", "/root/d/a/a", "/root/b", "/a" })
+    public void testMixedContent(String expression) throws Exception {
+        assertStreamMatchesDom(expression, MIXED);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "//a[1]", "count(//a)", "/root/a | /root/d", "//n:a", "/root//a", "a/b", "../a",
+            "/root/a/@*", "string(/root/a)" })
+    public void testUnsupportedExpressions(String expression) {
+        assertNull(XPathStreamEvaluator.compile(expression));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "<root><a>1</a>", "<root><a>1</a></root><root/>",
+            "<?xml version=\"1.0\"?>\n<!DOCTYPE root [\n<!ENTITY x \"entity\">\n]><root><a>&x;</a></root>" })
+    public void testDocumentsLeftToDom(String document) {
+        XPathStreamEvaluator evaluator = Objects.requireNonNull(XPathStreamEvaluator.compile("/root/a"));
+        assertThrows(XMLStreamException.class, () -> evaluator.evaluate(INPUT_FACTORY, document));
+    }
+
+    private void assertStreamMatchesDom(String expression, String document) throws Exception {
+        XPathStreamEvaluator evaluator = XPathStreamEvaluator.compile(expression);
+        assertNotNull(evaluator, expression);
+        assertEquals(evaluateDom(expression, document), evaluator.evaluate(INPUT_FACTORY, document), expression);
+    }
+
+    private static String evaluateDom(String expression, String document) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document doc = factory.newDocumentBuilder().parse(new InputSource(new StringReader(document)));
+        return (String) XPathFactory.newInstance().newXPath().compile(expression).evaluate(doc, XPathConstants.STRING);
+    }
+}
@@ -14,6 +14,13 @@ package org.openhab.transform.xpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.transform.TransformationException;
@@ -38,4 +45,52 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testSamePayloadWithDifferentExpressions() throws TransformationException {
+        // the first transformation is evaluated on a stream, the following ones on the cached document
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        assertEquals("4", processor.transform("count(//forecast_conditions)", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
+
+    @Test
+    public void testNamespacedDocument() throws TransformationException {
+        String xml = "<PTZStatus xmlns=\"urn:test\"><AbsoluteHigh><azimuth>450</azimuth></AbsoluteHigh></PTZStatus>";
+        assertEquals("", processor.transform("/PTZStatus/AbsoluteHigh/azimuth/text()", xml));
+        assertEquals("450",
+                processor.transform("/*[name()='PTZStatus']/*[name()='AbsoluteHigh']/*[name()='azimuth']/text()", xml));
+        assertEquals("450", processor.transform("/*/*/*/text()", xml));
+    }
+
+    @Test
+    public void testInvalidDocumentThrowsException() {
+        String xml = "<root><a>1</a>";
+        assertThrows(TransformationException.class, () -> processor.transform("/root/a", xml));
+        assertThrows(TransformationException.class, () -> processor.transform("/root/a", xml));
+    }
+
+    @Test
+    public void testInvalidExpressionThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("//current_conditions[", source));
+    }
+
+    @Test
+    public void testConcurrentTransformations() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String expression = i % 2 == 0 ? "//current_conditions/temp_c/@data" : "count(//forecast_conditions)";
+                String xml = i % 3 == 0 ? source : source + " ";
+                results.add(executor.submit(() -> processor.transform(expression, xml)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i % 2 == 0 ? "8" : "4", results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -15,9 +15,13 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -25,9 +29,15 @@ import javax.xml.transform.stream.StreamSource;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.transform.Transformation;
 import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +45,42 @@ import org.slf4j.LoggerFactory;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
  *
+ * <p>
+ * Compiled stylesheets are cached per file and dropped when the file is changed or removed. Transformers are not
+ * thread-safe, each thread reuses its own transformer of a stylesheet.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XSLT" })
-public class XsltTransformationService implements TransformationService {
+public class XsltTransformationService implements TransformationService, RegistryChangeListener<Transformation> {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    /**
+     * A compiled stylesheet and the modification time of its file.
+     */
+    private record CompiledStylesheet(Templates templates, long lastModified, ThreadLocal<Transformer> transformer) {
+    }
+
+    private static final Set<String> STYLESHEET_TYPES = Set.of("xsl", "xslt");
+
+    private final TransformationRegistry transformationRegistry;
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<String, CompiledStylesheet> cachedStylesheets = new ConcurrentHashMap<>();
+
+    @Activate
+    public XsltTransformationService(@Reference TransformationRegistry transformationRegistry) {
+        this.transformationRegistry = transformationRegistry;
+        transformationRegistry.addRegistryChangeListener(this);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        transformationRegistry.removeRegistryChangeListener(this);
+        cachedStylesheets.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +98,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File xsl;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xsl = new File(path);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -78,18 +116,69 @@ public class XsltTransformationService implements TransformationService {
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
+        Transformer transformer = null;
 
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            transformer = getStylesheet(filename, xsl).transformer().get();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
+        } finally {
+            if (transformer != null) {
+                transformer.reset();
+            }
         }
 
         logger.debug("transformation resulted in '{}'", out.toString());
 
         return out.toString();
     }
+
+    private CompiledStylesheet getStylesheet(String filename, File xsl) throws TransformerConfigurationException {
+        // the modification time also covers files that are not tracked by the transformation registry
+        long lastModified = xsl.lastModified();
+        CompiledStylesheet stylesheet = cachedStylesheets.get(filename);
+        if (stylesheet == null || stylesheet.lastModified() != lastModified) {
+            Templates templates;
+            // the factory is not thread-safe
+            synchronized (transformerFactory) {
+                templates = transformerFactory.newTemplates(new StreamSource(xsl));
+            }
+            stylesheet = new CompiledStylesheet(templates, lastModified, ThreadLocal.withInitial(() -> {
+                try {
+                    return templates.newTransformer();
+                } catch (TransformerConfigurationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            cachedStylesheets.put(filename, stylesheet);
+            logger.debug("Compiled stylesheet '{}'", filename);
+        }
+        return stylesheet;
+    }
+
+    @Override
+    public void added(Transformation element) {
+        invalidate(element);
+    }
+
+    @Override
+    public void removed(Transformation element) {
+        invalidate(element);
+    }
+
+    @Override
+    public void updated(Transformation oldElement, Transformation element) {
+        invalidate(oldElement);
+    }
+
+    private void invalidate(Transformation transformation) {
+        if (STYLESHEET_TYPES.contains(transformation.getType())) {
+            // the stylesheet may be included or imported by other cached stylesheets
+            cachedStylesheets.clear();
+        } else {
+            cachedStylesheets.remove(transformation.getUID());
+        }
+    }
 }
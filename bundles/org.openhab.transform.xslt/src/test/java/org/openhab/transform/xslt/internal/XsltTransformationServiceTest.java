@@ -13,17 +13,22 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.transform.Transformation;
 import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationRegistry;
 
 /**
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
@@ -40,7 +45,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(TransformationRegistry.class));
     }
 
     @Test
@@ -54,4 +59,52 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsRecompiled() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("weather_changed.xsl");
+        Files.writeString(xsl, stylesheet("temp_c"));
+        assertEquals("8", processor.transform("http/weather_changed.xsl", source));
+
+        Files.writeString(xsl, stylesheet("temp_f"));
+        Files.setLastModifiedTime(xsl, FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + 2000));
+
+        assertEquals("46", processor.transform("http/weather_changed.xsl", source));
+    }
+
+    @Test
+    public void testRegistryChangeInvalidatesStylesheet() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("weather_registry.xsl");
+        Files.writeString(xsl, stylesheet("temp_c"));
+        FileTime lastModified = Files.getLastModifiedTime(xsl);
+        assertEquals("8", processor.transform("http/weather_registry.xsl", source));
+
+        // keep the modification time, the cached stylesheet is still used
+        Files.writeString(xsl, stylesheet("temp_f"));
+        Files.setLastModifiedTime(xsl, lastModified);
+        assertEquals("8", processor.transform("http/weather_registry.xsl", source));
+
+        Transformation transformation = new Transformation("http/weather_registry.xsl", "weather_registry", "xsl",
+                Map.of());
+        processor.updated(transformation, transformation);
+
+        assertEquals("46", processor.transform("http/weather_registry.xsl", source));
+    }
+
+    @Test
+    public void testMissingStylesheetThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("http/missing.xsl", source));
+    }
+
+    private static String stylesheet(String element) {
+        return """
+                <?xml version="1.0"?>
+                <xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+                  <xsl:output method="text"/>
+                  <xsl:template match="/">
+                    <xsl:value-of select="//current_conditions/%s/@data"/>
+                  </xsl:template>
+                </xsl:stylesheet>
+                """.formatted(element);
+    }
 }